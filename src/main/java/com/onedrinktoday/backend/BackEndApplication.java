@@ -3,9 +3,14 @@ package com.onedrinktoday.backend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
+// @Async 메서드는 호출 스레드가 아닌 AsyncConfig의 taskExecutor(크기 제한 풀)에서 실행
+@EnableAsync
 public class BackEndApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,12 @@
+package com.onedrinktoday.backend.domain.autoComplete;
+
+import java.util.List;
+
+// 자동완성 변경 메시지 - 노드 간 전파용 (origin이 자신이면 이미 반영한 변경)
+public record AutoCompleteChange(String origin, Target target, List<String> names, Long regionId,
+                                 long delta) {
+
+  public enum Target {
+    TAG, DRINK
+  }
+}
@@ -1,81 +1,188 @@
 package com.onedrinktoday.backend.domain.autoComplete;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteChange.Target;
 import com.onedrinktoday.backend.domain.drink.entity.Drink;
 import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
-import java.util.Collections;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.domain.tag.repository.TagRepository;
+import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
-import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
+// 태그/특산주 이름 자동완성 - 노드마다 메모리의 접두어 트리에서 인기순(게시글 수)으로 조회
+// 시작 시와 주기적으로 DB에서 새로 만들고, 그 사이 변경은 Redis pub/sub으로 전 노드에 전파
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class AutoCompleteService {
+public class AutoCompleteService implements MessageListener {
 
-  private final RedisTemplate<String, String> redisTemplate;
+  public static final String CHANNEL = "auto-complete:change";
+
+  private final TagRepository tagRepository;
   private final DrinkRepository drinkRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final int limit;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  // 재구성 중에도 조회가 막히지 않도록 새로 만든 트리로 참조만 교체
+  private volatile PrefixTrie tagTrie;
+  private volatile PrefixTrie drinkTrie;
+  private volatile Map<Long, PrefixTrie> regionDrinkTries = new ConcurrentHashMap<>();
+
+  public AutoCompleteService(TagRepository tagRepository, DrinkRepository drinkRepository,
+      RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+      @Value("${auto-complete.limit:10}") int limit) {
+    this.tagRepository = tagRepository;
+    this.drinkRepository = drinkRepository;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.limit = limit;
+    this.tagTrie = new PrefixTrie(limit);
+    this.drinkTrie = new PrefixTrie(limit);
+  }
 
-  public void saveAutoCompleteTag(String tag) {
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${auto-complete.rebuild-cron:0 0 * * * *}")
+  public void rebuild() {
+    long start = System.currentTimeMillis();
 
-    for (int i = 0; i < tag.length(); i++) {
-      redisTemplate.opsForZSet().add("auto-tags", tag.substring(0, i + 1), 0);
+    PrefixTrie tags = new PrefixTrie(limit);
+    for (Object[] row : tagRepository.findTagNamesWithPostCount()) {
+      tags.add((String) row[0], (Long) row[1]);
     }
 
-    redisTemplate.opsForZSet().add("auto-tags", tag + "*", 0);
-  }
-
-  public void saveAutoCompleteDrink(String drink) {
-
-    for (int i = 0; i < drink.length(); i++) {
-      redisTemplate.opsForZSet().add("auto-drinks", drink.substring(0, i + 1), 0);
+    PrefixTrie drinks = new PrefixTrie(limit);
+    Map<Long, PrefixTrie> regionDrinks = new ConcurrentHashMap<>();
+    for (Object[] row : drinkRepository.findNamesWithPostCount()) {
+      String name = (String) row[0];
+      long postCount = (Long) row[2];
+      drinks.add(name, postCount);
+      if (row[1] != null) {
+        regionDrinks.computeIfAbsent((Long) row[1], id -> new PrefixTrie(limit))
+            .add(name, postCount);
+      }
     }
 
-    redisTemplate.opsForZSet().add("auto-drinks", drink + "*", 0);
+    tagTrie = tags;
+    drinkTrie = drinks;
+    regionDrinkTries = regionDrinks;
+    log.info("자동완성 트리 구성 완료: tags={}, drinks={}, elapsedMs={}", tags.size(),
+        drinks.size(), System.currentTimeMillis() - start);
   }
 
-  public List<String> getAutoCompleteTag(String tag) {
+  public void saveAutoCompleteTag(String tag) {
+    saveAutoCompleteTags(List.of(tag));
+  }
+
+  public void saveAutoCompleteTags(Collection<String> tags) {
+    change(Target.TAG, List.copyOf(tags), null, 0);
+  }
 
-    Long index = redisTemplate.opsForZSet().rank("auto-tags", tag);
+  public void saveAutoCompleteDrink(Drink drink) {
+    change(Target.DRINK, List.of(drink.getName()), regionId(drink), 0);
+  }
 
-    if (index == null) {
-      return Collections.emptyList();
-    }
+  // 게시글에 쓰인 태그/특산주는 인기도 증가
+  public void increaseTagPopularity(Collection<Tag> tags) {
+    change(Target.TAG, tags.stream().map(Tag::getTagName).toList(), null, 1);
+  }
 
-    Set<String> tags = redisTemplate.opsForZSet().range("auto-tags", index, index + 50);
+  public void increaseDrinkPopularity(Drink drink) {
+    change(Target.DRINK, List.of(drink.getName()), regionId(drink), 1);
+  }
 
-    return tags.stream()
-        .filter(x -> x.startsWith(tag) && x.endsWith("*"))
-        .map(x -> x.substring(0, x.length()-1)).toList();
+  public List<String> getAutoCompleteTag(String tag) {
+    return StringUtils.hasText(tag) ? tagTrie.search(tag) : List.of();
   }
 
   public List<String> getAutoCompleteDrink(String drink) {
+    return StringUtils.hasText(drink) ? drinkTrie.search(drink) : List.of();
+  }
 
-    Long index = redisTemplate.opsForZSet().rank("auto-drinks", drink);
+  public List<String> getAutoCompleteRegionDrink(Long regionId, String name) {
+    PrefixTrie trie = regionDrinkTries.get(regionId);
+    return trie != null && StringUtils.hasText(name) ? trie.search(name) : List.of();
+  }
 
-    if (index == null) {
-      return Collections.emptyList();
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      AutoCompleteChange change = objectMapper.readValue(message.getBody(),
+          AutoCompleteChange.class);
+      if (!nodeId.equals(change.origin())) {
+        apply(change);
+      }
+    } catch (IOException e) {
+      log.warn("자동완성 변경 메시지 해석 실패: {}", e.getMessage());
     }
+  }
 
-    Set<String> drinks = redisTemplate.opsForZSet().range("auto-drinks", index, index + 50);
+  // 커밋된 변경만 반영 (롤백된 태그/특산주가 자동완성에 남지 않도록)
+  private void change(Target target, List<String> names, Long regionId, long delta) {
+    if (names.isEmpty()) {
+      return;
+    }
 
-    return drinks.stream()
-        .filter(x -> x.startsWith(drink) && x.endsWith("*"))
-        .map(x -> x.substring(0, x.length()-1)).toList();
+    AutoCompleteChange change = new AutoCompleteChange(nodeId, target, names, regionId, delta);
+    afterCommit(() -> {
+      apply(change);
+      publish(change);
+    });
   }
 
-  @Cacheable(key = "#regionId.toString().concat(':').concat(#name)", value = "drink-complete")
-  public List<String> getAutoCompleteRegionDrink(Long regionId, String name) {
+  void apply(AutoCompleteChange change) {
+    PrefixTrie trie = change.target() == Target.TAG ? tagTrie : drinkTrie;
+    change.names().forEach(name -> trie.add(name, change.delta()));
 
-    return drinkRepository.findAllByRegion_IdAndNameStartsWith(regionId, name)
-        .stream().map(Drink::getName).toList();
+    if (change.target() == Target.DRINK && change.regionId() != null) {
+      PrefixTrie regionTrie = regionDrinkTries.computeIfAbsent(change.regionId(),
+          id -> new PrefixTrie(limit));
+      change.names().forEach(name -> regionTrie.add(name, change.delta()));
+    }
+  }
+
+  // 전파하지 못한 변경은 다음 재구성 때 반영
+  private void publish(AutoCompleteChange change) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(change));
+    } catch (JsonProcessingException | DataAccessException e) {
+      log.warn("자동완성 변경 전파 실패: {}", e.getMessage());
+    }
   }
 
-  @Scheduled(cron = "0 0 0 * * *")
-  @CacheEvict(value = "drink-complete", allEntries = true)
-  public void clearAutoComplete() {}
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+      return;
+    }
+
+    action.run();
+  }
 
+  private Long regionId(Drink drink) {
+    return drink.getRegion() != null ? drink.getRegion().getId() : null;
+  }
 }
@@ -0,0 +1,89 @@
+package com.onedrinktoday.backend.domain.autoComplete;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 접두어 트리 - 노드마다 그 접두어로 시작하는 이름 중 인기 상위 limit개를 미리 정렬해 두어
+// 조회는 접두어 길이만큼만 내려가면 끝남
+// 인기도는 증가만 반영 (감소는 주기적으로 트리를 새로 만들어 반영)
+class PrefixTrie {
+
+  private final int limit;
+  private final Node root = new Node();
+  private final Map<String, Long> scores = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // 인기도 내림차순, 같으면 이름순
+  private final Comparator<String> ranking = Comparator
+      .comparing((String name) -> scores.get(name)).reversed()
+      .thenComparing(Comparator.naturalOrder());
+
+  PrefixTrie(int limit) {
+    this.limit = limit;
+  }
+
+  // 이름 추가 또는 인기도 증가 (delta 0이면 인기도 변화 없이 추가만)
+  void add(String name, long delta) {
+    lock.writeLock().lock();
+    try {
+      scores.merge(name, delta, Long::sum);
+
+      Node node = root;
+      for (int i = 0; i < name.length(); i++) {
+        node = node.children.computeIfAbsent(name.charAt(i), c -> new Node());
+        node.rank(name);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  List<String> search(String prefix) {
+    lock.readLock().lock();
+    try {
+      Node node = root;
+      for (int i = 0; i < prefix.length() && node != null; i++) {
+        node = node.children.get(prefix.charAt(i));
+      }
+      return node != null ? List.copyOf(node.top) : List.of();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  int size() {
+    lock.readLock().lock();
+    try {
+      return scores.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private class Node {
+
+    private final Map<Character, Node> children = new HashMap<>(4);
+    private final List<String> top = new ArrayList<>(1);
+
+    // 점수가 바뀐 이름을 제자리에 다시 넣고 limit개만 유지
+    private void rank(String name) {
+      top.remove(name);
+
+      int position = 0;
+      while (position < top.size() && ranking.compare(top.get(position), name) < 0) {
+        position++;
+      }
+      if (position < limit) {
+        top.add(position, name);
+        if (top.size() > limit) {
+          top.remove(top.size() - 1);
+        }
+      }
+    }
+  }
+}
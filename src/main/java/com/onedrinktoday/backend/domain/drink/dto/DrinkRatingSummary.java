@@ -0,0 +1,21 @@
+package com.onedrinktoday.backend.domain.drink.dto;
+
+import com.onedrinktoday.backend.domain.drink.entity.DrinkRatingStats;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 특산주 평균 평점과 별점(1~5)별 게시글 수 - 게시글 상세 조회마다 쓰이므로 한 번에 캐시
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DrinkRatingSummary {
+
+  private Double averageRating;
+  private Map<Integer, Long> ratingDistribution;
+
+  public static DrinkRatingSummary from(DrinkRatingStats stats) {
+    return new DrinkRatingSummary(stats.getAverageRating(), stats.getDistribution());
+  }
+}
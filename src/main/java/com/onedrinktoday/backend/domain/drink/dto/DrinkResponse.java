@@ -3,6 +3,7 @@ package com.onedrinktoday.backend.domain.drink.dto;
 import com.onedrinktoday.backend.domain.drink.entity.Drink;
 import com.onedrinktoday.backend.global.type.DrinkType;
 import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,6 +25,10 @@ public class DrinkResponse {
 
   @Setter
   private Double averageRating;
+
+  // 별점(1~5)별 게시글 수
+  @Setter
+  private Map<Integer, Long> ratingDistribution;
   private String description;
   private String imageUrl;
   private LocalDateTime createdAt;
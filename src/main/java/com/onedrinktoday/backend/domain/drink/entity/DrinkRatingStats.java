@@ -0,0 +1,68 @@
+package com.onedrinktoday.backend.domain.drink.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 특산주별 평점 집계 - 게시글 생성/수정/삭제 시 증감분만 반영
+@Entity
+@Table(name = "drink_rating_stats")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DrinkRatingStats {
+
+  @Id
+  @Column(name = "drink_id")
+  private Long drinkId;
+
+  @Column(name = "rating_sum", nullable = false)
+  private double ratingSum;
+
+  @Column(name = "rating_count", nullable = false)
+  private long ratingCount;
+
+  // 별점 구간별 게시글 수 (평점을 반올림한 1~5점 기준)
+  @Column(name = "one_star", nullable = false)
+  private long oneStar;
+
+  @Column(name = "two_star", nullable = false)
+  private long twoStar;
+
+  @Column(name = "three_star", nullable = false)
+  private long threeStar;
+
+  @Column(name = "four_star", nullable = false)
+  private long fourStar;
+
+  @Column(name = "five_star", nullable = false)
+  private long fiveStar;
+
+  public Double getAverageRating() {
+    return ratingCount > 0 ? ratingSum / ratingCount : null;
+  }
+
+  public Map<Integer, Long> getDistribution() {
+    Map<Integer, Long> distribution = new LinkedHashMap<>();
+    distribution.put(1, oneStar);
+    distribution.put(2, twoStar);
+    distribution.put(3, threeStar);
+    distribution.put(4, fourStar);
+    distribution.put(5, fiveStar);
+    return distribution;
+  }
+
+  // 평점을 1~5점 구간으로 변환 (집계 재계산 쿼리의 FLOOR(rating + 0.5)와 동일한 기준)
+  public static int toStar(float rating) {
+    int star = (int) Math.floor(rating + 0.5);
+    return Math.max(1, Math.min(5, star));
+  }
+}
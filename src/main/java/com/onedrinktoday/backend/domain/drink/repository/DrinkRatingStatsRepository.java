@@ -0,0 +1,75 @@
+package com.onedrinktoday.backend.domain.drink.repository;
+
+import com.onedrinktoday.backend.domain.drink.entity.DrinkRatingStats;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface DrinkRatingStatsRepository extends JpaRepository<DrinkRatingStats, Long> {
+
+  // 평점 집계에 증감분 반영 - 집계 행이 없으면 생성
+  @Modifying
+  @Query(value = "INSERT INTO drink_rating_stats "
+      + "(drink_id, rating_sum, rating_count, one_star, two_star, three_star, four_star, five_star) "
+      + "VALUES (:drinkId, :sum, :count, :one, :two, :three, :four, :five) "
+      + "ON DUPLICATE KEY UPDATE rating_sum = rating_sum + VALUES(rating_sum), "
+      + "rating_count = rating_count + VALUES(rating_count), "
+      + "one_star = one_star + VALUES(one_star), two_star = two_star + VALUES(two_star), "
+      + "three_star = three_star + VALUES(three_star), four_star = four_star + VALUES(four_star), "
+      + "five_star = five_star + VALUES(five_star)", nativeQuery = true)
+  int applyDelta(@Param("drinkId") Long drinkId, @Param("sum") double sum,
+      @Param("count") long count, @Param("one") long one, @Param("two") long two,
+      @Param("three") long three, @Param("four") long four, @Param("five") long five);
+
+  // 집계 행이 없으면 게시글 기준으로 생성, 생성했으면 1 반환
+  // 실행 전 영속성 컨텍스트를 반영(flush)하므로 현재 트랜잭션의 게시글 변경까지 포함됨
+  @Modifying(flushAutomatically = true)
+  @Query(value = "INSERT IGNORE INTO drink_rating_stats "
+      + "(drink_id, rating_sum, rating_count, one_star, two_star, three_star, four_star, five_star) "
+      + "SELECT d.id, COALESCE(SUM(p.rating), 0), COUNT(p.rating), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) <= 1 THEN 1 ELSE 0 END), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) = 2 THEN 1 ELSE 0 END), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) = 3 THEN 1 ELSE 0 END), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) = 4 THEN 1 ELSE 0 END), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) >= 5 THEN 1 ELSE 0 END) "
+      + "FROM drink d LEFT JOIN post p "
+      + "ON p.drink_id = d.id AND p.deleted_at IS NULL AND p.rating IS NOT NULL "
+      + "WHERE d.id = :drinkId GROUP BY d.id", nativeQuery = true)
+  int createFromPosts(@Param("drinkId") Long drinkId);
+
+  // 집계 재계산 대상 특산주 ID (id 기준 키셋 페이징)
+  @Query(value = "SELECT id FROM drink WHERE id > :lastId ORDER BY id LIMIT :size", nativeQuery = true)
+  List<Long> findDrinkIdsAfter(@Param("lastId") Long lastId, @Param("size") int size);
+
+  // 평점 있는 게시글이 있지만 집계 행이 없는 특산주 ID (drink_id 기준 키셋 페이징)
+  @Query(value = "SELECT DISTINCT p.drink_id FROM post p "
+      + "WHERE p.drink_id > :lastId AND p.rating IS NOT NULL AND p.deleted_at IS NULL "
+      + "AND NOT EXISTS (SELECT 1 FROM drink_rating_stats s WHERE s.drink_id = p.drink_id) "
+      + "ORDER BY p.drink_id LIMIT :size", nativeQuery = true)
+  List<Long> findDrinkIdsWithoutStatsAfter(@Param("lastId") Long lastId, @Param("size") int size);
+
+  // 게시글 기준으로 특산주 평점 집계를 다시 계산해 덮어쓰기
+  @Transactional
+  @Modifying
+  @Query(value = "INSERT INTO drink_rating_stats "
+      + "(drink_id, rating_sum, rating_count, one_star, two_star, three_star, four_star, five_star) "
+      + "SELECT d.id, COALESCE(SUM(p.rating), 0), COUNT(p.rating), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) <= 1 THEN 1 ELSE 0 END), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) = 2 THEN 1 ELSE 0 END), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) = 3 THEN 1 ELSE 0 END), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) = 4 THEN 1 ELSE 0 END), "
+      + "SUM(CASE WHEN FLOOR(p.rating + 0.5) >= 5 THEN 1 ELSE 0 END) "
+      + "FROM drink d LEFT JOIN post p "
+      + "ON p.drink_id = d.id AND p.deleted_at IS NULL AND p.rating IS NOT NULL "
+      + "WHERE d.id IN (:drinkIds) GROUP BY d.id "
+      + "ON DUPLICATE KEY UPDATE rating_sum = VALUES(rating_sum), rating_count = VALUES(rating_count), "
+      + "one_star = VALUES(one_star), two_star = VALUES(two_star), three_star = VALUES(three_star), "
+      + "four_star = VALUES(four_star), five_star = VALUES(five_star)", nativeQuery = true)
+  int rebuild(@Param("drinkIds") Collection<Long> drinkIds);
+}
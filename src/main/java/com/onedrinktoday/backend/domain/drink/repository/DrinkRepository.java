@@ -1,21 +1,40 @@
 package com.onedrinktoday.backend.domain.drink.repository;
 
 import com.onedrinktoday.backend.domain.drink.entity.Drink;
-import com.onedrinktoday.backend.domain.region.entity.Region;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DrinkRepository extends JpaRepository<Drink, Long> {
 
-  List<Drink> findByRegion(Region region);
+  // 지역의 특산주 ID (임의 추출 대상)
+  @Query("SELECT d.id FROM Drink d WHERE d.region.id = :regionId ORDER BY d.id")
+  List<Long> findIdsByRegionId(@Param("regionId") Long regionId);
 
+  // [지역 ID, 특산주 ID] (임의 추출 대상 전체 갱신)
+  @Query("SELECT d.region.id, d.id FROM Drink d WHERE d.region IS NOT NULL ORDER BY d.region.id, d.id")
+  List<Object[]> findRegionIdAndIds();
+
+  // [특산주명, 지역 ID, 게시글 수] (자동완성 인기도)
+  @Query("SELECT d.name, r.id, COUNT(p.id) FROM Drink d LEFT JOIN d.region r "
+      + "LEFT JOIN Post p ON p.drink = d GROUP BY d.id, d.name, r.id")
+  List<Object[]> findNamesWithPostCount();
+
+  // 검색 문서 백필을 마치기 전 특산주 검색
+  @EntityGraph(attributePaths = {"region"})
   Page<Drink> findAllByRegion_IdAndNameContaining(Pageable pageable, Long regionId, String name);
 
+  @EntityGraph(attributePaths = {"region"})
   Page<Drink> findAllByNameContaining(Pageable pageable, String name);
 
-  List<Drink> findAllByRegion_IdAndNameStartsWith(Long regionId, String name);
+  // ID 순으로 특산주를 나눠 조회 (검색 문서 백필용)
+  @EntityGraph(attributePaths = {"region"})
+  @Query("SELECT d FROM Drink d WHERE d.id > :lastId ORDER BY d.id")
+  List<Drink> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,167 @@
+package com.onedrinktoday.backend.domain.drink.service;
+
+import com.onedrinktoday.backend.domain.drink.dto.DrinkRatingSummary;
+import com.onedrinktoday.backend.domain.drink.entity.DrinkRatingStats;
+import com.onedrinktoday.backend.domain.drink.repository.DrinkRatingStatsRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 특산주 평점 집계 - AVG() 전체 스캔 대신 합계/개수/별점 분포를 증감분으로 유지
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DrinkRatingStatsService {
+
+  // 평균 평점 + 별점 분포 캐시 (만료 시간은 RedisConfig에서 지정)
+  public static final String SUMMARY_CACHE = "drink-rating-summary";
+
+  private static final int REBUILD_CHUNK_SIZE = 500;
+
+  private final DrinkRatingStatsRepository drinkRatingStatsRepository;
+  private final CacheManager cacheManager;
+
+  // 평점 추가 (평점이 없는 게시글은 집계 대상 아님)
+  public void addRating(Long drinkId, Float rating) {
+    applyDelta(drinkId, null, rating);
+  }
+
+  // 평점 제거
+  public void removeRating(Long drinkId, Float rating) {
+    applyDelta(drinkId, rating, null);
+  }
+
+  // 평점 변경 - 다른 특산주로 이동한 경우 기존 특산주에서 빼고 새 특산주에 더함
+  public void changeRating(Long oldDrinkId, Float oldRating, Long newDrinkId, Float newRating) {
+    if (oldDrinkId.equals(newDrinkId)) {
+      // 같은 특산주는 한 번에 반영 (집계 행을 게시글 기준으로 새로 만든 경우 증감분을 두 번 더하지 않도록)
+      if (!equalsRating(oldRating, newRating)) {
+        applyDelta(newDrinkId, oldRating, newRating);
+      }
+      return;
+    }
+
+    removeRating(oldDrinkId, oldRating);
+    addRating(newDrinkId, newRating);
+  }
+
+  // 평균 평점과 별점 분포를 한 번에 조회 (집계 행이 없으면 평균 null, 분포 0)
+  public DrinkRatingSummary getRatingSummary(Long drinkId) {
+    return DrinkRatingSummary.from(drinkRatingStatsRepository.findById(drinkId)
+        .orElseGet(() -> DrinkRatingStats.builder().drinkId(drinkId).build()));
+  }
+
+  // 게시글 기준으로 전체 집계 재계산 - 특산주 ID 구간별로 나눠 반영하고 처리한 특산주 수 반환
+  public long rebuild() {
+    long rebuilt = 0;
+    Long lastId = 0L;
+
+    while (true) {
+      List<Long> drinkIds = drinkRatingStatsRepository.findDrinkIdsAfter(lastId, REBUILD_CHUNK_SIZE);
+      if (drinkIds.isEmpty()) {
+        break;
+      }
+
+      drinkRatingStatsRepository.rebuild(drinkIds);
+      rebuilt += drinkIds.size();
+      lastId = drinkIds.get(drinkIds.size() - 1);
+    }
+
+    log.info("특산주 평점 집계 재계산 완료: {}건", rebuilt);
+    return rebuilt;
+  }
+
+  // 기동 시 집계 테이블 도입 전 게시글의 평점을 채움 (요청 처리를 막지 않도록 비동기)
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillOnStartup() {
+    backfillMissing();
+  }
+
+  // 집계 행이 없는 특산주만 게시글 기준으로 채우고 처리한 특산주 수 반환
+  public long backfillMissing() {
+    long filled = 0;
+    Long lastId = 0L;
+
+    while (true) {
+      List<Long> drinkIds = drinkRatingStatsRepository.findDrinkIdsWithoutStatsAfter(lastId,
+          REBUILD_CHUNK_SIZE);
+      if (drinkIds.isEmpty()) {
+        break;
+      }
+
+      drinkRatingStatsRepository.rebuild(drinkIds);
+      drinkIds.forEach(this::evictSummary);
+      filled += drinkIds.size();
+      lastId = drinkIds.get(drinkIds.size() - 1);
+    }
+
+    if (filled > 0) {
+      log.info("누락된 특산주 평점 집계 생성 완료: {}건", filled);
+    }
+    return filled;
+  }
+
+  // 집계 행이 없는 특산주(백필 전 기존 특산주 등)는 이번 변경까지 반영된 게시글 기준으로 행을 만들고
+  // 증감분은 더하지 않음 - 증감분만으로 행을 만들면 백필 대상에서도 빠져 집계가 계속 어긋남
+  private void applyDelta(Long drinkId, Float removed, Float added) {
+    if (removed == null && added == null) {
+      return;
+    }
+
+    if (drinkRatingStatsRepository.createFromPosts(drinkId) == 0) {
+      double sum = 0;
+      long count = 0;
+      long[] stars = new long[5];
+      if (removed != null) {
+        sum -= removed;
+        count--;
+        stars[DrinkRatingStats.toStar(removed) - 1]--;
+      }
+      if (added != null) {
+        sum += added;
+        count++;
+        stars[DrinkRatingStats.toStar(added) - 1]++;
+      }
+
+      drinkRatingStatsRepository.applyDelta(drinkId, sum, count,
+          stars[0], stars[1], stars[2], stars[3], stars[4]);
+    }
+
+    // 커밋 전에 지우면 동시 조회가 이전 값을 다시 캐시에 넣을 수 있으므로 커밋 후 제거
+    afterCommit(() -> evictSummary(drinkId));
+  }
+
+  private void evictSummary(Long drinkId) {
+    Cache cache = cacheManager.getCache(SUMMARY_CACHE);
+    if (cache != null) {
+      cache.evict(drinkId);
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+      return;
+    }
+
+    action.run();
+  }
+
+  private boolean equalsRating(Float a, Float b) {
+    return a == null ? b == null : a.equals(b);
+  }
+}
@@ -4,10 +4,13 @@ import com.onedrinktoday.backend.domain.declaration.dto.DeclarationResponse;
 import com.onedrinktoday.backend.domain.drink.dto.DrinkResponse;
 import com.onedrinktoday.backend.domain.manager.dto.CancelDeclarationRequest;
 import com.onedrinktoday.backend.domain.manager.service.ManagerService;
+import com.onedrinktoday.backend.domain.search.PostReindexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -48,4 +51,29 @@ public class ManagerController {
         managerService.cancelDeclaration(declarationId, cancelDeclarationRequest));
   }
 
+  @PostMapping("/manager/drinks/rating-stats/rebuild")
+  public ResponseEntity<Long> rebuildDrinkRatingStats() {
+
+    return ResponseEntity.ok(managerService.rebuildDrinkRatingStats());
+  }
+
+  // 재색인은 백그라운드에서 진행 - 작업 ID로 진행 상태 조회
+  @PostMapping("/manager/search/posts/reindex")
+  public ResponseEntity<String> reindexPosts() {
+
+    return ResponseEntity.accepted().body(managerService.reindexPosts());
+  }
+
+  @GetMapping("/manager/search/posts/reindex/{jobId}")
+  public ResponseEntity<PostReindexService.JobStatus> getReindexStatus(@PathVariable String jobId) {
+
+    return ResponseEntity.ok(managerService.getReindexStatus(jobId));
+  }
+
+  @PostMapping("/manager/search/drinks/backfill")
+  public ResponseEntity<Long> backfillDrinkIndex() {
+
+    return ResponseEntity.ok(managerService.backfillDrinkIndex());
+  }
+
 }
@@ -9,16 +9,21 @@ import com.onedrinktoday.backend.domain.declaration.repository.DeclarationReposi
 import com.onedrinktoday.backend.domain.drink.dto.DrinkResponse;
 import com.onedrinktoday.backend.domain.drink.entity.Drink;
 import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
+import com.onedrinktoday.backend.domain.drink.service.DrinkRatingStatsService;
 import com.onedrinktoday.backend.domain.manager.dto.CancelDeclarationRequest;
 import com.onedrinktoday.backend.domain.notification.service.NotificationService;
 import com.onedrinktoday.backend.domain.post.entity.Post;
 import com.onedrinktoday.backend.domain.post.repository.PostRepository;
 import com.onedrinktoday.backend.domain.registration.entity.Registration;
 import com.onedrinktoday.backend.domain.registration.repository.RegistrationRepository;
+import com.onedrinktoday.backend.domain.search.DrinkIndexService;
+import com.onedrinktoday.backend.domain.search.PostReindexService;
+import com.onedrinktoday.backend.domain.suggest.service.DrinkSampler;
 import com.onedrinktoday.backend.global.exception.CustomException;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriTemplate;
@@ -33,6 +38,10 @@ public class ManagerService {
   private final PostRepository postRepository;
   private final NotificationService notificationService;
   private final AutoCompleteService autoCompleteService;
+  private final DrinkRatingStatsService drinkRatingStatsService;
+  private final PostReindexService postReindexService;
+  private final DrinkIndexService drinkIndexService;
+  private final DrinkSampler drinkSampler;
 
   @Value("${post.uri}")
   private String postUri;
@@ -40,6 +49,26 @@ public class ManagerService {
   @Value("${post.postId}")
   private String postId;
 
+  // 특산주 평점 집계를 게시글 기준으로 재계산 (재계산 후 평점 캐시 전체 제거)
+  @CacheEvict(value = DrinkRatingStatsService.SUMMARY_CACHE, allEntries = true)
+  public long rebuildDrinkRatingStats() {
+    return drinkRatingStatsService.rebuild();
+  }
+
+  // 기존 특산주 전체를 검색 문서로 색인 (색인한 특산주 수 반환)
+  public long backfillDrinkIndex() {
+    return drinkIndexService.backfill();
+  }
+
+  // 게시글 검색 인덱스 재색인 시작 - 복사와 별칭 전환은 백그라운드에서 진행 (작업 ID 반환)
+  public String reindexPosts() {
+    return postReindexService.startReindex();
+  }
+
+  public PostReindexService.JobStatus getReindexStatus(String jobId) {
+    return postReindexService.getStatus(jobId);
+  }
+
   @Transactional
   public DrinkResponse approveRegistration(Long registId) {
 
@@ -64,9 +93,12 @@ public class ManagerService {
         registration.getMember(), registration
     );
 
-    autoCompleteService.saveAutoCompleteDrink(drink.getName());
+    drink = drinkRepository.save(drink);
+    drinkIndexService.index(drink);
+    autoCompleteService.saveAutoCompleteDrink(drink);
+    drinkSampler.add(drink);
 
-    return DrinkResponse.from(drinkRepository.save(drink));
+    return DrinkResponse.from(drink);
   }
 
   public void cancelRegistration(Long registId) {
@@ -5,6 +5,7 @@ import com.onedrinktoday.backend.domain.region.entity.Region;
 import com.onedrinktoday.backend.global.type.DrinkType;
 import com.onedrinktoday.backend.global.type.Role;
 import com.onedrinktoday.backend.global.util.DrinkListConverter;
+import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -12,9 +13,16 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -28,6 +36,8 @@ import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
+@Table(name = "member",
+    indexes = @Index(name = "idx_member_birth_month_day_id", columnList = "birth_month_day, id"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -56,6 +66,10 @@ public class Member {
   private String password;
   private Date birthDate;
 
+  // 생일 월일(MMdd, 예: 1017) - 생일자 조회가 인덱스를 타도록 birthDate에서 계산해 함께 저장
+  @Column(name = "birth_month_day")
+  private Integer birthMonthDay;
+
   @Setter
   @Convert(converter = DrinkListConverter.class)
   private List<DrinkType> favorDrinkType;
@@ -81,6 +95,17 @@ public class Member {
   @Setter
   private String refreshToken;
 
+  @PrePersist
+  @PreUpdate
+  void updateBirthMonthDay() {
+    birthMonthDay = birthDate != null ? toMonthDay(LocalDate.ofInstant(
+        Instant.ofEpochMilli(birthDate.getTime()), ZoneId.systemDefault())) : null;
+  }
+
+  public static int toMonthDay(LocalDate date) {
+    return date.getMonthValue() * 100 + date.getDayOfMonth();
+  }
+
   public static Member from(MemberRequest.SignUp request) {
     return Member.builder()
         .name(request.getName())
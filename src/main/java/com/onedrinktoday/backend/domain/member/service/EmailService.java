@@ -1,23 +1,19 @@
 package com.onedrinktoday.backend.domain.member.service;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import com.onedrinktoday.backend.global.mail.EmailOutboxService;
 import org.springframework.stereotype.Service;
 
 @Service
 public class EmailService {
 
-   private final JavaMailSender emailSender;
+   private final EmailOutboxService emailOutboxService;
 
-   public EmailService(JavaMailSender emailSender) {
-     this.emailSender = emailSender;
+   public EmailService(EmailOutboxService emailOutboxService) {
+     this.emailOutboxService = emailOutboxService;
    }
 
    public void sendPasswordResetEmail(String to, String resetLink) {
-     SimpleMailMessage message = new SimpleMailMessage();
-     message.setTo(to);
-     message.setSubject("비밀번호 재설정 요청");
-     message.setText("비밀번호를 재설정하려면 다음 링크를 클릭하세요: " + resetLink);
-     emailSender.send(message);
+     emailOutboxService.enqueue(to, "비밀번호 재설정 요청",
+         "비밀번호를 재설정하려면 다음 링크를 클릭하세요: " + resetLink);
  }
 }
@@ -10,15 +10,18 @@ import com.onedrinktoday.backend.domain.member.dto.MemberRequest.UpdateInfo;
 import com.onedrinktoday.backend.domain.member.dto.MemberResponse;
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.repository.MemberRepository;
+import com.onedrinktoday.backend.domain.notification.service.NotificationStreamService;
 import com.onedrinktoday.backend.domain.post.entity.Post;
 import com.onedrinktoday.backend.domain.post.repository.PostRepository;
 import com.onedrinktoday.backend.domain.registration.entity.Registration;
 import com.onedrinktoday.backend.domain.registration.repository.RegistrationRepository;
+import com.onedrinktoday.backend.domain.search.SearchService;
 import com.onedrinktoday.backend.domain.tagFollow.repository.TagFollowRepository;
 import com.onedrinktoday.backend.global.exception.CustomException;
 import com.onedrinktoday.backend.global.exception.ErrorCode;
 import com.onedrinktoday.backend.global.security.JwtProvider;
 import com.onedrinktoday.backend.global.security.MemberDetail;
+import com.onedrinktoday.backend.global.security.MemberDetailService;
 import com.onedrinktoday.backend.global.security.TokenDTO;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -30,11 +33,16 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
+  // 요청 내에서 조회한 회원을 보관하는 요청 속성 이름
+  private static final String MEMBER_ATTRIBUTE = MemberService.class.getName() + ".member";
+
   private final MemberRepository memberRepository;
   private final CommentRepository commentRepository;
   private final PostRepository postRepository;
@@ -43,6 +51,9 @@ public class MemberService {
   private final BCryptPasswordEncoder bCryptPasswordEncoder;
   private final JwtProvider jwtProvider;
   private final EmailService emailService;
+  private final MemberDetailService memberDetailService;
+  private final SearchService searchService;
+  private final NotificationStreamService notificationStreamService;
 
   public void validateEmail(String email) {
     if (memberRepository.findByEmail(email).isPresent()) {
@@ -119,9 +130,12 @@ public class MemberService {
     return MemberResponse.from(getMember());
   }
 
+  @Transactional
   public MemberResponse updateMemberInfo(UpdateInfo updateInfo) {
     Member member = getMember();
 
+    boolean nameChanged = isNotEmpty(updateInfo.getName())
+        && !updateInfo.getName().equals(member.getName());
     if (isNotEmpty(updateInfo.getName())) {
       member.setName(updateInfo.getName());
     }
@@ -132,19 +146,43 @@ public class MemberService {
 
     if (updateInfo.isAlarmEnabled() != member.isAlarmEnabled()) {
       member.setAlarmEnabled(updateInfo.isAlarmEnabled());
+      // 실시간 태그 이벤트 전달 대상 갱신
+      notificationStreamService.refreshFollowedTags(member.getId());
     }
 
-    return MemberResponse.from(memberRepository.save(member));
+    Member savedMember = memberRepository.save(member);
+    memberDetailService.evict(member.getEmail());
+
+    // 검색 결과에 보이는 작성자 이름 갱신 (커밋되면 색인 작업이 반영)
+    if (nameChanged) {
+      searchService.requestIndexByMember(member.getId());
+    }
+
+    return MemberResponse.from(savedMember);
   }
 
   //멤버 정보 필요시 MemberService 주입받아 메서드 사용
+  //같은 요청 안에서는 처음 조회한 회원을 재사용
   public Member getMember() {
 
     MemberDetail memberDetail =
         (MemberDetail) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-    return memberRepository.findByEmail(memberDetail.getUsername())
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null && attributes.getAttribute(MEMBER_ATTRIBUTE,
+        RequestAttributes.SCOPE_REQUEST) instanceof Member member
+        && memberDetail.getUsername().equals(member.getEmail())) {
+      return member;
+    }
+
+    Member member = memberRepository.findByEmail(memberDetail.getUsername())
         .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+
+    if (attributes != null) {
+      attributes.setAttribute(MEMBER_ATTRIBUTE, member, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    return member;
   }
 
 
@@ -198,9 +236,17 @@ public class MemberService {
 
     tagFollowRepository.deleteByMember(member);
 
+    // 작성자 연결을 끊기 전에 작성 게시글 색인 요청 저장 (커밋되면 탈퇴한 사용자로 표시)
+    searchService.requestIndexByMember(member.getId());
     handleEntitiesForWithdrawMember(member);
 
     memberRepository.delete(member);
+    memberDetailService.evict(member.getEmail());
+
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      attributes.removeAttribute(MEMBER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
   }
 
   private void handleEntitiesForWithdrawMember(Member member) {
@@ -223,9 +269,15 @@ public class MemberService {
     }
   }
 
+  @Transactional
   public MemberResponse updateMemberProfile(String url) {
     Member member = getMember();
     member.setImageUrl(url);
-    return MemberResponse.from(memberRepository.save(member));
+
+    Member savedMember = memberRepository.save(member);
+    memberDetailService.evict(member.getEmail());
+    searchService.requestIndexByMember(member.getId());
+
+    return MemberResponse.from(savedMember);
   }
 }
@@ -1,16 +1,24 @@
 package com.onedrinktoday.backend.domain.notification.controller;
 
+import com.onedrinktoday.backend.domain.notification.dto.NotificationInboxResponse;
 import com.onedrinktoday.backend.domain.notification.dto.NotificationResponse;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationUnreadCountResponse;
 import com.onedrinktoday.backend.domain.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,8 +31,35 @@ public class NotificationController {
   public Page<NotificationResponse> getRecentNotifications(
       @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-    return notificationService.getRecentNotifications(pageable)
-        .map(NotificationResponse::from);
+    return notificationService.getRecentNotifications(pageable);
+  }
+
+  @GetMapping("/notifications/inbox")
+  public NotificationInboxResponse getInbox(@RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+
+    return notificationService.getInbox(cursor, size);
+  }
+
+  // 실시간 알림 구독 (SSE) - 재연결 시 브라우저가 보내는 Last-Event-ID 이후 알림부터 전송
+  @GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribe(
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+    return notificationService.subscribe(lastEventId);
+  }
+
+  @GetMapping("/notifications/unread-count")
+  public NotificationUnreadCountResponse getUnreadCount() {
+
+    return new NotificationUnreadCountResponse(notificationService.getUnreadCount());
+  }
+
+  // upToId 이하의 알림을 모두 읽음 처리
+  @PutMapping("/notifications/read")
+  public ResponseEntity<Integer> markAllRead(@RequestParam Long upToId) {
+
+    return ResponseEntity.ok(notificationService.markAllReadUpTo(upToId));
   }
 
   @GetMapping("/notifications/{notificationId}")
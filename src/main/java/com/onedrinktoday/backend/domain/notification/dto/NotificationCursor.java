@@ -0,0 +1,60 @@
+package com.onedrinktoday.backend.domain.notification.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 받은 알림함 커서 - 마지막으로 받은 항목의 생성 시각, 종류(알림/태그 이벤트), ID
+// 앞 페이지에서 보여준 태그 팔로우 게시글 ID도 함께 담아 페이지 경계에서 같은 게시글이 다시 나오지 않게 함
+@Getter
+@AllArgsConstructor
+public class NotificationCursor {
+
+  private static final String DELIMITER = "|";
+  private static final String ID_DELIMITER = ",";
+
+  private final LocalDateTime createdAt;
+  private final boolean tagEvent;
+  private final Long id;
+  private final Set<Long> followPostIds;
+
+  public NotificationCursor(LocalDateTime createdAt, boolean tagEvent, Long id) {
+    this(createdAt, tagEvent, id, Set.of());
+  }
+
+  public String encode() {
+    String raw = String.join(DELIMITER, createdAt.toString(), tagEvent ? "E" : "N",
+        String.valueOf(id), followPostIds.stream().map(String::valueOf)
+            .collect(Collectors.joining(ID_DELIMITER)));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static NotificationCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + DELIMITER, 4);
+
+      if (parts.length < 3 || !(parts[1].equals("E") || parts[1].equals("N"))) {
+        throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+      }
+
+      // 게시글 ID 목록이 없는 이전 형식 커서도 허용
+      Set<Long> followPostIds = parts.length == 4 && !parts[3].isEmpty()
+          ? Arrays.stream(parts[3].split(ID_DELIMITER)).map(Long::parseLong)
+          .collect(Collectors.toCollection(LinkedHashSet::new))
+          : Set.of();
+
+      return new NotificationCursor(LocalDateTime.parse(parts[0]), parts[1].equals("E"),
+          Long.parseLong(parts[2]), followPostIds);
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+    }
+  }
+}
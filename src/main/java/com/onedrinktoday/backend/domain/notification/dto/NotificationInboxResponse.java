@@ -0,0 +1,16 @@
+package com.onedrinktoday.backend.domain.notification.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationInboxResponse {
+
+  private List<NotificationResponse> notifications;
+  private String nextCursor;
+  private boolean hasNext;
+}
@@ -0,0 +1,31 @@
+package com.onedrinktoday.backend.domain.notification.dto;
+
+import java.util.List;
+
+// 노드 간 알림 전달 메시지 - 회원별 알림 목록 또는 인기 태그 이벤트 (태그 팔로워 중 접속한 회원에게만 전달)
+// 또는 팔로우 태그/알림 설정이 바뀐 회원 (접속 중인 노드가 팔로우 태그 목록을 다시 읽음)
+public record NotificationPushMessage(
+    List<Delivery> deliveries,
+    List<Long> tagIds,
+    Long authorId,
+    NotificationResponse tagEvent,
+    Long followChangedMemberId
+) {
+
+  public static NotificationPushMessage of(List<Delivery> deliveries) {
+    return new NotificationPushMessage(deliveries, List.of(), null, null, null);
+  }
+
+  public static NotificationPushMessage ofTagEvent(List<Long> tagIds, Long authorId,
+      NotificationResponse tagEvent) {
+    return new NotificationPushMessage(List.of(), tagIds, authorId, tagEvent, null);
+  }
+
+  public static NotificationPushMessage ofFollowChange(Long memberId) {
+    return new NotificationPushMessage(List.of(), List.of(), null, null, memberId);
+  }
+
+  public record Delivery(Long memberId, NotificationResponse notification) {
+
+  }
+}
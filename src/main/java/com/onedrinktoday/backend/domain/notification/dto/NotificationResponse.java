@@ -1,6 +1,7 @@
 package com.onedrinktoday.backend.domain.notification.dto;
 
 import com.onedrinktoday.backend.domain.notification.entity.Notification;
+import com.onedrinktoday.backend.domain.notification.entity.TagPostEvent;
 import com.onedrinktoday.backend.global.type.NotificationType;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -20,6 +21,8 @@ public class NotificationResponse {
   private String content;
   private boolean readStatus;
   private LocalDateTime createdAt;
+  // 팔로워가 많은 태그의 공용 이벤트 여부 (id는 이벤트 ID, 읽음은 회원별 워터마크로 판단)
+  private boolean tagEvent;
 
   public static NotificationResponse from(Notification notification) {
     return NotificationResponse.builder()
@@ -31,4 +34,16 @@ public class NotificationResponse {
         .createdAt(notification.getCreatedAt())
         .build();
   }
-}
\ No newline at end of file
+
+  public static NotificationResponse from(TagPostEvent event, boolean readStatus) {
+    return NotificationResponse.builder()
+        .id(event.getId())
+        .postId(event.getPostId())
+        .type(NotificationType.FOLLOW)
+        .content(event.getContent())
+        .readStatus(readStatus)
+        .createdAt(event.getCreatedAt())
+        .tagEvent(true)
+        .build();
+  }
+}
@@ -0,0 +1,13 @@
+package com.onedrinktoday.backend.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationUnreadCountResponse {
+
+  private long unreadCount;
+}
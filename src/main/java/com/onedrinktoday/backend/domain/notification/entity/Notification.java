@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +22,12 @@ import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
-@Table(name = "notification")
+// 읽지 않은 알림 집계/일괄 읽음 처리용, 최신순 목록 조회용, 보관 기간 만료 알림 삭제용 인덱스
+@Table(name = "notification", indexes = {
+    @Index(name = "idx_notification_member_read_id", columnList = "member_id, readStatus, id"),
+    @Index(name = "idx_notification_member_created_at_id", columnList = "member_id, created_at, id"),
+    @Index(name = "idx_notification_type_created_at_id", columnList = "type, created_at, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
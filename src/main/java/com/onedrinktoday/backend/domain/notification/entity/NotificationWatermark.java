@@ -0,0 +1,29 @@
+package com.onedrinktoday.backend.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 회원별로 마지막으로 확인한 태그 게시글 이벤트 ID - 이보다 큰 이벤트만 읽지 않은 알림
+@Entity
+@Table(name = "notification_watermark")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationWatermark {
+
+  @Id
+  @Column(name = "member_id")
+  private Long memberId;
+
+  @Setter
+  @Column(name = "last_seen_event_id", nullable = false)
+  private long lastSeenEventId;
+}
@@ -0,0 +1,57 @@
+package com.onedrinktoday.backend.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+// 팔로워가 많은 태그의 새 게시글 이벤트 - 팔로워마다 알림을 쓰지 않고 (태그, 게시글)당 한 건 저장 후 조회 시 병합
+@Entity
+@Table(name = "tag_post_event",
+    uniqueConstraints = @UniqueConstraint(name = "uk_tag_post_event_tag_post",
+        columnNames = {"tag_id", "post_id"}),
+    indexes = {
+        @Index(name = "idx_tag_post_event_tag_created_at_id", columnList = "tag_id, created_at, id"),
+        @Index(name = "idx_tag_post_event_created_at_id", columnList = "created_at, id")
+    })
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TagPostEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "tag_id", nullable = false)
+  private Long tagId;
+
+  @Column(name = "post_id", nullable = false)
+  private Long postId;
+
+  // 작성자 본인에게는 보여주지 않기 위해 보관
+  @Column(name = "author_id")
+  private Long authorId;
+
+  @Column(name = "tag_name", nullable = false)
+  private String tagName;
+
+  @CreationTimestamp
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  public String getContent() {
+    return "새로운 게시글이 " + tagName + " 태그와 작성되었습니다.";
+  }
+}
@@ -1,13 +1,49 @@
 package com.onedrinktoday.backend.domain.notification.repository;
 
 import com.onedrinktoday.backend.domain.notification.entity.Notification;
-import org.springframework.data.domain.Page;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-  Page<Notification> findByMemberId(Long memberId, Pageable pageable);
-}
\ No newline at end of file
+  // 받은 알림함 - 회원의 최신 알림
+  @Query("SELECT n FROM Notification n WHERE n.member.id = :memberId "
+      + "ORDER BY n.createdAt DESC, n.id DESC")
+  List<Notification> findLatest(@Param("memberId") Long memberId, Pageable pageable);
+
+  // 받은 알림함 - 커서 이후 알림 (같은 시각이면 id가 idBound보다 작은 알림만)
+  @Query("SELECT n FROM Notification n WHERE n.member.id = :memberId "
+      + "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :idBound)) "
+      + "ORDER BY n.createdAt DESC, n.id DESC")
+  List<Notification> findBefore(@Param("memberId") Long memberId,
+      @Param("createdAt") LocalDateTime createdAt, @Param("idBound") Long idBound,
+      Pageable pageable);
+
+  // SSE 재연결 시 Last-Event-ID 이후 알림 재전송
+  List<Notification> findByMemberIdAndIdGreaterThanOrderByIdAsc(Long memberId, Long id,
+      Pageable pageable);
+
+  long countByMemberId(Long memberId);
+
+  long countByMemberIdAndReadStatusFalse(Long memberId);
+
+  // 회원별 읽지 않은 알림 수 [회원 ID, 개수] (카운터 재조정용)
+  @Query("SELECT n.member.id, COUNT(n) FROM Notification n "
+      + "WHERE n.member.id IN :memberIds AND n.readStatus = false GROUP BY n.member.id")
+  List<Object[]> countUnreadByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+  // 지정한 ID 이하의 읽지 않은 알림을 한 번에 읽음 처리
+  @Modifying
+  @Query("UPDATE Notification n SET n.readStatus = true "
+      + "WHERE n.member.id = :memberId AND n.readStatus = false AND n.id <= :notificationId")
+  int markReadUpTo(@Param("memberId") Long memberId,
+      @Param("notificationId") Long notificationId);
+}
@@ -0,0 +1,21 @@
+package com.onedrinktoday.backend.domain.notification.repository;
+
+import com.onedrinktoday.backend.domain.notification.entity.NotificationWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationWatermarkRepository extends
+    JpaRepository<NotificationWatermark, Long> {
+
+  // 워터마크를 앞으로만 이동 (행이 없으면 생성) - 동시에 알림함을 조회해도 뒤로 돌아가지 않음
+  @Modifying
+  @Query(value = "INSERT INTO notification_watermark (member_id, last_seen_event_id) "
+      + "VALUES (:memberId, :eventId) ON DUPLICATE KEY UPDATE "
+      + "last_seen_event_id = GREATEST(last_seen_event_id, VALUES(last_seen_event_id))",
+      nativeQuery = true)
+  int advance(@Param("memberId") Long memberId, @Param("eventId") long eventId);
+}
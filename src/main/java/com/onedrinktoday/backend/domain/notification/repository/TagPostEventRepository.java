@@ -0,0 +1,52 @@
+package com.onedrinktoday.backend.domain.notification.repository;
+
+import com.onedrinktoday.backend.domain.notification.entity.TagPostEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TagPostEventRepository extends JpaRepository<TagPostEvent, Long> {
+
+  // 이벤트가 있는 태그만 추림 (팔로우한 태그 중 팬아웃-온-리드 태그)
+  @Query("SELECT DISTINCT e.tagId FROM TagPostEvent e WHERE e.tagId IN :tagIds")
+  List<Long> findTagIdsIn(@Param("tagIds") Collection<Long> tagIds);
+
+  // 태그별 최신 이벤트 (팔로우 시각 이후, 작성자 본인 게시글 제외)
+  @Query("SELECT e FROM TagPostEvent e WHERE e.tagId = :tagId AND e.createdAt >= :since "
+      + "AND (e.authorId IS NULL OR e.authorId <> :memberId) "
+      + "ORDER BY e.createdAt DESC, e.id DESC")
+  List<TagPostEvent> findLatest(@Param("tagId") Long tagId, @Param("memberId") Long memberId,
+      @Param("since") LocalDateTime since, Pageable pageable);
+
+  // 태그별 커서 이후 이벤트 - 같은 시각이면 id가 idBound보다 작은 이벤트만
+  @Query("SELECT e FROM TagPostEvent e WHERE e.tagId = :tagId AND e.createdAt >= :since "
+      + "AND (e.authorId IS NULL OR e.authorId <> :memberId) "
+      + "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :idBound)) "
+      + "ORDER BY e.createdAt DESC, e.id DESC")
+  List<TagPostEvent> findBefore(@Param("tagId") Long tagId, @Param("memberId") Long memberId,
+      @Param("since") LocalDateTime since, @Param("createdAt") LocalDateTime createdAt,
+      @Param("idBound") Long idBound, Pageable pageable);
+
+  // 태그별 읽지 않은(워터마크 이후) 이벤트의 게시글 ID (읽지 않은 알림 수 계산용)
+  @Query("SELECT e.postId FROM TagPostEvent e WHERE e.tagId = :tagId AND e.createdAt >= :since "
+      + "AND (e.authorId IS NULL OR e.authorId <> :memberId) AND e.id > :lastSeenEventId "
+      + "ORDER BY e.id DESC")
+  List<Long> findUnreadPostIds(@Param("tagId") Long tagId, @Param("memberId") Long memberId,
+      @Param("since") LocalDateTime since, @Param("lastSeenEventId") long lastSeenEventId,
+      Pageable pageable);
+
+  @Query("SELECT MAX(e.id) FROM TagPostEvent e")
+  Long findMaxId();
+
+  // 태그별 이벤트 수 (알림 목록 전체 개수 계산용)
+  @Query("SELECT COUNT(e) FROM TagPostEvent e WHERE e.tagId = :tagId AND e.createdAt >= :since "
+      + "AND (e.authorId IS NULL OR e.authorId <> :memberId)")
+  long countVisible(@Param("tagId") Long tagId, @Param("memberId") Long memberId,
+      @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,78 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import com.onedrinktoday.backend.domain.notification.entity.Notification;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 알림 일괄 INSERT - IDENTITY 키 엔티티는 Hibernate가 배치로 묶지 않으므로 JDBC 배치로 보내고 생성된 ID를 함께 받음
+@Component
+@RequiredArgsConstructor
+public class NotificationBatchWriter {
+
+  private static final String INSERT_SQL = "INSERT INTO notification "
+      + "(member_id, post_id, type, content, read_status, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 저장한 알림을 요청 순서대로 ID, 생성 시각을 채워 반환 (SSE 전파와 Last-Event-ID 재전송에 ID 필요)
+  // 한 트랜잭션으로 저장해 실패하면 배치 전체가 롤백됨 (나눠서 다시 저장해도 중복되지 않음)
+  @Transactional
+  public List<Notification> insertAll(List<Notification> notifications) {
+    if (notifications.isEmpty()) {
+      return List.of();
+    }
+
+    LocalDateTime createdAt = LocalDateTime.now();
+    List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL,
+          new String[]{"id"})) {
+        for (Notification notification : notifications) {
+          statement.setLong(1, notification.getMember().getId());
+          statement.setObject(2, notification.getPostId());
+          statement.setString(3, notification.getType().name());
+          statement.setString(4, notification.getContent());
+          statement.setBoolean(5, notification.isReadStatus());
+          statement.setTimestamp(6, Timestamp.valueOf(createdAt));
+          statement.addBatch();
+        }
+        statement.executeBatch();
+
+        List<Long> generated = new ArrayList<>(notifications.size());
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+          while (keys.next()) {
+            generated.add(keys.getLong(1));
+          }
+        }
+        return generated;
+      }
+    });
+
+    if (ids == null || ids.size() != notifications.size()) {
+      throw new IllegalStateException("생성된 알림 ID 수가 저장 요청 수와 다릅니다.");
+    }
+
+    List<Notification> saved = new ArrayList<>(notifications.size());
+    for (int i = 0; i < notifications.size(); i++) {
+      Notification notification = notifications.get(i);
+      saved.add(Notification.builder()
+          .id(ids.get(i))
+          .member(notification.getMember())
+          .postId(notification.getPostId())
+          .type(notification.getType())
+          .content(notification.getContent())
+          .readStatus(notification.isReadStatus())
+          .createdAt(createdAt)
+          .build());
+    }
+    return saved;
+  }
+}
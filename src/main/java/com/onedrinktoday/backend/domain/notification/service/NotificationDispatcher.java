@@ -0,0 +1,198 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static com.onedrinktoday.backend.global.config.AsyncConfig.NOTIFICATION_EXECUTOR;
+
+import com.onedrinktoday.backend.domain.notification.dto.NotificationPushMessage;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationPushMessage.Delivery;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationResponse;
+import com.onedrinktoday.backend.domain.notification.entity.Notification;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 알림 저장 파이프라인 - 요청 스레드는 큐에 넣기만 하고, 알림 전용 스레드가 모아서 JDBC 배치 INSERT
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+  private final NotificationBatchWriter notificationBatchWriter;
+  private final NotificationUnreadCounter unreadCounter;
+  private final NotificationStreamService notificationStreamService;
+  private final Executor notificationExecutor;
+  private final int batchSize;
+
+  private final BlockingQueue<Notification> queue;
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  // 지표 - 큐 적재/저장/호출 스레드 직접 저장/실패 건수, 일괄 저장 소요 시간
+  private final AtomicLong enqueued = new AtomicLong();
+  private final AtomicLong saved = new AtomicLong();
+  private final AtomicLong savedByCaller = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong lastDrainMillis = new AtomicLong();
+  private final AtomicLong maxDrainMillis = new AtomicLong();
+
+  public NotificationDispatcher(NotificationBatchWriter notificationBatchWriter,
+      NotificationUnreadCounter unreadCounter, NotificationStreamService notificationStreamService,
+      @Qualifier(NOTIFICATION_EXECUTOR) Executor notificationExecutor,
+      @Value("${notification.queue.capacity:10000}") int capacity,
+      @Value("${notification.queue.batch-size:100}") int batchSize) {
+    this.notificationBatchWriter = notificationBatchWriter;
+    this.unreadCounter = unreadCounter;
+    this.notificationStreamService = notificationStreamService;
+    this.notificationExecutor = notificationExecutor;
+    this.batchSize = batchSize;
+    this.queue = new LinkedBlockingQueue<>(capacity);
+  }
+
+  // 알림 저장 요청 - 트랜잭션 안이면 커밋 후 큐에 적재 (롤백된 작업의 알림은 저장하지 않음)
+  public void enqueue(Notification notification) {
+    afterCommit(() -> offer(notification));
+  }
+
+  // 알림 생성 작업을 알림 전용 스레드에서 실행 - 트랜잭션 안이면 커밋 후 실행
+  public void execute(Runnable task) {
+    afterCommit(() -> notificationExecutor.execute(() -> {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        failed.incrementAndGet();
+        log.warn("알림 생성 작업 실패: {}", e.getMessage());
+      }
+    }));
+  }
+
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  public long getSavedCount() {
+    return saved.get();
+  }
+
+  @Scheduled(fixedDelayString = "${notification.queue.stats-interval:60000}")
+  public void logStats() {
+    log.info("알림 큐 depth={}, enqueued={}, saved={}, savedByCaller={}, failed={}, "
+            + "lastDrainMs={}, maxDrainMs={}", queue.size(), enqueued.get(), saved.get(),
+        savedByCaller.get(), failed.get(), lastDrainMillis.get(), maxDrainMillis.get());
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    List<Notification> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      save(remaining);
+    }
+  }
+
+  private void offer(Notification notification) {
+    enqueued.incrementAndGet();
+
+    // 큐가 가득 차면 호출 스레드에서 바로 저장 (메모리 무한 증가 대신 유입 속도 제한)
+    if (!queue.offer(notification)) {
+      savedByCaller.incrementAndGet();
+      save(List.of(notification));
+      return;
+    }
+
+    scheduleDrain();
+  }
+
+  private void scheduleDrain() {
+    if (draining.compareAndSet(false, true)) {
+      notificationExecutor.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    while (true) {
+      List<Notification> batch = new ArrayList<>(batchSize);
+      queue.drainTo(batch, batchSize);
+
+      if (batch.isEmpty()) {
+        draining.set(false);
+        // 플래그 해제 직전에 들어온 알림은 다시 점유해 처리
+        if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+          return;
+        }
+        continue;
+      }
+
+      save(batch);
+    }
+  }
+
+  private void save(List<Notification> batch) {
+    long start = System.currentTimeMillis();
+    try {
+      List<Notification> inserted = insert(batch);
+      if (inserted.isEmpty()) {
+        return;
+      }
+
+      saved.addAndGet(inserted.size());
+      unreadCounter.incrementAll(inserted.stream().collect(
+          Collectors.groupingBy(notification -> notification.getMember().getId(),
+              Collectors.counting())));
+      notificationStreamService.publish(NotificationPushMessage.of(inserted.stream()
+          .map(notification -> new Delivery(notification.getMember().getId(),
+              NotificationResponse.from(notification)))
+          .toList()));
+    } catch (RuntimeException e) {
+      // 저장은 끝났으므로 실시간 전송만 누락 (재연결 시 Last-Event-ID 이후 알림을 다시 보냄)
+      log.warn("알림 {}건 실시간 전송 실패: {}", batch.size(), e.getMessage());
+    } finally {
+      long elapsed = System.currentTimeMillis() - start;
+      lastDrainMillis.set(elapsed);
+      maxDrainMillis.accumulateAndGet(elapsed, Math::max);
+    }
+  }
+
+  // 일괄 저장이 실패하면 반씩 나눠 다시 저장 - 저장할 수 없는 알림(큐에 넣은 뒤 탈퇴한 회원 등)만 버리고
+  // 같은 배치의 다른 회원 알림은 저장 (일괄 저장은 트랜잭션 단위라 실패한 배치는 일부만 남지 않음)
+  private List<Notification> insert(List<Notification> batch) {
+    try {
+      return notificationBatchWriter.insertAll(batch);
+    } catch (RuntimeException e) {
+      if (batch.size() == 1) {
+        failed.incrementAndGet();
+        log.warn("알림 저장 실패: memberId={}, type={}, {}", batch.get(0).getMember().getId(),
+            batch.get(0).getType(), e.getMessage());
+        return List.of();
+      }
+
+      int half = batch.size() / 2;
+      List<Notification> inserted = new ArrayList<>(insert(batch.subList(0, half)));
+      inserted.addAll(insert(batch.subList(half, batch.size())));
+      return inserted;
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+      return;
+    }
+
+    action.run();
+  }
+}
@@ -0,0 +1,207 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static com.onedrinktoday.backend.global.type.NotificationType.FOLLOW;
+
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationPushMessage;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationPushMessage.Delivery;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationResponse;
+import com.onedrinktoday.backend.domain.notification.entity.Notification;
+import com.onedrinktoday.backend.domain.notification.entity.TagPostEvent;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+
+// 태그 팔로우 알림 팬아웃 - 게시글 태그들의 팔로워를 중복 없이 회원 ID 순으로 나눠 조회하고 일괄 INSERT
+// 팔로워가 임계치 이상인 태그는 팔로워별 알림 대신 태그 이벤트 한 건만 저장 (조회 시 NotificationInboxService가 병합)
+@Slf4j
+@Service
+public class NotificationFanOutService {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NotificationBatchWriter notificationBatchWriter;
+  private final NotificationUnreadCounter unreadCounter;
+  private final NotificationStreamService notificationStreamService;
+  private final int chunkSize;
+  private final long inboxThreshold;
+
+  public NotificationFanOutService(JdbcTemplate jdbcTemplate,
+      NotificationBatchWriter notificationBatchWriter, NotificationUnreadCounter unreadCounter, NotificationStreamService notificationStreamService,
+      @Value("${notification.fan-out.chunk-size:1000}") int chunkSize,
+      @Value("${notification.fan-out.inbox-threshold:10000}") long inboxThreshold) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.notificationBatchWriter = notificationBatchWriter;
+    this.unreadCounter = unreadCounter;
+    this.notificationStreamService = notificationStreamService;
+    this.chunkSize = chunkSize;
+    this.inboxThreshold = inboxThreshold;
+  }
+
+  // 작성자와 알림 수신 거부 회원을 제외한 팔로워에게 회원당 한 건씩 알림 저장, 저장한 알림과 태그 이벤트 수 반환
+  public int fanOutTagFollowPost(Long postId, Long authorId, List<Tag> tags) {
+    if (tags.isEmpty()) {
+      return 0;
+    }
+
+    Map<Long, String> tagNames = new LinkedHashMap<>();
+    tags.forEach(tag -> tagNames.put(tag.getTagId(), tag.getTagName()));
+    LocalDateTime createdAt = LocalDateTime.now();
+
+    Set<Long> popularTagIds = findPopularTagIds(tagNames.keySet());
+    int total = saveTagPostEvents(postId, authorId, tagNames, popularTagIds, createdAt);
+
+    Map<Long, String> directTagNames = new LinkedHashMap<>(tagNames);
+    directTagNames.keySet().removeAll(popularTagIds);
+    if (!directTagNames.isEmpty()) {
+      total += writeNotifications(postId, authorId, directTagNames, popularTagIds);
+    }
+
+    log.debug("게시글 {} 태그 팔로우 알림 {}건 저장 (이벤트 태그 {}개)", postId, total,
+        popularTagIds.size());
+    return total;
+  }
+
+  // 팔로워 수가 임계치 이상인 태그
+  private Set<Long> findPopularTagIds(Collection<Long> tagIds) {
+    List<Object> params = new ArrayList<>(tagIds);
+    params.add(inboxThreshold);
+
+    return new HashSet<>(jdbcTemplate.queryForList("SELECT tag_id FROM tag_follow "
+        + "WHERE tag_id IN (" + placeholders(tagIds.size()) + ") "
+        + "GROUP BY tag_id HAVING COUNT(*) >= ?", Long.class, params.toArray()));
+  }
+
+  // 생성된 이벤트 ID는 INSERT 결과에서 바로 받아 전파
+  private int saveTagPostEvents(Long postId, Long authorId, Map<Long, String> tagNames,
+      Set<Long> popularTagIds, LocalDateTime createdAt) {
+    if (popularTagIds.isEmpty()) {
+      return 0;
+    }
+
+    List<Long> tagIds = List.copyOf(popularTagIds);
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(connection -> connection.prepareStatement("INSERT INTO tag_post_event "
+            + "(tag_id, post_id, author_id, tag_name, created_at) VALUES (?, ?, ?, ?, ?)",
+        new String[]{"id"}), new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        ps.setLong(1, tagIds.get(i));
+        ps.setObject(2, postId);
+        ps.setObject(3, authorId);
+        ps.setString(4, tagNames.get(tagIds.get(i)));
+        ps.setTimestamp(5, Timestamp.valueOf(createdAt));
+      }
+
+      @Override
+      public int getBatchSize() {
+        return tagIds.size();
+      }
+    }, keyHolder);
+
+    // 태그 이벤트는 태그가 여러 개여도 게시글당 한 번만 전파
+    List<Map<String, Object>> keys = keyHolder.getKeyList();
+    if (!keys.isEmpty()) {
+      Long eventId = ((Number) keys.get(0).values().iterator().next()).longValue();
+      TagPostEvent event = TagPostEvent.builder()
+          .id(eventId)
+          .tagId(tagIds.get(0))
+          .postId(postId)
+          .authorId(authorId)
+          .tagName(tagNames.get(tagIds.get(0)))
+          .createdAt(createdAt)
+          .build();
+      notificationStreamService.publish(NotificationPushMessage.ofTagEvent(tagIds, authorId,
+          NotificationResponse.from(event, false)));
+    }
+
+    return tagIds.size();
+  }
+
+  // 이벤트 태그도 팔로우하는 회원은 조회 시 이벤트로 받으므로 제외
+  private int writeNotifications(Long postId, Long authorId, Map<Long, String> tagNames,
+      Set<Long> popularTagIds) {
+    String sql = followerQuery(tagNames.size(), authorId != null, popularTagIds.size());
+
+    int total = 0;
+    long lastMemberId = 0;
+    while (true) {
+      List<Object> params = new ArrayList<>(tagNames.keySet());
+      params.add(lastMemberId);
+      if (authorId != null) {
+        params.add(authorId);
+      }
+      params.addAll(popularTagIds);
+      params.add(chunkSize);
+
+      // [회원 ID, 팔로우한 태그 중 가장 작은 태그 ID]
+      List<long[]> followers = jdbcTemplate.query(sql,
+          (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, params.toArray());
+      if (followers.isEmpty()) {
+        break;
+      }
+
+      List<Notification> notifications = new ArrayList<>(followers.size());
+      Map<Long, Long> unreadDeltas = new HashMap<>();
+      for (long[] follower : followers) {
+        unreadDeltas.put(follower[0], 1L);
+        notifications.add(Notification.builder()
+            .member(Member.builder().id(follower[0]).build())
+            .postId(postId)
+            .type(FOLLOW)
+            .content("새로운 게시글이 " + tagNames.get(follower[1]) + " 태그와 작성되었습니다.")
+            .build());
+      }
+
+      // 생성된 알림 ID는 INSERT 결과에서 바로 받아 전파 (Last-Event-ID 재전송에 ID 필요)
+      List<Notification> inserted = notificationBatchWriter.insertAll(notifications);
+      unreadCounter.incrementAll(unreadDeltas);
+      notificationStreamService.publish(NotificationPushMessage.of(inserted.stream()
+          .map(notification -> new Delivery(notification.getMember().getId(),
+              NotificationResponse.from(notification)))
+          .toList()));
+
+      total += followers.size();
+      lastMemberId = followers.get(followers.size() - 1)[0];
+      if (followers.size() < chunkSize) {
+        break;
+      }
+    }
+
+    return total;
+  }
+
+  private String followerQuery(int tagCount, boolean excludeAuthor, int popularTagCount) {
+    return "SELECT tf.member_id, MIN(tf.tag_id) FROM tag_follow tf "
+        + "JOIN member m ON m.id = tf.member_id "
+        + "WHERE tf.tag_id IN (" + placeholders(tagCount) + ") "
+        + "AND tf.member_id > ? "
+        + (excludeAuthor ? "AND tf.member_id <> ? " : "")
+        + (popularTagCount > 0 ? "AND NOT EXISTS (SELECT 1 FROM tag_follow p "
+        + "WHERE p.member_id = tf.member_id AND p.tag_id IN (" + placeholders(popularTagCount)
+        + ")) " : "")
+        + "AND m.alarm_enabled = TRUE AND m.deleted_at IS NULL "
+        + "GROUP BY tf.member_id ORDER BY tf.member_id LIMIT ?";
+  }
+
+  private String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+}
@@ -0,0 +1,285 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static com.onedrinktoday.backend.global.type.NotificationType.FOLLOW;
+
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationCursor;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationInboxResponse;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationResponse;
+import com.onedrinktoday.backend.domain.notification.entity.NotificationWatermark;
+import com.onedrinktoday.backend.domain.notification.repository.NotificationRepository;
+import com.onedrinktoday.backend.domain.notification.repository.NotificationWatermarkRepository;
+import com.onedrinktoday.backend.domain.notification.repository.TagPostEventRepository;
+import com.onedrinktoday.backend.domain.tagFollow.repository.TagFollowRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 받은 알림함 - 회원별 알림과 팔로우한 인기 태그의 이벤트를 (생성 시각, 종류, ID) 역순으로 병합
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxService {
+
+  // 같은 시각이면 회원별 알림을 태그 이벤트보다 먼저
+  private static final Comparator<InboxEntry> NEWEST_FIRST = Comparator
+      .comparing((InboxEntry entry) -> entry.response().getCreatedAt())
+      .thenComparing(entry -> !entry.response().isTagEvent())
+      .thenComparing(entry -> entry.response().getId())
+      .reversed();
+
+  // 한 번에 조회할 수 있는 알림 수 상한
+  static final int MAX_PAGE_SIZE = 50;
+
+  // 오프셋 페이지 조회 시 병합할 수 있는 최대 깊이 - 스트림마다 (오프셋 + 크기)만큼 읽으므로 제한
+  static final int MAX_OFFSET_WINDOW = 1000;
+
+  // 팔로우 시각이 없는 기존 팔로우는 모든 태그 이벤트를 보여줌
+  private static final LocalDateTime LEGACY_FOLLOWED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final NotificationRepository notificationRepository;
+  private final TagPostEventRepository tagPostEventRepository;
+  private final NotificationWatermarkRepository notificationWatermarkRepository;
+  private final TagFollowRepository tagFollowRepository;
+
+  @Transactional
+  public NotificationInboxResponse getInbox(Member member, String cursor, int size) {
+    NotificationCursor after = cursor != null ? NotificationCursor.decode(cursor) : null;
+    int limit = clampSize(size);
+
+    InboxPage page = merge(member, after, 0, limit);
+
+    String nextCursor = page.hasNext() && page.last() != null ? new NotificationCursor(
+        page.last().getCreatedAt(), page.last().isTagEvent(), page.last().getId(),
+        page.followPostIds()).encode() : null;
+
+    return new NotificationInboxResponse(page.notifications(), nextCursor, page.hasNext());
+  }
+
+  // 기존 알림 목록 API (오프셋 페이지) - 받은 알림함과 같은 병합 결과를 최신순으로 잘라 반환
+  @Transactional
+  public Page<NotificationResponse> getRecent(Member member, Pageable pageable) {
+    int size = clampSize(pageable.getPageSize());
+    Pageable page = PageRequest.of(pageable.getPageNumber(), size);
+    long total = countVisible(member);
+
+    if (page.getOffset() + size > MAX_OFFSET_WINDOW) {
+      return new PageImpl<>(List.of(), page, total);
+    }
+
+    InboxPage merged = merge(member, null, (int) page.getOffset(), size);
+    return new PageImpl<>(merged.notifications(), page, total);
+  }
+
+  // 회원별 알림과 태그 이벤트 스트림을 병합해 skip개를 건너뛴 뒤 size개 반환
+  private InboxPage merge(Member member, NotificationCursor after, int skip, int size) {
+    NotificationWatermark watermark = notificationWatermarkRepository.findById(member.getId())
+        .orElseGet(() -> NotificationWatermark.builder().memberId(member.getId()).build());
+
+    // 스트림마다 skip + size + 1개를 읽어 다음 페이지 존재 여부 판단
+    int window = skip + size;
+    Pageable limit = PageRequest.of(0, window + 1);
+    List<InboxStream> streams = new ArrayList<>();
+    streams.add(new InboxStream(notificationStream(member.getId(), after, limit), window));
+    if (member.isAlarmEnabled()) {
+      eventTagFollowedAt(member.getId()).forEach((tagId, followedAt) -> streams.add(
+          new InboxStream(tagEventStream(tagId, member.getId(), followedAt, after, limit,
+              watermark), window)));
+    }
+
+    PriorityQueue<InboxEntry> queue = new PriorityQueue<>(NEWEST_FIRST);
+    streams.forEach(stream -> stream.offerNext(queue));
+
+    List<NotificationResponse> notifications = new ArrayList<>(size);
+    Set<Long> followPostIds = new LinkedHashSet<>(
+        after != null ? after.getFollowPostIds() : Set.of());
+    Set<Long> pageFollowPostIds = new LinkedHashSet<>();
+    NotificationResponse last = null;
+    long maxEventId = 0;
+    int skipped = 0;
+
+    while (!queue.isEmpty()) {
+      InboxEntry head = queue.peek();
+      boolean duplicate = isDuplicate(head.response(), followPostIds);
+      if (!duplicate && notifications.size() == size) {
+        break;
+      }
+
+      // 여러 태그에 걸친 같은 게시글 이벤트는 한 건만 보여주고 나머지는 커서만 이동
+      queue.poll();
+      head.stream().offerNext(queue);
+      last = head.response();
+      if (duplicate) {
+        continue;
+      }
+
+      NotificationResponse response = head.response();
+      if (response.getType() == FOLLOW && response.getPostId() != null) {
+        followPostIds.add(response.getPostId());
+        pageFollowPostIds.add(response.getPostId());
+      }
+      if (response.isTagEvent()) {
+        maxEventId = Math.max(maxEventId, response.getId());
+      }
+      if (skipped < skip) {
+        skipped++;
+        continue;
+      }
+      notifications.add(response);
+    }
+
+    // 첫 페이지를 본 시점까지의 태그 이벤트는 읽은 것으로 처리
+    if (after == null && skip == 0 && maxEventId > watermark.getLastSeenEventId()) {
+      watermark.setLastSeenEventId(maxEventId);
+      notificationWatermarkRepository.save(watermark);
+    }
+
+    boolean hasNext = !queue.isEmpty() || streams.stream().anyMatch(InboxStream::truncated);
+    return new InboxPage(notifications, last, hasNext, pageFollowPostIds);
+  }
+
+  // 읽지 않은 태그 이벤트 수 - 워터마크 이후 이벤트를 게시글 기준으로 한 건씩 (받은 알림함과 같은 중복 제거)
+  // 태그마다 최대 MAX_OFFSET_WINDOW건만 읽고 합계도 그 수로 제한
+  public long countUnreadEvents(Member member) {
+    if (!member.isAlarmEnabled()) {
+      return 0;
+    }
+
+    Map<Long, LocalDateTime> eventTags = eventTagFollowedAt(member.getId());
+    if (eventTags.isEmpty()) {
+      return 0;
+    }
+
+    long lastSeen = notificationWatermarkRepository.findById(member.getId())
+        .map(NotificationWatermark::getLastSeenEventId).orElse(0L);
+    Set<Long> postIds = new HashSet<>();
+    for (Map.Entry<Long, LocalDateTime> entry : eventTags.entrySet()) {
+      postIds.addAll(tagPostEventRepository.findUnreadPostIds(entry.getKey(), member.getId(),
+          entry.getValue(), lastSeen, PageRequest.of(0, MAX_OFFSET_WINDOW)));
+      if (postIds.size() >= MAX_OFFSET_WINDOW) {
+        return MAX_OFFSET_WINDOW;
+      }
+    }
+    return postIds.size();
+  }
+
+  // 지금까지의 태그 이벤트를 모두 읽은 것으로 처리
+  @Transactional
+  public void markEventsRead(Member member) {
+    Long maxEventId = tagPostEventRepository.findMaxId();
+    if (maxEventId != null) {
+      notificationWatermarkRepository.advance(member.getId(), maxEventId);
+    }
+  }
+
+  // 회원별 알림 수 + 팔로우 이후 태그 이벤트 수 (여러 태그에 걸친 같은 게시글은 중복 집계될 수 있음)
+  private long countVisible(Member member) {
+    long total = notificationRepository.countByMemberId(member.getId());
+    if (member.isAlarmEnabled()) {
+      for (Map.Entry<Long, LocalDateTime> entry : eventTagFollowedAt(member.getId()).entrySet()) {
+        total += tagPostEventRepository.countVisible(entry.getKey(), member.getId(),
+            entry.getValue());
+      }
+    }
+    return total;
+  }
+
+  private int clampSize(int size) {
+    return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+  }
+
+  private boolean isDuplicate(NotificationResponse response, Set<Long> followPostIds) {
+    return response.getType() == FOLLOW && followPostIds.contains(response.getPostId());
+  }
+
+  // 팔로우한 태그 중 이벤트가 쌓이는(팔로워가 많은) 태그와 팔로우 시각
+  private Map<Long, LocalDateTime> eventTagFollowedAt(Long memberId) {
+    Map<Long, LocalDateTime> followedAt = new HashMap<>();
+    for (Object[] row : tagFollowRepository.findTagIdsAndFollowedAtByMemberId(memberId)) {
+      LocalDateTime since = row[1] != null ? (LocalDateTime) row[1] : LEGACY_FOLLOWED_AT;
+      followedAt.merge((Long) row[0], since, (a, b) -> a.isBefore(b) ? a : b);
+    }
+    if (followedAt.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<Long, LocalDateTime> eventTags = new HashMap<>();
+    tagPostEventRepository.findTagIdsIn(followedAt.keySet())
+        .forEach(tagId -> eventTags.put(tagId, followedAt.get(tagId)));
+    return eventTags;
+  }
+
+  // 커서와 같은 시각의 항목은 (종류, ID) 순서로 이어서 읽음 - 회원별 알림이 태그 이벤트보다 앞
+  private List<NotificationResponse> notificationStream(Long memberId, NotificationCursor after,
+      Pageable limit) {
+    if (after == null) {
+      return notificationRepository.findLatest(memberId, limit).stream()
+          .map(NotificationResponse::from).toList();
+    }
+
+    long idBound = after.isTagEvent() ? 0 : after.getId();
+    return notificationRepository.findBefore(memberId, after.getCreatedAt(), idBound, limit)
+        .stream().map(NotificationResponse::from).toList();
+  }
+
+  private List<NotificationResponse> tagEventStream(Long tagId, Long memberId,
+      LocalDateTime followedAt, NotificationCursor after, Pageable limit,
+      NotificationWatermark watermark) {
+    long lastSeen = watermark.getLastSeenEventId();
+    if (after == null) {
+      return tagPostEventRepository.findLatest(tagId, memberId, followedAt, limit).stream()
+          .map(event -> NotificationResponse.from(event, event.getId() <= lastSeen)).toList();
+    }
+
+    long idBound = after.isTagEvent() ? after.getId() : Long.MAX_VALUE;
+    return tagPostEventRepository.findBefore(tagId, memberId, followedAt, after.getCreatedAt(),
+            idBound, limit).stream().map(event -> NotificationResponse.from(event, event.getId() <= lastSeen))
+        .toList();
+  }
+
+  private record InboxEntry(NotificationResponse response, InboxStream stream) {
+
+  }
+
+  // 병합 결과 - 마지막으로 지나간 항목(중복 포함)과 이번 페이지에서 보여준 태그 팔로우 게시글 ID
+  private record InboxPage(List<NotificationResponse> notifications, NotificationResponse last,
+                           boolean hasNext, Set<Long> followPostIds) {
+
+  }
+
+  private static class InboxStream {
+
+    private final List<NotificationResponse> items;
+    private final int size;
+    private int position;
+
+    private InboxStream(List<NotificationResponse> items, int size) {
+      this.items = items;
+      this.size = size;
+    }
+
+    private void offerNext(PriorityQueue<InboxEntry> queue) {
+      if (position < items.size()) {
+        queue.add(new InboxEntry(items.get(position++), this));
+      }
+    }
+
+    // 읽어 온 항목을 모두 소비했지만 DB에 더 남아 있을 수 있는 스트림
+    private boolean truncated() {
+      return position == items.size() && items.size() > size;
+    }
+  }
+}
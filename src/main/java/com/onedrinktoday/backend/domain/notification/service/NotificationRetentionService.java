@@ -0,0 +1,217 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import com.onedrinktoday.backend.global.type.NotificationType;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 알림 보관 기간 만료 삭제 - 종류별 보관 기간이 지난 알림을 (created_at, id) 순으로 작게 나눠 삭제
+// 배치마다 짧은 트랜잭션으로 실행해 잠금을 오래 잡지 않고, 노드 간 잠금으로 한 노드에서만 실행
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+  static final String LOCK_KEY = "notification:retention:lock";
+
+  private static final RowMapper<ExpiredRow> EXPIRED_ROW_MAPPER = (rs, rowNum) -> new ExpiredRow(
+      rs.getLong("id"), rs.getTimestamp("created_at"));
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final NotificationUnreadCounter unreadCounter;
+  private final RedisLockService redisLockService;
+  private final Environment environment;
+  private final int batchSize;
+  private final Duration lockTtl;
+
+  // 지표 - 누적/직전 실행 삭제 건수, 직전 실행 소요 시간, 종류별 누적 삭제 건수
+  private final AtomicLong totalPurged = new AtomicLong();
+  private final AtomicLong lastRunPurged = new AtomicLong();
+  private final AtomicLong lastRunMillis = new AtomicLong();
+  private final Map<NotificationType, AtomicLong> purgedByType = new EnumMap<>(
+      NotificationType.class);
+  private final AtomicLong eventsPurged = new AtomicLong();
+
+  public NotificationRetentionService(JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate, NotificationUnreadCounter unreadCounter,
+      RedisLockService redisLockService, Environment environment,
+      @Value("${notification.retention.batch-size:500}") int batchSize,
+      @Value("${notification.retention.lock-ttl:5m}") Duration lockTtl) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.unreadCounter = unreadCounter;
+    this.redisLockService = redisLockService;
+    this.environment = environment;
+    this.batchSize = batchSize;
+    this.lockTtl = lockTtl;
+
+    for (NotificationType type : NotificationType.values()) {
+      purgedByType.put(type, new AtomicLong());
+    }
+  }
+
+  public int getRetentionDays(NotificationType type) {
+    return environment.getProperty(
+        "notification.retention." + type.name().toLowerCase() + "-days", Integer.class,
+        type.getRetentionDays());
+  }
+
+  @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+  public void purgeExpired() {
+    purgeExpired(LocalDateTime.now());
+  }
+
+  // 기준 시각에서 종류별 보관 기간을 뺀 시각 이전 알림 삭제, 삭제한 알림 수 반환
+  public long purgeExpired(LocalDateTime now) {
+    // 모든 노드에서 같은 시각에 실행되므로 잠금을 잡은 노드만 삭제 (다른 노드나 스레드가 삭제 중이면 건너뜀)
+    String token = redisLockService.tryLock(LOCK_KEY, lockTtl);
+    if (token == null) {
+      log.info("다른 노드가 알림 보관 기간 만료 삭제 중");
+      return 0;
+    }
+
+    long start = System.currentTimeMillis();
+    long purged = 0;
+    try {
+      for (NotificationType type : NotificationType.values()) {
+        if (!renewLock(token)) {
+          break;
+        }
+        long count = purgeType(type, now.minusDays(getRetentionDays(type)), token);
+        purgedByType.get(type).addAndGet(count);
+        purged += count;
+      }
+
+      // 인기 태그 이벤트는 태그 팔로우 알림과 같은 보관 기간 적용
+      if (renewLock(token)) {
+        eventsPurged.addAndGet(
+            purgeTagPostEvents(now.minusDays(getRetentionDays(NotificationType.FOLLOW)), token));
+      }
+    } finally {
+      redisLockService.unlock(LOCK_KEY, token);
+    }
+
+    totalPurged.addAndGet(purged);
+    lastRunPurged.set(purged);
+    lastRunMillis.set(System.currentTimeMillis() - start);
+    log.info("알림 보관 기간 만료 삭제 완료: purged={}, elapsedMs={}, total={}, byType={}, events={}",
+        purged, lastRunMillis.get(), totalPurged.get(), purgedByType, eventsPurged.get());
+    return purged;
+  }
+
+  public long getTotalPurged() {
+    return totalPurged.get();
+  }
+
+  public long getLastRunPurged() {
+    return lastRunPurged.get();
+  }
+
+  private long purgeType(NotificationType type, LocalDateTime cutoff, String token) {
+    Timestamp before = Timestamp.valueOf(cutoff);
+    Timestamp lastCreatedAt = null;
+    long lastId = 0;
+    long purged = 0;
+
+    while (true) {
+      List<ExpiredRow> rows = lastCreatedAt == null
+          ? jdbcTemplate.query("SELECT id, created_at FROM notification "
+                  + "WHERE type = ? AND created_at < ? ORDER BY created_at, id LIMIT ?",
+              EXPIRED_ROW_MAPPER, type.name(), before, batchSize)
+          : jdbcTemplate.query("SELECT id, created_at FROM notification "
+                  + "WHERE type = ? AND created_at < ? "
+                  + "AND (created_at > ? OR (created_at = ? AND id > ?)) "
+                  + "ORDER BY created_at, id LIMIT ?",
+              EXPIRED_ROW_MAPPER, type.name(), before, lastCreatedAt, lastCreatedAt, lastId,
+              batchSize);
+      if (rows.isEmpty()) {
+        break;
+      }
+
+      purged += deleteNotifications(rows);
+
+      ExpiredRow last = rows.get(rows.size() - 1);
+      lastId = last.id();
+      lastCreatedAt = last.createdAt();
+      if (rows.size() < batchSize || !renewLock(token)) {
+        break;
+      }
+    }
+
+    if (purged > 0) {
+      log.debug("{} 알림 {}건 삭제 (기준 {})", type, purged, cutoff);
+    }
+    return purged;
+  }
+
+  // 읽지 않은 채 삭제된 알림은 회원별 읽지 않은 알림 수에서 차감
+  // 조회 이후 회원이 읽음 처리했거나 이미 삭제된 알림을 차감하지 않도록, 삭제할 트랜잭션 안에서
+  // 읽지 않은 알림을 잠가 다시 조회하고 커밋 후 차감
+  private int deleteNotifications(List<ExpiredRow> rows) {
+    Object[] ids = rows.stream().map(ExpiredRow::id).toArray();
+    String placeholders = String.join(", ", Collections.nCopies(ids.length, "?"));
+    Map<Long, Long> unreadDeltas = new HashMap<>();
+
+    Integer deleted = transactionTemplate.execute(status -> {
+      jdbcTemplate.query("SELECT member_id FROM notification WHERE id IN (" + placeholders
+              + ") AND read_status = false FOR UPDATE",
+          (RowCallbackHandler) rs -> unreadDeltas.merge(rs.getLong("member_id"), -1L, Long::sum),
+          ids);
+      return jdbcTemplate.update("DELETE FROM notification WHERE id IN (" + placeholders + ")",
+          ids);
+    });
+    unreadCounter.incrementAll(unreadDeltas);
+
+    return deleted != null ? deleted : 0;
+  }
+
+  // 종류/배치마다 잠금 연장 - 잠금이 만료돼 다른 노드가 이어받았으면 중단
+  private boolean renewLock(String token) {
+    if (redisLockService.renew(LOCK_KEY, token, lockTtl)) {
+      return true;
+    }
+
+    log.warn("알림 보관 기간 만료 삭제 잠금 만료로 중단");
+    return false;
+  }
+
+  private long purgeTagPostEvents(LocalDateTime cutoff, String token) {
+    Timestamp before = Timestamp.valueOf(cutoff);
+    long purged = 0;
+
+    while (true) {
+      List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM tag_post_event "
+          + "WHERE created_at < ? ORDER BY created_at, id LIMIT ?", Long.class, before, batchSize);
+      if (ids.isEmpty()) {
+        break;
+      }
+
+      purged += jdbcTemplate.update("DELETE FROM tag_post_event WHERE id IN ("
+          + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", ids.toArray());
+      if (ids.size() < batchSize || !renewLock(token)) {
+        break;
+      }
+    }
+    return purged;
+  }
+
+  private record ExpiredRow(long id, Timestamp createdAt) {
+
+  }
+}
@@ -7,6 +7,7 @@ import com.onedrinktoday.backend.domain.declaration.entity.Declaration;
 import com.onedrinktoday.backend.domain.manager.dto.CancelDeclarationRequest;
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.service.MemberService;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationInboxResponse;
 import com.onedrinktoday.backend.domain.notification.dto.NotificationResponse;
 import com.onedrinktoday.backend.domain.notification.entity.Notification;
 import com.onedrinktoday.backend.domain.notification.repository.NotificationRepository;
@@ -14,16 +15,17 @@ import com.onedrinktoday.backend.domain.post.entity.Post;
 import com.onedrinktoday.backend.domain.post.repository.PostRepository;
 import com.onedrinktoday.backend.domain.registration.entity.Registration;
 import com.onedrinktoday.backend.domain.tag.entity.Tag;
-import com.onedrinktoday.backend.domain.tagFollow.entity.TagFollow;
-import com.onedrinktoday.backend.domain.tagFollow.repository.TagFollowRepository;
 import com.onedrinktoday.backend.global.exception.CustomException;
 import com.onedrinktoday.backend.global.type.NotificationType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @RequiredArgsConstructor
@@ -32,9 +34,13 @@ public class NotificationService {
   private final NotificationRepository notificationRepository;
   private final MemberService memberService;
   private final PostRepository postRepository;
-  private final TagFollowRepository tagFollowRepository;
+  private final NotificationDispatcher notificationDispatcher;
+  private final NotificationFanOutService notificationFanOutService;
+  private final NotificationInboxService notificationInboxService;
+  private final NotificationUnreadCounter notificationUnreadCounter;
+  private final NotificationStreamService notificationStreamService;
 
-  @Async
+  // 알림 생성 - 저장은 NotificationDispatcher가 알림 전용 스레드에서 일괄 처리
   public void createNotification(Member member, Long postId, NotificationType type,
       String content) {
     Notification notification = Notification.builder()
@@ -44,12 +50,17 @@ public class NotificationService {
         .content(content)
         .build();
 
-    notificationRepository.save(notification);
+    notificationDispatcher.enqueue(notification);
   }
 
-  public Page<Notification> getRecentNotifications(Pageable pageable) {
-    Long memberId = memberService.getMember().getId();
-    return notificationRepository.findByMemberId(memberId, pageable);
+  // 인기 태그는 회원별 알림 대신 태그 이벤트로만 저장되므로 기존 목록도 받은 알림함과 같이 병합해 반환
+  public Page<NotificationResponse> getRecentNotifications(Pageable pageable) {
+    return notificationInboxService.getRecent(memberService.getMember(), pageable);
+  }
+
+  // 회원별 알림과 인기 태그 이벤트를 병합한 받은 알림함 (커서 기반)
+  public NotificationInboxResponse getInbox(String cursor, int size) {
+    return notificationInboxService.getInbox(memberService.getMember(), cursor, size);
   }
 
   public NotificationResponse getNotification(Long notificationId) {
@@ -62,12 +73,70 @@ public class NotificationService {
       throw new CustomException(ACCESS_DENIED);
     }
 
-    notification.setReadStatus(true);
-    notificationRepository.save(notification);
+    if (!notification.isReadStatus()) {
+      notification.setReadStatus(true);
+      notificationRepository.save(notification);
+      notificationUnreadCounter.decrement(currentMemberId, 1);
+    }
 
     return NotificationResponse.from(notification);
   }
 
+  // 실시간 알림 구독 - lastEventId가 있으면 그 이후 알림부터 다시 전송
+  public SseEmitter subscribe(String lastEventId) {
+    Long memberId = memberService.getMember().getId();
+    return notificationStreamService.connect(memberId, parseEventId(lastEventId));
+  }
+
+  // 회원별 알림 카운터 + 받은 알림함에 함께 보이는 읽지 않은 인기 태그 이벤트 수
+  public long getUnreadCount() {
+    Member member = memberService.getMember();
+    return notificationUnreadCounter.getUnreadCount(member.getId())
+        + notificationInboxService.countUnreadEvents(member);
+  }
+
+  // 지정한 알림 ID 이하의 읽지 않은 알림을 UPDATE 한 번으로 읽음 처리, 처리한 알림 수 반환
+  // 인기 태그 이벤트는 ID 체계가 달라 지금까지의 이벤트를 모두 읽음 처리 (워터마크 이동)
+  // 카운터는 커밋 후 차감 - 롤백되면 읽지 않은 알림 수가 DB보다 작아지지 않도록 함
+  @Transactional
+  public int markAllReadUpTo(Long notificationId) {
+    Member member = memberService.getMember();
+    Long memberId = member.getId();
+
+    notificationInboxService.markEventsRead(member);
+    int updated = notificationRepository.markReadUpTo(memberId, notificationId);
+    if (updated > 0) {
+      afterCommit(() -> notificationUnreadCounter.decrement(memberId, updated));
+    }
+    return updated;
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+      return;
+    }
+
+    action.run();
+  }
+
+  private Long parseEventId(String lastEventId) {
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return null;
+    }
+
+    try {
+      return Long.parseLong(lastEventId.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
   public void postCommentNotification(Long postId, String memberName, boolean isAnonymous) {
     Post post = postRepository.findById(postId)
         .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
@@ -77,19 +146,18 @@ public class NotificationService {
     createNotification(post.getMember(), postId, COMMENT, content);
   }
 
+  // 팔로워 수가 많아도 작성자 응답이 지연되지 않도록 알림 전용 스레드에서 처리
   public void tagFollowPostNotification(Long postId, List<Tag> tags) {
+    notificationDispatcher.execute(() -> createTagFollowPostNotifications(postId, tags));
+  }
+
+  void createTagFollowPostNotifications(Long postId, List<Tag> tags) {
     Post post = postRepository.findById(postId)
         .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
 
-    for (Tag tag : tags) {
-      List<TagFollow> tagFollows = tagFollowRepository.findByTag(tag);
-      for (TagFollow tagFollow : tagFollows) {
-        if (!tagFollow.getMember().equals(post.getMember())) {
-          createNotification(tagFollow.getMember(), postId, FOLLOW,
-              "새로운 게시글이 " + tag.getTagName() + " 태그와 작성되었습니다.");
-        }
-      }
-    }
+    // 여러 태그를 팔로우한 회원도 알림은 한 건만 저장
+    Long authorId = post.getMember() != null ? post.getMember().getId() : null;
+    notificationFanOutService.fanOutTagFollowPost(postId, authorId, tags);
   }
 
   public void approveDeclarationNotification(Post post, Declaration declaration) {
@@ -0,0 +1,229 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static com.onedrinktoday.backend.global.config.SchedulingConfig.NOTIFICATION_HEARTBEAT_SCHEDULER;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationPushMessage;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationPushMessage.Delivery;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationResponse;
+import com.onedrinktoday.backend.domain.notification.repository.NotificationRepository;
+import com.onedrinktoday.backend.domain.tagFollow.repository.TagFollowRepository;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 알림 실시간 전달 (SSE) - 노드별로 접속한 회원의 emitter를 보관하고, 알림은 Redis pub/sub으로 전 노드에 전파
+// 접속한 회원의 팔로우 태그는 연결 시 한 번 읽어 두고 태그 이벤트 전달 대상을 메모리에서 판단
+@Slf4j
+@Service
+public class NotificationStreamService implements MessageListener {
+
+  public static final String CHANNEL = "notification:push";
+  private static final String EVENT_NAME = "notification";
+
+  private final NotificationRepository notificationRepository;
+  private final TagFollowRepository tagFollowRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final long timeoutMillis;
+  private final int replayLimit;
+
+  private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+  // 접속한 회원별 알림을 받는 팔로우 태그 ID
+  private final Map<Long, Set<Long>> followedTagIds = new ConcurrentHashMap<>();
+
+  public NotificationStreamService(NotificationRepository notificationRepository,
+      TagFollowRepository tagFollowRepository, RedisTemplate<String, String> redisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${notification.sse.timeout:30m}") Duration timeout,
+      @Value("${notification.sse.replay-limit:100}") int replayLimit) {
+    this.notificationRepository = notificationRepository;
+    this.tagFollowRepository = tagFollowRepository;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.timeoutMillis = timeout.toMillis();
+    this.replayLimit = replayLimit;
+  }
+
+  // 연결 등록 후 Last-Event-ID 이후 알림을 테이블에서 다시 전송
+  // (등록을 먼저 하므로 그 사이 저장된 알림은 중복될 수는 있어도 누락되지 않음, 클라이언트는 id로 중복 제거)
+  public SseEmitter connect(Long memberId, Long lastEventId) {
+    SseEmitter emitter = createEmitter();
+    emitters.compute(memberId, (id, memberEmitters) -> {
+      Set<SseEmitter> registered = memberEmitters != null ? memberEmitters
+          : new CopyOnWriteArraySet<>();
+      registered.add(emitter);
+      return registered;
+    });
+
+    emitter.onCompletion(() -> remove(memberId, emitter));
+    emitter.onTimeout(() -> remove(memberId, emitter));
+    emitter.onError(e -> remove(memberId, emitter));
+    loadFollowedTagIds(memberId);
+
+    // 연결 직후 응답을 내려보내야 프록시/브라우저가 스트림을 연 것으로 인식
+    if (!send(memberId, emitter, SseEmitter.event().comment("connected"))) {
+      return emitter;
+    }
+
+    if (lastEventId != null) {
+      notificationRepository.findByMemberIdAndIdGreaterThanOrderByIdAsc(memberId, lastEventId,
+              PageRequest.of(0, replayLimit))
+          .forEach(notification -> send(memberId, emitter,
+              notificationEvent(NotificationResponse.from(notification))));
+    }
+
+    return emitter;
+  }
+
+  // 저장된 알림 전파 - Redis 장애 시 이 노드에 접속한 회원에게만 전달
+  public void publish(NotificationPushMessage message) {
+    if (message.deliveries().isEmpty() && message.tagEvent() == null
+        && message.followChangedMemberId() == null) {
+      return;
+    }
+
+    try {
+      redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+    } catch (JsonProcessingException | DataAccessException e) {
+      log.warn("알림 전파 실패, 로컬 연결에만 전달합니다: {}", e.getMessage());
+      deliver(message);
+    }
+  }
+
+  // 팔로우 태그나 알림 설정이 바뀐 회원 - 커밋 후 회원이 접속한 노드에서 팔로우 태그를 다시 읽도록 전파
+  public void refreshFollowedTags(Long memberId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      publish(NotificationPushMessage.ofFollowChange(memberId));
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        publish(NotificationPushMessage.ofFollowChange(memberId));
+      }
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    if (emitters.isEmpty()) {
+      return;
+    }
+
+    try {
+      deliver(objectMapper.readValue(message.getBody(), NotificationPushMessage.class));
+    } catch (IOException e) {
+      log.warn("알림 메시지 해석 실패: {}", e.getMessage());
+    }
+  }
+
+  // 유휴 연결이 프록시에서 끊기지 않도록 주기적으로 주석 이벤트 전송, 끊긴 연결 정리
+  @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval:25000}",
+      scheduler = NOTIFICATION_HEARTBEAT_SCHEDULER)
+  public void heartbeat() {
+    emitters.forEach((memberId, memberEmitters) -> memberEmitters.forEach(
+        emitter -> send(memberId, emitter, SseEmitter.event().comment("heartbeat"))));
+    log.debug("알림 SSE 연결 {}개", getConnectionCount());
+  }
+
+  public int getConnectionCount() {
+    return emitters.values().stream().mapToInt(Set::size).sum();
+  }
+
+  SseEmitter createEmitter() {
+    return new SseEmitter(timeoutMillis);
+  }
+
+  void deliver(NotificationPushMessage message) {
+    for (Delivery delivery : message.deliveries()) {
+      sendToMember(delivery.memberId(), notificationEvent(delivery.notification()));
+    }
+
+    if (message.tagEvent() != null) {
+      deliverTagEvent(message);
+    }
+
+    Long changedMemberId = message.followChangedMemberId();
+    if (changedMemberId != null && emitters.containsKey(changedMemberId)) {
+      loadFollowedTagIds(changedMemberId);
+    }
+  }
+
+  // 태그 이벤트는 이 노드에 접속한 회원 중 해당 태그 팔로워에게만 전달 (ID 공간이 달라 재전송 대상 아님)
+  private void deliverTagEvent(NotificationPushMessage message) {
+    followedTagIds.forEach((memberId, tagIds) -> {
+      if (!memberId.equals(message.authorId())
+          && message.tagIds().stream().anyMatch(tagIds::contains)) {
+        sendToMember(memberId, SseEmitter.event().name(EVENT_NAME).data(message.tagEvent()));
+      }
+    });
+  }
+
+  private void loadFollowedTagIds(Long memberId) {
+    try {
+      followedTagIds.put(memberId,
+          Set.copyOf(tagFollowRepository.findAlarmEnabledTagIdsByMemberId(memberId)));
+    } catch (DataAccessException e) {
+      log.warn("회원 {} 팔로우 태그 조회 실패: {}", memberId, e.getMessage());
+    }
+
+    // 조회 중 연결이 끊겼으면 정리
+    if (!emitters.containsKey(memberId)) {
+      followedTagIds.remove(memberId);
+    }
+  }
+
+  private void sendToMember(Long memberId, SseEmitter.SseEventBuilder event) {
+    Set<SseEmitter> memberEmitters = emitters.get(memberId);
+    if (memberEmitters != null) {
+      memberEmitters.forEach(emitter -> send(memberId, emitter, event));
+    }
+  }
+
+  private SseEmitter.SseEventBuilder notificationEvent(NotificationResponse notification) {
+    return SseEmitter.event()
+        .id(String.valueOf(notification.getId()))
+        .name(EVENT_NAME)
+        .data(notification);
+  }
+
+  private boolean send(Long memberId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+    try {
+      emitter.send(event);
+      return true;
+    } catch (IOException | IllegalStateException e) {
+      remove(memberId, emitter);
+      return false;
+    }
+  }
+
+  private void remove(Long memberId, SseEmitter emitter) {
+    emitters.computeIfPresent(memberId, (id, memberEmitters) -> {
+      memberEmitters.remove(emitter);
+      if (memberEmitters.isEmpty()) {
+        followedTagIds.remove(memberId);
+        return null;
+      }
+      return memberEmitters;
+    });
+  }
+}
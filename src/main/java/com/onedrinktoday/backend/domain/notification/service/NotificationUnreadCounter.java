@@ -0,0 +1,223 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import com.onedrinktoday.backend.domain.notification.repository.NotificationRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 회원별 읽지 않은 알림 수 카운터 (Redis) - 키가 없으면 DB에서 세어 채우고, 이후에는 증감만 반영
+// 키가 없는 동안 들어온 증감은 채우기 표식(pending 키)의 버전을 올려, 그 사이 센 DB 값은 저장하지 않음
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+
+  static final String KEY_PREFIX = "notification:unread:";
+  static final String PENDING_KEY_PREFIX = "notification:unread-pending:";
+  private static final int RECONCILE_CHUNK_SIZE = 500;
+
+  // 키가 있을 때만 증감, 0 미만으로 내려가지 않음
+  // 키가 없으면 채우는 중인 값이 어긋났음을 표시 (pending 버전 증가) - 다음 조회 때 DB에서 다시 셈
+  static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 0 then "
+          + "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('INCR', KEYS[2]) end "
+          + "return -1 end "
+          + "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+          + "if value < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') value = 0 end "
+          + "return value", Long.class);
+
+  // DB에서 세기 전 채우기 시작 - 키가 생겼으면 -1, 아니면 pending 버전 반환
+  static final RedisScript<Long> BEGIN_FILL_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end "
+          + "redis.call('SET', KEYS[2], 0, 'NX', 'PX', ARGV[1]) "
+          + "return tonumber(redis.call('GET', KEYS[2]))", Long.class);
+
+  // 시작 이후 증감이 없었을 때만 DB 값 저장 - 다른 요청이 먼저 채웠으면 그 값, 어긋났으면 -1 반환
+  static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+      "local current = redis.call('GET', KEYS[1]) "
+          + "if current then return tonumber(current) end "
+          + "local version = redis.call('GET', KEYS[2]) "
+          + "if not version or version ~= ARGV[2] then return -1 end "
+          + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) "
+          + "return tonumber(ARGV[1])", Long.class);
+
+  // 재조정 - 읽은 값에서 바뀌지 않았을 때만 DB 값으로 교정 (그 사이 증감이 있으면 다음 재조정에서 다시 비교)
+  static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+          + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+          + "return 1", Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final NotificationRepository notificationRepository;
+  private final Duration ttl;
+  private final Duration fillWindow;
+
+  public NotificationUnreadCounter(RedisTemplate<String, String> redisTemplate,
+      NotificationRepository notificationRepository,
+      @Value("${notification.unread.ttl:1d}") Duration ttl,
+      @Value("${notification.unread.fill-window:1m}") Duration fillWindow) {
+    this.redisTemplate = redisTemplate;
+    this.notificationRepository = notificationRepository;
+    this.ttl = ttl;
+    this.fillWindow = fillWindow;
+  }
+
+  public long getUnreadCount(Long memberId) {
+    String key = key(memberId);
+    List<String> keys = List.of(key, pendingKey(memberId));
+    Long version;
+    try {
+      String cached = redisTemplate.opsForValue().get(key);
+      if (cached != null) {
+        return Long.parseLong(cached);
+      }
+      version = redisTemplate.execute(BEGIN_FILL_SCRIPT, keys,
+          String.valueOf(fillWindow.toMillis()));
+    } catch (DataAccessException e) {
+      log.warn("읽지 않은 알림 수 조회 실패, DB에서 셉니다: {}", e.getMessage());
+      return notificationRepository.countByMemberIdAndReadStatusFalse(memberId);
+    }
+
+    long count = notificationRepository.countByMemberIdAndReadStatusFalse(memberId);
+    // 그 사이 다른 요청이 채운 경우 - 다음 조회부터 캐시된 값 사용
+    if (version == null || version < 0) {
+      return count;
+    }
+
+    try {
+      Long filled = redisTemplate.execute(FILL_SCRIPT, keys, String.valueOf(count),
+          String.valueOf(version), String.valueOf(ttl.toMillis()));
+      if (filled != null && filled >= 0) {
+        return filled;
+      }
+    } catch (DataAccessException e) {
+      log.warn("읽지 않은 알림 수 저장 실패: {}", e.getMessage());
+    }
+    return count;
+  }
+
+  public void increment(Long memberId, long delta) {
+    incrementAll(Map.of(memberId, delta));
+  }
+
+  public void decrement(Long memberId, long delta) {
+    increment(memberId, -delta);
+  }
+
+  // 여러 회원의 증감을 파이프라인으로 한 번에 전송
+  // 파이프라인 안의 스크립트는 EVALSHA로만 전송되고 NOSCRIPT 오류는 파이프라인을 닫을 때에야 드러나므로
+  // 먼저 스크립트를 등록 (Redis 재시작 등으로 스크립트 캐시가 비어도 매번 등록되므로 항상 반영됨)
+  public void incrementAll(Map<Long, Long> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    try {
+      if (deltas.size() == 1) {
+        // 한 건은 파이프라인 없이 실행 (NOSCRIPT면 EVAL로 다시 전송)
+        deltas.forEach((memberId, delta) -> redisTemplate.execute(INCREMENT_SCRIPT,
+            List.of(key(memberId), pendingKey(memberId)), String.valueOf(delta)));
+        return;
+      }
+
+      loadScript(INCREMENT_SCRIPT);
+      redisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+          deltas.forEach((memberId, delta) -> ops.execute(INCREMENT_SCRIPT,
+              List.of(key(memberId), pendingKey(memberId)), String.valueOf(delta)));
+          return null;
+        }
+      });
+    } catch (DataAccessException e) {
+      // 반영하지 못한 증감은 재조정 작업이 바로잡음
+      log.warn("읽지 않은 알림 수 {}건 반영 실패: {}", deltas.size(), e.getMessage());
+    }
+  }
+
+  private void loadScript(RedisScript<?> script) {
+    byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    redisTemplate.execute(
+        (RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(body));
+  }
+
+  // 캐시된 카운터를 DB 값과 비교해 어긋난 값만 교정
+  @Scheduled(fixedDelayString = "${notification.unread.reconcile-interval:3600000}")
+  public void reconcile() {
+    List<String> keys = new ArrayList<>(RECONCILE_CHUNK_SIZE);
+    int corrected = 0;
+
+    try (Cursor<String> cursor = redisTemplate.scan(
+        ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(RECONCILE_CHUNK_SIZE).build())) {
+      while (cursor.hasNext()) {
+        keys.add(cursor.next());
+        if (keys.size() == RECONCILE_CHUNK_SIZE) {
+          corrected += reconcile(keys);
+          keys.clear();
+        }
+      }
+      if (!keys.isEmpty()) {
+        corrected += reconcile(keys);
+      }
+    } catch (DataAccessException e) {
+      log.warn("읽지 않은 알림 수 재조정 실패: {}", e.getMessage());
+      return;
+    }
+
+    log.info("읽지 않은 알림 수 재조정 완료: {}건 교정", corrected);
+  }
+
+  // 캐시된 값을 먼저 읽은 뒤 DB에서 세고, 읽은 값 그대로일 때만 교정
+  private int reconcile(List<String> keys) {
+    List<Long> memberIds = keys.stream()
+        .map(key -> Long.parseLong(key.substring(KEY_PREFIX.length()))).toList();
+
+    List<String> cached = redisTemplate.opsForValue().multiGet(keys);
+
+    Map<Long, Long> actual = new HashMap<>();
+    for (Object[] row : notificationRepository.countUnreadByMemberIds(memberIds)) {
+      actual.put((Long) row[0], (Long) row[1]);
+    }
+
+    int corrected = 0;
+    for (int i = 0; i < keys.size(); i++) {
+      String expected = String.valueOf(actual.getOrDefault(memberIds.get(i), 0L));
+      String current = cached != null ? cached.get(i) : null;
+
+      // 그 사이 만료된 키는 다음 조회 때 다시 채워지므로 건너뜀
+      if (current != null && !current.equals(expected)) {
+        Long updated = redisTemplate.execute(RECONCILE_SCRIPT, List.of(keys.get(i)), current,
+            expected, String.valueOf(ttl.toMillis()));
+        if (updated != null && updated == 1) {
+          corrected++;
+        }
+      }
+    }
+    return corrected;
+  }
+
+  static String key(Long memberId) {
+    return KEY_PREFIX + memberId;
+  }
+
+  static String pendingKey(Long memberId) {
+    return PENDING_KEY_PREFIX + memberId;
+  }
+}
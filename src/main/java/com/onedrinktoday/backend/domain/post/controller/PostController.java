@@ -2,6 +2,7 @@ package com.onedrinktoday.backend.domain.post.controller;
 
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.service.MemberService;
+import com.onedrinktoday.backend.domain.post.dto.PostCursorResponse;
 import com.onedrinktoday.backend.domain.post.dto.PostRequest;
 import com.onedrinktoday.backend.domain.post.dto.PostResponse;
 import com.onedrinktoday.backend.domain.post.service.PostService;
@@ -39,13 +40,23 @@ public class PostController {
   public ResponseEntity<Page<PostResponse>> getAllPosts(@RequestParam(defaultValue = "0") int page,
                                                         @RequestParam(defaultValue = "10") int size,
                                                         @RequestParam(defaultValue = "createdAt") String sortBy) {
-    Pageable pageable = PageRequest.of(page, size);
+    Pageable pageable = PageRequest.of(Math.max(page, 0), PostService.clampSize(size));
 
     Member member = memberService.getMember();
     Page<PostResponse> posts = postService.getAllPosts(pageable, sortBy, member.getId());
     return ResponseEntity.ok(posts);
   }
 
+  // 커서 기반 게시글 목록 조회 API (cursor 없이 요청하면 첫 페이지)
+  @GetMapping("/posts/cursor")
+  public ResponseEntity<PostCursorResponse> getPostsByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "createdAt") String sortBy) {
+    Member member = memberService.getMember();
+    return ResponseEntity.ok(postService.getPostsByCursor(cursor, size, sortBy, member.getId()));
+  }
+
   // 특정 게시글 조회 API
   @GetMapping("/post/{postId}")
   public ResponseEntity<PostResponse> getPostById(@PathVariable Long postId) {
@@ -0,0 +1,56 @@
+package com.onedrinktoday.backend.domain.post.dto;
+
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 피드 커서 - 마지막으로 받은 게시글의 정렬 값과 ID를 클라이언트에는 불투명한 문자열로 전달
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+  private static final String DELIMITER = "|";
+
+  private final String sortBy;
+  private final LocalDateTime createdAt;
+  private final Integer viewCount;
+  private final Long id;
+
+  public static PostCursor of(Post post, String sortBy) {
+    return new PostCursor(sortBy, post.getCreatedAt(), post.getViewCount(), post.getId());
+  }
+
+  // 정렬 값이 없는 게시글(NULL)은 빈 문자열로 전달
+  public String encode() {
+    Object value = "viewCount".equals(sortBy) ? viewCount : createdAt;
+    String raw = String.join(DELIMITER, sortBy, value == null ? "" : value.toString(),
+        String.valueOf(id));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 정렬 기준이 다른 커서나 변조된 커서는 거부
+  public static PostCursor decode(String cursor, String sortBy) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + DELIMITER, 3);
+
+      if (parts.length != 3 || !parts[0].equals(sortBy)) {
+        throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+      }
+
+      Long id = Long.parseLong(parts[2]);
+      boolean empty = parts[1].isEmpty();
+      if ("viewCount".equals(sortBy)) {
+        return new PostCursor(sortBy, null, empty ? null : Integer.parseInt(parts[1]), id);
+      }
+      return new PostCursor(sortBy, empty ? null : LocalDateTime.parse(parts[1]), null, id);
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+    }
+  }
+}
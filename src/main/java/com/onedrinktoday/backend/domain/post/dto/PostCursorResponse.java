@@ -0,0 +1,18 @@
+package com.onedrinktoday.backend.domain.post.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCursorResponse {
+  private List<PostResponse> posts;
+  // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+  private String nextCursor;
+  private boolean hasNext;
+}
@@ -34,6 +34,7 @@ public class PostResponse {
   @Setter
   private List<TagDTO> tags;
   private String imageUrl;
+  @Setter
   private Integer viewCount;
   private Integer likeCount;
   @Setter
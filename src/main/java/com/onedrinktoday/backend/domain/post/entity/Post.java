@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -25,7 +26,11 @@ import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "post")
+// 커서 기반 피드 조회 (정렬 값, id) 탐색용 복합 인덱스
+@Table(name = "post", indexes = {
+    @Index(name = "idx_post_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_post_view_count_id", columnList = "view_count, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -63,12 +68,12 @@ public class Post {
   @Column(name = "image_url")
   private String imageUrl;
 
-  @Setter
-  @Column(name = "view_count", nullable = true)
+  // 조회수는 PostViewCountService가 일괄 UPDATE로 반영 (엔티티 저장 시 덮어쓰지 않음)
+  @Column(name = "view_count", nullable = true, updatable = false)
   private Integer viewCount;
 
-  @Setter
-  @Column(name = "like_count", nullable = true)
+  // 좋아요 수는 PostRepository.addLikeCount로만 증감 (엔티티 저장 시 덮어쓰지 않음)
+  @Column(name = "like_count", nullable = true, updatable = false)
   private Integer likeCount;
 
   @CreationTimestamp
@@ -2,22 +2,85 @@ package com.onedrinktoday.backend.domain.post.repository;
 
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.post.entity.Post;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-  @Query(value = "select AVG(rating) from post where drink_id = :drinkId", nativeQuery = true)
-  Double getAverageRating(Long drinkId);
-
   List<Post> findAllByMember(Member member);
 
-  // 최신순으로 정렬
+  // 좋아요 수 원자적 증감 (엔티티 저장 없이 DB에서 직접 계산)
+  @Modifying
+  @Query(value = "UPDATE post SET like_count = COALESCE(like_count, 0) + :delta WHERE id = :postId",
+      nativeQuery = true)
+  int addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+  // 최신순으로 정렬 (작성자, 특산주, 지역 fetch join)
+  @EntityGraph(attributePaths = {"member", "member.region", "drink", "drink.region"})
   Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
-  // 조회수 순으로 정렬
+  // 조회수 순으로 정렬 (작성자, 특산주, 지역 fetch join)
+  @EntityGraph(attributePaths = {"member", "member.region", "drink", "drink.region"})
   Page<Post> findAllByOrderByViewCountDesc(Pageable pageable);
+
+  // 커서 기반 최신순 피드 - 첫 페이지 (count 쿼리 없이 size + 1건 조회로 다음 페이지 여부 판단)
+  @EntityGraph(attributePaths = {"member", "member.region", "drink", "drink.region"})
+  @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC, p.id DESC")
+  Slice<Post> findFeedByCreatedAt(Pageable pageable);
+
+  // 커서 기반 최신순 피드 - 커서 이후 페이지 (OFFSET 없이 (createdAt, id) 인덱스 탐색)
+  // NULL은 내림차순에서 가장 뒤에 오므로 (MariaDB/H2 공통) 커서 이후에 항상 포함
+  @EntityGraph(attributePaths = {"member", "member.region", "drink", "drink.region"})
+  @Query("SELECT p FROM Post p WHERE p.createdAt < :createdAt "
+      + "OR (p.createdAt = :createdAt AND p.id < :id) OR p.createdAt IS NULL "
+      + "ORDER BY p.createdAt DESC, p.id DESC")
+  Slice<Post> findFeedByCreatedAtAfterCursor(@Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id, Pageable pageable);
+
+  // 커서 기반 최신순 피드 - 작성 시각이 없는 게시글까지 내려온 커서 이후 페이지
+  @EntityGraph(attributePaths = {"member", "member.region", "drink", "drink.region"})
+  @Query("SELECT p FROM Post p WHERE p.createdAt IS NULL AND p.id < :id ORDER BY p.id DESC")
+  Slice<Post> findFeedByNullCreatedAtAfterCursor(@Param("id") Long id, Pageable pageable);
+
+  // 커서 기반 조회수순 피드 - 첫 페이지
+  @EntityGraph(attributePaths = {"member", "member.region", "drink", "drink.region"})
+  @Query("SELECT p FROM Post p ORDER BY p.viewCount DESC, p.id DESC")
+  Slice<Post> findFeedByViewCount(Pageable pageable);
+
+  // 커서 기반 조회수순 피드 - 커서 이후 페이지 (OFFSET 없이 (viewCount, id) 인덱스 탐색)
+  @EntityGraph(attributePaths = {"member", "member.region", "drink", "drink.region"})
+  @Query("SELECT p FROM Post p WHERE p.viewCount < :viewCount "
+      + "OR (p.viewCount = :viewCount AND p.id < :id) OR p.viewCount IS NULL "
+      + "ORDER BY p.viewCount DESC, p.id DESC")
+  Slice<Post> findFeedByViewCountAfterCursor(@Param("viewCount") Integer viewCount,
+      @Param("id") Long id, Pageable pageable);
+
+  // 커서 기반 조회수순 피드 - 조회수가 없는 게시글까지 내려온 커서 이후 페이지
+  @EntityGraph(attributePaths = {"member", "member.region", "drink", "drink.region"})
+  @Query("SELECT p FROM Post p WHERE p.viewCount IS NULL AND p.id < :id ORDER BY p.id DESC")
+  Slice<Post> findFeedByNullViewCountAfterCursor(@Param("id") Long id, Pageable pageable);
+
+  // ID 순으로 게시글을 나눠 조회 (검색 문서 정합성 검사/재색인용)
+  @EntityGraph(attributePaths = {"member", "drink", "drink.region"})
+  @Query("SELECT p FROM Post p WHERE p.id > :lastId ORDER BY p.id")
+  List<Post> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+  // ID 목록으로 게시글 일괄 조회 (검색 문서 색인용)
+  @EntityGraph(attributePaths = {"member", "drink", "drink.region"})
+  @Query("SELECT p FROM Post p WHERE p.id IN :ids")
+  List<Post> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+  // 삭제된 게시글의 [ID, 수정 시각, 삭제 시각] (검색 문서 삭제 버전 계산용, 삭제 조건을 거치지 않도록 네이티브 쿼리)
+  @Query(value = "SELECT id, updated_at, deleted_at FROM post "
+      + "WHERE id IN (:ids) AND deleted_at IS NOT NULL", nativeQuery = true)
+  List<Object[]> findDeletedVersionsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,58 +1,69 @@
 package com.onedrinktoday.backend.domain.post.service;
 
 import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteService;
+import com.onedrinktoday.backend.domain.drink.dto.DrinkRatingSummary;
 import com.onedrinktoday.backend.domain.drink.dto.DrinkResponse;
 import com.onedrinktoday.backend.domain.drink.entity.Drink;
 import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
-import com.onedrinktoday.backend.domain.postLike.entity.PostLike;
+import com.onedrinktoday.backend.domain.drink.service.DrinkRatingStatsService;
 import com.onedrinktoday.backend.domain.postLike.repository.PostLikeRepository;
 import com.onedrinktoday.backend.domain.search.SearchService;
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.repository.MemberRepository;
 import com.onedrinktoday.backend.domain.member.service.MemberService;
 import com.onedrinktoday.backend.domain.notification.service.NotificationService;
+import com.onedrinktoday.backend.domain.post.dto.PostCursor;
+import com.onedrinktoday.backend.domain.post.dto.PostCursorResponse;
 import com.onedrinktoday.backend.domain.post.dto.PostRequest;
 import com.onedrinktoday.backend.domain.post.dto.PostResponse;
 import com.onedrinktoday.backend.domain.post.entity.Post;
 import com.onedrinktoday.backend.domain.post.repository.PostRepository;
-import com.onedrinktoday.backend.domain.postTag.entity.PostTag;
 import com.onedrinktoday.backend.domain.postTag.repository.PostTagRepository;
 import com.onedrinktoday.backend.domain.tag.entity.Tag;
-import com.onedrinktoday.backend.domain.tag.repository.TagRepository;
+import com.onedrinktoday.backend.domain.tag.service.TagService;
 import com.onedrinktoday.backend.global.cache.CacheService;
 import com.onedrinktoday.backend.global.exception.CustomException;
 import com.onedrinktoday.backend.global.exception.ErrorCode;
 import com.onedrinktoday.backend.global.type.Role;
 import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+  // 한 번에 조회할 수 있는 게시글 수 상한
+  public static final int MAX_PAGE_SIZE = 50;
+
   private final PostRepository postRepository;
   private final PostTagRepository postTagRepository;
   private final PostLikeRepository postLikeRepository;
-  private final TagRepository tagRepository;
+  private final TagService tagService;
   private final MemberRepository memberRepository;
   private final DrinkRepository drinkRepository;
   private final MemberService memberService;
-  private final CacheManager cacheManager;
   private final CacheService cacheService;
+  private final DrinkRatingStatsService drinkRatingStatsService;
   private final NotificationService notificationService;
   private final SearchService searchService;
   private final AutoCompleteService autoCompleteService;
+  private final PostViewCountService postViewCountService;
 
   // 게시글 생성 및 저장
-  @CacheEvict(key = "#postRequest.drinkId", value = "avg-rating")
+  @Transactional
   public PostResponse createPost(PostRequest postRequest) {
 
     Member member = memberService.getMember();
@@ -77,37 +88,23 @@ public class PostService {
 
     // 게시글 저장
     post = postRepository.save(post);
+    drinkRatingStatsService.addRating(drink.getId(), post.getRating());
+    autoCompleteService.increaseDrinkPopularity(drink);
 
     // 태그 저장 및 PostTag 연결
     List<Tag> tags = saveTags(postRequest.getTag(), post);
 
     notificationService.tagFollowPostNotification(post.getId(), tags);
-    searchService.save(post, tags);
+    searchService.requestIndex(post.getId());
 
     return PostResponse.of(post, tags, false);
   }
 
-  // 태그 저장
+  // 태그 저장 - 태그 조회/추가와 PostTag 연결을 태그 수와 무관하게 일괄 처리
   private List<Tag> saveTags(List<String> tagNames, Post post) {
-    return tagNames.stream().map(tagName -> {
-      Tag tag = tagRepository.findByTagName(tagName)
-          .orElseGet(() -> {
-            Tag newTag = new Tag();
-            newTag.setTagName(tagName);
-            autoCompleteService.saveAutoCompleteTag(tagName);
-            return tagRepository.save(newTag);
-          });
-
-      postTagRepository.findByPostAndTag(post, tag)
-          .orElseGet(() -> {
-            PostTag newPostTag = new PostTag();
-            newPostTag.setPost(post);
-            newPostTag.setTag(tag);
-            return postTagRepository.save(newPostTag);
-          });
-
-      return tag;
-    }).collect(Collectors.toList());
+    List<Tag> tags = tagService.resolveTags(tagNames);
+    tagService.linkTags(post.getId(), tags);
+    return tags;
   }
 
   // 전체 게시글 조회
@@ -125,14 +122,84 @@ public class PostService {
       return Page.empty(pageable);  // 빈 페이지 반환
     }
 
-    Member member = memberRepository.findById(memberId)
-        .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 사용자입니다."));
+    List<PostResponse> postResponses = toPostResponses(posts.getContent(), memberId);
+    return new PageImpl<>(postResponses, pageable, posts.getTotalElements());
+  }
+
+  // 커서 기반 전체 게시글 조회 - 페이지 깊이와 무관하게 인덱스 탐색, count 쿼리 없음
+  public PostCursorResponse getPostsByCursor(String cursor, int size, String sortBy, Long memberId) {
+    String sortKey = "viewCount".equals(sortBy) ? "viewCount" : "createdAt";
+    Pageable pageable = PageRequest.of(0, clampSize(size));
+    Slice<Post> posts;
+
+    if (cursor == null || cursor.isBlank()) {
+      posts = "viewCount".equals(sortKey)
+          ? postRepository.findFeedByViewCount(pageable)
+          : postRepository.findFeedByCreatedAt(pageable);
+    } else {
+      PostCursor postCursor = PostCursor.decode(cursor, sortKey);
+      posts = "viewCount".equals(sortKey)
+          ? findFeedByViewCountAfter(postCursor, pageable)
+          : findFeedByCreatedAtAfter(postCursor, pageable);
+    }
+
+    List<Post> content = posts.getContent();
+    String nextCursor = posts.hasNext()
+        ? PostCursor.of(content.get(content.size() - 1), sortKey).encode()
+        : null;
 
-    return posts.map(post -> {
-      List<Tag> tags = postTagRepository.findTagsByPostId(post.getId());
-      boolean alreadyLiked = postLikeRepository.existsByPostAndMember(post, member);
-      return PostResponse.of(post, tags, alreadyLiked);
-    });
+    return PostCursorResponse.builder()
+        .posts(toPostResponses(content, memberId))
+        .nextCursor(nextCursor)
+        .hasNext(posts.hasNext())
+        .build();
+  }
+
+  // 정렬 값이 NULL인 게시글은 가장 뒤에 오므로 커서가 NULL이면 NULL 게시글만 ID 순으로 이어서 조회
+  private Slice<Post> findFeedByViewCountAfter(PostCursor cursor, Pageable pageable) {
+    return cursor.getViewCount() == null
+        ? postRepository.findFeedByNullViewCountAfterCursor(cursor.getId(), pageable)
+        : postRepository.findFeedByViewCountAfterCursor(cursor.getViewCount(), cursor.getId(),
+            pageable);
+  }
+
+  private Slice<Post> findFeedByCreatedAtAfter(PostCursor cursor, Pageable pageable) {
+    return cursor.getCreatedAt() == null
+        ? postRepository.findFeedByNullCreatedAtAfterCursor(cursor.getId(), pageable)
+        : postRepository.findFeedByCreatedAtAfterCursor(cursor.getCreatedAt(), cursor.getId(),
+            pageable);
+  }
+
+  public static int clampSize(int size) {
+    return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+  }
+
+  // 게시글 목록을 응답으로 변환 - 태그, 좋아요 여부를 게시글 수와 무관하게 한 번씩 일괄 조회
+  public List<PostResponse> toPostResponses(List<Post> posts, Long memberId) {
+    if (posts.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+    Map<Long, List<Tag>> tagsByPostId = new HashMap<>();
+    for (Object[] row : postTagRepository.findPostIdAndTagsByPostIdIn(postIds)) {
+      tagsByPostId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Tag) row[1]);
+    }
+
+    Set<Long> likedPostIds = memberId != null
+        ? postLikeRepository.findLikedPostIds(memberId, postIds)
+        : Set.of();
+
+    return posts.stream()
+        .map(post -> {
+          PostResponse postResponse = PostResponse.of(post,
+              tagsByPostId.getOrDefault(post.getId(), List.of()),
+              likedPostIds.contains(post.getId()));
+          postResponse.setViewCount(postViewCountService.merge(post.getId(), post.getViewCount()));
+          return postResponse;
+        })
+        .toList();
   }
 
   // 특정 게시글 조회
@@ -143,17 +210,18 @@ public class PostService {
     Member member = memberService.getMember();
     boolean alreadyLiked = postLikeRepository.existsByPostAndMember(post, member);
 
-    // 조회수 증가
-    post.setViewCount(post.getViewCount() + 1);
-    postRepository.save(post);
+    // 조회수 증가 (메모리에 누적 후 주기적으로 DB 반영)
+    postViewCountService.increment(postId);
 
     // 태그 함께 조회
     List<Tag> tags = postTagRepository.findTagsByPostId(postId);
 
     PostResponse postResponse = PostResponse.of(post, tags, alreadyLiked);
+    postResponse.setViewCount(postViewCountService.merge(postId, post.getViewCount()));
 
-    // CacheService에서 Double 타입의 평균 평점 가져오기
-    Double averageRating = cacheService.getAverageRating(post.getDrink().getId());
+    // CacheService에서 평균 평점과 별점 분포 함께 가져오기
+    DrinkRatingSummary ratingSummary = cacheService.getRatingSummary(post.getDrink().getId());
+    Double averageRating = ratingSummary.getAverageRating();
 
     if (averageRating != null) {
       // 소수점 둘째 자리까지 평균 평점 조회
@@ -162,54 +230,48 @@ public class PostService {
 
       DrinkResponse drinkResponse = DrinkResponse.from(post.getDrink());
       drinkResponse.setAverageRating(formattedAverageRating);
+      drinkResponse.setRatingDistribution(ratingSummary.getRatingDistribution());
       postResponse.setDrink(drinkResponse);
     }
 
     return postResponse;
   }
 
-  // 좋아요 토글 로직
+  // 좋아요 토글 로직 - 삭제 시도 후 삭제된 행이 없으면 추가 (존재 여부 선조회 없음)
   @Transactional
   public void toggleLike(Long postId) {
-    Post post = postRepository.findById(postId)
-        .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 게시글 ID입니다."));
+    if (!postRepository.existsById(postId)) {
+      throw new IllegalArgumentException("유효하지 않은 게시글 ID입니다.");
+    }
 
-    Member member = memberService.getMember();
-    boolean alreadyLiked = postLikeRepository.existsByPostAndMember(post, member);
+    Long memberId = memberService.getMember().getId();
 
-    if (alreadyLiked) {
-      // 이미 좋아요 상태라면 좋아요 취소
-      post.setLikeCount(post.getLikeCount() - 1);
-      postLikeRepository.deleteByPostAndMember(post, member);
+    if (postLikeRepository.deleteByPostIdAndMemberId(postId, memberId) > 0) {
+      // 이미 좋아요 상태였다면 좋아요 취소
+      postRepository.addLikeCount(postId, -1);
+    } else if (postLikeRepository.insertIgnore(postId, memberId) > 0) {
+      // 좋아요가 눌리지 않은 상태라면 좋아요 추가 (동시 요청으로 이미 추가된 경우 무시)
+      postRepository.addLikeCount(postId, 1);
     } else {
-      // 좋아요가 눌리지 않은 상태라면 좋아요 추가
-      post.setLikeCount(post.getLikeCount() + 1);
-      PostLike postLike = new PostLike();
-      postLike.setPost(post);
-      postLike.setMember(member);
-      postLikeRepository.save(postLike);
+      return;
     }
-
-    postRepository.save(post);
+    // 검색 문서의 좋아요 수 갱신
+    searchService.requestIndex(postId);
   }
 
   @Transactional
   public void likePost(Long postId, boolean isLiked) {
-    Post post = postRepository.findById(postId)
-        .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 게시글 ID입니다."));
-
-    // 좋아요가 눌린 상태라면 좋아요 취소(좋아요 수 감소)
-    if (isLiked) {
-      post.setLikeCount(post.getLikeCount() - 1);
-    } else {
-      // 좋아요가 눌리지 않은 상태라면 좋아요 추가(좋아요 수 증가)
-      post.setLikeCount(post.getLikeCount() + 1);
+    if (!postRepository.existsById(postId)) {
+      throw new IllegalArgumentException("유효하지 않은 게시글 ID입니다.");
     }
 
-    postRepository.save(post);
+    // 좋아요가 눌린 상태라면 좋아요 취소(좋아요 수 감소), 아니라면 좋아요 추가(좋아요 수 증가)
+    postRepository.addLikeCount(postId, isLiked ? -1 : 1);
+    searchService.requestIndex(postId);
   }
 
   // 게시글 삭제
+  @Transactional
   public void deletePostById(Long postId) {
     Post post = postRepository.findById(postId)
         .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 게시글 ID입니다."));
@@ -222,17 +284,20 @@ public class PostService {
     }
 
     postRepository.deleteById(postId);
-    searchService.delete(post);
-    cacheManager.getCache("avg-rating").evict(post.getDrink().getId());
+    drinkRatingStatsService.removeRating(post.getDrink().getId(), post.getRating());
+    searchService.requestIndex(postId);
   }
 
   // 게시글 수정
   @Transactional
-  @CacheEvict(value = "avg-rating", key = "#postRequest.drinkId", condition = "#postRequest.drinkId != null")
   public PostResponse updatePost(Long postId, PostRequest postRequest) {
     Post post = postRepository.findById(postId)
         .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 게시글 ID입니다."));
 
+    // 평점 집계 증감분 계산을 위해 수정 전 특산주와 평점 보관
+    Long oldDrinkId = post.getDrink().getId();
+    Float oldRating = post.getRating();
+
     post.setContent(postRequest.getContent());
     post.setRating(postRequest.getRating());
 
@@ -255,41 +320,32 @@ public class PostService {
 
     post = postRepository.save(post);
 
+    // 평점 집계 반영 - 특산주가 바뀌었다면 기존 특산주에서 빼고 새 특산주에 더함 (평점 캐시는 커밋 후 제거)
+    Long newDrinkId = post.getDrink().getId();
+    drinkRatingStatsService.changeRating(oldDrinkId, oldRating, newDrinkId, post.getRating());
+
     // 기존 태그 가져오기
     List<Tag> existingTags = postTagRepository.findTagsByPostId(postId);
     List<String> newTagNames = postRequest.getTag() != null ? postRequest.getTag() : List.of();
 
-    // 기존 태그 중에서 새로운 요청에 없는 태그는 삭제
-    for (Tag existingTag : existingTags) {
-      if (!newTagNames.contains(existingTag.getTagName())) {
-        PostTag postTag = postTagRepository.findByPostAndTag(post, existingTag)
-            .orElse(null);
-        if (postTag != null) {
-          postTagRepository.delete(postTag);
-        }
-      }
-    }
-
-    // 새로운 태그를 추가
-    for (String newTagName : newTagNames) {
-      boolean alreadyExists = existingTags.stream().anyMatch(tag -> tag.getTagName().equals(newTagName));
-      if (!alreadyExists) {
-        Tag tag = tagRepository.findByTagName(newTagName)
-            .orElseGet(() -> {
-              Tag newTag = new Tag();
-              newTag.setTagName(newTagName);
-              autoCompleteService.saveAutoCompleteTag(newTagName);
-              return tagRepository.save(newTag);
-            });
-
-        PostTag newPostTag = new PostTag(post, tag);
-        postTagRepository.save(newPostTag);
-      }
+    // 요청한 태그를 일괄 조회/추가 (요청 순서 유지) - 태그명 표기가 달라도 같은 태그면 ID로 비교
+    List<Tag> updatedTags = tagService.resolveTags(newTagNames);
+    Set<Long> updatedTagIds = updatedTags.stream().map(Tag::getTagId).collect(Collectors.toSet());
+    Set<Long> existingTagIds = existingTags.stream().map(Tag::getTagId).collect(Collectors.toSet());
+
+    // 기존 태그 중에서 새로운 요청에 없는 태그는 한 번에 삭제
+    List<Long> removedTagIds = existingTagIds.stream()
+        .filter(tagId -> !updatedTagIds.contains(tagId))
+        .toList();
+    if (!removedTagIds.isEmpty()) {
+      postTagRepository.deleteByPostIdAndTagIdIn(postId, removedTagIds);
     }
 
-    // 최종 업데이트된 태그 목록 가져오기
-    List<Tag> updatedTags = postTagRepository.findTagsByPostId(postId);
-    searchService.save(post, updatedTags);
+    // 새로 추가된 태그만 연결
+    tagService.linkTags(postId, updatedTags.stream()
+        .filter(tag -> !existingTagIds.contains(tag.getTagId()))
+        .toList());
+    searchService.requestIndex(post.getId());
 
     return PostResponse.of(post, updatedTags, false);
   }
@@ -0,0 +1,211 @@
+package com.onedrinktoday.backend.domain.post.service;
+
+import static com.onedrinktoday.backend.global.config.AsyncConfig.TASK_EXECUTOR;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 조회수 write-behind 카운터 - 메모리에 누적 후 주기적으로 일괄 UPDATE
+// 요청 스레드는 DB에 쓰지 않음 (임계치를 넘으면 별도 스레드에 반영을 요청만 함)
+// 반영에 실패하면 간격을 늘려 재시도하고, 미반영 게시글 수가 상한에 닿으면 새 게시글 조회수는 버림
+@Slf4j
+@Service
+public class PostViewCountService {
+
+  private static final int FLUSH_CHUNK_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Executor flushExecutor;
+  private final long flushThreshold;
+  private final int maxPendingPosts;
+  private final long retryBackoffMillis;
+  private final long maxRetryBackoffMillis;
+
+  private final Map<Long, Long> pendingViews = new ConcurrentHashMap<>();
+  private final AtomicLong pendingTotal = new AtomicLong();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+  // 연속 실패 횟수와 다음 반영 가능 시각 (System.currentTimeMillis 기준)
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile long retryAfter;
+
+  // 지표 - 미반영 게시글 수 상한에 걸려 버린 조회수
+  private final AtomicLong dropped = new AtomicLong();
+
+  public PostViewCountService(JdbcTemplate jdbcTemplate,
+      @Qualifier(TASK_EXECUTOR) Executor flushExecutor,
+      @Value("${post.view-count.flush-threshold:1000}") long flushThreshold,
+      @Value("${post.view-count.max-pending-posts:100000}") int maxPendingPosts,
+      @Value("${post.view-count.retry-backoff:5s}") Duration retryBackoff,
+      @Value("${post.view-count.max-retry-backoff:5m}") Duration maxRetryBackoff) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.flushExecutor = flushExecutor;
+    this.flushThreshold = flushThreshold;
+    this.maxPendingPosts = maxPendingPosts;
+    this.retryBackoffMillis = retryBackoff.toMillis();
+    this.maxRetryBackoffMillis = maxRetryBackoff.toMillis();
+  }
+
+  // 조회수 1 증가 (DB 반영 전까지 메모리에 보관)
+  public void increment(Long postId) {
+    // DB 장애가 길어져도 메모리가 무한히 늘지 않도록 미반영 게시글 수 제한
+    if (pendingViews.size() >= maxPendingPosts && !pendingViews.containsKey(postId)) {
+      if (dropped.incrementAndGet() % 1000 == 1) {
+        log.warn("미반영 조회수 게시글이 {}개를 넘어 조회수를 버립니다 (누적 {}건)", maxPendingPosts,
+            dropped.get());
+      }
+      return;
+    }
+
+    pendingViews.merge(postId, 1L, Long::sum);
+
+    // 누적 조회수가 임계치를 넘으면 주기를 기다리지 않고 반영 요청 (재시도 대기 중이면 다음 주기에 반영)
+    if (pendingTotal.incrementAndGet() >= flushThreshold
+        && System.currentTimeMillis() >= retryAfter) {
+      requestFlush();
+    }
+  }
+
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  // DB에 아직 반영되지 않은 조회수
+  public long getPending(Long postId) {
+    return pendingViews.getOrDefault(postId, 0L);
+  }
+
+  // DB 조회수와 미반영 조회수 합산
+  public int merge(Long postId, Integer persistedViewCount) {
+    int persisted = persistedViewCount != null ? persistedViewCount : 0;
+    return (int) (persisted + getPending(postId));
+  }
+
+  // 재시도 대기 중이면 건너뜀
+  @Scheduled(fixedDelayString = "${post.view-count.flush-interval:5000}")
+  public void flush() {
+    if (System.currentTimeMillis() < retryAfter) {
+      return;
+    }
+    flushPending();
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flushPending();
+  }
+
+  // 반영 작업은 한 번에 하나만 요청
+  private void requestFlush() {
+    if (!flushRequested.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      flushExecutor.execute(() -> {
+        try {
+          flush();
+        } finally {
+          flushRequested.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      flushRequested.set(false);
+    }
+  }
+
+  private void flushPending() {
+    // 다른 스레드가 반영 중이면 다음 주기에 반영
+    if (!flushLock.tryLock()) {
+      return;
+    }
+
+    try {
+      List<long[]> deltas = drain();
+      for (int from = 0; from < deltas.size(); from += FLUSH_CHUNK_SIZE) {
+        List<long[]> chunk = deltas.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, deltas.size()));
+        try {
+          updateViewCounts(chunk);
+        } catch (RuntimeException e) {
+          // 남은 묶음도 되돌려 두고 간격을 늘려 재시도
+          deltas.subList(from, deltas.size()).forEach(delta -> restore(delta[0], delta[1]));
+          backOff(e);
+          return;
+        }
+      }
+      consecutiveFailures.set(0);
+      retryAfter = 0;
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  // 1, 2, 4 ... 배로 늘리되 max-retry-backoff를 넘지 않음
+  private void backOff(RuntimeException e) {
+    int failures = consecutiveFailures.incrementAndGet();
+    long backoff = Math.min(retryBackoffMillis << Math.min(failures - 1, 20),
+        maxRetryBackoffMillis);
+    retryAfter = System.currentTimeMillis() + backoff;
+    log.warn("조회수 반영 실패 ({}회 연속), {}ms 후 재시도합니다: {}", failures, backoff,
+        e.getMessage());
+  }
+
+  // 게시글별 누적 조회수를 꺼내고 제거 (merge/remove 모두 키 단위 원자 연산이라 증가분 유실 없음)
+  private List<long[]> drain() {
+    List<long[]> deltas = new ArrayList<>();
+
+    for (Long postId : pendingViews.keySet()) {
+      Long delta = pendingViews.remove(postId);
+      if (delta != null) {
+        pendingTotal.addAndGet(-delta);
+        deltas.add(new long[]{postId, delta});
+      }
+    }
+
+    return deltas;
+  }
+
+  private void restore(Long postId, long delta) {
+    pendingViews.merge(postId, delta, Long::sum);
+    pendingTotal.addAndGet(delta);
+  }
+
+  // UPDATE post SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+  private void updateViewCounts(List<long[]> deltas) {
+    StringBuilder sql = new StringBuilder(
+        "UPDATE post SET view_count = COALESCE(view_count, 0) + CASE id");
+    List<Object> params = new ArrayList<>(deltas.size() * 3);
+
+    for (long[] delta : deltas) {
+      sql.append(" WHEN ? THEN ?");
+      params.add(delta[0]);
+      params.add(delta[1]);
+    }
+
+    sql.append(" ELSE 0 END WHERE id IN (");
+    for (int i = 0; i < deltas.size(); i++) {
+      sql.append(i == 0 ? "?" : ", ?");
+      params.add(deltas.get(i)[0]);
+    }
+    sql.append(")");
+
+    jdbcTemplate.update(sql.toString(), params.toArray());
+  }
+}
@@ -9,13 +9,16 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "post_like")
+@Table(name = "post_like",
+    uniqueConstraints = @UniqueConstraint(name = "uk_post_like_post_member",
+        columnNames = {"post_id", "member_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
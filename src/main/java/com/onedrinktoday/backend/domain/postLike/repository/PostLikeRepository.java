@@ -3,9 +3,31 @@ package com.onedrinktoday.backend.domain.postLike.repository;
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.post.entity.Post;
 import com.onedrinktoday.backend.domain.postLike.entity.PostLike;
+import java.util.Collection;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
   boolean existsByPostAndMember(Post post, Member member);
   void deleteByPostAndMember(Post post, Member member);
+
+  // 좋아요 추가 - (post_id, member_id) 유니크 제약으로 중복 시 무시, 추가된 행 수 반환
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO post_like (post_id, member_id) VALUES (:postId, :memberId)",
+      nativeQuery = true)
+  int insertIgnore(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+  // 좋아요 취소 - 삭제된 행 수 반환
+  @Modifying
+  @Query(value = "DELETE FROM post_like WHERE post_id = :postId AND member_id = :memberId",
+      nativeQuery = true)
+  int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+  // 게시글 목록 중 회원이 좋아요 누른 게시글 ID 조회
+  @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.member.id = :memberId AND pl.post.id IN :postIds")
+  Set<Long> findLikedPostIds(@Param("memberId") Long memberId,
+      @Param("postIds") Collection<Long> postIds);
 }
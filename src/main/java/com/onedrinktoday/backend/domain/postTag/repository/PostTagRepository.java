@@ -3,6 +3,7 @@ package com.onedrinktoday.backend.domain.postTag.repository;
 import com.onedrinktoday.backend.domain.post.entity.Post;
 import com.onedrinktoday.backend.domain.postTag.entity.PostTag;
 import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,10 +19,20 @@ public interface PostTagRepository extends JpaRepository<PostTag, Long> {
   @Query("SELECT pt.tag FROM PostTag pt WHERE pt.post.id = :postId")
   List<Tag> findTagsByPostId(@Param("postId") Long postId);
 
+  // 여러 게시글의 태그를 한 번에 조회 ([게시글 ID, 태그] 쌍 반환)
+  @Query("SELECT pt.post.id, t FROM PostTag pt JOIN pt.tag t WHERE pt.post.id IN :postIds")
+  List<Object[]> findPostIdAndTagsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
   // 게시글 수정 시 게시글에 연결된 태그 삭제
   @Modifying
   @Query("DELETE FROM PostTag pt WHERE pt.post.id = :postId")
   void deleteByPostId(@Param("postId") Long postId);
 
+  // 게시글 수정 시 요청에서 빠진 태그 연결 일괄 삭제
+  @Modifying
+  @Query("DELETE FROM PostTag pt WHERE pt.post.id = :postId AND pt.tag.tagId IN :tagIds")
+  void deleteByPostIdAndTagIdIn(@Param("postId") Long postId,
+      @Param("tagIds") Collection<Long> tagIds);
+
   Optional<PostTag> findByPostAndTag(Post post, Tag tag);
 }
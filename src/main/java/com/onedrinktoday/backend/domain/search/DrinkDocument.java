@@ -0,0 +1,76 @@
+package com.onedrinktoday.backend.domain.search;
+
+import com.onedrinktoday.backend.domain.drink.dto.DrinkResponse;
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.global.type.DrinkType;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.Mapping;
+import org.springframework.data.elasticsearch.annotations.Setting;
+
+// 특산주 검색 문서 - 지역 ID(필터)와 n-gram 분석한 이름(검색)으로 찾고, 응답은 문서 필드로만 생성
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setting(settingPath = "/elasticsearch/settings/drink-settings.json", replicas = 0)
+@Mapping(mappingPath = "/elasticsearch/mappings/drink-mappings.json")
+@Document(indexName = "drink")
+public class DrinkDocument {
+
+  @Id
+  private Long id;
+  private String regionId;
+  private String placeName;
+  private String name;
+  private DrinkType type;
+  private Float degree;
+  private Integer sweetness;
+  private Integer cost;
+  private String description;
+  private String imageUrl;
+
+  @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_fraction)
+  private LocalDateTime createdAt;
+
+  public static DrinkDocument from(Drink drink) {
+    return DrinkDocument.builder()
+        .id(drink.getId())
+        .regionId(drink.getRegion() != null ? String.valueOf(drink.getRegion().getId()) : null)
+        .placeName(drink.getRegion() != null ? drink.getRegion().getPlaceName() : null)
+        .name(drink.getName())
+        .type(drink.getType())
+        .degree(drink.getDegree())
+        .sweetness(drink.getSweetness())
+        .cost(drink.getCost())
+        .description(drink.getDescription())
+        .imageUrl(drink.getImageUrl())
+        .createdAt(drink.getCreatedAt() != null
+            ? drink.getCreatedAt().truncatedTo(ChronoUnit.MILLIS) : null)
+        .build();
+  }
+
+  public DrinkResponse toDrinkResponse() {
+    return DrinkResponse.builder()
+        .id(id)
+        .placeName(placeName)
+        .name(name)
+        .type(type)
+        .degree(degree)
+        .sweetness(sweetness)
+        .cost(cost)
+        .description(description)
+        .imageUrl(imageUrl)
+        .createdAt(createdAt)
+        .build();
+  }
+}
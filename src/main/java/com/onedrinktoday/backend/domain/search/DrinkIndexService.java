@@ -0,0 +1,158 @@
+package com.onedrinktoday.backend.domain.search;
+
+import static com.onedrinktoday.backend.global.exception.ErrorCode.REINDEX_IN_PROGRESS;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
+import com.onedrinktoday.backend.global.exception.CustomException;
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 특산주 검색 문서 색인 - 승인된 특산주는 커밋 후 색인하고, 기존 특산주는 ID 순으로 나눠 일괄 색인(백필)
+// 백필을 한 번 끝내기 전까지는 인덱스가 비어 있을 수 있으므로 검색은 DB로 처리 (isReady)
+@Slf4j
+@Service
+public class DrinkIndexService {
+
+  static final String READY_KEY = "search:drink:backfilled";
+  static final String LOCK_KEY = "search:drink:backfill:lock";
+
+  private final DrinkRepository drinkRepository;
+  private final DrinkSearchRepository drinkSearchRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisLockService redisLockService;
+  private final int chunkSize;
+  private final Duration lockTtl;
+
+  // 백필 완료를 한 번 확인하면 이후 검색에서는 Redis를 조회하지 않음
+  private volatile boolean ready;
+
+  public DrinkIndexService(DrinkRepository drinkRepository,
+      DrinkSearchRepository drinkSearchRepository, RedisTemplate<String, String> redisTemplate,
+      RedisLockService redisLockService,
+      @Value("${search.drink.backfill-chunk-size:500}") int chunkSize,
+      @Value("${search.drink.backfill-lock-ttl:5m}") Duration lockTtl) {
+    this.drinkRepository = drinkRepository;
+    this.drinkSearchRepository = drinkSearchRepository;
+    this.redisTemplate = redisTemplate;
+    this.redisLockService = redisLockService;
+    this.chunkSize = chunkSize;
+    this.lockTtl = lockTtl;
+  }
+
+  // 승인 트랜잭션이 커밋된 뒤 색인 - 롤백된 특산주가 검색되지 않도록 함
+  // 승인 처리는 색인 실패와 무관하게 진행 (누락 문서는 백필로 복구)
+  public void index(Drink drink) {
+    DrinkDocument document = DrinkDocument.from(drink);
+    afterCommit(() -> {
+      try {
+        drinkSearchRepository.save(document);
+      } catch (RuntimeException e) {
+        log.warn("특산주 {} 검색 문서 색인 실패: {}", document.getId(), e.getMessage());
+      }
+    });
+  }
+
+  // 백필을 마친 적이 있는지 (Redis 장애 시 false - DB 검색으로 처리)
+  public boolean isReady() {
+    if (ready) {
+      return true;
+    }
+
+    try {
+      ready = Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+    } catch (DataAccessException e) {
+      log.warn("특산주 검색 문서 백필 여부 조회 실패: {}", e.getMessage());
+    }
+    return ready;
+  }
+
+  // 아직 백필하지 않았으면 기동 시 백필 (다른 노드가 진행 중이면 건너뜀)
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillOnStartup() {
+    if (isReady()) {
+      return;
+    }
+
+    String token = redisLockService.tryLock(LOCK_KEY, lockTtl);
+    if (token == null) {
+      log.info("다른 노드가 특산주 검색 문서 백필 중");
+      return;
+    }
+
+    try {
+      backfill(token);
+    } catch (RuntimeException e) {
+      log.warn("특산주 검색 문서 백필 실패: {}", e.getMessage());
+    } finally {
+      redisLockService.unlock(LOCK_KEY, token);
+    }
+  }
+
+  // 색인한 특산주 수 반환
+  public long backfill() {
+    String token = redisLockService.tryLock(LOCK_KEY, lockTtl);
+    if (token == null) {
+      throw new CustomException(REINDEX_IN_PROGRESS);
+    }
+
+    try {
+      return backfill(token);
+    } finally {
+      redisLockService.unlock(LOCK_KEY, token);
+    }
+  }
+
+  private long backfill(String token) {
+    long lastId = 0;
+    long indexed = 0;
+
+    while (true) {
+      List<Drink> drinks = drinkRepository.findChunkAfter(lastId, PageRequest.of(0, chunkSize));
+      if (drinks.isEmpty()) {
+        break;
+      }
+
+      drinkSearchRepository.saveAll(drinks.stream().map(DrinkDocument::from).toList());
+      indexed += drinks.size();
+      lastId = drinks.get(drinks.size() - 1).getId();
+      if (drinks.size() < chunkSize) {
+        break;
+      }
+      redisLockService.renew(LOCK_KEY, token, lockTtl);
+    }
+
+    // 모든 노드가 이 시점부터 검색을 인덱스로 처리
+    redisTemplate.opsForValue().set(READY_KEY, String.valueOf(System.currentTimeMillis()));
+    ready = true;
+    log.info("특산주 검색 문서 백필 완료: {}건", indexed);
+    return indexed;
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+      return;
+    }
+
+    action.run();
+  }
+}
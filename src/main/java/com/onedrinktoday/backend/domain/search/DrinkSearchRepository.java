@@ -0,0 +1,9 @@
+package com.onedrinktoday.backend.domain.search;
+
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DrinkSearchRepository extends ElasticsearchRepository<DrinkDocument, Long> {
+
+}
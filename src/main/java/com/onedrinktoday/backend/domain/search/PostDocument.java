@@ -1,24 +1,176 @@
 package com.onedrinktoday.backend.domain.search;
 
+import com.onedrinktoday.backend.domain.drink.dto.DrinkResponse;
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.post.dto.PostResponse;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.tag.dto.TagDTO;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.global.type.DrinkType;
+import com.onedrinktoday.backend.global.type.PostType;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.Mapping;
 import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.util.StringUtils;
 
+// 게시글 검색 문서 - 검색 필드(tags, drink)와 함께 PostResponse를 DB 조회 없이 만들 수 있는 투영 필드 보관
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
 @Setting(settingPath = "/elasticsearch/settings/settings.json", replicas = 0)
 @Mapping(mappingPath = "/elasticsearch/mappings/mappings.json")
-@Document(indexName = "post")
+// 문서 버전은 게시글 수정 시각 - 늦게 도착한 이전 상태의 색인 요청이 최신 문서를 덮어쓰지 않음
+@Document(indexName = "post", versionType = Document.VersionType.EXTERNAL_GTE)
 public class PostDocument {
 
+  static final String WITHDRAWN_MEMBER_NAME = "탈퇴한 사용자";
+
   @Id
   private Long id;
   private String tags;
   private String drink;
 
+  private Long memberId;
+  private String memberName;
+  private String memberImageUrl;
+  private Long drinkId;
+  private DrinkSummary drinkSummary;
+  private PostType type;
+  private String content;
+  private Float rating;
+  private List<TagDTO> tagList;
+  private String imageUrl;
+  private Integer viewCount;
+  private Integer likeCount;
+
+  @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_fraction)
+  private LocalDateTime createdAt;
+
+  @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_fraction)
+  private LocalDateTime updatedAt;
+
+  // 색인 시각은 밀리초까지만 저장되므로 비교(정합성 검사)를 위해 미리 맞춤
+  public static PostDocument from(Post post, List<Tag> tagList) {
+    List<TagDTO> tagDTOs = new ArrayList<>(tagList.stream().map(TagDTO::from).toList());
+    tagDTOs.sort(Comparator.comparing(TagDTO::getTagId));
+
+    String tags = String.join(" ", tagList.stream()
+        .map(t -> StringUtils.trimAllWhitespace(t.getTagName())).toList());
+    String imageUrl = post.getImageUrl() != null ? post.getImageUrl()
+        : post.getDrink().getImageUrl();
+
+    return PostDocument.builder()
+        .id(post.getId())
+        .tags(tags)
+        // 형태소 분석이 띄어쓰기를 단서로 쓰므로 이름 안의 공백은 유지
+        .drink(StringUtils.trimWhitespace(post.getDrink().getName()))
+        .memberId(post.getMember() != null ? post.getMember().getId() : null)
+        .memberName(post.getMember() != null ? post.getMember().getName() : WITHDRAWN_MEMBER_NAME)
+        .memberImageUrl(post.getMember() != null ? post.getMember().getImageUrl() : null)
+        .drinkId(post.getDrink().getId())
+        .drinkSummary(DrinkSummary.from(post.getDrink()))
+        .type(post.getType())
+        .content(post.getContent())
+        .rating(post.getRating())
+        .tagList(tagDTOs)
+        .imageUrl(imageUrl)
+        .viewCount(post.getViewCount())
+        .likeCount(post.getLikeCount())
+        .createdAt(truncate(post.getCreatedAt()))
+        .updatedAt(truncate(post.getUpdatedAt()))
+        .build();
+  }
+
+  public PostResponse toPostResponse() {
+    return PostResponse.builder()
+        .id(id)
+        .memberId(memberId)
+        .memberName(memberName)
+        .memberImageUrl(memberImageUrl)
+        .drink(drinkSummary != null ? drinkSummary.toDrinkResponse() : null)
+        .type(type)
+        .content(content)
+        .rating(rating)
+        .tags(tagList != null ? tagList : List.of())
+        .imageUrl(imageUrl)
+        .viewCount(viewCount)
+        .likeCount(likeCount)
+        .isLiked(false)
+        .createdAt(createdAt)
+        .updatedAt(updatedAt)
+        .build();
+  }
+
+  private static LocalDateTime truncate(LocalDateTime dateTime) {
+    return dateTime != null ? dateTime.truncatedTo(ChronoUnit.MILLIS) : null;
+  }
+
+  @Getter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class DrinkSummary {
+
+    private Long id;
+    private String placeName;
+    private String name;
+    private DrinkType type;
+    private Float degree;
+    private Integer sweetness;
+    private Integer cost;
+    private String description;
+    private String imageUrl;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_fraction)
+    private LocalDateTime createdAt;
+
+    public static DrinkSummary from(Drink drink) {
+      return DrinkSummary.builder()
+          .id(drink.getId())
+          .placeName(drink.getRegion() != null ? drink.getRegion().getPlaceName() : null)
+          .name(drink.getName())
+          .type(drink.getType())
+          .degree(drink.getDegree())
+          .sweetness(drink.getSweetness())
+          .cost(drink.getCost())
+          .description(drink.getDescription())
+          .imageUrl(drink.getImageUrl())
+          .createdAt(truncate(drink.getCreatedAt()))
+          .build();
+    }
+
+    public DrinkResponse toDrinkResponse() {
+      return DrinkResponse.builder()
+          .id(id)
+          .placeName(placeName)
+          .name(name)
+          .type(type)
+          .degree(degree)
+          .sweetness(sweetness)
+          .cost(cost)
+          .description(description)
+          .imageUrl(imageUrl)
+          .createdAt(createdAt)
+          .build();
+    }
+  }
 }
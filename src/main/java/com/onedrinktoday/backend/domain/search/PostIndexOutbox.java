@@ -0,0 +1,59 @@
+package com.onedrinktoday.backend.domain.search;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+// 게시글 색인 요청 - 게시글 트랜잭션 안에서 저장하고 색인 작업이 읽어 일괄 반영
+// 처리 시점의 게시글 상태를 색인하므로(없으면 문서 삭제) 요청 종류는 따로 두지 않음
+// 노드가 처리할 요청을 가져갈 때 claim_token을 기록하고 next_attempt_at을 임대 만료 시각으로 미룸
+@Entity
+@Table(name = "post_index_outbox",
+    indexes = @Index(name = "idx_post_index_outbox_next_attempt_at_id",
+        columnList = "next_attempt_at, id"))
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostIndexOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "post_id", nullable = false)
+  private Long postId;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  // 처리 중인 노드의 임대 토큰 (처리 대기 중이면 null)
+  @Column(name = "claim_token", length = 36)
+  private String claimToken;
+
+  @CreationTimestamp
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  public static PostIndexOutbox of(Long postId) {
+    return PostIndexOutbox.builder()
+        .postId(postId)
+        .nextAttemptAt(LocalDateTime.now())
+        .build();
+  }
+}
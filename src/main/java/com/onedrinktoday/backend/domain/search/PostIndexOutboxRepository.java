@@ -0,0 +1,51 @@
+package com.onedrinktoday.backend.domain.search;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface PostIndexOutboxRepository extends JpaRepository<PostIndexOutbox, Long> {
+
+  // 처리 시각이 된 색인 요청 ID를 쌓인 순서대로 조회
+  @Query("SELECT o.id FROM PostIndexOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.id")
+  List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+  // 아직 처리 시각인 요청만 임대 - 다른 노드가 먼저 가져간 요청은 next_attempt_at이 미뤄져 조건에서 빠짐
+  @Transactional
+  @Modifying
+  @Query("UPDATE PostIndexOutbox o SET o.claimToken = :token, o.nextAttemptAt = :leaseUntil "
+      + "WHERE o.id IN :ids AND o.nextAttemptAt <= :now")
+  int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+      @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  List<PostIndexOutbox> findByClaimTokenOrderById(String claimToken);
+
+  // 임대가 만료돼 다른 노드가 다시 가져간 요청은 건드리지 않음
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM PostIndexOutbox o WHERE o.id IN :ids AND o.claimToken = :token")
+  int deleteClaimed(@Param("ids") Collection<Long> ids, @Param("token") String token);
+
+  // 실패한 요청을 다음 시도 시각으로 돌려놓고 임대 해제
+  @Transactional
+  @Modifying
+  @Query("UPDATE PostIndexOutbox o SET o.claimToken = NULL, o.attempts = :attempts, "
+      + "o.nextAttemptAt = :nextAttemptAt WHERE o.id = :id AND o.claimToken = :token")
+  int release(@Param("id") Long id, @Param("token") String token,
+      @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+  // 회원이 작성한 게시글 전체의 색인 요청 저장 (게시글 수만큼 조회/저장하지 않고 한 문장으로)
+  @Modifying
+  @Query(value = "INSERT INTO post_index_outbox (post_id, attempts, next_attempt_at, created_at) "
+      + "SELECT p.id, 0, :now, :now FROM post p "
+      + "WHERE p.member_id = :memberId AND p.deleted_at IS NULL", nativeQuery = true)
+  int enqueueByMemberId(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,140 @@
+package com.onedrinktoday.backend.domain.search;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 게시글 색인 요청 처리 - 쌓인 요청을 batch-size 단위 _bulk 요청으로 반영하고, 한 번에 max-drain 시간까지만 처리
+// 실패한 요청은 시도 횟수에 따라 간격을 늘려 다시 시도
+// 요청은 임대(claim_token + lease)로 가져가 한 노드만 처리하고, 처리 중 노드가 죽으면 임대 만료 후 다른 노드가 가져감
+// 서로 다른 요청으로 같은 게시글을 동시에 색인하더라도 문서 버전(updatedAt)이 오래된 쪽은 반영되지 않음
+@Slf4j
+@Component
+public class PostIndexWorker {
+
+  private final PostIndexOutboxRepository postIndexOutboxRepository;
+  private final PostIndexer postIndexer;
+  private final PostReindexService postReindexService;
+  private final int batchSize;
+  private final long maxDrainMillis;
+  private final Duration retryBackoff;
+  private final Duration maxBackoff;
+  private final Duration lease;
+
+  private final ReentrantLock drainLock = new ReentrantLock();
+
+  // 지표 - 누적 반영/실패 게시글 수, 직전 _bulk 처리 시간
+  private final AtomicLong totalIndexed = new AtomicLong();
+  private final AtomicLong totalFailed = new AtomicLong();
+  private final AtomicLong lastBulkMillis = new AtomicLong();
+
+  public PostIndexWorker(PostIndexOutboxRepository postIndexOutboxRepository,
+      PostIndexer postIndexer, PostReindexService postReindexService,
+      @Value("${search.outbox.batch-size:500}") int batchSize,
+      @Value("${search.outbox.max-drain:5s}") Duration maxDrain,
+      @Value("${search.outbox.retry-backoff:1s}") Duration retryBackoff,
+      @Value("${search.outbox.max-backoff:10m}") Duration maxBackoff,
+      @Value("${search.outbox.lease:2m}") Duration lease) {
+    this.postIndexOutboxRepository = postIndexOutboxRepository;
+    this.postIndexer = postIndexer;
+    this.postReindexService = postReindexService;
+    this.batchSize = batchSize;
+    this.maxDrainMillis = maxDrain.toMillis();
+    this.retryBackoff = retryBackoff;
+    this.maxBackoff = maxBackoff;
+    this.lease = lease;
+  }
+
+  @Scheduled(fixedDelayString = "${search.outbox.poll-interval:1000}")
+  public void drain() {
+    if (!drainLock.tryLock()) {
+      return;
+    }
+
+    long deadline = System.currentTimeMillis() + maxDrainMillis;
+    try {
+      while (System.currentTimeMillis() < deadline) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = postIndexOutboxRepository.findDueIds(now,
+            PageRequest.of(0, batchSize));
+        if (dueIds.isEmpty()) {
+          break;
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (postIndexOutboxRepository.claim(dueIds, token, now, now.plus(lease)) > 0) {
+          flush(postIndexOutboxRepository.findByClaimTokenOrderById(token), token);
+        }
+        if (dueIds.size() < batchSize) {
+          break;
+        }
+      }
+    } finally {
+      drainLock.unlock();
+    }
+  }
+
+  public long getTotalIndexed() {
+    return totalIndexed.get();
+  }
+
+  public long getTotalFailed() {
+    return totalFailed.get();
+  }
+
+  private void flush(List<PostIndexOutbox> batch, String token) {
+    Set<Long> postIds = new LinkedHashSet<>();
+    batch.forEach(outbox -> postIds.add(outbox.getPostId()));
+
+    // 재색인 중이면 새 인덱스에도 함께 반영
+    List<IndexCoordinates> targets = new ArrayList<>();
+    targets.add(IndexCoordinates.of(PostReindexService.ALIAS));
+    String building = postReindexService.beginWrite(postIds);
+    if (building != null) {
+      targets.add(IndexCoordinates.of(building));
+    }
+
+    long start = System.currentTimeMillis();
+    Set<Long> failed = postIndexer.sync(postIds, targets);
+    lastBulkMillis.set(System.currentTimeMillis() - start);
+
+    List<Long> doneIds = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+    for (PostIndexOutbox outbox : batch) {
+      if (failed.contains(outbox.getPostId())) {
+        int attempts = outbox.getAttempts() + 1;
+        postIndexOutboxRepository.release(outbox.getId(), token, attempts,
+            now.plus(backoff(attempts)));
+      } else {
+        doneIds.add(outbox.getId());
+      }
+    }
+
+    if (!doneIds.isEmpty()) {
+      postIndexOutboxRepository.deleteClaimed(doneIds, token);
+    }
+
+    totalIndexed.addAndGet(postIds.size() - failed.size());
+    totalFailed.addAndGet(failed.size());
+    log.debug("게시글 색인 요청 {}건 처리: posts={}, failed={}, elapsedMs={}", batch.size(),
+        postIds.size(), failed.size(), lastBulkMillis.get());
+  }
+
+  // 1, 2, 4, 8 ... 배로 늘리되 max-backoff를 넘지 않음
+  Duration backoff(int attempts) {
+    Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+  }
+}
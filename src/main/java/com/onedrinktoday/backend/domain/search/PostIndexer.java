@@ -0,0 +1,180 @@
+package com.onedrinktoday.backend.domain.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.post.repository.PostRepository;
+import com.onedrinktoday.backend.domain.postTag.repository.PostTagRepository;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+// 게시글 검색 문서 일괄 반영 - 게시글을 한 번에 읽어 _bulk 요청으로 색인하고 실패한 게시글 ID 반환
+// 색인/삭제 모두 게시글 수정(삭제) 시각을 외부 버전으로 보내고, 더 새 버전이 이미 있어 거절된 문서(409)는 성공으로 봄
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostIndexer {
+
+  private static final int VERSION_CONFLICT = 409;
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final ElasticsearchClient elasticsearchClient;
+  private final PostRepository postRepository;
+  private final PostTagRepository postTagRepository;
+
+  // 게시글의 현재 상태를 색인 대상마다 반영 - 없는 게시글은 문서 삭제
+  public Set<Long> sync(Collection<Long> postIds, List<IndexCoordinates> targets) {
+    List<Post> posts = postRepository.findAllWithDetailsByIdIn(postIds);
+
+    Set<Long> removedIds = new LinkedHashSet<>(postIds);
+    posts.forEach(post -> removedIds.remove(post.getId()));
+
+    Map<Long, Long> deleteVersions = deleteVersions(removedIds);
+
+    Set<Long> failed = new HashSet<>();
+    for (IndexCoordinates target : targets) {
+      failed.addAll(index(posts, target));
+      failed.addAll(delete(deleteVersions, target));
+    }
+    return failed;
+  }
+
+  public Set<Long> index(List<Post> posts, IndexCoordinates target) {
+    if (posts.isEmpty()) {
+      return Set.of();
+    }
+
+    Map<Long, List<Tag>> tags = findTags(posts);
+    List<IndexQuery> queries = posts.stream()
+        .map(post -> new IndexQueryBuilder()
+            .withId(String.valueOf(post.getId()))
+            .withObject(PostDocument.from(post, tags.getOrDefault(post.getId(), List.of())))
+            .withVersion(version(post))
+            .build())
+        .toList();
+
+    try {
+      elasticsearchOperations.bulkIndex(queries, target);
+      return Set.of();
+    } catch (BulkFailureException e) {
+      // 일부 문서만 실패한 경우 해당 게시글만 다시 시도 (더 새 문서가 있어 거절된 경우 제외)
+      Set<Long> failed = new HashSet<>();
+      e.getFailedDocuments().forEach((id, details) -> {
+        if (details.status() == null || details.status() != VERSION_CONFLICT) {
+          failed.add(Long.valueOf(id));
+        }
+      });
+      if (!failed.isEmpty()) {
+        log.warn("검색 문서 {}건 색인 실패 ({}): {}", failed.size(), target.getIndexName(),
+            e.getMessage());
+      }
+      return failed;
+    } catch (RuntimeException e) {
+      log.warn("검색 문서 {}건 색인 실패 ({}): {}", queries.size(), target.getIndexName(),
+          e.getMessage());
+      return ids(posts);
+    }
+  }
+
+  // 버전이 있으면(삭제 시각을 아는 게시글) 버전을 붙여 삭제, 행까지 지워진 게시글은 버전 없이 삭제
+  private Set<Long> delete(Map<Long, Long> versions, IndexCoordinates target) {
+    if (versions.isEmpty()) {
+      return Set.of();
+    }
+
+    List<BulkOperation> operations = versions.entrySet().stream()
+        .map(entry -> BulkOperation.of(op -> op.delete(delete -> {
+          delete.id(String.valueOf(entry.getKey()));
+          if (entry.getValue() != null) {
+            delete.version(entry.getValue()).versionType(VersionType.ExternalGte);
+          }
+          return delete;
+        })))
+        .toList();
+
+    try {
+      BulkResponse response = elasticsearchClient.bulk(bulk -> bulk
+          .index(target.getIndexName())
+          .operations(operations));
+
+      Set<Long> failed = new HashSet<>();
+      for (BulkResponseItem item : response.items()) {
+        if (item.error() != null && item.status() != VERSION_CONFLICT) {
+          failed.add(Long.valueOf(item.id()));
+        }
+      }
+      if (!failed.isEmpty()) {
+        log.warn("검색 문서 {}건 삭제 실패 ({})", failed.size(), target.getIndexName());
+      }
+      return failed;
+    } catch (IOException | RuntimeException e) {
+      log.warn("검색 문서 {}건 삭제 실패 ({}): {}", versions.size(), target.getIndexName(),
+          e.getMessage());
+      return versions.keySet();
+    }
+  }
+
+  // 삭제 버전은 수정/삭제 시각 중 늦은 쪽 + 1 (같은 시각에 수정된 문서보다 항상 새 버전)
+  private Map<Long, Long> deleteVersions(Set<Long> removedIds) {
+    Map<Long, Long> versions = new LinkedHashMap<>();
+    removedIds.forEach(id -> versions.put(id, null));
+    if (removedIds.isEmpty()) {
+      return versions;
+    }
+
+    for (Object[] row : postRepository.findDeletedVersionsByIdIn(removedIds)) {
+      long updatedAt = row[1] != null ? toMillis(row[1]) : 0;
+      long deletedAt = toMillis(row[2]);
+      versions.put(((Number) row[0]).longValue(), Math.max(updatedAt, deletedAt) + 1);
+    }
+    return versions;
+  }
+
+  // 게시글 문서 버전 - 수정 시각(없으면 작성 시각)의 epoch 밀리초
+  static long version(Post post) {
+    LocalDateTime versionAt = post.getUpdatedAt() != null ? post.getUpdatedAt()
+        : post.getCreatedAt();
+    return versionAt != null ? Timestamp.valueOf(versionAt).getTime() : 0;
+  }
+
+  private long toMillis(Object value) {
+    return value instanceof Timestamp timestamp ? timestamp.getTime()
+        : Timestamp.valueOf((LocalDateTime) value).getTime();
+  }
+
+  private Map<Long, List<Tag>> findTags(List<Post> posts) {
+    Map<Long, List<Tag>> tags = new HashMap<>();
+    for (Object[] row : postTagRepository.findPostIdAndTagsByPostIdIn(ids(posts))) {
+      tags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Tag) row[1]);
+    }
+    return tags;
+  }
+
+  private Set<Long> ids(List<Post> posts) {
+    Set<Long> ids = new LinkedHashSet<>();
+    posts.forEach(post -> ids.add(post.getId()));
+    return ids;
+  }
+}
@@ -0,0 +1,251 @@
+package com.onedrinktoday.backend.domain.search;
+
+import static com.onedrinktoday.backend.global.exception.ErrorCode.REINDEX_IN_PROGRESS;
+import static com.onedrinktoday.backend.global.exception.ErrorCode.REINDEX_JOB_NOT_FOUND;
+
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.post.repository.PostRepository;
+import com.onedrinktoday.backend.global.config.AsyncConfig;
+import com.onedrinktoday.backend.global.exception.CustomException;
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+// 게시글 검색 인덱스 전체 재색인 - 게시글을 ID 순으로 읽어 새 버전 인덱스(post_yyyyMMddHHmmss)에 색인한 뒤
+// 별칭(post)을 한 번에 옮겨 검색 중단 없이 교체
+// 재색인 중 들어온 색인 요청은 새 인덱스에도 반영하고, 복사가 끝난 뒤 그 게시글을 다시 읽어 덮어씀
+// 요청 스레드에서는 잠금만 잡고 작업 ID(새 인덱스 이름)를 반환, 복사는 재색인 전용 스레드에서 진행하며 청크마다 잠금 연장
+@Slf4j
+@Service
+public class PostReindexService {
+
+  public static final String ALIAS = "post";
+  static final String TARGET_KEY = "search:reindex:post:target";
+  static final String TOUCHED_KEY_PREFIX = "search:reindex:post:touched:";
+  static final String JOB_KEY_PREFIX = "search:reindex:post:job:";
+  private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern(
+      "yyyyMMddHHmmss");
+
+  // 재색인 작업 상태
+  public enum JobStatus {
+    RUNNING, COMPLETED, FAILED
+  }
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final PostRepository postRepository;
+  private final PostIndexer postIndexer;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisLockService redisLockService;
+  private final Executor reindexExecutor;
+  private final int chunkSize;
+  private final Duration lockTtl;
+  private final Duration jobRetention;
+  private final boolean deleteOld;
+
+  public PostReindexService(ElasticsearchOperations elasticsearchOperations,
+      PostRepository postRepository, PostIndexer postIndexer,
+      RedisTemplate<String, String> redisTemplate, RedisLockService redisLockService,
+      @Qualifier(AsyncConfig.REINDEX_EXECUTOR) Executor reindexExecutor,
+      @Value("${search.reindex.chunk-size:500}") int chunkSize,
+      @Value("${search.reindex.lock-ttl:5m}") Duration lockTtl,
+      @Value("${search.reindex.job-retention:7d}") Duration jobRetention,
+      @Value("${search.reindex.delete-old:true}") boolean deleteOld) {
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.postRepository = postRepository;
+    this.postIndexer = postIndexer;
+    this.redisTemplate = redisTemplate;
+    this.redisLockService = redisLockService;
+    this.reindexExecutor = reindexExecutor;
+    this.chunkSize = chunkSize;
+    this.lockTtl = lockTtl;
+    this.jobRetention = jobRetention;
+    this.deleteOld = deleteOld;
+  }
+
+  // 재색인 시작, 작업 ID(새 인덱스 이름) 반환
+  public String startReindex() {
+    String index = ALIAS + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+
+    // 재색인 중인 인덱스 이름이 곧 전 노드 공용 잠금
+    if (!redisLockService.tryLock(TARGET_KEY, index, lockTtl)) {
+      throw new CustomException(REINDEX_IN_PROGRESS);
+    }
+
+    try {
+      setStatus(index, JobStatus.RUNNING);
+      reindexExecutor.execute(() -> reindex(index));
+    } catch (RejectedExecutionException e) {
+      redisLockService.unlock(TARGET_KEY, index);
+      redisTemplate.delete(jobKey(index));
+      throw new CustomException(REINDEX_IN_PROGRESS);
+    }
+    return index;
+  }
+
+  public JobStatus getStatus(String jobId) {
+    String status = redisTemplate.opsForValue().get(jobKey(jobId));
+    if (status == null) {
+      throw new CustomException(REINDEX_JOB_NOT_FOUND);
+    }
+    return JobStatus.valueOf(status);
+  }
+
+  void reindex(String index) {
+    IndexCoordinates target = IndexCoordinates.of(index);
+    IndexOperations indexOps = elasticsearchOperations.indexOps(target);
+    long start = System.currentTimeMillis();
+    Set<String> oldIndices;
+    try {
+      IndexOperations documentOps = elasticsearchOperations.indexOps(PostDocument.class);
+      indexOps.create(documentOps.createSettings(), documentOps.createMapping());
+
+      Set<Long> retryIds = copy(index, target);
+
+      // 복사 중 바뀐 게시글은 복사본이 더 오래된 상태일 수 있으므로 다시 읽어 반영
+      Set<String> touched = redisTemplate.opsForSet().members(touchedKey(index));
+      if (touched != null) {
+        touched.forEach(id -> retryIds.add(Long.valueOf(id)));
+      }
+      if (!retryIds.isEmpty() && !postIndexer.sync(retryIds, List.of(target)).isEmpty()) {
+        throw new IllegalStateException("재색인 후 반영 실패");
+      }
+
+      indexOps.refresh();
+      renewLock(index);
+      oldIndices = swapAlias(index);
+    } catch (RuntimeException e) {
+      log.error("게시글 재색인 실패 ({}): {}", index, e.getMessage());
+      deleteIndex(index);
+      setStatus(index, JobStatus.FAILED);
+      return;
+    } finally {
+      redisTemplate.delete(touchedKey(index));
+      redisLockService.unlock(TARGET_KEY, index);
+    }
+
+    // 별칭 전환 후 이전 버전 인덱스 정리 (post 이름의 인덱스는 전환 요청에서 이미 삭제)
+    if (deleteOld) {
+      oldIndices.stream()
+          .filter(oldIndex -> !oldIndex.equals(ALIAS))
+          .forEach(this::deleteIndex);
+    }
+
+    setStatus(index, JobStatus.COMPLETED);
+    log.info("게시글 재색인 완료: index={}, elapsedMs={}", index,
+        System.currentTimeMillis() - start);
+  }
+
+  // 재색인 중이면 색인 요청 게시글을 기록하고 새 인덱스 이름 반환 (기록 후 색인해야 복사본에 덮이지 않음)
+  public String beginWrite(Set<Long> postIds) {
+    try {
+      String index = redisTemplate.opsForValue().get(TARGET_KEY);
+      if (index != null) {
+        redisTemplate.opsForSet().add(touchedKey(index),
+            postIds.stream().map(String::valueOf).toArray(String[]::new));
+        // 재색인 노드가 정리하지 못하고 죽어도 남지 않도록
+        redisTemplate.expire(touchedKey(index), lockTtl.multipliedBy(2));
+      }
+      return index;
+    } catch (DataAccessException e) {
+      log.warn("재색인 상태 조회 실패: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  // 게시글을 ID 순으로 나눠 새 인덱스에 색인, 실패한 게시글 ID 반환
+  private Set<Long> copy(String index, IndexCoordinates target) {
+    Set<Long> failed = new HashSet<>();
+    long lastId = 0;
+    long copied = 0;
+
+    while (true) {
+      List<Post> posts = postRepository.findChunkAfter(lastId, PageRequest.of(0, chunkSize));
+      if (posts.isEmpty()) {
+        break;
+      }
+
+      failed.addAll(postIndexer.index(posts, target));
+      copied += posts.size();
+      lastId = posts.get(posts.size() - 1).getId();
+      log.debug("게시글 재색인 진행: {}건 ({} 이후)", copied, lastId);
+      renewLock(index);
+      if (posts.size() < chunkSize) {
+        break;
+      }
+    }
+    return failed;
+  }
+
+  // 잠금이 만료돼 다른 노드가 재색인을 시작했다면 중단 (두 작업이 같은 별칭을 옮기지 않도록)
+  private void renewLock(String index) {
+    if (!redisLockService.renew(TARGET_KEY, index, lockTtl)) {
+      throw new IllegalStateException("재색인 잠금 만료");
+    }
+  }
+
+  private void setStatus(String index, JobStatus status) {
+    try {
+      redisTemplate.opsForValue().set(jobKey(index), status.name(), jobRetention);
+    } catch (DataAccessException e) {
+      log.warn("재색인 작업 {} 상태 기록 실패: {}", index, e.getMessage());
+    }
+  }
+
+  private String jobKey(String index) {
+    return JOB_KEY_PREFIX + index;
+  }
+
+  private String touchedKey(String index) {
+    return TOUCHED_KEY_PREFIX + index;
+  }
+
+  // 별칭이 가리키던 인덱스에서 새 인덱스로 한 번에 전환, 이전 인덱스 이름 반환
+  // 별칭 도입 전 post 이름으로 만들어진 인덱스는 같은 요청에서 삭제
+  private Set<String> swapAlias(String index) {
+    IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS));
+    Set<String> oldIndices = aliasOps.exists()
+        ? aliasOps.getAliasesForIndex(ALIAS).keySet() : Set.of();
+
+    AliasActions actions = new AliasActions();
+    for (String oldIndex : oldIndices) {
+      if (oldIndex.equals(ALIAS)) {
+        actions.add(new AliasAction.RemoveIndex(
+            AliasActionParameters.builder().withIndices(ALIAS).build()));
+      } else {
+        actions.add(new AliasAction.Remove(
+            AliasActionParameters.builder().withIndices(oldIndex).withAliases(ALIAS).build()));
+      }
+    }
+    actions.add(new AliasAction.Add(
+        AliasActionParameters.builder().withIndices(index).withAliases(ALIAS).build()));
+    aliasOps.alias(actions);
+    return oldIndices;
+  }
+
+  private void deleteIndex(String index) {
+    try {
+      elasticsearchOperations.indexOps(IndexCoordinates.of(index)).delete();
+    } catch (RuntimeException e) {
+      log.warn("인덱스 {} 삭제 실패: {}", index, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.onedrinktoday.backend.domain.search;
+
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.post.repository.PostRepository;
+import com.onedrinktoday.backend.domain.postTag.repository.PostTagRepository;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 검색 문서 정합성 검사 - 게시글을 ID 순으로 나눠 읽어 투영 필드가 DB와 다른(또는 없는) 문서를 찾아 다시 색인 요청
+// 조회수는 조회마다 색인하지 않고 이 검사에서 맞추므로 조회수만 다른 문서는 불일치로 세지 않음
+// 다시 색인은 색인 요청으로 저장해 문서 버전과 재색인 중 이중 쓰기를 색인 작업이 처리
+@Slf4j
+@Component
+public class SearchConsistencyChecker {
+
+  private final PostRepository postRepository;
+  private final PostTagRepository postTagRepository;
+  private final ElasticSearchRepository elasticSearchRepository;
+  private final PostIndexOutboxRepository postIndexOutboxRepository;
+  private final int chunkSize;
+  private final boolean repair;
+
+  // 지표 - 직전 검사 게시글 수, 불일치/누락 문서 수, 조회수만 맞춘 문서 수
+  private final AtomicLong lastChecked = new AtomicLong();
+  private final AtomicLong lastStale = new AtomicLong();
+  private final AtomicLong lastMissing = new AtomicLong();
+  private final AtomicLong lastViewCountSynced = new AtomicLong();
+
+  public SearchConsistencyChecker(PostRepository postRepository,
+      PostTagRepository postTagRepository, ElasticSearchRepository elasticSearchRepository,
+      PostIndexOutboxRepository postIndexOutboxRepository,
+      @Value("${search.consistency.chunk-size:500}") int chunkSize,
+      @Value("${search.consistency.repair:true}") boolean repair) {
+    this.postRepository = postRepository;
+    this.postTagRepository = postTagRepository;
+    this.elasticSearchRepository = elasticSearchRepository;
+    this.postIndexOutboxRepository = postIndexOutboxRepository;
+    this.chunkSize = chunkSize;
+    this.repair = repair;
+  }
+
+  // 불일치 문서 ID 목록 반환
+  @Scheduled(cron = "${search.consistency.cron:0 0 5 * * *}")
+  public List<Long> check() {
+    List<Long> staleIds = new ArrayList<>();
+    long checked = 0;
+    long missing = 0;
+    long viewCountSynced = 0;
+    long lastId = 0;
+
+    try {
+      while (true) {
+        List<Post> posts = postRepository.findChunkAfter(lastId, PageRequest.of(0, chunkSize));
+        if (posts.isEmpty()) {
+          break;
+        }
+
+        Map<Long, PostDocument> indexed = new HashMap<>();
+        elasticSearchRepository.findAllById(posts.stream().map(Post::getId).toList())
+            .forEach(document -> indexed.put(document.getId(), document));
+        Map<Long, List<Tag>> tags = findTags(posts);
+
+        List<Long> outdatedIds = new ArrayList<>();
+        for (Post post : posts) {
+          PostDocument expected = PostDocument.from(post,
+              tags.getOrDefault(post.getId(), List.of()));
+          PostDocument actual = indexed.get(post.getId());
+
+          if (actual == null) {
+            missing++;
+          }
+          if (expected.equals(actual)) {
+            continue;
+          }
+
+          if (equalsIgnoringViewCount(expected, actual)) {
+            viewCountSynced++;
+          } else {
+            staleIds.add(post.getId());
+          }
+          outdatedIds.add(post.getId());
+        }
+
+        if (repair && !outdatedIds.isEmpty()) {
+          postIndexOutboxRepository.saveAll(outdatedIds.stream().map(PostIndexOutbox::of).toList());
+        }
+
+        checked += posts.size();
+        lastId = posts.get(posts.size() - 1).getId();
+        if (posts.size() < chunkSize) {
+          break;
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("검색 문서 정합성 검사 중단 (게시글 {} 이후): {}", lastId, e.getMessage());
+    }
+
+    lastChecked.set(checked);
+    lastStale.set(staleIds.size());
+    lastMissing.set(missing);
+    lastViewCountSynced.set(viewCountSynced);
+    log.info("검색 문서 정합성 검사 완료: checked={}, stale={}, missing={}, viewCountSynced={}, "
+        + "repaired={}", checked, staleIds.size(), missing, viewCountSynced, repair);
+    return staleIds;
+  }
+
+  public long getLastStale() {
+    return lastStale.get();
+  }
+
+  public long getLastViewCountSynced() {
+    return lastViewCountSynced.get();
+  }
+
+  private boolean equalsIgnoringViewCount(PostDocument expected, PostDocument actual) {
+    if (actual == null) {
+      return false;
+    }
+
+    Integer viewCount = expected.getViewCount();
+    expected.setViewCount(actual.getViewCount());
+    boolean equals = expected.equals(actual);
+    expected.setViewCount(viewCount);
+    return equals;
+  }
+
+  private Map<Long, List<Tag>> findTags(List<Post> posts) {
+    Map<Long, List<Tag>> tags = new HashMap<>();
+    for (Object[] row : postTagRepository.findPostIdAndTagsByPostIdIn(
+        posts.stream().map(Post::getId).toList())) {
+      tags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Tag) row[1]);
+    }
+    return tags;
+  }
+}
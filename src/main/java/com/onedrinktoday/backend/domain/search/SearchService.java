@@ -1,23 +1,27 @@
 package com.onedrinktoday.backend.domain.search;
 
+import static com.onedrinktoday.backend.global.exception.ErrorCode.INVALID_SORT;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
 import com.onedrinktoday.backend.domain.drink.dto.DrinkResponse;
 import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
 import com.onedrinktoday.backend.domain.post.dto.PostResponse;
-import com.onedrinktoday.backend.domain.post.entity.Post;
-import com.onedrinktoday.backend.domain.post.repository.PostRepository;
-import com.onedrinktoday.backend.domain.postTag.repository.PostTagRepository;
-import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.global.exception.CustomException;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
@@ -30,54 +34,63 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class SearchService {
 
+  // 특산주 검색 정렬 기준 -> 문서 필드 (이름은 분석된 text 필드라 keyword 하위 필드로 정렬)
+  private static final Map<String, String> DRINK_SORT_FIELDS = Map.of(
+      "name", "name.keyword",
+      "createdAt", "createdAt",
+      "degree", "degree",
+      "sweetness", "sweetness",
+      "cost", "cost");
+
   private final ElasticsearchOperations elasticsearchOperations;
-  private final ElasticSearchRepository elasticSearchRepository;
-  private final PostTagRepository postTagRepository;
-  private final PostRepository postRepository;
+  private final PostIndexOutboxRepository postIndexOutboxRepository;
+  private final DrinkIndexService drinkIndexService;
   private final DrinkRepository drinkRepository;
 
-  public void save(Post post, List<Tag> tagList) {
-
-    String tags = String.join(" ", tagList.stream()
-        .map(t -> StringUtils.trimAllWhitespace(t.getTagName())).toList());
-
-    PostDocument postDocument = PostDocument.builder()
-        .id(post.getId())
-        .tags(tags)
-        .drink(StringUtils.trimAllWhitespace(post.getDrink().getName()))
-        .build();
-
-    elasticSearchRepository.save(postDocument);
+  // 게시글 작성/수정/삭제 트랜잭션 안에서 색인 요청 저장 (색인은 PostIndexWorker가 일괄 반영)
+  public void requestIndex(Long postId) {
+    postIndexOutboxRepository.save(PostIndexOutbox.of(postId));
   }
 
-  public void delete(Post post) {
-    elasticSearchRepository.deleteById(post.getId());
+  // 회원 이름/프로필 이미지 변경이나 탈퇴를 작성 게시글 문서에 반영 - 회원 트랜잭션 안에서 색인 요청 저장
+  // 문서 버전(게시글 수정 시각)은 그대로이므로 같은 버전으로 다시 색인됨
+  public void requestIndexByMember(Long memberId) {
+    postIndexOutboxRepository.enqueueByMemberId(memberId, LocalDateTime.now());
   }
 
+  // 태그마다 정확히 일치(tags.exact) > 형태소 일치(tags) > 접두어 일치(tags.prefix) 순으로 점수를 주고,
+  // 요청한 태그는 모두 어느 한 필드에서든 일치해야 함
   public Page<PostResponse> searchPostByTag(Pageable pageable, List<String> tagList) {
 
-    String tags = String.join(" ", tagList.stream()
-        .map(StringUtils::trimAllWhitespace).toList());
-
-    Query query = QueryBuilders.match()
-        .query(tags)
-        .field("tags")
-        .operator(Operator.And)
-        .build()._toQuery();
+    BoolQuery.Builder bool = QueryBuilders.bool();
+    tagList.stream()
+        .map(StringUtils::trimAllWhitespace)
+        .filter(StringUtils::hasText)
+        .forEach(tag -> bool.must(multiMatch(tag, "tags.exact^3", "tags^2", "tags.prefix")));
 
-    return getPostResponses(pageable, query);
+    return getPostResponses(pageable, bool.build()._toQuery());
   }
 
+  // 이름 전체 일치(drink.keyword) > 형태소 일치(drink) > 단어 접두어 일치(drink.prefix) 순으로 점수
   public Page<PostResponse> searchPostByDrink(Pageable pageable, String drink) {
 
-    Query query = QueryBuilders.match()
-        .query(StringUtils.trimAllWhitespace(drink))
-        .field("drink")
-        .build()._toQuery();
+    Query query = multiMatch(StringUtils.trimWhitespace(drink),
+        "drink.keyword^5", "drink^2", "drink.prefix");
 
     return getPostResponses(pageable, query);
   }
 
+  // 가장 잘 맞는 필드 점수에 나머지 필드 점수를 일부 더함, 검색어의 모든 단어가 한 필드에서 일치해야 함
+  private Query multiMatch(String text, String... fields) {
+    return QueryBuilders.multiMatch()
+        .query(text)
+        .fields(List.of(fields))
+        .type(TextQueryType.BestFields)
+        .tieBreaker(0.3)
+        .operator(Operator.And)
+        .build()._toQuery();
+  }
+
   private Page<PostResponse> getPostResponses(Pageable pageable, Query query) {
 
     NativeQuery nativeQuery = new NativeQueryBuilder()
@@ -88,26 +101,72 @@ public class SearchService {
     SearchHits<PostDocument> searchHits =
         elasticsearchOperations.search(nativeQuery, PostDocument.class);
 
+    // 검색 문서의 투영 필드로 응답 생성 (DB 조회 없음)
     List<PostResponse> postResponses = searchHits.get()
-        .map(s -> postRepository.findById(s.getContent().getId()).orElse(null))
-        .filter(Objects::nonNull)
-        .map(post -> {
-          List<Tag> tags = postTagRepository.findTagsByPostId(post.getId());
-
-          return PostResponse.of(post, tags, false);
-        })
+        .map(hit -> hit.getContent().toPostResponse())
         .toList();
 
     return new PageImpl<>(postResponses, pageable, searchHits.getTotalHits());
   }
 
+  // 이름은 n-gram이 모두 포함된 특산주만(부분 문자열 일치), 정확히 같은 이름은 위로
+  // 지역은 점수와 무관한 filter 절로 걸러 검색 엔진이 결과를 캐시
+  // 검색 문서 백필을 마치기 전에는 DB에서 검색
   public Page<DrinkResponse> searchDrink(Pageable pageable, Long regionId, String drinkName) {
+    Pageable documentPageable = toDrinkDocumentPageable(pageable);
 
-    if (regionId == 0) {
-      return drinkRepository.findAllByNameContaining(pageable, drinkName).map(DrinkResponse::from);
-    } else {
+    if (!drinkIndexService.isReady()) {
+      if (regionId == 0) {
+        return drinkRepository.findAllByNameContaining(pageable, drinkName)
+            .map(DrinkResponse::from);
+      }
       return drinkRepository.findAllByRegion_IdAndNameContaining(pageable, regionId, drinkName)
           .map(DrinkResponse::from);
     }
+
+    BoolQuery.Builder bool = QueryBuilders.bool();
+    String name = StringUtils.trimWhitespace(drinkName);
+    if (StringUtils.hasText(name)) {
+      bool.must(QueryBuilders.match().field("name").query(name).operator(Operator.And).build()
+          ._toQuery());
+      bool.should(QueryBuilders.term().field("name.keyword").value(name).boost(5.0f).build()
+          ._toQuery());
+    }
+    if (regionId != 0) {
+      bool.filter(QueryBuilders.term().field("regionId").value(String.valueOf(regionId)).build()
+          ._toQuery());
+    }
+
+    NativeQuery nativeQuery = new NativeQueryBuilder()
+        .withQuery(bool.build()._toQuery())
+        .withPageable(documentPageable)
+        .build();
+
+    SearchHits<DrinkDocument> searchHits =
+        elasticsearchOperations.search(nativeQuery, DrinkDocument.class);
+
+    List<DrinkResponse> drinkResponses = searchHits.get()
+        .map(hit -> hit.getContent().toDrinkResponse())
+        .toList();
+
+    return new PageImpl<>(drinkResponses, pageable, searchHits.getTotalHits());
+  }
+
+  // 정렬 기준을 문서 필드로 바꿈, 지원하지 않는 기준은 거부 (DB 검색일 때도 같은 기준만 허용)
+  private Pageable toDrinkDocumentPageable(Pageable pageable) {
+    if (pageable.getSort().isUnsorted()) {
+      return pageable;
+    }
+
+    List<Sort.Order> orders = pageable.getSort().stream()
+        .map(order -> {
+          String field = DRINK_SORT_FIELDS.get(order.getProperty());
+          if (field == null) {
+            throw new CustomException(INVALID_SORT);
+          }
+          return order.withProperty(field);
+        })
+        .toList();
+    return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
   }
 }
@@ -7,13 +7,13 @@ import com.onedrinktoday.backend.domain.suggest.service.SuggestMonthlyService;
 import com.onedrinktoday.backend.domain.suggest.service.SuggestService;
 import com.onedrinktoday.backend.domain.suggest.service.SuggestTagService;
 import com.onedrinktoday.backend.domain.tag.dto.TagDTO;
-import com.onedrinktoday.backend.global.security.JwtProvider;
+import com.onedrinktoday.backend.global.security.TokenClaims;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,16 +27,15 @@ public class SuggestController {
   private final SuggestMonthlyService suggestMonthlyService;
   private final SuggestTagService suggestTagService;
   private final SuggestDrinkService suggestDrinkService;
-  private final JwtProvider jwtProvider;
 
   // 사용자 위치 기반 가장 가까운 지역 특산주 추천
   @GetMapping("/suggest/drink")
   public ResponseEntity<DrinkResponse> suggestDrink(
-      @RequestHeader("Access-Token") String token,
+      @RequestAttribute(TokenClaims.REQUEST_ATTRIBUTE) TokenClaims tokenClaims,
       @RequestParam Float lat,
       @RequestParam Float lon) {
 
-      Long memberId = jwtProvider.getMemberId(token);
+      Long memberId = tokenClaims.getMemberId();
 
       DrinkResponse suggestDrink = suggestService.suggestDrinkByLocation(memberId, lat, lon);
     return ResponseEntity.ok(suggestDrink);
@@ -44,9 +43,10 @@ public class SuggestController {
 
   // 재접속시 기존 사용자의 저장된 지역 특산주 추천
   @GetMapping("/suggest/drink/current")
-  public ResponseEntity<DrinkResponse> suggestDrinkForCurrent(@RequestHeader("Access-Token") String token) {
+  public ResponseEntity<DrinkResponse> suggestDrinkForCurrent(
+      @RequestAttribute(TokenClaims.REQUEST_ATTRIBUTE) TokenClaims tokenClaims) {
 
-    Long memberId = jwtProvider.getMemberId(token);
+    Long memberId = tokenClaims.getMemberId();
 
     DrinkResponse suggestDrink = suggestService.suggestDrinkByCurrentRegion(memberId);
     return ResponseEntity.ok(suggestDrink);
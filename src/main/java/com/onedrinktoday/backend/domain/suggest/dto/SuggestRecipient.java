@@ -0,0 +1,6 @@
+package com.onedrinktoday.backend.domain.suggest.dto;
+
+// 추천 메일 수신자 - 대량 발송 시 회원 엔티티 대신 필요한 값만 조회
+public record SuggestRecipient(Long id, String name, String email, Long regionId) {
+
+}
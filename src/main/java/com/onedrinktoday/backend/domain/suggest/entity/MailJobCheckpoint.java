@@ -0,0 +1,42 @@
+package com.onedrinktoday.backend.domain.suggest.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+// 메일 발송 작업 진행 위치 - 청크마다 마지막 회원 ID를 저장해 중단된 작업을 그 이후부터 이어서 발송
+@Entity
+@Table(name = "mail_job_checkpoint")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MailJobCheckpoint {
+
+  // 작업 종류와 대상 기간 (예: monthly-2024-10)
+  @Id
+  @Column(name = "job_key", length = 50)
+  private String jobKey;
+
+  @Column(name = "last_member_id", nullable = false)
+  private long lastMemberId;
+
+  @Column(name = "sent_count", nullable = false)
+  private long sentCount;
+
+  @Column(nullable = false)
+  private boolean completed;
+
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,10 @@
+package com.onedrinktoday.backend.domain.suggest.repository;
+
+import com.onedrinktoday.backend.domain.suggest.entity.MailJobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MailJobCheckpointRepository extends JpaRepository<MailJobCheckpoint, String> {
+
+}
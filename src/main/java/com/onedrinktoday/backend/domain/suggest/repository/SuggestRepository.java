@@ -1,25 +1,46 @@
 package com.onedrinktoday.backend.domain.suggest.repository;
 
 import com.onedrinktoday.backend.domain.drink.entity.Drink;
-import com.onedrinktoday.backend.domain.member.entity.Member;
-import io.lettuce.core.dynamic.annotation.Param;
+import com.onedrinktoday.backend.domain.suggest.dto.SuggestRecipient;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SuggestRepository extends JpaRepository<Drink, Long> {
 
-  // 생일이 오늘인 사용자 찾기(월과 일만 비교)
-  @Query("SELECT m FROM Member m WHERE FUNCTION('MONTH', m.birthDate) = :month AND FUNCTION('DAY', m.birthDate) = :day")
-  List<Member> findAllByBirthDate(@Param("month") int month, @Param("day") int day);
+  // 생일 월일(MMdd)이 같은 회원을 ID 순으로 나눠 조회 - (birth_month_day, id) 인덱스 사용
+  @Query("SELECT new com.onedrinktoday.backend.domain.suggest.dto.SuggestRecipient("
+      + "m.id, m.name, m.email, m.region.id) "
+      + "FROM Member m WHERE m.birthMonthDay = :monthDay AND m.id > :lastId "
+      + "AND m.region IS NOT NULL ORDER BY m.id")
+  List<SuggestRecipient> findBirthdayRecipientsAfter(@Param("monthDay") int monthDay,
+      @Param("lastId") Long lastId, Pageable pageable);
 
-  // 특정 지역에서 임의 특산주 3개 선택
-  @Query("SELECT d FROM Drink d WHERE d.region.id = :regionId ORDER BY FUNCTION('RAND')")
-  List<Drink> findRandomDrink(@Param("regionId") Long regionId, Pageable pageable);
+  // 지역 정보가 있는 회원을 ID 순으로 나눠 조회 (추천 메일 수신자, 생일 메일을 받는 생일자 제외)
+  @Query("SELECT new com.onedrinktoday.backend.domain.suggest.dto.SuggestRecipient("
+      + "m.id, m.name, m.email, m.region.id) "
+      + "FROM Member m WHERE m.id > :lastId AND m.region IS NOT NULL "
+      + "AND (m.birthMonthDay IS NULL OR m.birthMonthDay <> :excludedMonthDay) ORDER BY m.id")
+  List<SuggestRecipient> findRecipientsAfter(@Param("lastId") Long lastId,
+      @Param("excludedMonthDay") int excludedMonthDay, Pageable pageable);
+
+  // 생일 월일이 비어 있는 기존 회원 ID를 ID 순으로 나눠 조회
+  @Query("SELECT m.id FROM Member m WHERE m.birthMonthDay IS NULL AND m.birthDate IS NOT NULL "
+      + "AND m.id > :lastId ORDER BY m.id")
+  List<Long> findIdsWithoutBirthMonthDayAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+  // 생일 월일이 비어 있는 기존 회원 채우기 (청크 단위)
+  @Modifying
+  @Query("UPDATE Member m SET m.birthMonthDay = "
+      + "EXTRACT(MONTH FROM m.birthDate) * 100 + EXTRACT(DAY FROM m.birthDate) "
+      + "WHERE m.id IN :ids AND m.birthMonthDay IS NULL AND m.birthDate IS NOT NULL")
+  int fillBirthMonthDay(@Param("ids") List<Long> ids);
 
   // 최근 1주일간 게시글의 특산주 빈도수를 기준으로 상위 20개의 특산주 조회
   @Query("SELECT d, COUNT(p) as postCount " +
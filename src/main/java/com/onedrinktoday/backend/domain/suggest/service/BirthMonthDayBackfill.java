@@ -0,0 +1,66 @@
+package com.onedrinktoday.backend.domain.suggest.service;
+
+import com.onedrinktoday.backend.domain.suggest.repository.SuggestRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 생일 월일이 비어 있는 기존 회원을 ID 순 청크로 채움 - 한 번에 갱신하면 회원 테이블 전체를 오래 잠그므로 나눠서 커밋
+// 생일/월간 추천 메일은 생일 월일로 대상을 고르므로 발송 전에 반드시 채운 뒤 조회 (기동 시에도 미리 채움)
+@Slf4j
+@Service
+public class BirthMonthDayBackfill {
+
+  private final SuggestRepository suggestRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  public BirthMonthDayBackfill(SuggestRepository suggestRepository,
+      TransactionTemplate transactionTemplate,
+      @Value("${suggest.birth-month-day.backfill-chunk-size:1000}") int chunkSize) {
+    this.suggestRepository = suggestRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+  }
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void fillOnStartup() {
+    fill();
+  }
+
+  // 비어 있는 회원을 모두 채울 때까지 반환하지 않음, 채운 회원 수 반환
+  // 기동 시 채우기와 발송이 겹치면 먼저 시작한 쪽이 끝날 때까지 기다림
+  // 다 채운 뒤에는 (birth_month_day, id) 인덱스로 빈 결과 한 번만 조회 (새 회원은 저장할 때 함께 저장)
+  public synchronized long fill() {
+    long total = 0;
+    long lastId = 0;
+    while (true) {
+      List<Long> ids = suggestRepository.findIdsWithoutBirthMonthDayAfter(lastId,
+          PageRequest.of(0, chunkSize));
+      if (ids.isEmpty()) {
+        break;
+      }
+
+      Integer updated = transactionTemplate.execute(
+          status -> suggestRepository.fillBirthMonthDay(ids));
+      total += updated != null ? updated : 0;
+      lastId = ids.get(ids.size() - 1);
+
+      if (ids.size() < chunkSize) {
+        break;
+      }
+    }
+
+    if (total > 0) {
+      log.info("회원 {}명의 생일 월일 저장", total);
+    }
+    return total;
+  }
+}
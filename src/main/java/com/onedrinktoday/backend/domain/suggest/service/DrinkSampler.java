@@ -0,0 +1,87 @@
+package com.onedrinktoday.backend.domain.suggest.service;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 지역별 임의 특산주 추출 - 지역마다 특산주 ID 배열을 메모리에 두고 Floyd 알고리즘으로 서로 다른 k개를 고른 뒤
+// ID로 한 번에 조회 (ORDER BY RAND()로 지역의 모든 특산주를 정렬하지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrinkSampler {
+
+  private static final long[] EMPTY = new long[0];
+
+  private final DrinkRepository drinkRepository;
+
+  private final Map<Long, long[]> idsByRegion = new ConcurrentHashMap<>();
+
+  // 지역의 특산주 중 서로 다른 최대 count개 조회 (순서는 임의)
+  public List<Drink> sample(Long regionId, int count) {
+    List<Long> ids = sampleIds(regionId, count);
+    return ids.isEmpty() ? List.of() : drinkRepository.findAllById(ids);
+  }
+
+  List<Long> sampleIds(Long regionId, int count) {
+    long[] ids = idsByRegion.computeIfAbsent(regionId,
+        id -> toArray(drinkRepository.findIdsByRegionId(id)));
+    int n = ids.length;
+    int k = Math.min(count, n);
+
+    // Floyd 알고리즘 - k번의 난수로 0..n-1 중 서로 다른 k개의 위치 선택
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Set<Integer> positions = new LinkedHashSet<>(k * 2);
+    for (int j = n - k; j < n; j++) {
+      int t = random.nextInt(j + 1);
+      positions.add(positions.contains(t) ? j : t);
+    }
+
+    List<Long> sampled = new ArrayList<>(k);
+    positions.forEach(position -> sampled.add(ids[position]));
+    return sampled;
+  }
+
+  // 승인된 특산주를 바로 추출 대상에 포함 (다른 노드는 주기적 갱신 때 반영)
+  public void add(Drink drink) {
+    if (drink.getId() == null || drink.getRegion() == null) {
+      return;
+    }
+
+    idsByRegion.computeIfPresent(drink.getRegion().getId(), (regionId, ids) -> {
+      long[] added = Arrays.copyOf(ids, ids.length + 1);
+      added[ids.length] = drink.getId();
+      return added;
+    });
+  }
+
+  // 삭제되었거나 다른 노드에서 추가된 특산주를 반영해 전체 배열을 다시 만듦
+  @Scheduled(fixedDelayString = "${suggest.sampler.refresh-interval:600000}")
+  public void refresh() {
+    Map<Long, List<Long>> grouped = new HashMap<>();
+    for (Object[] row : drinkRepository.findRegionIdAndIds()) {
+      grouped.computeIfAbsent((Long) row[0], regionId -> new ArrayList<>()).add((Long) row[1]);
+    }
+
+    // 특산주가 없어진 지역은 빈 배열로 교체 (다음 조회 때 다시 읽지 않도록)
+    idsByRegion.replaceAll((regionId, ids) -> grouped.containsKey(regionId) ? ids : EMPTY);
+    grouped.forEach((regionId, ids) -> idsByRegion.put(regionId, toArray(ids)));
+    log.debug("특산주 추출 대상 갱신: {}개 지역", grouped.size());
+  }
+
+  private long[] toArray(List<Long> ids) {
+    return ids.stream().mapToLong(Long::longValue).toArray();
+  }
+}
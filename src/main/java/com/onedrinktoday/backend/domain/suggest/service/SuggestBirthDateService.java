@@ -1,24 +1,65 @@
 package com.onedrinktoday.backend.domain.suggest.service;
 
-import com.onedrinktoday.backend.domain.drink.entity.Drink;
 import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.suggest.dto.SuggestRecipient;
+import com.onedrinktoday.backend.domain.suggest.entity.MailJobCheckpoint;
+import com.onedrinktoday.backend.domain.suggest.repository.MailJobCheckpointRepository;
 import com.onedrinktoday.backend.domain.suggest.repository.SuggestRepository;
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+// 생일 특산주 추천 메일 - 생일 월일 인덱스로 생일자를 ID 순 청크로 읽어 발송 대기 메일로 저장하고,
+// 같은 트랜잭션에서 진행 위치 저장 (재시작 시 이어서 발송, 이미 끝난 날짜는 다시 보내지 않음)
+// 자정 스케줄과 재시작 이어 보내기가 여러 노드에서 겹치지 않도록 날짜마다 노드 간 잠금을 잡은 쪽만 발송
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SuggestBirthDateService {
+
+  private static final int DRINK_COUNT = 3;
+  static final String LOCK_KEY_PREFIX = "mail:job:lock:";
+
   private final SuggestRepository suggestRepository;
   private final SendBirthDateEmailService emailService;
+  private final DrinkSampler drinkSampler;
+  private final SuggestMailRenderer renderer;
+  private final MailJobCheckpointRepository checkpointRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final RedisLockService redisLockService;
+  private final BirthMonthDayBackfill birthMonthDayBackfill;
+  private final int chunkSize;
+  private final Duration lockTtl;
 
-  // 1일 생일자 리스트 저장
-  private List<Long> birthdayOneday = new ArrayList<>();
+  public SuggestBirthDateService(SuggestRepository suggestRepository,
+      SendBirthDateEmailService emailService, DrinkSampler drinkSampler,
+      SuggestMailRenderer renderer, MailJobCheckpointRepository checkpointRepository,
+      TransactionTemplate transactionTemplate, RedisLockService redisLockService,
+      BirthMonthDayBackfill birthMonthDayBackfill,
+      @Value("${suggest.birthday.chunk-size:500}") int chunkSize,
+      @Value("${suggest.mail.lock-ttl:5m}") Duration lockTtl) {
+    this.suggestRepository = suggestRepository;
+    this.emailService = emailService;
+    this.drinkSampler = drinkSampler;
+    this.renderer = renderer;
+    this.checkpointRepository = checkpointRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.redisLockService = redisLockService;
+    this.birthMonthDayBackfill = birthMonthDayBackfill;
+    this.chunkSize = chunkSize;
+    this.lockTtl = lockTtl;
+  }
 
   // 생일이 오늘인 사용자 대상 특산주 추천
   @Scheduled(cron = "0 0 0 * * *")
@@ -26,30 +67,93 @@ public class SuggestBirthDateService {
     sendBirthDateDrinkSuggestionForDate(LocalDate.now());
   }
 
-  // 특정 날짜에 생일인 사용자 대상으로 특산주 추천(테스트용)
-  public void sendBirthDateDrinkSuggestionForDate(LocalDate date) {
-    birthdayOneday.clear();  // 생일자 리스트 초기화
+  // 오늘 발송이 중간에 중단되었다면 이어서 발송
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeBirthDateDrinkSuggestion() {
+    LocalDate today = LocalDate.now();
+    checkpointRepository.findById(jobKey(today))
+        .filter(checkpoint -> !checkpoint.isCompleted())
+        .ifPresent(checkpoint -> sendBirthDateDrinkSuggestionForDate(today));
+  }
 
-    int month = date.getMonthValue();
-    int day = date.getDayOfMonth();
+  // 특정 날짜에 생일인 사용자 대상으로 특산주 추천, 발송 요청한 메일 수 반환
+  // (이미 끝난 날짜나 다른 노드가 발송 중인 날짜는 0)
+  public long sendBirthDateDrinkSuggestionForDate(LocalDate date) {
+    String jobKey = jobKey(date);
+    String lockKey = LOCK_KEY_PREFIX + jobKey;
+    String token = redisLockService.tryLock(lockKey, lockTtl);
+    if (token == null) {
+      log.info("다른 노드가 생일 특산주 추천 메일 발송 중: job={}", jobKey);
+      return 0;
+    }
 
-    // 특정 날짜 기준으로 생일인 사용자 조회
-    List<Member> membersWithBirthDate = suggestRepository.findAllByBirthDate(month, day);
+    try {
+      return send(date, jobKey, lockKey, token);
+    } finally {
+      redisLockService.unlock(lockKey, token);
+    }
+  }
+
+  // 잠금을 잡은 뒤 진행 위치를 읽어야 다른 노드가 마지막으로 커밋한 위치부터 이어감
+  private long send(LocalDate date, String jobKey, String lockKey, String token) {
+    MailJobCheckpoint checkpoint = checkpointRepository.findById(jobKey)
+        .orElseGet(() -> MailJobCheckpoint.builder().jobKey(jobKey).build());
+    if (checkpoint.isCompleted()) {
+      return 0;
+    }
 
-    for (Member member : membersWithBirthDate) {
-      // 회원 거주지 특산주 3개 랜덤 추천
-      List<Drink> suggestDrink = suggestRepository.findRandomDrink(member.getRegion().getId(), Pageable.ofSize(3));
-      emailService.sendBirthDateEmail(member, suggestDrink);
+    // 생일 월일이 비어 있는 기존 회원은 조회되지 않으므로 먼저 채움
+    birthMonthDayBackfill.fill();
+    int monthDay = Member.toMonthDay(date);
+    // 회원 거주지 특산주 3개 랜덤 추천 - 같은 지역 생일자에게는 한 번 렌더링한 목록 재사용
+    Map<Long, String> drinksByRegion = new HashMap<>();
 
-      // 생일이 1일인 사용자 리스트 추가
-      if (date.getDayOfMonth() == 1) {
-        birthdayOneday.add(member.getId());
+    long start = System.currentTimeMillis();
+    long sent = 0;
+    long lastId = checkpoint.getLastMemberId();
+
+    while (true) {
+      List<SuggestRecipient> recipients = suggestRepository.findBirthdayRecipientsAfter(monthDay,
+          lastId, PageRequest.of(0, chunkSize));
+      if (recipients.isEmpty()) {
+        break;
+      }
+
+      recipients.forEach(recipient -> drinksByRegion.computeIfAbsent(recipient.regionId(),
+          regionId -> renderer.renderDrinks(drinkSampler.sample(regionId, DRINK_COUNT))));
+
+      // 커밋 직전에 잠금을 연장 - 잠금이 만료돼 다른 노드가 이어받았으면 이 청크를 저장하지 않고 중단
+      if (!redisLockService.renew(lockKey, token, lockTtl)) {
+        log.warn("생일 특산주 추천 메일 잠금 만료로 발송 중단: job={}, lastMemberId={}", jobKey, lastId);
+        return sent;
+      }
+
+      MailJobCheckpoint current = checkpoint;
+      long chunkLastId = recipients.get(recipients.size() - 1).id();
+      checkpoint = transactionTemplate.execute(status -> {
+        recipients.forEach(recipient -> emailService.sendBirthDateEmail(recipient,
+            drinksByRegion.get(recipient.regionId())));
+        current.setLastMemberId(chunkLastId);
+        current.setSentCount(current.getSentCount() + recipients.size());
+        return checkpointRepository.save(current);
+      });
+      sent += recipients.size();
+      lastId = chunkLastId;
+
+      if (recipients.size() < chunkSize) {
+        break;
       }
     }
+
+    checkpoint.setCompleted(true);
+    checkpointRepository.save(checkpoint);
+    log.info("생일 특산주 추천 메일 발송 요청 완료: job={}, queued={}, elapsedMs={}", jobKey, sent,
+        System.currentTimeMillis() - start);
+    return sent;
   }
 
-  // 매월 1일 생일자 목록 반환하는 메서드
-  public List<Long> getBirthdayOnedayList() {
-    return new ArrayList<>(birthdayOneday);
+  private String jobKey(LocalDate date) {
+    return "birthday-" + date;
   }
 }
@@ -0,0 +1,43 @@
+package com.onedrinktoday.backend.domain.suggest.service;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+// 특산주 추천 메일 본문 렌더링 - 템플릿은 처음 한 번 파싱해 캐시(spring.thymeleaf.cache)하고,
+// 같은 특산주를 받는 회원들이 공유하도록 특산주 목록은 따로 렌더링해 본문에 그대로 끼워 넣음
+@Component
+@RequiredArgsConstructor
+public class SuggestMailRenderer {
+
+  static final String PAGE_TEMPLATE = "mail/drinkSuggestion";
+  static final String DRINKS_TEMPLATE = "mail/drinks";
+
+  private final TemplateEngine templateEngine;
+
+  // 특산주 목록 HTML - 지역마다 한 번만 만들어 재사용
+  public String renderDrinks(List<Drink> drinks) {
+    return templateEngine.process(DRINKS_TEMPLATE,
+        new Context(Locale.KOREAN, Map.of("drinks", drinks)));
+  }
+
+  // 회원마다 다른 문구만 채워 본문 완성 (drinks는 renderDrinks 결과)
+  public String render(SuggestMail mail, String heading, String drinks) {
+    Context context = new Context(Locale.KOREAN, Map.of(
+        "title", mail.title(),
+        "heading", heading,
+        "intro", mail.intro(),
+        "closing", mail.closing(),
+        "drinks", drinks));
+    return templateEngine.process(PAGE_TEMPLATE, context);
+  }
+
+  public record SuggestMail(String title, String intro, String closing) {
+
+  }
+}
@@ -1,37 +1,159 @@
 package com.onedrinktoday.backend.domain.suggest.service;
 
-import com.onedrinktoday.backend.domain.drink.entity.Drink;
 import com.onedrinktoday.backend.domain.member.entity.Member;
-import com.onedrinktoday.backend.domain.member.repository.MemberRepository;
+import com.onedrinktoday.backend.domain.suggest.dto.SuggestRecipient;
+import com.onedrinktoday.backend.domain.suggest.entity.MailJobCheckpoint;
+import com.onedrinktoday.backend.domain.suggest.repository.MailJobCheckpointRepository;
 import com.onedrinktoday.backend.domain.suggest.repository.SuggestRepository;
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.HashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+// 매월 특산주 추천 메일 - 회원을 ID 순 청크로 읽어 발송 대기 메일로 저장하고, 같은 트랜잭션에서 진행 위치 저장
+// 추천 특산주는 지역마다 한 번만 골라 렌더링하고 같은 지역 회원에게 재사용
+// 스케줄은 모든 노드에서 돌고 재배포 중에는 재시작 이어 보내기와 겹칠 수 있으므로 작업마다 노드 간 잠금을 잡은 쪽만 발송
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SuggestMonthlyService {
+
+  private static final int DRINK_COUNT = 3;
+  static final String LOCK_KEY_PREFIX = "mail:job:lock:";
+
   private final SuggestRepository suggestRepository;
   private final SendMonthlyEmailService emailService;
-  private final SuggestBirthDateService suggestBirthDateService;
-  private final MemberRepository memberRepository;
+  private final MailJobCheckpointRepository checkpointRepository;
+  private final DrinkSampler drinkSampler;
+  private final SuggestMailRenderer renderer;
+  private final TransactionTemplate transactionTemplate;
+  private final RedisLockService redisLockService;
+  private final BirthMonthDayBackfill birthMonthDayBackfill;
+  private final int chunkSize;
+  private final Duration lockTtl;
+
+  public SuggestMonthlyService(SuggestRepository suggestRepository,
+      SendMonthlyEmailService emailService, MailJobCheckpointRepository checkpointRepository,
+      DrinkSampler drinkSampler, SuggestMailRenderer renderer,
+      TransactionTemplate transactionTemplate, RedisLockService redisLockService,
+      BirthMonthDayBackfill birthMonthDayBackfill,
+      @Value("${suggest.monthly.chunk-size:500}") int chunkSize,
+      @Value("${suggest.mail.lock-ttl:5m}") Duration lockTtl) {
+    this.suggestRepository = suggestRepository;
+    this.emailService = emailService;
+    this.checkpointRepository = checkpointRepository;
+    this.drinkSampler = drinkSampler;
+    this.renderer = renderer;
+    this.transactionTemplate = transactionTemplate;
+    this.redisLockService = redisLockService;
+    this.birthMonthDayBackfill = birthMonthDayBackfill;
+    this.chunkSize = chunkSize;
+    this.lockTtl = lockTtl;
+  }
 
   // 매월 1일 특산주 추천
   @Scheduled(cron = "0 0 0 1 * *")
   public void sendMonthlyDrinkSuggestion() {
-    List<Member> allMembers = memberRepository.findAll();
+    sendMonthlyDrinkSuggestion(YearMonth.now());
+  }
+
+  // 이번 달 발송이 중간에 중단되었다면 재시작 후 이어서 발송
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeMonthlyDrinkSuggestion() {
+    YearMonth month = YearMonth.now();
+    checkpointRepository.findById(jobKey(month))
+        .filter(checkpoint -> !checkpoint.isCompleted())
+        .ifPresent(checkpoint -> sendMonthlyDrinkSuggestion(month));
+  }
+
+  // 발송 요청한 메일 수 반환 (이미 끝난 달이나 다른 노드가 발송 중인 달은 0)
+  public long sendMonthlyDrinkSuggestion(YearMonth month) {
+    String jobKey = jobKey(month);
+    String lockKey = LOCK_KEY_PREFIX + jobKey;
+    String token = redisLockService.tryLock(lockKey, lockTtl);
+    if (token == null) {
+      log.info("다른 노드가 월간 특산주 추천 메일 발송 중: job={}", jobKey);
+      return 0;
+    }
+
+    try {
+      return send(month, jobKey, lockKey, token);
+    } finally {
+      redisLockService.unlock(lockKey, token);
+    }
+  }
 
-    // 매월 1일 생일자 가져오기
-    List<Long> birthdayOneday = suggestBirthDateService.getBirthdayOnedayList();
+  // 잠금을 잡은 뒤 진행 위치를 읽어야 다른 노드가 마지막으로 커밋한 위치부터 이어감
+  private long send(YearMonth month, String jobKey, String lockKey, String token) {
+    MailJobCheckpoint checkpoint = checkpointRepository.findById(jobKey)
+        .orElseGet(() -> MailJobCheckpoint.builder().jobKey(jobKey).build());
+    if (checkpoint.isCompleted()) {
+      return 0;
+    }
+
+    // 매월 1일 생일자는 생일 메일을 받으므로 제외 (저장된 생일 월일로 판단하므로 생일 메일 작업과 순서 무관)
+    // 생일 월일이 비어 있는 기존 회원은 제외되지 않으므로 먼저 채움
+    birthMonthDayBackfill.fill();
+    int birthdayOneday = Member.toMonthDay(month.atDay(1));
+    Map<Long, String> drinksByRegion = new HashMap<>();
+
+    long start = System.currentTimeMillis();
+    long sent = 0;
+    long lastId = checkpoint.getLastMemberId();
+
+    while (true) {
+      List<SuggestRecipient> recipients = suggestRepository.findRecipientsAfter(lastId,
+          birthdayOneday, PageRequest.of(0, chunkSize));
+      if (recipients.isEmpty()) {
+        break;
+      }
+
+      recipients.forEach(recipient -> drinksByRegion.computeIfAbsent(recipient.regionId(),
+          regionId -> renderer.renderDrinks(drinkSampler.sample(regionId, DRINK_COUNT))));
 
-    for (Member member : allMembers) {
-      // 1일 생일자 & 회원 지역 정보 있는지 확인
-      if (!birthdayOneday.contains(member.getId()) && member.getRegion() != null) {
-        List<Drink> suggestDrink = suggestRepository.findRandomDrink(member.getRegion().getId(), PageRequest.of(0, 3));
-        emailService.sendMonthlyDrinkEmail(member, suggestDrink);
+      // 커밋 직전에 잠금을 연장 - 잠금이 만료돼 다른 노드가 이어받았으면 이 청크를 저장하지 않고 중단
+      if (!redisLockService.renew(lockKey, token, lockTtl)) {
+        log.warn("월간 특산주 추천 메일 잠금 만료로 발송 중단: job={}, lastMemberId={}", jobKey, lastId);
+        return sent;
+      }
+
+      // 청크의 메일과 진행 위치를 함께 커밋 - 중단 후 재시작해도 같은 회원에게 두 번 보내지 않음
+      MailJobCheckpoint current = checkpoint;
+      long chunkLastId = recipients.get(recipients.size() - 1).id();
+      checkpoint = transactionTemplate.execute(status -> {
+        recipients.forEach(recipient -> emailService.sendMonthlyDrinkEmail(recipient,
+            drinksByRegion.get(recipient.regionId())));
+        current.setLastMemberId(chunkLastId);
+        current.setSentCount(current.getSentCount() + recipients.size());
+        return checkpointRepository.save(current);
+      });
+      sent += recipients.size();
+      lastId = chunkLastId;
+
+      if (recipients.size() < chunkSize) {
+        break;
       }
     }
+
+    checkpoint.setCompleted(true);
+    checkpointRepository.save(checkpoint);
+    log.info("월간 특산주 추천 메일 발송 요청 완료: job={}, queued={}, total={}, elapsedMs={}",
+        jobKey, sent, checkpoint.getSentCount(), System.currentTimeMillis() - start);
+    return sent;
+  }
+
+  private String jobKey(YearMonth month) {
+    return "monthly-" + month;
   }
 }
@@ -2,13 +2,11 @@ package com.onedrinktoday.backend.domain.suggest.service;
 
 import com.onedrinktoday.backend.domain.drink.dto.DrinkResponse;
 import com.onedrinktoday.backend.domain.drink.entity.Drink;
-import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.repository.MemberRepository;
 import com.onedrinktoday.backend.domain.region.entity.Region;
 import com.onedrinktoday.backend.domain.region.repository.RegionRepository;
 import java.util.List;
-import java.util.Random;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -16,7 +14,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SuggestService {
   private final RegionRepository regionRepository;
-  private final DrinkRepository drinkRepository;
+  private final DrinkSampler drinkSampler;
   private final MemberRepository memberRepository;
 
   // 사용자 위치 기준 가장 가까운 지역 찾기
@@ -31,9 +29,8 @@ public class SuggestService {
     member.setRegion(closestRegion);
     memberRepository.save(member);
 
-    // 해당 지역 특산주 리스트 가져와서 랜덤으로 하나 추천
-    List<Drink> drinkInRegion = drinkRepository.findByRegion(closestRegion);
-    return drinkInRegion.isEmpty() ? null : DrinkResponse.from(getRandomDrink(drinkInRegion));
+    // 해당 지역 특산주 중 랜덤으로 하나 추천
+    return getRandomDrink(closestRegion);
   }
 
   private Region findClosestRegion(List<Region> regions, double lat, double lon) {
@@ -59,9 +56,9 @@ public class SuggestService {
 }
 
   // 랜덤 특산주 추천
-  private Drink getRandomDrink(List<Drink> drinks) {
-    Random random = new Random();
-    return drinks.get(random.nextInt(drinks.size()));
+  private DrinkResponse getRandomDrink(Region region) {
+    List<Drink> drinks = drinkSampler.sample(region.getId(), 1);
+    return drinks.isEmpty() ? null : DrinkResponse.from(drinks.get(0));
   }
 
   // 사용자 기존 지역으로 특산주 추천
@@ -74,7 +71,6 @@ public class SuggestService {
       throw new RuntimeException("사용자의 거주지 정보가 없습니다.");
     }
 
-    List<Drink> drinksInRegion = drinkRepository.findByRegion(currentRegion);
-    return drinksInRegion.isEmpty() ? null : DrinkResponse.from(getRandomDrink(drinksInRegion));
+    return getRandomDrink(currentRegion);
   }
 }
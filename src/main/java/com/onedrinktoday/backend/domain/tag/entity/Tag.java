@@ -26,6 +26,6 @@ public class Tag {
   @Column(name = "tag_id")
   private Long tagId;
 
-  @Column(name = "name", nullable = false)
+  @Column(name = "name", nullable = false, unique = true)
   private String tagName;
 }
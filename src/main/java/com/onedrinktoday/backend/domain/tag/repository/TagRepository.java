@@ -3,6 +3,7 @@ package com.onedrinktoday.backend.domain.tag.repository;
 import com.onedrinktoday.backend.domain.tag.entity.Tag;
 import io.lettuce.core.dynamic.annotation.Param;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +15,13 @@ import org.springframework.stereotype.Repository;
 public interface TagRepository extends JpaRepository<Tag, Long> {
   Optional<Tag> findByTagName(String tagName);
 
+  List<Tag> findAllByTagNameIn(Collection<String> tagNames);
+
+  // 태그명별 게시글 수 (자동완성 인기도)
+  @Query("SELECT t.tagName, COUNT(pt.postedTagId) FROM Tag t "
+      + "LEFT JOIN PostTag pt ON pt.tag = t GROUP BY t.tagId, t.tagName")
+  List<Object[]> findTagNamesWithPostCount();
+
   // 최근 1주일 상위 20개 태그 가져오는 쿼리
   @Query("SELECT t, COUNT(pt.post) as postCount " +
           "FROM Tag t " +
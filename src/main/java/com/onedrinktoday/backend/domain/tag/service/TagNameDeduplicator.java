@@ -0,0 +1,79 @@
+package com.onedrinktoday.backend.domain.tag.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// tag.name 유니크 제약 추가 전 중복 태그 정리 - 스키마 갱신(ddl-auto)보다 먼저 실행해야 제약이 추가됨
+// 같은 이름(DB collation 기준, 대소문자/악센트 무시)의 태그 중 가장 먼저 만든 태그만 남기고
+// 게시글/팔로우/태그 이벤트 연결을 남길 태그로 옮긴 뒤 나머지 삭제 (이미 정리됐으면 조회 1회로 끝남)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagNameDeduplicator {
+
+  // 같은 태그명의 [삭제할 태그 ID, 남길 태그 ID]
+  private static final String DUPLICATES_SQL = "SELECT t.tag_id, k.keep_id FROM tag t "
+      + "JOIN (SELECT MIN(tag_id) AS keep_id, name FROM tag GROUP BY name HAVING COUNT(*) > 1) k "
+      + "ON t.name = k.name WHERE t.tag_id <> k.keep_id ORDER BY t.tag_id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @PostConstruct
+  public void deduplicateOnStartup() {
+    try {
+      long removed = deduplicate();
+      if (removed > 0) {
+        log.info("중복 태그 {}개 정리", removed);
+      }
+    } catch (DataAccessException e) {
+      // 처음 기동해 tag 테이블이 아직 없는 경우 등 - 정리할 태그가 없음
+      log.debug("중복 태그 정리 건너뜀: {}", e.getMessage());
+    }
+  }
+
+  // 삭제한 태그 수 반환 - 문장마다 커밋되지만 다시 실행해도 같은 결과가 되므로 중간에 실패해도 다음 기동 때 이어서 정리
+  public long deduplicate() {
+    List<long[]> duplicates = jdbcTemplate.query(DUPLICATES_SQL,
+        (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+
+    for (long[] duplicate : duplicates) {
+      long tagId = duplicate[0];
+      long keepId = duplicate[1];
+
+      // 남길 태그와 이미 연결된 행은 옮기면 중복되므로 삭제 후 나머지만 옮김
+      moveLinks("post_tag", "post_id", tagId, keepId);
+      moveLinks("tag_follow", "member_id", tagId, keepId);
+      moveLinks("tag_post_event", "post_id", tagId, keepId);
+      jdbcTemplate.update("DELETE FROM tag WHERE tag_id = ?", tagId);
+    }
+    return duplicates.size();
+  }
+
+  private void moveLinks(String table, String ownerColumn, long tagId, long keepId) {
+    try {
+      jdbcTemplate.update("DELETE FROM " + table + " WHERE tag_id = ? AND " + ownerColumn
+          + " IN (SELECT " + ownerColumn + " FROM (SELECT " + ownerColumn + " FROM " + table
+          + " WHERE tag_id = ?) kept)", tagId, keepId);
+      jdbcTemplate.update("UPDATE " + table + " SET tag_id = ? WHERE tag_id = ?", keepId, tagId);
+    } catch (BadSqlGrammarException e) {
+      // 아직 만들어지지 않은 테이블 (스키마 갱신 때 생성) - 옮길 연결 없음
+      log.debug("{} 연결 정리 건너뜀: {}", table, e.getMessage());
+    }
+  }
+
+  // JPA 스키마 갱신(EntityManagerFactory 생성) 전에 정리
+  @Component
+  static class SchemaUpdateDependency extends EntityManagerFactoryDependsOnPostProcessor {
+
+    SchemaUpdateDependency() {
+      super(TagNameDeduplicator.class);
+    }
+  }
+}
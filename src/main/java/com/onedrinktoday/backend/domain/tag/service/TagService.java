@@ -0,0 +1,120 @@
+package com.onedrinktoday.backend.domain.tag.service;
+
+import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteService;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.domain.tag.repository.TagRepository;
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TagService {
+
+  private final TagRepository tagRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final AutoCompleteService autoCompleteService;
+
+  // 태그명 목록을 태그로 변환 - 태그 수와 무관하게 조회 1회, 신규 태그 있으면 추가 1회 + 재조회 1회
+  // DB는 태그명을 대소문자/악센트 구분 없이 비교(collation)하므로 요청과 조회 결과도 같은 기준의 키로 맞춤
+  public List<Tag> resolveTags(Collection<String> tagNames) {
+    if (tagNames == null || tagNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    // 키가 같은 태그명은 처음 요청한 표기로 하나만 남김
+    Map<String, String> namesByKey = new LinkedHashMap<>();
+    tagNames.stream()
+        .filter(Objects::nonNull)
+        .map(TagService::normalize)
+        .filter(name -> !name.isEmpty())
+        .forEach(name -> namesByKey.putIfAbsent(tagKey(name), name));
+    if (namesByKey.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<String, Tag> tagsByKey = new HashMap<>();
+    tagRepository.findAllByTagNameIn(namesByKey.values())
+        .forEach(tag -> tagsByKey.putIfAbsent(tagKey(tag.getTagName()), tag));
+
+    List<String> missingNames = missingNames(namesByKey, tagsByKey);
+    if (!missingNames.isEmpty()) {
+      // 동시에 같은 태그가 생성되어도 name 유니크 제약으로 무시된 뒤 재조회로 가져옴
+      insertRows("INSERT IGNORE INTO tag (name) VALUES ", "(?)", missingNames.size(),
+          missingNames.toArray());
+
+      tagRepository.findAllByTagNameIn(missingNames)
+          .forEach(tag -> tagsByKey.putIfAbsent(tagKey(tag.getTagName()), tag));
+
+      // 키로 맞추지 못한 태그명(DB와 비교 규칙이 다른 문자)은 DB 비교로 한 건씩 조회 - 태그가 빠지지 않도록 함
+      missingNames(namesByKey, tagsByKey).forEach(name -> tagRepository.findByTagName(name)
+          .ifPresent(tag -> tagsByKey.put(tagKey(name), tag)));
+
+      autoCompleteService.saveAutoCompleteTags(missingNames);
+    }
+
+    // 서로 다른 키가 같은 태그로 조회된 경우 한 번만 연결
+    return namesByKey.keySet().stream()
+        .map(tagsByKey::get)
+        .filter(Objects::nonNull)
+        .filter(distinctById())
+        .toList();
+  }
+
+  // 저장/조회에 쓰는 태그명 - 앞뒤 공백 제거, 유니코드 정규화(NFC)로 입력 기기마다 다른 조합형/완성형 통일
+  public static String normalize(String tagName) {
+    return Normalizer.normalize(tagName.trim(), Normalizer.Form.NFC);
+  }
+
+  // 태그명 비교 키 - DB collation처럼 대소문자와 악센트를 무시
+  static String tagKey(String tagName) {
+    return Normalizer.normalize(tagName, Normalizer.Form.NFD)
+        .replaceAll("\\p{M}", "")
+        .toLowerCase(Locale.ROOT);
+  }
+
+  private List<String> missingNames(Map<String, String> namesByKey, Map<String, Tag> tagsByKey) {
+    return namesByKey.entrySet().stream()
+        .filter(entry -> !tagsByKey.containsKey(entry.getKey()))
+        .map(Map.Entry::getValue)
+        .toList();
+  }
+
+  private Predicate<Tag> distinctById() {
+    Set<Long> seen = new HashSet<>();
+    return tag -> seen.add(tag.getTagId());
+  }
+
+  // 게시글에 태그 연결 - 한 번의 INSERT로 post_tag 일괄 추가
+  public void linkTags(Long postId, Collection<Tag> tags) {
+    if (tags.isEmpty()) {
+      return;
+    }
+
+    Object[] params = tags.stream()
+        .flatMap(tag -> Stream.of(postId, tag.getTagId()))
+        .toArray();
+
+    insertRows("INSERT INTO post_tag (post_id, tag_id) VALUES ", "(?, ?)", tags.size(), params);
+    autoCompleteService.increaseTagPopularity(tags);
+  }
+
+  // 다중 행 INSERT 한 번으로 실행
+  private void insertRows(String prefix, String row, int rowCount, Object[] params) {
+    String values = String.join(", ", Collections.nCopies(rowCount, row));
+    jdbcTemplate.update(prefix + values, params);
+  }
+}
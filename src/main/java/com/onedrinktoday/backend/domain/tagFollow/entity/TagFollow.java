@@ -2,20 +2,26 @@ package com.onedrinktoday.backend.domain.tagFollow.entity;
 
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
-@Table(name = "tagFollow")
+// 태그별 팔로워 조회(알림 팬아웃)용 인덱스
+@Table(name = "tagFollow", indexes = @Index(name = "idx_tag_follow_tag_member",
+    columnList = "tag_id, member_id"))
 @Getter
 @Builder
 @AllArgsConstructor
@@ -33,4 +39,9 @@ public class TagFollow {
   @ManyToOne
   @JoinColumn(name = "tag_id")
   private Tag tag;
+
+  // 팔로우 이전에 작성된 태그 이벤트는 받은 알림함에 보여주지 않음 (기존 팔로우는 null)
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.onedrinktoday.backend.domain.tag.entity.Tag;
 import com.onedrinktoday.backend.domain.tagFollow.entity.TagFollow;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +19,13 @@ public interface TagFollowRepository extends JpaRepository<TagFollow, Long> {
   List<TagFollow> findByTag(Tag tag);
 
   void deleteByMember(Member member);
+
+  // 회원의 팔로우 태그와 팔로우 시각 [태그 ID, 팔로우 시각] (받은 알림함 태그 이벤트 범위)
+  @Query("SELECT tf.tag.tagId, tf.createdAt FROM TagFollow tf WHERE tf.member.id = :memberId")
+  List<Object[]> findTagIdsAndFollowedAtByMemberId(@Param("memberId") Long memberId);
+
+  // 알림을 받는 회원의 팔로우 태그 (실시간 태그 이벤트 전달 대상 판단용, 알림 수신 거부면 빈 목록)
+  @Query("SELECT tf.tag.tagId FROM TagFollow tf WHERE tf.member.id = :memberId "
+      + "AND tf.member.alarmEnabled = true")
+  List<Long> findAlarmEnabledTagIdsByMemberId(@Param("memberId") Long memberId);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import static com.onedrinktoday.backend.global.exception.ErrorCode.*;
 
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.service.MemberService;
+import com.onedrinktoday.backend.domain.notification.service.NotificationStreamService;
 import com.onedrinktoday.backend.domain.tag.entity.Tag;
 import com.onedrinktoday.backend.domain.tag.repository.TagRepository;
 import com.onedrinktoday.backend.domain.tagFollow.dto.TagFollowRequest;
@@ -22,6 +23,7 @@ public class TagFollowService {
   private final MemberService memberService;
   private final TagFollowRepository tagFollowRepository;
   private final TagRepository tagRepository;
+  private final NotificationStreamService notificationStreamService;
 
   public TagFollowResponse followTag(TagFollowRequest request) {
 
@@ -40,6 +42,8 @@ public class TagFollowService {
         .build();
 
     tagFollowRepository.save(tagFollow);
+    // 실시간 태그 이벤트 전달 대상 갱신
+    notificationStreamService.refreshFollowedTags(member.getId());
     return TagFollowResponse.from(tagFollow);
   }
 
@@ -66,5 +70,6 @@ public class TagFollowService {
     }
 
     tagFollowRepository.delete(tagFollow);
+    notificationStreamService.refreshFollowedTags(member.getId());
   }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.onedrinktoday.backend.global.cache;
 
-import com.onedrinktoday.backend.domain.post.repository.PostRepository;
+import com.onedrinktoday.backend.domain.drink.dto.DrinkRatingSummary;
+import com.onedrinktoday.backend.domain.drink.service.DrinkRatingStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
@@ -9,10 +10,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CacheService {
 
-  private final PostRepository postRepository;
+  private final DrinkRatingStatsService drinkRatingStatsService;
 
-  @Cacheable(key = "#drinkId", value = "avg-rating")
-  public Double getAverageRating(Long drinkId) {
-    return postRepository.getAverageRating(drinkId);
+  // 평점 변경 시 DrinkRatingStatsService가 커밋 후 제거
+  @Cacheable(key = "#drinkId", value = DrinkRatingStatsService.SUMMARY_CACHE)
+  public DrinkRatingSummary getRatingSummary(Long drinkId) {
+    return drinkRatingStatsService.getRatingSummary(drinkId);
   }
 }
@@ -0,0 +1,119 @@
+package com.onedrinktoday.backend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+// 1차: JVM 로컬 캐시(Caffeine), 2차: Redis 캐시
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+  private final String name;
+  private final Cache<String, ValueWrapper> localCache;
+  private final org.springframework.cache.Cache redisCache;
+  private final BiConsumer<String, String> evictionPublisher;
+
+  public TwoLevelCache(String name, Cache<String, ValueWrapper> localCache,
+      org.springframework.cache.Cache redisCache, BiConsumer<String, String> evictionPublisher) {
+    this.name = name;
+    this.localCache = localCache;
+    this.redisCache = redisCache;
+    this.evictionPublisher = evictionPublisher;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return redisCache.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    String localKey = localKey(key);
+
+    ValueWrapper local = localCache.getIfPresent(localKey);
+    if (local != null) {
+      return local;
+    }
+
+    ValueWrapper remote = redisCache.get(key);
+    if (remote != null) {
+      localCache.put(localKey, new SimpleValueWrapper(remote.get()));
+    }
+    return remote;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "캐시 값 타입이 일치하지 않습니다. [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    ValueWrapper local = localCache.getIfPresent(localKey(key));
+    if (local != null) {
+      return (T) local.get();
+    }
+
+    T value = redisCache.get(key, valueLoader);
+    localCache.put(localKey(key), new SimpleValueWrapper(value));
+    return value;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    redisCache.put(key, value);
+    localCache.put(localKey(key), new SimpleValueWrapper(value));
+  }
+
+  // 다른 노드의 로컬 캐시에도 반영되도록 Redis pub/sub으로 삭제 전파
+  @Override
+  public void evict(Object key) {
+    redisCache.evict(key);
+    localCache.invalidate(localKey(key));
+    evictionPublisher.accept(name, localKey(key));
+  }
+
+  @Override
+  public void clear() {
+    redisCache.clear();
+    localCache.invalidateAll();
+    evictionPublisher.accept(name, null);
+  }
+
+  // 다른 노드에서 전파된 삭제 메시지 처리 (로컬 캐시만 삭제)
+  public void evictLocal(String key) {
+    if (key == null) {
+      localCache.invalidateAll();
+    } else {
+      localCache.invalidate(key);
+    }
+  }
+
+  public CacheStats getLocalStats() {
+    return localCache.stats();
+  }
+
+  public long getLocalSize() {
+    return localCache.estimatedSize();
+  }
+
+  // Redis 캐시 키와 동일하게 문자열 키 사용
+  private String localKey(Object key) {
+    return String.valueOf(key);
+  }
+}
@@ -0,0 +1,104 @@
+package com.onedrinktoday.backend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// 로컬 캐시 + Redis 캐시 2단계 캐시 매니저, 삭제는 Redis pub/sub으로 전 노드에 전파
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+  public static final String EVICTION_CHANNEL = "cache:evict";
+
+  // 메시지 형식: {노드ID}|{캐시명}|{키}, 키가 비어 있으면 캐시 전체 삭제
+  private static final String DELIMITER = "|";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final CacheManager redisCacheManager;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final long localMaximumSize;
+  private final Duration localTtl;
+  private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+  public TwoLevelCacheManager(CacheManager redisCacheManager,
+      RedisTemplate<String, String> redisTemplate, long localMaximumSize, Duration localTtl) {
+    this.redisCacheManager = redisCacheManager;
+    this.redisTemplate = redisTemplate;
+    this.localMaximumSize = localMaximumSize;
+    this.localTtl = localTtl;
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return caches.keySet();
+  }
+
+  public Map<String, TwoLevelCache> getCaches() {
+    return caches;
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+
+    // 형식이 다르거나 자신이 보낸 메시지는 무시
+    if (parts.length < 3 || nodeId.equals(parts[0])) {
+      return;
+    }
+
+    TwoLevelCache cache = caches.get(parts[1]);
+    if (cache != null) {
+      cache.evictLocal(parts[2].isEmpty() ? null : parts[2]);
+    }
+  }
+
+  // 로컬 캐시 적중률 주기적 기록
+  @Scheduled(fixedDelayString = "${cache.local.stats-interval:60000}")
+  public void logLocalStats() {
+    caches.forEach((name, cache) -> {
+      CacheStats stats = cache.getLocalStats();
+      log.info("로컬 캐시 [{}] size={}, hit={}, miss={}, hitRate={}, eviction={}", name,
+          cache.getLocalSize(), stats.hitCount(), stats.missCount(),
+          String.format("%.2f", stats.hitRate()), stats.evictionCount());
+    });
+  }
+
+  private TwoLevelCache createCache(String name) {
+    com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> localCache =
+        Caffeine.newBuilder()
+            .maximumSize(localMaximumSize)
+            .expireAfterWrite(localTtl)
+            .recordStats()
+            .build();
+
+    return new TwoLevelCache(name, localCache, redisCacheManager.getCache(name),
+        this::publishEviction);
+  }
+
+  private void publishEviction(String cacheName, String key) {
+    try {
+      redisTemplate.convertAndSend(EVICTION_CHANNEL,
+          nodeId + DELIMITER + cacheName + DELIMITER + (key != null ? key : ""));
+    } catch (RuntimeException e) {
+      // 전파 실패 시 다른 노드는 로컬 TTL 만료 후 갱신됨
+      log.warn("캐시 삭제 전파 실패 [{}:{}]: {}", cacheName, key, e.getMessage());
+    }
+  }
+}
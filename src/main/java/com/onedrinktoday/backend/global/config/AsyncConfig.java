@@ -0,0 +1,101 @@
+package com.onedrinktoday.backend.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+  public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+  public static final String MAIL_EXECUTOR = "mailExecutor";
+  public static final String MAIL_DELIVERY_EXECUTOR = "mailDeliveryExecutor";
+  public static final String REINDEX_EXECUTOR = "reindexExecutor";
+  // @Async 기본 실행기 이름 - 실행기 빈이 여러 개면 Spring은 이 이름의 빈을 기본값으로 사용
+  public static final String TASK_EXECUTOR = "taskExecutor";
+
+  // @Async 기본 스레드 풀 - 실행기를 지정하지 않은 @Async 메서드(기동 시 메일 작업 재개 등)가 사용
+  // 없으면 스레드 수 제한이 없는 SimpleAsyncTaskExecutor로 실행됨
+  @Bean(name = TASK_EXECUTOR)
+  public ThreadPoolTaskExecutor taskExecutor(
+      @Value("${async.executor.core-size:2}") int coreSize,
+      @Value("${async.executor.max-size:4}") int maxSize,
+      @Value("${async.executor.queue-capacity:100}") int queueCapacity) {
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(coreSize);
+    executor.setMaxPoolSize(maxSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("async-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  // 알림 전용 스레드 풀 - 작업 큐가 가득 차면 호출 스레드에서 실행해 유입 속도를 제한
+  @Bean(name = NOTIFICATION_EXECUTOR)
+  public ThreadPoolTaskExecutor notificationExecutor(
+      @Value("${notification.executor.core-size:2}") int coreSize,
+      @Value("${notification.executor.max-size:4}") int maxSize,
+      @Value("${notification.executor.queue-capacity:1000}") int queueCapacity) {
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(coreSize);
+    executor.setMaxPoolSize(maxSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("notification-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  // 메일 발송 작업 스레드 - 발송 대기 메일 조회와 속도 제한 대기를 스케줄러 스레드 대신 맡음 (한 번에 하나만 실행)
+  @Bean(name = MAIL_DELIVERY_EXECUTOR)
+  public ThreadPoolTaskExecutor mailDeliveryExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(1);
+    executor.setThreadNamePrefix("mail-delivery-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  // 검색 재색인 스레드 - 전체 복사를 요청 스레드 대신 맡음 (노드 간 잠금으로 한 번에 하나만 실행, 대기열 없음)
+  @Bean(name = REINDEX_EXECUTOR)
+  public ThreadPoolTaskExecutor reindexExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("reindex-");
+    executor.initialize();
+    return executor;
+  }
+
+  // 메일 발송 스레드 풀 - 스레드마다 SMTP 연결 하나로 메일 묶음을 보냄, 동시 연결 수 = concurrency
+  @Bean(name = MAIL_EXECUTOR)
+  public ThreadPoolTaskExecutor mailExecutor(
+      @Value("${mail.delivery.concurrency:4}") int concurrency,
+      @Value("${mail.delivery.queue-capacity:100}") int queueCapacity) {
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("mail-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+}
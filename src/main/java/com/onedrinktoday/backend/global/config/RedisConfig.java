@@ -1,7 +1,12 @@
 package com.onedrinktoday.backend.global.config;
 
+import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteService;
+import com.onedrinktoday.backend.domain.drink.service.DrinkRatingStatsService;
+import com.onedrinktoday.backend.domain.notification.service.NotificationStreamService;
+import com.onedrinktoday.backend.global.cache.TwoLevelCacheManager;
+import com.onedrinktoday.backend.global.security.MemberDetailService;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -10,6 +15,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -34,18 +41,56 @@ public class RedisConfig {
     return redisTemplate;
   }
 
+  @Value("${cache.local.maximum-size:10000}")
+  private long localCacheMaximumSize;
+
+  @Value("${cache.local.ttl:60s}")
+  private Duration localCacheTtl;
+
+  @Value("${cache.drink-rating-summary.ttl:1h}")
+  private Duration ratingSummaryTtl;
+
+  // 로컬(JVM) 캐시를 Redis 캐시 앞에 두는 2단계 캐시 매니저
   @Bean
-  public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+  public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+      RedisTemplate<String, String> redisTemplate) {
     RedisCacheConfiguration conf = RedisCacheConfiguration.defaultCacheConfig()
         .serializeKeysWith(
             RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
         .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
             new GenericJackson2JsonRedisSerializer()));
 
-    return RedisCacheManager.RedisCacheManagerBuilder
+    RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
         .fromConnectionFactory(redisConnectionFactory)
         .cacheDefaults(conf)
+        // 평점 캐시는 제거가 누락되더라도 만료 시간 뒤 집계 테이블 값으로 다시 채워짐
+        .withCacheConfiguration(DrinkRatingStatsService.SUMMARY_CACHE,
+            conf.entryTtl(ratingSummaryTtl))
         .build();
+    redisCacheManager.initializeCaches();
+
+    return new TwoLevelCacheManager(redisCacheManager, redisTemplate, localCacheMaximumSize,
+        localCacheTtl);
+  }
+
+  // 다른 노드의 캐시(2단계 캐시, 인증 회원 캐시) 삭제 메시지, 실시간 알림 메시지, 자동완성 변경 메시지 구독
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager,
+      NotificationStreamService notificationStreamService,
+      AutoCompleteService autoCompleteService, MemberDetailService memberDetailService) {
+
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(cacheManager,
+        new ChannelTopic(TwoLevelCacheManager.EVICTION_CHANNEL));
+    container.addMessageListener(memberDetailService,
+        new ChannelTopic(TwoLevelCacheManager.EVICTION_CHANNEL));
+    container.addMessageListener(notificationStreamService,
+        new ChannelTopic(NotificationStreamService.CHANNEL));
+    container.addMessageListener(autoCompleteService,
+        new ChannelTopic(AutoCompleteService.CHANNEL));
+    return container;
   }
 
   @Bean
@@ -0,0 +1,38 @@
+package com.onedrinktoday.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+  // @Scheduled 기본 스케줄러 이름 - 스케줄러 빈이 여러 개면 Spring은 이 이름의 빈을 기본값으로 사용
+  public static final String TASK_SCHEDULER = "taskScheduler";
+  public static final String NOTIFICATION_HEARTBEAT_SCHEDULER = "notificationHeartbeatScheduler";
+
+  // 예약 작업 스레드 풀 - 기본값(스레드 1개)이면 오래 걸리는 작업 하나가 나머지 작업을 모두 밀어냄
+  @Bean(name = TASK_SCHEDULER)
+  public ThreadPoolTaskScheduler taskScheduler(
+      @Value("${scheduling.pool-size:4}") int poolSize) {
+
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("scheduling-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(30);
+    scheduler.initialize();
+    return scheduler;
+  }
+
+  // SSE 하트비트 전용 스케줄러 - 다른 예약 작업이 밀려도 프록시 유휴 시간 안에 하트비트를 보냄
+  @Bean(name = NOTIFICATION_HEARTBEAT_SCHEDULER)
+  public ThreadPoolTaskScheduler notificationHeartbeatScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(1);
+    scheduler.setThreadNamePrefix("sse-heartbeat-");
+    scheduler.initialize();
+    return scheduler;
+  }
+}
@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
 
   CONVERT_ERROR("변환 에러", HttpStatus.BAD_REQUEST),
+  INVALID_SORT("지원하지 않는 정렬 기준입니다.", HttpStatus.BAD_REQUEST),
   DRINK_NOT_FOUND("특산주 정보를 찾을수 없습니다.", HttpStatus.NOT_FOUND),
   DECLARATION_NOT_FOUND("신고 정보를 찾을수 없습니다.", HttpStatus.NOT_FOUND),
   MEMBER_NOT_FOUND("멤버를 찾을수 없습니다.", HttpStatus.NOT_FOUND),
@@ -30,7 +31,9 @@ public enum ErrorCode {
   ACCESS_DENIED("접근이 거부되었습니다.", HttpStatus.FORBIDDEN),
   ANNOUNCEMENT_NOT_FOUND("공지사항을 찾을수 없습니다.", HttpStatus.NOT_FOUND),
   IMAGE_UPLOAD_FAIL("사진 업로드 실패", HttpStatus.BAD_REQUEST),
-  LINK_NOT_FOUND("링크를 찾을 수가 없습니다.", HttpStatus.NOT_FOUND);
+  LINK_NOT_FOUND("링크를 찾을 수가 없습니다.", HttpStatus.NOT_FOUND),
+  REINDEX_IN_PROGRESS("이미 재색인이 진행 중입니다.", HttpStatus.CONFLICT),
+  REINDEX_JOB_NOT_FOUND("재색인 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
 
   private final String message;
   private final HttpStatus status;
@@ -0,0 +1,70 @@
+package com.onedrinktoday.backend.global.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// 노드 간 잠금 (Redis) - 획득할 때 받은 토큰을 가진 쪽만 연장/해제할 수 있음
+// 만료된 뒤 다른 노드가 잡은 잠금을 지우지 않도록 비교와 삭제를 스크립트 하나로 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLockService {
+
+  // 값이 토큰과 같을 때만 삭제
+  static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+          + "return 0", Long.class);
+
+  // 값이 토큰과 같을 때만 만료 시간 연장
+  static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+          + "return 0", Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  // 잠금 획득, 토큰 반환 - 다른 노드가 잡고 있거나 Redis 장애면 null (중복 실행을 피하기 위해 실행하지 않음)
+  public String tryLock(String key, Duration ttl) {
+    String token = UUID.randomUUID().toString();
+    return tryLock(key, token, ttl) ? token : null;
+  }
+
+  // 지정한 값을 토큰으로 잠금 획득 - 잠금 값 자체를 다른 노드가 읽어야 할 때 사용 (재색인 대상 인덱스 이름 등)
+  public boolean tryLock(String key, String token, Duration ttl) {
+    try {
+      return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl));
+    } catch (DataAccessException e) {
+      log.warn("잠금 {} 획득 실패: {}", key, e.getMessage());
+      return false;
+    }
+  }
+
+  // 잠금 연장 - 이미 만료돼 다른 노드가 잡았으면 false
+  public boolean renew(String key, String token, Duration ttl) {
+    try {
+      Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token,
+          String.valueOf(ttl.toMillis()));
+      return renewed != null && renewed == 1;
+    } catch (DataAccessException e) {
+      log.warn("잠금 {} 연장 실패: {}", key, e.getMessage());
+      return false;
+    }
+  }
+
+  public void unlock(String key, String token) {
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+    } catch (DataAccessException e) {
+      // 해제하지 못한 잠금은 만료 시간이 지나면 풀림
+      log.warn("잠금 {} 해제 실패: {}", key, e.getMessage());
+    }
+  }
+}
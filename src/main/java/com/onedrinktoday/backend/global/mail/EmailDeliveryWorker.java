@@ -0,0 +1,341 @@
+package com.onedrinktoday.backend.global.mail;
+
+import static com.onedrinktoday.backend.global.config.AsyncConfig.MAIL_DELIVERY_EXECUTOR;
+import static com.onedrinktoday.backend.global.config.AsyncConfig.MAIL_EXECUTOR;
+
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 메일 발송 작업 - 발송 대기 메일을 batch-size 단위로 묶어 send(MimeMessage...) 한 번(SMTP 연결 하나)에 보내고,
+// concurrency개의 묶음을 동시에 발송. 초당 rate-per-second건을 넘지 않도록 묶음마다 발송 시점을 예약
+// 실패한 메일은 시도 횟수에 따라 간격을 늘려 다시 보내고, max-attempts번 실패하면 포기
+// 같은 메일이 중복 발송되지 않도록 한 번에 한 노드만 발송 (Redis 잠금)
+// 발송 대기(속도 제한)가 공용 스케줄러 스레드를 막지 않도록 발송 작업은 전용 스레드에서 실행
+@Slf4j
+@Component
+public class EmailDeliveryWorker {
+
+  static final String LOCK_KEY = "mail:delivery:lock";
+  private static final String CHARSET = "UTF-8";
+  private static final int ERROR_LENGTH = 500;
+  private static final int PURGE_BATCH_SIZE = 500;
+  // 포기한 메일 본문에는 비밀번호 재설정 링크 같은 토큰이 있을 수 있으므로 지움
+  static final String REDACTED_BODY = "";
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final JavaMailSender mailSender;
+  private final RedisLockService redisLockService;
+  private final Executor deliveryExecutor;
+  private final Executor mailExecutor;
+  private final int batchSize;
+  private final int concurrency;
+  private final long sendIntervalNanos;
+  private final int maxAttempts;
+  private final long maxDrainMillis;
+  private final Duration retryBackoff;
+  private final Duration maxBackoff;
+  private final Duration failedRetention;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final Object rateLock = new Object();
+  private long nextSendAt = System.nanoTime();
+
+  // 지표 - 누적 발송/실패(재시도 포함)/포기 메일 수, SMTP 연결(묶음) 수, 직전 실행 발송 수와 소요 시간
+  private final AtomicLong totalSent = new AtomicLong();
+  private final AtomicLong totalFailed = new AtomicLong();
+  private final AtomicLong totalAbandoned = new AtomicLong();
+  private final AtomicLong totalBatches = new AtomicLong();
+  private final AtomicLong lastRunSent = new AtomicLong();
+  private final AtomicLong lastRunMillis = new AtomicLong();
+
+  public EmailDeliveryWorker(EmailOutboxRepository emailOutboxRepository,
+      JavaMailSender mailSender, RedisLockService redisLockService,
+      @Qualifier(MAIL_DELIVERY_EXECUTOR) Executor deliveryExecutor,
+      @Qualifier(MAIL_EXECUTOR) Executor mailExecutor,
+      @Value("${mail.delivery.batch-size:50}") int batchSize,
+      @Value("${mail.delivery.concurrency:4}") int concurrency,
+      @Value("${mail.delivery.rate-per-second:20}") int ratePerSecond,
+      @Value("${mail.delivery.max-attempts:8}") int maxAttempts,
+      @Value("${mail.delivery.max-drain:50s}") Duration maxDrain,
+      @Value("${mail.delivery.retry-backoff:30s}") Duration retryBackoff,
+      @Value("${mail.delivery.max-backoff:6h}") Duration maxBackoff,
+      @Value("${mail.outbox.failed-retention:7d}") Duration failedRetention) {
+    this.emailOutboxRepository = emailOutboxRepository;
+    this.mailSender = mailSender;
+    this.redisLockService = redisLockService;
+    this.deliveryExecutor = deliveryExecutor;
+    this.mailExecutor = mailExecutor;
+    this.batchSize = batchSize;
+    this.concurrency = concurrency;
+    // 0 이하면 발송 속도를 제한하지 않음
+    this.sendIntervalNanos = ratePerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / ratePerSecond : 0;
+    this.maxAttempts = maxAttempts;
+    this.maxDrainMillis = maxDrain.toMillis();
+    this.retryBackoff = retryBackoff;
+    this.maxBackoff = maxBackoff;
+    this.failedRetention = failedRetention;
+  }
+
+  // 스케줄러 스레드는 발송 작업을 넘기기만 함 - 이전 발송이 아직 진행 중이면 건너뜀
+  @Scheduled(fixedDelayString = "${mail.delivery.poll-interval:2000}")
+  public void drain() {
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      deliveryExecutor.execute(() -> {
+        try {
+          drainLocked();
+        } finally {
+          running.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      running.set(false);
+      log.warn("메일 발송 작업 시작 실패: {}", e.getMessage());
+    }
+  }
+
+  // 최대 시도 횟수를 넘겨 포기한 메일을 보관 기간이 지나면 삭제
+  @Scheduled(cron = "${mail.outbox.purge-cron:0 40 4 * * *}")
+  public void purgeFailed() {
+    purgeFailed(LocalDateTime.now());
+  }
+
+  // 기준 시각에서 보관 기간을 뺀 시각 이전에 쌓인 포기 메일 삭제, 삭제한 메일 수 반환
+  public long purgeFailed(LocalDateTime now) {
+    LocalDateTime before = now.minus(failedRetention);
+    long purged = 0;
+
+    while (true) {
+      List<Long> ids = emailOutboxRepository.findFailedIdsBefore(before,
+          PageRequest.of(0, PURGE_BATCH_SIZE));
+      if (ids.isEmpty()) {
+        break;
+      }
+
+      emailOutboxRepository.deleteAllByIdInBatch(ids);
+      purged += ids.size();
+      if (ids.size() < PURGE_BATCH_SIZE) {
+        break;
+      }
+    }
+
+    if (purged > 0) {
+      log.info("발송 포기 메일 {}건 삭제 (기준 {})", purged, before);
+    }
+    return purged;
+  }
+
+  public long getTotalSent() {
+    return totalSent.get();
+  }
+
+  public long getTotalFailed() {
+    return totalFailed.get();
+  }
+
+  public long getTotalAbandoned() {
+    return totalAbandoned.get();
+  }
+
+  public long getTotalBatches() {
+    return totalBatches.get();
+  }
+
+  public long getLastRunSent() {
+    return lastRunSent.get();
+  }
+
+  public long getLastRunMillis() {
+    return lastRunMillis.get();
+  }
+
+  private void drainLocked() {
+    // 잠금 유지 시간은 한 번의 발송 시간보다 길게 (노드가 죽으면 만료 후 다른 노드가 이어 받음)
+    String token = redisLockService.tryLock(LOCK_KEY, Duration.ofMillis(maxDrainMillis * 2));
+    if (token == null) {
+      return;
+    }
+
+    try {
+      drainBatches();
+    } finally {
+      redisLockService.unlock(LOCK_KEY, token);
+    }
+  }
+
+  private void drainBatches() {
+    long start = System.currentTimeMillis();
+    long deadline = start + maxDrainMillis;
+    int pageSize = batchSize * concurrency;
+    AtomicLong sent = new AtomicLong();
+
+    while (System.currentTimeMillis() < deadline) {
+      List<EmailOutbox> due = emailOutboxRepository.findDue(LocalDateTime.now(),
+          PageRequest.of(0, pageSize));
+      if (due.isEmpty()) {
+        break;
+      }
+
+      List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+      for (int from = 0; from < due.size(); from += batchSize) {
+        List<EmailOutbox> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+        deliveries.add(CompletableFuture.runAsync(() -> sent.addAndGet(deliver(batch)),
+            mailExecutor));
+      }
+      CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+
+      if (due.size() < pageSize) {
+        break;
+      }
+    }
+
+    if (sent.get() == 0) {
+      return;
+    }
+
+    long elapsed = System.currentTimeMillis() - start;
+    lastRunSent.set(sent.get());
+    lastRunMillis.set(elapsed);
+    log.info("메일 발송 완료: sent={}, elapsedMs={}, perSecond={}, total={}, failed={}, abandoned={}",
+        sent.get(), elapsed, elapsed > 0 ? sent.get() * 1000 / elapsed : sent.get(),
+        totalSent.get(), totalFailed.get(), totalAbandoned.get());
+  }
+
+  // 한 묶음을 SMTP 연결 하나로 보내고 결과 반영, 발송한 메일 수 반환
+  private int deliver(List<EmailOutbox> batch) {
+    // 실패 목록은 메시지 객체로 돌아오므로 객체 동일성으로 찾음 (쌓인 순서대로 발송)
+    Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+    List<MimeMessage> ordered = new ArrayList<>(batch.size());
+    Map<EmailOutbox, String> errors = new IdentityHashMap<>();
+    for (EmailOutbox outbox : batch) {
+      try {
+        MimeMessage message = toMimeMessage(outbox);
+        messages.put(message, outbox);
+        ordered.add(message);
+      } catch (MessagingException e) {
+        errors.put(outbox, e.getMessage());
+      }
+    }
+
+    if (!messages.isEmpty()) {
+      reserve(messages.size());
+      try {
+        mailSender.send(ordered.toArray(MimeMessage[]::new));
+      } catch (MailSendException e) {
+        // 연결 실패 시에도 모든 메일이 실패 목록에 담겨 옴
+        e.getFailedMessages().forEach((message, cause) -> {
+          EmailOutbox outbox = messages.get(message);
+          if (outbox != null) {
+            errors.put(outbox, cause.getMessage());
+          }
+        });
+      } catch (MailException e) {
+        messages.values().forEach(outbox -> errors.put(outbox, e.getMessage()));
+      }
+      totalBatches.incrementAndGet();
+    }
+
+    List<Long> sentIds = new ArrayList<>();
+    List<EmailOutbox> retries = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+    for (EmailOutbox outbox : batch) {
+      if (!errors.containsKey(outbox)) {
+        sentIds.add(outbox.getId());
+        continue;
+      }
+
+      outbox.setAttempts(outbox.getAttempts() + 1);
+      outbox.setLastError(truncate(errors.get(outbox)));
+      if (outbox.getAttempts() >= maxAttempts) {
+        outbox.setFailed(true);
+        outbox.setBody(REDACTED_BODY);
+        totalAbandoned.incrementAndGet();
+        log.warn("메일 {} 발송 포기 ({}회 실패): {}", outbox.getId(), outbox.getAttempts(),
+            outbox.getLastError());
+      } else {
+        outbox.setNextAttemptAt(now.plus(backoff(outbox.getAttempts())));
+      }
+      retries.add(outbox);
+    }
+
+    emailOutboxRepository.deleteAllByIdInBatch(sentIds);
+    if (!retries.isEmpty()) {
+      emailOutboxRepository.saveAll(retries);
+    }
+
+    totalSent.addAndGet(sentIds.size());
+    totalFailed.addAndGet(errors.size());
+    return sentIds.size();
+  }
+
+  private MimeMessage toMimeMessage(EmailOutbox outbox) throws MessagingException {
+    MimeMessage message = mailSender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(message, outbox.isHtml(), CHARSET);
+    helper.setTo(outbox.getRecipient());
+    helper.setSubject(outbox.getSubject());
+    helper.setText(outbox.getBody(), outbox.isHtml());
+    return message;
+  }
+
+  // count건을 보낼 시점을 예약하고 그때까지 대기 - 동시에 보내는 묶음들이 합쳐서 제한 속도를 넘지 않음
+  private void reserve(int count) {
+    if (sendIntervalNanos == 0) {
+      return;
+    }
+
+    long waitNanos;
+    synchronized (rateLock) {
+      long now = System.nanoTime();
+      long sendAt = Math.max(now, nextSendAt);
+      nextSendAt = sendAt + sendIntervalNanos * count;
+      waitNanos = sendAt - now;
+    }
+
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private String truncate(String error) {
+    if (error == null) {
+      return null;
+    }
+    return error.length() > ERROR_LENGTH ? error.substring(0, ERROR_LENGTH) : error;
+  }
+
+  // 1, 2, 4, 8 ... 배로 늘리되 max-backoff를 넘지 않음
+  Duration backoff(int attempts) {
+    Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+  }
+}
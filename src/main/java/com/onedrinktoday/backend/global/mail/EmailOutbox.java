@@ -0,0 +1,72 @@
+package com.onedrinktoday.backend.global.mail;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+// 발송 대기 메일 - 요청 트랜잭션 안에서 저장하고 발송 작업이 읽어 묶음으로 보냄
+// 발송에 성공하면 삭제, 최대 시도 횟수를 넘기면 본문을 지우고 failed로 남겨 보관 기간 동안 확인할 수 있게 함
+@Entity
+@Table(name = "email_outbox",
+    indexes = @Index(name = "idx_email_outbox_failed_next_attempt_at_id",
+        columnList = "failed, next_attempt_at, id"))
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmailOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private String recipient;
+
+  @Column(nullable = false)
+  private String subject;
+
+  @Column(columnDefinition = "TEXT", nullable = false)
+  private String body;
+
+  @Column(nullable = false)
+  private boolean html;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(nullable = false)
+  private boolean failed;
+
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+  @CreationTimestamp
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  public static EmailOutbox of(String recipient, String subject, String body, boolean html) {
+    return EmailOutbox.builder()
+        .recipient(recipient)
+        .subject(subject)
+        .body(body)
+        .html(html)
+        .nextAttemptAt(LocalDateTime.now())
+        .build();
+  }
+}
@@ -0,0 +1,25 @@
+package com.onedrinktoday.backend.global.mail;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+  // 발송 시각이 된 메일을 쌓인 순서대로 조회 (포기한 메일 제외)
+  @Query("SELECT o FROM EmailOutbox o WHERE o.failed = false AND o.nextAttemptAt <= :now "
+      + "ORDER BY o.id")
+  List<EmailOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+  long countByFailedTrue();
+
+  // 보관 기간이 지난 포기 메일 ID
+  @Query("SELECT o.id FROM EmailOutbox o WHERE o.failed = true AND o.createdAt < :before "
+      + "ORDER BY o.id")
+  List<Long> findFailedIdsBefore(@Param("before") LocalDateTime before, Pageable pageable);
+}
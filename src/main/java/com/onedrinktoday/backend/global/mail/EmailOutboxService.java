@@ -0,0 +1,20 @@
+package com.onedrinktoday.backend.global.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 메일 발송 요청 - 바로 보내지 않고 발송 대기 테이블에 저장 (실제 발송은 EmailDeliveryWorker)
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+  private final EmailOutboxRepository emailOutboxRepository;
+
+  public void enqueue(String to, String subject, String body) {
+    emailOutboxRepository.save(EmailOutbox.of(to, subject, body, false));
+  }
+
+  public void enqueueHtml(String to, String subject, String body) {
+    emailOutboxRepository.save(EmailOutbox.of(to, subject, body, true));
+  }
+}
@@ -35,9 +35,12 @@ public class JwtFilter extends OncePerRequestFilter {
     if (StringUtils.hasText(token)) {
 
       try {
-        //getEmail 실행시 유효성 체크 후 email 정보 반환
+        //parse 실행시 유효성 체크 후 클레임 반환, 컨트롤러에서 재파싱하지 않도록 요청에 저장
+        TokenClaims tokenClaims = jwtProvider.parse(token);
+        request.setAttribute(TokenClaims.REQUEST_ATTRIBUTE, tokenClaims);
+
         MemberDetail memberDetail = memberDetailService.loadUserByUsername(
-            jwtProvider.getEmail(token));
+            tokenClaims.getEmail());
 
         Authentication auth =
             new UsernamePasswordAuthenticationToken(
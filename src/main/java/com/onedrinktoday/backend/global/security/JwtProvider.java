@@ -1,9 +1,14 @@
 package com.onedrinktoday.backend.global.security;
 
 import com.onedrinktoday.backend.global.type.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -14,14 +19,25 @@ import org.springframework.stereotype.Service;
 public class JwtProvider {
 
   private final SecretKey secretKey;
+  // 스레드 안전한 파서를 한 번만 생성해 재사용
+  private final JwtParser parser;
+  // 최근 검증한 토큰 → 클레임 캐시 (토큰 만료 시각 또는 최대 보관 시간 중 이른 시점에 제거)
+  private final Cache<String, TokenClaims> verifiedTokens;
   private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000L * 60 * 60 * 3; // 엑세스 토큰 기한
   private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000L * 60 * 60 * 24 * 7; // 리프레시 토큰 기한
   private static final long PASSWORD_RESET_EXPIRE_TIME = 1000L * 60 * 30; // 비밀번호 재설정 토큰 기한
 
 
-  public JwtProvider(@Value("${spring.jwt.secret}") String secret) {
+  public JwtProvider(@Value("${spring.jwt.secret}") String secret,
+      @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize,
+      @Value("${jwt.verified-cache.ttl:10m}") Duration verifiedCacheTtl) {
     this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
         Jwts.SIG.HS256.key().build().getAlgorithm());
+    this.parser = Jwts.parser().verifyWith(secretKey).build();
+    this.verifiedTokens = Caffeine.newBuilder()
+        .maximumSize(verifiedCacheMaximumSize)
+        .expireAfter(new TokenExpiry(verifiedCacheTtl))
+        .build();
   }
 
   public String createAccessToken(Long memberId, String email, Role role) {
@@ -58,18 +74,60 @@ public class JwtProvider {
         .compact();
   }
 
+  // 토큰 검증 후 클레임 반환 - 최근 검증한 토큰은 서명 검증, 디코딩 생략
+  // (토큰 전체 문자열을 키로 사용해 서명만 같은 변조 토큰은 캐시에 걸리지 않음)
+  public TokenClaims parse(String token) {
+    TokenClaims cached = verifiedTokens.getIfPresent(token);
+    if (cached != null && !cached.isExpired()) {
+      return cached;
+    }
+
+    // 만료된 토큰은 파서가 ExpiredJwtException 발생
+    Claims claims = parser.parseSignedClaims(token).getPayload();
+    String role = claims.get("role", String.class);
+
+    TokenClaims tokenClaims = new TokenClaims(
+        claims.getSubject(),
+        claims.get("member_id", Long.class),  // member_id 추출
+        role != null ? Role.valueOf(role) : null,
+        claims.getExpiration());
+
+    verifiedTokens.put(token, tokenClaims);
+    return tokenClaims;
+  }
+
   public String getEmail(String token) {
-    return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-        .getSubject();
+    return parse(token).getEmail();
   }
 
   public Long getMemberId(String token) {
-    Claims claims = Jwts.parser()
-        .verifyWith(secretKey)
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+    return parse(token).getMemberId();
+  }
+
+  private record TokenExpiry(Duration maxTtl) implements Expiry<String, TokenClaims> {
+
+    @Override
+    public long expireAfterCreate(String token, TokenClaims claims, long currentTime) {
+      long maxTtlNanos = maxTtl.toNanos();
+      if (claims.getExpiration() == null) {
+        return maxTtlNanos;
+      }
+
+      long untilExpiration = Duration.ofMillis(
+          claims.getExpiration().getTime() - System.currentTimeMillis()).toNanos();
+      return Math.max(0, Math.min(maxTtlNanos, untilExpiration));
+    }
+
+    @Override
+    public long expireAfterUpdate(String token, TokenClaims claims, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(token, claims, currentTime);
+    }
 
-    return claims.get("member_id", Long.class);  // member_id 추출
+    @Override
+    public long expireAfterRead(String token, TokenClaims claims, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
   }
 }
@@ -1,27 +1,117 @@
 package com.onedrinktoday.backend.global.security;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.onedrinktoday.backend.domain.member.dto.MemberResponse;
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.repository.MemberRepository;
+import com.onedrinktoday.backend.global.cache.TwoLevelCacheManager;
 import com.onedrinktoday.backend.global.exception.CustomException;
 import com.onedrinktoday.backend.global.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class MemberDetailService implements UserDetailsService {
+public class MemberDetailService implements UserDetailsService, MessageListener {
 
+  // 캐시 삭제 채널(TwoLevelCacheManager.EVICTION_CHANNEL)에서 이 캐시를 가리키는 이름
+  public static final String CACHE_NAME = "principal";
+
+  private static final String DELIMITER = "|";
+
+  private final String nodeId = UUID.randomUUID().toString();
   private final MemberRepository memberRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+
+  // 인증된 회원 정보 캐시 - 토큰이 있는 요청마다 회원 조회 쿼리를 실행하지 않도록 짧은 TTL 동안 보관
+  // (회원 정보 변경/탈퇴 커밋 후 이 노드에서 제거하고 cache:evict 채널로 다른 노드에도 전파)
+  private final Cache<String, MemberDetail> principalCache;
+
+  public MemberDetailService(MemberRepository memberRepository,
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${security.principal-cache.ttl:30s}") Duration ttl,
+      @Value("${security.principal-cache.maximum-size:10000}") long maximumSize) {
+    this.memberRepository = memberRepository;
+    this.redisTemplate = redisTemplate;
+    this.principalCache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
 
   @Override
   public MemberDetail loadUserByUsername(String email) {
 
+    return principalCache.get(email, this::load);
+  }
+
+  // 회원 정보, 권한 변경 또는 탈퇴 시 캐시 제거
+  // 커밋 전에 지우면 다른 요청이 변경 전 회원 정보를 다시 캐시할 수 있으므로 커밋 후 제거
+  public void evict(String email) {
+    afterCommit(() -> {
+      principalCache.invalidate(email);
+      publishEviction(email);
+    });
+  }
+
+  // 다른 노드에서 전파된 캐시 삭제 메시지 처리
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+
+    // 형식이 다르거나 자신이 보낸 메시지, 다른 캐시의 메시지는 무시
+    if (parts.length < 3 || nodeId.equals(parts[0]) || !CACHE_NAME.equals(parts[1])) {
+      return;
+    }
+
+    if (parts[2].isEmpty()) {
+      principalCache.invalidateAll();
+    } else {
+      principalCache.invalidate(parts[2]);
+    }
+  }
+
+  private MemberDetail load(String email) {
+
     Member member = memberRepository.findByEmail(email)
         .orElseThrow(() -> new CustomException(ErrorCode.EMAIL_EXIST));
 
     return new MemberDetail(MemberResponse.from(member));
   }
+
+  private void publishEviction(String email) {
+    try {
+      redisTemplate.convertAndSend(TwoLevelCacheManager.EVICTION_CHANNEL,
+          nodeId + DELIMITER + CACHE_NAME + DELIMITER + email);
+    } catch (RuntimeException e) {
+      // 전파 실패 시 다른 노드는 TTL 만료 후 갱신됨
+      log.warn("회원 캐시 삭제 전파 실패 [{}]: {}", email, e.getMessage());
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+      return;
+    }
+
+    action.run();
+  }
 }
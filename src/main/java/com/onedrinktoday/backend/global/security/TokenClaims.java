@@ -0,0 +1,23 @@
+package com.onedrinktoday.backend.global.security;
+
+import com.onedrinktoday.backend.global.type.Role;
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검증이 끝난 토큰의 클레임 - JwtFilter가 요청 속성에 저장해 컨트롤러에서 재파싱 없이 사용
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+
+  public static final String REQUEST_ATTRIBUTE = "tokenClaims";
+
+  private final String email;
+  private final Long memberId;
+  private final Role role;
+  private final Date expiration;
+
+  public boolean isExpired() {
+    return expiration != null && expiration.before(new Date());
+  }
+}
@@ -1,10 +1,18 @@
 package com.onedrinktoday.backend.global.type;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 알림 종류별 기본 보관 기간(일) - notification.retention.{종류 소문자}-days로 변경 가능
+@Getter
+@RequiredArgsConstructor
 public enum NotificationType {
-  FOLLOW,
-  COMMENT,
-  DECLARATION,
-  REJECTION,
-  REGISTRATION,
-  REMOVED
-}
\ No newline at end of file
+  FOLLOW(30),
+  COMMENT(90),
+  DECLARATION(180),
+  REJECTION(180),
+  REGISTRATION(180),
+  REMOVED(365);
+
+  private final int retentionDays;
+}
@@ -0,0 +1,121 @@
+package com.onedrinktoday.backend.domain.autoComplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteChange.Target;
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.domain.tag.repository.TagRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class AutoCompleteServiceTest {
+
+  @Mock
+  private TagRepository tagRepository;
+
+  @Mock
+  private DrinkRepository drinkRepository;
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private AutoCompleteService autoCompleteService;
+
+  @BeforeEach
+  void setUp() {
+    autoCompleteService = new AutoCompleteService(tagRepository, drinkRepository, redisTemplate,
+        objectMapper, 2);
+
+    given(tagRepository.findTagNamesWithPostCount()).willReturn(List.of(
+        new Object[]{"달콤", 3L}, new Object[]{"달달", 10L}, new Object[]{"달빛", 1L},
+        new Object[]{"시원", 7L}));
+    given(drinkRepository.findNamesWithPostCount()).willReturn(List.of(
+        new Object[]{"막걸리", 1L, 5L}, new Object[]{"막소주", 2L, 9L},
+        new Object[]{"매실주", 1L, 2L}));
+    autoCompleteService.rebuild();
+  }
+
+  @Test
+  @DisplayName("접두어로 시작하는 이름을 게시글 수 순으로 최대 limit개 조회")
+  void searchRankedByPopularity() {
+    assertEquals(List.of("달달", "달콤"), autoCompleteService.getAutoCompleteTag("달"));
+    assertEquals(List.of("달콤"), autoCompleteService.getAutoCompleteTag("달콤"));
+    assertEquals(List.of(), autoCompleteService.getAutoCompleteTag("없음"));
+    assertEquals(List.of(), autoCompleteService.getAutoCompleteTag(""));
+    assertEquals(List.of("막소주", "막걸리"), autoCompleteService.getAutoCompleteDrink("막"));
+  }
+
+  @Test
+  @DisplayName("지역별 특산주 자동완성은 해당 지역 특산주만 조회")
+  void searchRegionDrink() {
+    assertEquals(List.of("막걸리"), autoCompleteService.getAutoCompleteRegionDrink(1L, "막"));
+    assertEquals(List.of("막소주"), autoCompleteService.getAutoCompleteRegionDrink(2L, "막"));
+    assertEquals(List.of(), autoCompleteService.getAutoCompleteRegionDrink(3L, "막"));
+  }
+
+  @Test
+  @DisplayName("새 태그와 인기도 증가를 즉시 반영하고 다른 노드로 전파")
+  void changesAppliedAndPublished() {
+    // When
+    autoCompleteService.saveAutoCompleteTags(List.of("달무리"));
+    for (int i = 0; i < 8; i++) {
+      autoCompleteService.increaseTagPopularity(List.of(Tag.builder().tagName("달빛").build()));
+    }
+
+    // Then
+    assertEquals(List.of("달달", "달빛"), autoCompleteService.getAutoCompleteTag("달"));
+    assertEquals(List.of("달무리"), autoCompleteService.getAutoCompleteTag("달무"));
+    verify(redisTemplate, times(9))
+        .convertAndSend(eq(AutoCompleteService.CHANNEL), anyString());
+  }
+
+  @Test
+  @DisplayName("다른 노드의 승인 특산주 변경 메시지를 트리에 반영")
+  void onMessageFromOtherNode() throws Exception {
+    // Given
+    Message message = mock(Message.class);
+    given(message.getBody()).willReturn(objectMapper.writeValueAsBytes(
+        new AutoCompleteChange("other-node", Target.DRINK, List.of("막사발주"), 3L, 0)));
+
+    // When
+    autoCompleteService.onMessage(message, null);
+
+    // Then
+    assertEquals(List.of("막사발주"), autoCompleteService.getAutoCompleteRegionDrink(3L, "막"));
+    assertEquals(List.of("막사발주"), autoCompleteService.getAutoCompleteDrink("막사"));
+  }
+
+  @Test
+  @DisplayName("승인된 특산주는 전체와 지역 자동완성에 추가")
+  void saveAutoCompleteDrink() {
+    // Given
+    Drink drink = Drink.builder().name("매화주").region(Region.builder().id(2L).build()).build();
+
+    // When
+    autoCompleteService.saveAutoCompleteDrink(drink);
+
+    // Then
+    assertEquals(List.of("매화주"), autoCompleteService.getAutoCompleteRegionDrink(2L, "매"));
+    assertEquals(List.of("매실주", "매화주"), autoCompleteService.getAutoCompleteDrink("매"));
+  }
+}
@@ -0,0 +1,215 @@
+package com.onedrinktoday.backend.domain.drink.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:drink-rating;MODE=MariaDB;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({DrinkRatingStatsService.class, JacksonAutoConfiguration.class})
+public class DrinkRatingStatsServiceTest {
+
+  @Autowired
+  private DrinkRatingStatsService drinkRatingStatsService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private CacheManager cacheManager;
+
+  private final Cache cache = mock(Cache.class);
+
+  private Member member;
+  private Drink drink;
+  private Drink otherDrink;
+
+  @BeforeEach
+  void setUp() {
+    Region region = Region.builder().placeName("서울특별시").build();
+    entityManager.persist(region);
+
+    member = Member.builder().name("작성자").email("author@test.com").role(Role.USER).build();
+    entityManager.persist(member);
+
+    drink = Drink.builder().name("막걸리").description("설명").region(region).build();
+    otherDrink = Drink.builder().name("청주").description("설명").region(region).build();
+    entityManager.persist(drink);
+    entityManager.persist(otherDrink);
+
+    given(cacheManager.getCache(DrinkRatingStatsService.SUMMARY_CACHE)).willReturn(cache);
+  }
+
+  @Test
+  @DisplayName("평점 추가/변경/삭제 증감분으로 평균 평점과 별점 분포 유지")
+  void applyRatingDeltas() {
+    // Given - 집계 행이 이미 있는 특산주
+    insertEmptyStats(drink);
+    insertEmptyStats(otherDrink);
+    drinkRatingStatsService.addRating(drink.getId(), 4.0F);
+    drinkRatingStatsService.addRating(drink.getId(), 2.0F);
+    drinkRatingStatsService.addRating(drink.getId(), null);  // 평점 없는 게시글은 집계 제외
+
+    // When - 한 게시글을 다른 특산주로 옮기며 평점 변경, 다른 게시글 삭제
+    drinkRatingStatsService.changeRating(drink.getId(), 2.0F, otherDrink.getId(), 4.5F);
+    drinkRatingStatsService.addRating(drink.getId(), 5.0F);
+    drinkRatingStatsService.removeRating(drink.getId(), 4.0F);
+    entityManager.clear();
+
+    // Then
+    assertEquals(5.0, averageRating(drink.getId()));
+    assertEquals(Map.of(1, 0L, 2, 0L, 3, 0L, 4, 0L, 5, 1L),
+        distribution(drink.getId()));
+    assertEquals(4.5, averageRating(otherDrink.getId()));
+    assertEquals(1L, distribution(otherDrink.getId()).get(5));
+  }
+
+  @Test
+  @DisplayName("집계가 없는 특산주는 평균 평점 없음, 분포는 0")
+  void emptyStats() {
+    assertNull(averageRating(drink.getId()));
+    assertEquals(Map.of(1, 0L, 2, 0L, 3, 0L, 4, 0L, 5, 0L),
+        distribution(drink.getId()));
+  }
+
+  @Test
+  @DisplayName("재계산 시 삭제되지 않은 게시글 기준으로 집계 덮어쓰기")
+  void rebuildFromPosts() {
+    // Given - 어긋난 집계와 게시글 3건(1건은 삭제, 1건은 평점 없음)
+    drinkRatingStatsService.addRating(drink.getId(), 1.0F);
+    persistPost(drink, 3.0F);
+    persistPost(drink, 4.0F);
+    persistPost(drink, null);
+    Post deleted = persistPost(otherDrink, 5.0F);
+    entityManager.flush();
+    entityManager.createNativeQuery("UPDATE post SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+        .setParameter(1, deleted.getId())
+        .executeUpdate();
+    entityManager.clear();
+
+    // When
+    long rebuilt = drinkRatingStatsService.rebuild();
+    entityManager.clear();
+
+    // Then
+    assertEquals(2, rebuilt);
+    assertEquals(3.5, averageRating(drink.getId()));
+    assertEquals(Map.of(1, 0L, 2, 0L, 3, 1L, 4, 1L, 5, 0L),
+        distribution(drink.getId()));
+    assertNull(averageRating(otherDrink.getId()));
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 평점이 바뀌면 평점 캐시는 커밋 후에 제거")
+  void evictSummaryAfterCommit() {
+    // When - 테스트 트랜잭션은 롤백되므로 커밋 후 콜백이 실행되지 않음
+    drinkRatingStatsService.addRating(drink.getId(), 4.0F);
+
+    // Then
+    verify(cache, never()).evict(drink.getId());
+  }
+
+  @Test
+  @DisplayName("집계 행이 없는 특산주만 게시글 기준으로 채우고 평점 캐시 제거")
+  void backfillMissing() {
+    // Given - drink는 집계 도입 전 게시글만 있고, otherDrink는 이미 집계가 있음
+    persistPost(drink, 3.0F);
+    persistPost(drink, 5.0F);
+    persistPost(otherDrink, 1.0F);
+    entityManager.flush();
+    entityManager.createNativeQuery("INSERT INTO drink_rating_stats (drink_id, rating_sum, "
+            + "rating_count, one_star, two_star, three_star, four_star, five_star) "
+            + "VALUES (?, 2, 1, 0, 1, 0, 0, 0)")
+        .setParameter(1, otherDrink.getId())
+        .executeUpdate();
+    entityManager.clear();
+
+    // When
+    long filled = drinkRatingStatsService.backfillMissing();
+    entityManager.clear();
+
+    // Then
+    assertEquals(1, filled);
+    assertEquals(4.0, averageRating(drink.getId()));
+    assertEquals(2.0, averageRating(otherDrink.getId()));
+    verify(cache).evict(drink.getId());
+    verify(cache, never()).evict(otherDrink.getId());
+  }
+
+  @Test
+  @DisplayName("백필 전에 평점이 바뀐 기존 특산주는 게시글 기준으로 집계를 만들고 백필 대상에서 제외")
+  void applyRatingBeforeBackfill() {
+    // Given - 집계 도입 전 게시글만 있는 특산주 (아직 백필 전)
+    persistPost(drink, 3.0F);
+    Post removed = persistPost(drink, 5.0F);
+    Post changed = persistPost(otherDrink, 2.0F);
+    entityManager.flush();
+
+    // When - 새 게시글 작성, 기존 게시글 삭제, 다른 특산주 게시글 평점 수정 후 백필
+    persistPost(drink, 4.0F);
+    drinkRatingStatsService.addRating(drink.getId(), 4.0F);
+    entityManager.remove(removed);
+    drinkRatingStatsService.removeRating(drink.getId(), 5.0F);
+    changed.setRating(4.0F);
+    drinkRatingStatsService.changeRating(otherDrink.getId(), 2.0F, otherDrink.getId(), 4.0F);
+    long filled = drinkRatingStatsService.backfillMissing();
+    entityManager.clear();
+
+    // Then - 증감분만 담긴 행이 아니라 전체 게시글 기준 집계
+    assertEquals(0, filled);
+    assertEquals(3.5, averageRating(drink.getId()));
+    assertEquals(Map.of(1, 0L, 2, 0L, 3, 1L, 4, 1L, 5, 0L),
+        distribution(drink.getId()));
+    assertEquals(4.0, averageRating(otherDrink.getId()));
+    assertEquals(Map.of(1, 0L, 2, 0L, 3, 0L, 4, 1L, 5, 0L),
+        distribution(otherDrink.getId()));
+  }
+
+  private void insertEmptyStats(Drink drink) {
+    entityManager.createNativeQuery("INSERT INTO drink_rating_stats (drink_id, rating_sum, "
+            + "rating_count, one_star, two_star, three_star, four_star, five_star) "
+            + "VALUES (?, 0, 0, 0, 0, 0, 0, 0)")
+        .setParameter(1, drink.getId())
+        .executeUpdate();
+  }
+
+  private Double averageRating(Long drinkId) {
+    return drinkRatingStatsService.getRatingSummary(drinkId).getAverageRating();
+  }
+
+  private Map<Integer, Long> distribution(Long drinkId) {
+    return drinkRatingStatsService.getRatingSummary(drinkId).getRatingDistribution();
+  }
+
+  private Post persistPost(Drink drink, Float rating) {
+    Post post = Post.builder().member(member).drink(drink).content("맛있습니다!")
+        .rating(rating).viewCount(0).likeCount(0).build();
+    entityManager.persist(post);
+    return post;
+  }
+}
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 
 import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteService;
 import com.onedrinktoday.backend.domain.declaration.dto.DeclarationResponse;
@@ -23,6 +24,8 @@ import com.onedrinktoday.backend.domain.post.repository.PostRepository;
 import com.onedrinktoday.backend.domain.region.entity.Region;
 import com.onedrinktoday.backend.domain.registration.entity.Registration;
 import com.onedrinktoday.backend.domain.registration.repository.RegistrationRepository;
+import com.onedrinktoday.backend.domain.search.DrinkIndexService;
+import com.onedrinktoday.backend.domain.suggest.service.DrinkSampler;
 import com.onedrinktoday.backend.global.type.CancelDeclarationType;
 import com.onedrinktoday.backend.global.type.DeclarationType;
 import com.onedrinktoday.backend.global.type.DrinkType;
@@ -58,6 +61,12 @@ class ManagerServiceTest {
   @Mock
   private AutoCompleteService autoCompleteService;
 
+  @Mock
+  private DrinkIndexService drinkIndexService;
+
+  @Mock
+  private DrinkSampler drinkSampler;
+
   @InjectMocks
   private ManagerService managerService;
 
@@ -128,13 +137,15 @@ class ManagerServiceTest {
 
     doNothing().when(notificationService)
         .approveRegistrationNotification(eq(registration.getMember()), eq(registration));
-    doNothing().when(autoCompleteService).saveAutoCompleteDrink(eq(drink.getName()));
+    doNothing().when(autoCompleteService).saveAutoCompleteDrink(eq(drink));
 
     //when
     DrinkResponse drinkResponse = managerService.approveRegistration(1L);
 
     //then
     assertEquals(drinkResponse.getName(), "특산주");
+    verify(drinkIndexService).index(drink);
+    verify(drinkSampler).add(drink);
   }
 
   @Test
@@ -4,14 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.onedrinktoday.backend.global.mail.EmailOutboxService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 
 @ExtendWith(MockitoExtension.class)
 public class EmailServiceTest {
@@ -20,7 +19,7 @@ public class EmailServiceTest {
   private EmailService emailService;
 
   @Mock
-  private JavaMailSender emailSender;
+  private EmailOutboxService emailOutboxService;
 
   static final String to = "john.doe@example.com";
   static final String resetLink = "http://localhost:8080/api/members/reset-password?token=resetToken";
@@ -33,16 +32,12 @@ public class EmailServiceTest {
     emailService.sendPasswordResetEmail(to, resetLink);
 
     // Then
-    SimpleMailMessage message = new SimpleMailMessage();
-    message.setTo(to);
-    message.setSubject("비밀번호 재설정 요청");
-    message.setText("비밀번호를 재설정하려면 다음 링크를 클릭하세요: " + resetLink);
-
-    verify(emailSender, times(1)).send(message);
+    verify(emailOutboxService, times(1)).enqueue(to, "비밀번호 재설정 요청",
+        "비밀번호를 재설정하려면 다음 링크를 클릭하세요: " + resetLink);
   }
 
   @Test
-  @DisplayName("이메일 전송 실패 - 이메일을 전송하는 로직 null")
+  @DisplayName("이메일 전송 실패 - 이메일 발송 요청 로직 null")
   void failSendEmail() {
     // Given
     EmailService emailService = new EmailService(null);
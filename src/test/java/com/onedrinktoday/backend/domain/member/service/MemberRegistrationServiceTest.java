@@ -23,16 +23,19 @@ import com.onedrinktoday.backend.domain.member.dto.MemberRequest.UpdateInfo;
 import com.onedrinktoday.backend.domain.member.dto.MemberResponse;
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.repository.MemberRepository;
+import com.onedrinktoday.backend.domain.notification.service.NotificationStreamService;
 import com.onedrinktoday.backend.domain.post.entity.Post;
 import com.onedrinktoday.backend.domain.post.repository.PostRepository;
 import com.onedrinktoday.backend.domain.region.entity.Region;
 import com.onedrinktoday.backend.domain.registration.entity.Registration;
 import com.onedrinktoday.backend.domain.registration.repository.RegistrationRepository;
+import com.onedrinktoday.backend.domain.search.SearchService;
 import com.onedrinktoday.backend.domain.tagFollow.repository.TagFollowRepository;
 import com.onedrinktoday.backend.global.exception.CustomException;
 import com.onedrinktoday.backend.global.exception.ErrorCode;
 import com.onedrinktoday.backend.global.security.JwtProvider;
 import com.onedrinktoday.backend.global.security.MemberDetail;
+import com.onedrinktoday.backend.global.security.MemberDetailService;
 import com.onedrinktoday.backend.global.security.TokenDTO;
 import com.onedrinktoday.backend.global.type.DrinkType;
 import com.onedrinktoday.backend.global.type.Role;
@@ -48,11 +51,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(MockitoExtension.class)
 public class MemberRegistrationServiceTest {
@@ -84,6 +90,15 @@ public class MemberRegistrationServiceTest {
   @Mock
   private EmailService emailService;
 
+  @Mock
+  private MemberDetailService memberDetailService;
+
+  @Mock
+  private SearchService searchService;
+
+  @Mock
+  private NotificationStreamService notificationStreamService;
+
   private Member member;
   private Region region;
   private SignUp signUpRequest;
@@ -357,6 +372,29 @@ public class MemberRegistrationServiceTest {
     assertEquals(updatedMember.getName(), response.getName());
     assertEquals(updatedMember.getFavorDrinkType(), response.getFavorDrinkType());
     assertEquals(updatedMember.isAlarmEnabled(), response.isAlarmEnabled());
+    verify(memberDetailService).evict(member.getEmail());
+    verify(searchService).requestIndexByMember(existMember.getId());
+  }
+
+  @Test
+  @DisplayName("같은 요청 안에서는 회원을 한 번만 조회")
+  void getMemberOncePerRequest() {
+    //given
+    when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    try {
+      //when
+      Member first = memberService.getMember();
+      Member second = memberService.getMember();
+
+      //then
+      assertEquals(first, second);
+      verify(memberRepository, times(1)).findByEmail(member.getEmail());
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
   }
 
   @Test
@@ -513,6 +551,8 @@ public class MemberRegistrationServiceTest {
     verify(commentRepository, times(1)).saveAll(List.of(comment));
     verify(registrationRepository, times(1)).saveAll(List.of(registration));
     verify(memberRepository, times(1)).delete(existMember);
+    verify(memberDetailService, times(1)).evict(existMember.getEmail());
+    verify(searchService, times(1)).requestIndexByMember(existMember.getId());
   }
 
   @Test
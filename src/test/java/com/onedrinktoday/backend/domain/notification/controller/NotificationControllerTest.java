@@ -1,5 +1,6 @@
 package com.onedrinktoday.backend.domain.notification.controller;
 
+import com.onedrinktoday.backend.domain.notification.dto.NotificationResponse;
 import com.onedrinktoday.backend.domain.notification.entity.Notification;
 import com.onedrinktoday.backend.domain.notification.service.NotificationService;
 import com.onedrinktoday.backend.global.type.NotificationType;
@@ -36,7 +37,7 @@ public class NotificationControllerTest {
   @MockBean
   private NotificationService notificationService;
 
-  private Page<Notification> notificationPage;
+  private Page<NotificationResponse> notificationPage;
 
   @BeforeEach
   public void setUp() {
@@ -56,7 +57,8 @@ public class NotificationControllerTest {
         .createdAt(LocalDateTime.now())
         .build();
 
-    notificationPage = new PageImpl<>(Arrays.asList(notification1, notification2));
+    notificationPage = new PageImpl<>(Arrays.asList(notification1, notification2))
+        .map(NotificationResponse::from);
   }
 
   @Test
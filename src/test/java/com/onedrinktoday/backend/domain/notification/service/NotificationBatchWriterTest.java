@@ -0,0 +1,81 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.notification.entity.Notification;
+import com.onedrinktoday.backend.global.type.NotificationType;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:notification-batch;MODE=MariaDB;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({NotificationBatchWriter.class, JacksonAutoConfiguration.class})
+public class NotificationBatchWriterTest {
+
+  @Autowired
+  private NotificationBatchWriter notificationBatchWriter;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("JDBC 배치로 저장하고 생성된 ID를 요청 순서대로 채워 반환")
+  void insertAll() {
+    // Given
+    Member first = member("회원1");
+    Member second = member("회원2");
+    entityManager.flush();
+
+    // When
+    List<Notification> saved = notificationBatchWriter.insertAll(List.of(
+        notification(first, "첫 번째"), notification(second, "두 번째"),
+        notification(first, "세 번째")));
+
+    // Then
+    assertEquals(3, saved.size());
+    saved.forEach(notification -> {
+      assertNotNull(notification.getId());
+      assertNotNull(notification.getCreatedAt());
+      assertEquals(notification.getContent(), jdbcTemplate.queryForObject(
+          "SELECT content FROM notification WHERE id = ? AND member_id = ?", String.class,
+          notification.getId(), notification.getMember().getId()));
+    });
+    assertEquals(List.of("첫 번째", "두 번째", "세 번째"),
+        saved.stream().map(Notification::getContent).toList());
+  }
+
+  private Member member(String name) {
+    Member member = Member.builder()
+        .name(name)
+        .email(name + "@test.com")
+        .role(Role.USER)
+        .build();
+    entityManager.persist(member);
+    return member;
+  }
+
+  private Notification notification(Member member, String content) {
+    return Notification.builder()
+        .member(member)
+        .type(NotificationType.COMMENT)
+        .content(content)
+        .build();
+  }
+}
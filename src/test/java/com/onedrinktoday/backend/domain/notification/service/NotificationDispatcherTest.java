@@ -0,0 +1,151 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.notification.entity.Notification;
+import com.onedrinktoday.backend.global.type.NotificationType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+  @Mock
+  private NotificationBatchWriter notificationBatchWriter;
+
+  @Mock
+  private NotificationUnreadCounter unreadCounter;
+
+  @Mock
+  private NotificationStreamService notificationStreamService;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("큐에 쌓인 알림을 배치 크기 이하로 나눠 일괄 저장")
+  void drainInBatches() throws Exception {
+    // Given
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    doAnswer(invocation -> {
+      batchSizes.add(invocation.getArgument(0, List.class).size());
+      return invocation.getArgument(0);
+    }).when(notificationBatchWriter).insertAll(anyList());
+
+    NotificationDispatcher dispatcher =
+        new NotificationDispatcher(notificationBatchWriter, unreadCounter,
+            notificationStreamService, executor, 1000, 100);
+
+    // When
+    for (int i = 0; i < 250; i++) {
+      dispatcher.enqueue(notification(i));
+    }
+    awaitSaved(dispatcher, 250);
+
+    // Then
+    assertEquals(250, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    assertTrue(batchSizes.stream().allMatch(size -> size <= 100));
+    assertEquals(0, dispatcher.getQueueDepth());
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 요청한 알림은 커밋 전까지 저장하지 않음")
+  void enqueueAfterCommit() {
+    // Given
+    NotificationDispatcher dispatcher =
+        new NotificationDispatcher(notificationBatchWriter, unreadCounter,
+            notificationStreamService, Runnable::run, 1000, 100);
+    given(notificationBatchWriter.insertAll(anyList()))
+        .willAnswer(invocation -> invocation.getArgument(0));
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    dispatcher.enqueue(notification(1));
+
+    // Then
+    verify(notificationBatchWriter, never()).insertAll(anyList());
+    TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+    verify(notificationBatchWriter).insertAll(anyList());
+    verify(unreadCounter).incrementAll(Map.of(1L, 1L));
+    verify(notificationStreamService).publish(argThat(message ->
+        message.deliveries().size() == 1 && message.deliveries().get(0).memberId().equals(1L)));
+  }
+
+  @Test
+  @DisplayName("일괄 저장이 실패하면 나눠서 다시 저장하고 저장할 수 없는 알림만 버림")
+  @SuppressWarnings("unchecked")
+  void dropOnlyPoisonedRow() {
+    // Given - 3번 회원은 큐에 넣은 뒤 탈퇴해 저장 실패 (FK 위반)
+    List<Runnable> tasks = new ArrayList<>();
+    NotificationDispatcher dispatcher =
+        new NotificationDispatcher(notificationBatchWriter, unreadCounter,
+            notificationStreamService, tasks::add, 1000, 100);
+    given(notificationBatchWriter.insertAll(anyList())).willAnswer(invocation -> {
+      List<Notification> batch = invocation.getArgument(0);
+      if (batch.stream().anyMatch(notification -> notification.getMember().getId() == 3L)) {
+        throw new DataIntegrityViolationException("FK_NOTIFICATION_MEMBER");
+      }
+      return batch;
+    });
+    for (int i = 0; i < 10; i++) {
+      dispatcher.enqueue(notification(i));
+    }
+
+    // When
+    tasks.forEach(Runnable::run);
+
+    // Then
+    assertEquals(9, dispatcher.getSavedCount());
+    ArgumentCaptor<Map<Long, Long>> deltas = ArgumentCaptor.forClass(Map.class);
+    verify(unreadCounter).incrementAll(deltas.capture());
+    assertEquals(9, deltas.getValue().size());
+    assertFalse(deltas.getValue().containsKey(3L));
+    verify(notificationStreamService).publish(argThat(message ->
+        message.deliveries().size() == 9));
+  }
+
+  private void awaitSaved(NotificationDispatcher dispatcher, long expected) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (dispatcher.getSavedCount() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private Notification notification(int i) {
+    return Notification.builder()
+        .member(Member.builder().id((long) i).build())
+        .type(NotificationType.COMMENT)
+        .content("댓글이 달렸습니다.")
+        .build();
+  }
+}
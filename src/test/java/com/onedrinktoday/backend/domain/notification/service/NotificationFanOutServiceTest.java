@@ -0,0 +1,119 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.domain.tagFollow.entity.TagFollow;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:fan-out;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+    "notification.fan-out.chunk-size=2"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({NotificationFanOutService.class, NotificationBatchWriter.class,
+    JacksonAutoConfiguration.class})
+public class NotificationFanOutServiceTest {
+
+  @Autowired
+  private NotificationFanOutService notificationFanOutService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private NotificationUnreadCounter unreadCounter;
+
+  @MockBean
+  private NotificationStreamService notificationStreamService;
+
+  @Test
+  @DisplayName("여러 태그 팔로워에게 회원당 한 건씩 알림 저장 (작성자, 수신 거부, 탈퇴 회원 제외)")
+  void fanOutDistinctFollowers() {
+    // Given
+    Tag sweet = persist(Tag.builder().tagName("달콤").build());
+    Tag cool = persist(Tag.builder().tagName("시원").build());
+    Tag other = persist(Tag.builder().tagName("씁쓸").build());
+
+    Member author = member("author", true, null);
+    Member both = member("both", true, null);         // 두 태그 모두 팔로우
+    Member sweetOnly = member("sweet", true, null);
+    Member coolOnly = member("cool", true, null);
+    Member muted = member("muted", false, null);      // 알림 수신 거부
+    Member withdrawn = member("withdrawn", true, LocalDateTime.now());
+    Member otherOnly = member("other", true, null);   // 게시글과 무관한 태그만 팔로우
+
+    follow(author, sweet);
+    follow(both, sweet);
+    follow(both, cool);
+    follow(sweetOnly, sweet);
+    follow(coolOnly, cool);
+    follow(muted, sweet);
+    follow(withdrawn, cool);
+    follow(otherOnly, other);
+    entityManager.flush();
+
+    // When - 청크 크기 2로 여러 번 나눠 저장
+    int saved = notificationFanOutService.fanOutTagFollowPost(10L, author.getId(),
+        List.of(sweet, cool));
+
+    // Then
+    Map<Long, String> contents = jdbcTemplate.queryForList(
+            "SELECT member_id, content FROM notification WHERE post_id = 10").stream()
+        .collect(Collectors.toMap(row -> ((Number) row.get("MEMBER_ID")).longValue(),
+            row -> (String) row.get("CONTENT")));
+
+    assertEquals(3, saved);
+    assertEquals(Map.of(
+        both.getId(), "새로운 게시글이 달콤 태그와 작성되었습니다.",
+        sweetOnly.getId(), "새로운 게시글이 달콤 태그와 작성되었습니다.",
+        coolOnly.getId(), "새로운 게시글이 시원 태그와 작성되었습니다."), contents);
+    verify(unreadCounter).incrementAll(Map.of(both.getId(), 1L, sweetOnly.getId(), 1L));
+    verify(unreadCounter).incrementAll(Map.of(coolOnly.getId(), 1L));
+    verify(notificationStreamService).publish(argThat(message ->
+        message.deliveries().size() == 1
+            && message.deliveries().get(0).memberId().equals(coolOnly.getId())
+            && message.deliveries().get(0).notification().getId() != null));
+  }
+
+  @Test
+  @DisplayName("태그가 없으면 알림 없음")
+  void noTags() {
+    assertEquals(0, notificationFanOutService.fanOutTagFollowPost(10L, 1L, List.of()));
+  }
+
+  private Member member(String name, boolean alarmEnabled, LocalDateTime deletedAt) {
+    return persist(Member.builder().name(name).email(name + "@test.com").role(Role.USER)
+        .alarmEnabled(alarmEnabled).deletedAt(deletedAt).build());
+  }
+
+  private void follow(Member member, Tag tag) {
+    persist(TagFollow.builder().member(member).tag(tag).build());
+  }
+
+  private <T> T persist(T entity) {
+    entityManager.persist(entity);
+    return entity;
+  }
+}
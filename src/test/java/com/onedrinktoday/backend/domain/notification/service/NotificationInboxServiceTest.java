@@ -0,0 +1,296 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationInboxResponse;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationResponse;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.domain.tagFollow.entity.TagFollow;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:inbox;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+    "notification.fan-out.inbox-threshold=3"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({NotificationFanOutService.class, NotificationInboxService.class,
+    NotificationBatchWriter.class, JacksonAutoConfiguration.class})
+public class NotificationInboxServiceTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2024, 9, 1, 10, 0);
+
+  @Autowired
+  private NotificationFanOutService notificationFanOutService;
+
+  @Autowired
+  private NotificationInboxService notificationInboxService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private NotificationUnreadCounter unreadCounter;
+
+  @MockBean
+  private NotificationStreamService notificationStreamService;
+
+  @Test
+  @DisplayName("팔로워가 임계치 이상인 태그는 이벤트 한 건만 저장하고 조회 시 병합")
+  void hybridFanOut() {
+    // Given
+    Tag popular = persist(Tag.builder().tagName("인기").build());
+    Tag small = persist(Tag.builder().tagName("소소").build());
+
+    Member author = member("author");
+    Member both = member("both");         // 두 태그 모두 팔로우 - 이벤트로만 받음
+    Member popularOnly = member("popular");
+    Member smallOnly = member("small");
+
+    follow(author, popular);
+    follow(both, popular);
+    follow(popularOnly, popular);
+    follow(both, small);
+    follow(smallOnly, small);
+    entityManager.flush();
+
+    // When
+    int saved = notificationFanOutService.fanOutTagFollowPost(10L, author.getId(),
+        List.of(popular, small));
+    NotificationInboxResponse bothInbox = notificationInboxService.getInbox(both, null, 20);
+    NotificationInboxResponse authorInbox = notificationInboxService.getInbox(author, null, 20);
+
+    // Then - 이벤트 1건 + 소소 태그만 팔로우한 회원 알림 1건
+    assertEquals(2, saved);
+    assertEquals(List.of(smallOnly.getId()), jdbcTemplate.queryForList(
+        "SELECT member_id FROM notification WHERE post_id = 10", Long.class));
+
+    assertEquals(1, bothInbox.getNotifications().size());
+    NotificationResponse event = bothInbox.getNotifications().get(0);
+    assertTrue(event.isTagEvent());
+    assertEquals(10L, event.getPostId());
+    assertEquals("새로운 게시글이 인기 태그와 작성되었습니다.", event.getContent());
+    assertFalse(event.isReadStatus());
+
+    assertTrue(authorInbox.getNotifications().isEmpty());
+    verify(notificationStreamService).publish(argThat(message ->
+        message.tagIds().equals(List.of(popular.getTagId()))
+            && message.authorId().equals(author.getId())
+            && message.tagEvent().getPostId().equals(10L)));
+  }
+
+  @Test
+  @DisplayName("첫 페이지 조회 후 태그 이벤트 읽음 처리")
+  void watermarkMarksEventsRead() {
+    // Given
+    Tag popular = persist(Tag.builder().tagName("인기").build());
+    Member reader = member("reader");
+    follow(reader, popular);
+    entityManager.flush();
+    insertEvent(popular, 10L, BASE);
+
+    // When
+    boolean firstRead = notificationInboxService.getInbox(reader, null, 20)
+        .getNotifications().get(0).isReadStatus();
+    boolean secondRead = notificationInboxService.getInbox(reader, null, 20)
+        .getNotifications().get(0).isReadStatus();
+
+    // Then
+    assertFalse(firstRead);
+    assertTrue(secondRead);
+  }
+
+  @Test
+  @DisplayName("알림과 태그 이벤트를 최신순으로 병합하고 같은 게시글 이벤트는 한 건만 커서로 이어서 조회")
+  void mergeWithCursor() {
+    // Given
+    Tag first = persist(Tag.builder().tagName("첫째").build());
+    Tag second = persist(Tag.builder().tagName("둘째").build());
+    Member reader = member("reader");
+    follow(reader, first);
+    follow(reader, second);
+    entityManager.flush();
+
+    insertNotification(reader, 1L, BASE);
+    insertEvent(first, 20L, BASE.plusMinutes(1));
+    insertEvent(second, 20L, BASE.plusMinutes(1));   // 두 태그에 걸친 같은 게시글
+    insertEvent(second, 21L, BASE);                  // 알림과 같은 시각
+    insertNotification(reader, 2L, BASE.plusMinutes(2));
+
+    // When - 한 건씩 끝까지 조회
+    List<NotificationResponse> all = new ArrayList<>();
+    NotificationInboxResponse page = notificationInboxService.getInbox(reader, null, 1);
+    all.addAll(page.getNotifications());
+    while (page.isHasNext()) {
+      page = notificationInboxService.getInbox(reader, page.getNextCursor(), 1);
+      all.addAll(page.getNotifications());
+    }
+
+    // Then - 같은 시각이면 회원 알림이 먼저
+    assertEquals(List.of(2L, 20L, 1L, 21L),
+        all.stream().map(NotificationResponse::getPostId).toList());
+    assertEquals(List.of(false, true, false, true),
+        all.stream().map(NotificationResponse::isTagEvent).toList());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("팔로우하기 전에 작성된 태그 이벤트는 보여주지 않음")
+  void hideEventsBeforeFollow() {
+    // Given
+    Tag popular = persist(Tag.builder().tagName("인기").build());
+    Member reader = member("reader");
+    follow(reader, popular, BASE);
+    insertEvent(popular, 30L, BASE.minusMinutes(1));
+    insertEvent(popular, 31L, BASE.plusMinutes(1));
+
+    // When
+    NotificationInboxResponse inbox = notificationInboxService.getInbox(reader, null, 20);
+
+    // Then
+    assertEquals(List.of(31L),
+        inbox.getNotifications().stream().map(NotificationResponse::getPostId).toList());
+  }
+
+  @Test
+  @DisplayName("같은 게시글 이벤트가 페이지 경계에 걸쳐도 커서로 이어받아 한 건만 조회")
+  void dedupAcrossPages() {
+    // Given - 태그별 이벤트 저장 시각이 달라 한 페이지에 함께 읽히지 않음
+    Tag first = persist(Tag.builder().tagName("첫째").build());
+    Tag second = persist(Tag.builder().tagName("둘째").build());
+    Member reader = member("reader");
+    follow(reader, first);
+    follow(reader, second);
+    insertEvent(first, 40L, BASE.plusSeconds(2));
+    insertEvent(second, 40L, BASE.plusSeconds(1));
+    insertNotification(reader, 1L, BASE);
+
+    // When
+    NotificationInboxResponse firstPage = notificationInboxService.getInbox(reader, null, 1);
+    NotificationInboxResponse secondPage = notificationInboxService.getInbox(reader,
+        firstPage.getNextCursor(), 1);
+
+    // Then
+    assertEquals(40L, firstPage.getNotifications().get(0).getPostId());
+    assertEquals(List.of(1L),
+        secondPage.getNotifications().stream().map(NotificationResponse::getPostId).toList());
+    assertFalse(secondPage.isHasNext());
+  }
+
+  @Test
+  @DisplayName("기존 알림 목록도 태그 이벤트를 병합해 페이지로 반환하고 페이지 크기는 상한으로 제한")
+  void recentIncludesTagEvents() {
+    // Given
+    Tag popular = persist(Tag.builder().tagName("인기").build());
+    Member reader = member("reader");
+    follow(reader, popular);
+    insertNotification(reader, 1L, BASE);
+    insertEvent(popular, 50L, BASE.plusMinutes(1));
+    insertNotification(reader, 2L, BASE.plusMinutes(2));
+
+    // When
+    Page<NotificationResponse> firstPage = notificationInboxService.getRecent(reader,
+        PageRequest.of(0, 2));
+    Page<NotificationResponse> secondPage = notificationInboxService.getRecent(reader,
+        PageRequest.of(1, 2));
+    Page<NotificationResponse> oversized = notificationInboxService.getRecent(reader,
+        PageRequest.of(0, 10_000));
+
+    // Then
+    assertEquals(3, firstPage.getTotalElements());
+    assertEquals(List.of(2L, 50L),
+        firstPage.getContent().stream().map(NotificationResponse::getPostId).toList());
+    assertEquals(List.of(1L),
+        secondPage.getContent().stream().map(NotificationResponse::getPostId).toList());
+    assertEquals(NotificationInboxService.MAX_PAGE_SIZE, oversized.getSize());
+  }
+
+  @Test
+  @DisplayName("읽지 않은 태그 이벤트 수는 워터마크 이후 게시글 기준으로 세고 모두 읽음 처리하면 0")
+  void countUnreadEvents() {
+    // Given
+    Tag first = persist(Tag.builder().tagName("첫째").build());
+    Tag second = persist(Tag.builder().tagName("둘째").build());
+    Member reader = member("reader");
+    follow(reader, first);
+    follow(reader, second);
+    insertEvent(first, 60L, BASE);
+    insertEvent(second, 60L, BASE);                  // 두 태그에 걸친 같은 게시글
+    insertEvent(second, 61L, BASE.plusMinutes(1));
+
+    // When
+    long before = notificationInboxService.countUnreadEvents(reader);
+    notificationInboxService.markEventsRead(reader);
+    long after = notificationInboxService.countUnreadEvents(reader);
+    insertEvent(first, 62L, BASE.plusMinutes(2));
+    long afterNewEvent = notificationInboxService.countUnreadEvents(reader);
+
+    // Then
+    assertEquals(2, before);
+    assertEquals(0, after);
+    assertEquals(1, afterNewEvent);
+    assertTrue(notificationInboxService.getInbox(reader, null, 20).getNotifications().stream()
+        .filter(response -> response.getPostId() != 62L)
+        .allMatch(NotificationResponse::isReadStatus));
+  }
+
+  private void insertNotification(Member member, Long postId, LocalDateTime createdAt) {
+    jdbcTemplate.update("INSERT INTO notification "
+            + "(member_id, post_id, type, content, read_status, created_at) "
+            + "VALUES (?, ?, 'COMMENT', '댓글', FALSE, ?)",
+        member.getId(), postId, Timestamp.valueOf(createdAt));
+  }
+
+  private void insertEvent(Tag tag, Long postId, LocalDateTime createdAt) {
+    jdbcTemplate.update("INSERT INTO tag_post_event "
+            + "(tag_id, post_id, author_id, tag_name, created_at) VALUES (?, ?, NULL, ?, ?)",
+        tag.getTagId(), postId, tag.getTagName(), Timestamp.valueOf(createdAt));
+  }
+
+  private Member member(String name) {
+    return persist(Member.builder().name(name).email(name + "@test.com").role(Role.USER)
+        .alarmEnabled(true).build());
+  }
+
+  private void follow(Member member, Tag tag) {
+    follow(member, tag, BASE.minusDays(1));
+  }
+
+  // 팔로우 시각은 저장 시 자동으로 채워지므로 저장 후 지정한 시각으로 변경
+  private void follow(Member member, Tag tag, LocalDateTime followedAt) {
+    TagFollow tagFollow = persist(TagFollow.builder().member(member).tag(tag).build());
+    entityManager.flush();
+    jdbcTemplate.update("UPDATE tag_follow SET created_at = ? WHERE id = ?",
+        Timestamp.valueOf(followedAt), tagFollow.getId());
+  }
+
+  private <T> T persist(T entity) {
+    entityManager.persist(entity);
+    return entity;
+  }
+}
@@ -0,0 +1,159 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import com.onedrinktoday.backend.global.type.NotificationType;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:retention;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+    "notification.retention.batch-size=2",
+    "notification.retention.comment-days=7"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({NotificationRetentionService.class, JacksonAutoConfiguration.class})
+public class NotificationRetentionServiceTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 9, 1, 4, 30);
+
+  @Autowired
+  private NotificationRetentionService retentionService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private NotificationUnreadCounter unreadCounter;
+
+  @MockBean
+  private RedisLockService redisLockService;
+
+  @BeforeEach
+  void setUp() {
+    given(redisLockService.tryLock(eq(NotificationRetentionService.LOCK_KEY), any()))
+        .willReturn("token");
+    given(redisLockService.renew(eq(NotificationRetentionService.LOCK_KEY), eq("token"), any()))
+        .willReturn(true);
+  }
+
+  @Test
+  @DisplayName("종류별 보관 기간이 지난 알림만 나눠서 삭제하고 읽지 않은 알림 수 차감")
+  void purgeExpiredByType() {
+    // Given - 댓글 알림 보관 기간은 설정으로 7일
+    Member member = Member.builder().name("회원").email("member@test.com").role(Role.USER).build();
+    entityManager.persist(member);
+
+    long keptComment = insert(member, NotificationType.COMMENT, NOW.minusDays(6), false);
+    insert(member, NotificationType.COMMENT, NOW.minusDays(8), false);
+    insert(member, NotificationType.COMMENT, NOW.minusDays(9), true);
+    insert(member, NotificationType.COMMENT, NOW.minusDays(10), false);
+    long keptFollow = insert(member, NotificationType.FOLLOW, NOW.minusDays(29), false);
+    insert(member, NotificationType.FOLLOW, NOW.minusDays(31), true);
+    long keptRemoved = insert(member, NotificationType.REMOVED, NOW.minusDays(300), false);
+
+    jdbcTemplate.update("INSERT INTO tag_post_event (tag_id, post_id, tag_name, created_at) "
+        + "VALUES (1, 1, '인기', ?)", Timestamp.valueOf(NOW.minusDays(31)));
+
+    // When
+    long purged = retentionService.purgeExpired(NOW);
+
+    // Then
+    assertEquals(4, purged);
+    assertEquals(List.of(keptComment, keptFollow, keptRemoved), jdbcTemplate.queryForList(
+        "SELECT id FROM notification ORDER BY id", Long.class));
+    assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tag_post_event",
+        Integer.class));
+
+    // 두 건씩 나눠 삭제 - 첫 배치에 읽지 않은 알림 1건, 두 번째 배치에 1건
+    verify(unreadCounter, times(2))
+        .incrementAll(Map.of(member.getId(), -1L));
+    assertEquals(4, retentionService.getLastRunPurged());
+    verify(redisLockService).unlock(NotificationRetentionService.LOCK_KEY, "token");
+  }
+
+  @Test
+  @DisplayName("다른 노드가 삭제 중이면 건너뜀")
+  void skipWhenLockedByOtherNode() {
+    // Given
+    Member member = Member.builder().name("회원").email("member@test.com").role(Role.USER).build();
+    entityManager.persist(member);
+    insert(member, NotificationType.COMMENT, NOW.minusDays(10), false);
+    given(redisLockService.tryLock(eq(NotificationRetentionService.LOCK_KEY), any()))
+        .willReturn(null);
+
+    // When
+    long purged = retentionService.purgeExpired(NOW);
+
+    // Then
+    assertEquals(0, purged);
+    assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification",
+        Integer.class));
+    verify(unreadCounter, never()).incrementAll(anyMap());
+  }
+
+  @Test
+  @DisplayName("잠금이 만료돼 다른 노드가 이어받으면 다음 배치부터 삭제하지 않음")
+  void stopWhenLockLost() {
+    // Given - 두 건씩 나눠 삭제하는데 첫 배치 이후 잠금을 잃음
+    Member member = Member.builder().name("회원").email("member@test.com").role(Role.USER).build();
+    entityManager.persist(member);
+    insert(member, NotificationType.COMMENT, NOW.minusDays(8), false);
+    insert(member, NotificationType.COMMENT, NOW.minusDays(9), false);
+    insert(member, NotificationType.COMMENT, NOW.minusDays(10), false);
+    given(redisLockService.renew(eq(NotificationRetentionService.LOCK_KEY), eq("token"), any()))
+        .willAnswer(invocation -> jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM notification", Integer.class) == 3);
+
+    // When
+    long purged = retentionService.purgeExpired(NOW);
+
+    // Then
+    assertEquals(2, purged);
+    assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification",
+        Integer.class));
+    verify(unreadCounter).incrementAll(Map.of(member.getId(), -2L));
+  }
+
+  @Test
+  @DisplayName("설정이 없으면 종류별 기본 보관 기간 사용")
+  void defaultRetentionDays() {
+    assertEquals(7, retentionService.getRetentionDays(NotificationType.COMMENT));
+    assertEquals(30, retentionService.getRetentionDays(NotificationType.FOLLOW));
+  }
+
+  private long insert(Member member, NotificationType type, LocalDateTime createdAt,
+      boolean readStatus) {
+    jdbcTemplate.update("INSERT INTO notification "
+            + "(member_id, type, content, read_status, created_at) VALUES (?, ?, '알림', ?, ?)",
+        member.getId(), type.name(), readStatus, Timestamp.valueOf(createdAt));
+    return jdbcTemplate.queryForObject("SELECT MAX(id) FROM notification", Long.class);
+  }
+}
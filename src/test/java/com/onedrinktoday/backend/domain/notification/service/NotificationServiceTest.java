@@ -17,8 +17,6 @@ import com.onedrinktoday.backend.domain.post.entity.Post;
 import com.onedrinktoday.backend.domain.post.repository.PostRepository;
 import com.onedrinktoday.backend.domain.registration.entity.Registration;
 import com.onedrinktoday.backend.domain.tag.entity.Tag;
-import com.onedrinktoday.backend.domain.tagFollow.entity.TagFollow;
-import com.onedrinktoday.backend.domain.tagFollow.repository.TagFollowRepository;
 import com.onedrinktoday.backend.global.exception.CustomException;
 import com.onedrinktoday.backend.global.type.DeclarationType;
 import com.onedrinktoday.backend.global.type.NotificationType;
@@ -40,6 +38,8 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -53,10 +53,22 @@ public class NotificationServiceTest {
   private PostRepository postRepository;
 
   @Mock
-  private TagFollowRepository tagFollowRepository;
+  private MemberService memberService;
 
   @Mock
-  private MemberService memberService;
+  private NotificationDispatcher notificationDispatcher;
+
+  @Mock
+  private NotificationFanOutService notificationFanOutService;
+
+  @Mock
+  private NotificationInboxService notificationInboxService;
+
+  @Mock
+  private NotificationUnreadCounter notificationUnreadCounter;
+
+  @Mock
+  private NotificationStreamService notificationStreamService;
 
   @InjectMocks
   private NotificationService notificationService;
@@ -100,7 +112,7 @@ public class NotificationServiceTest {
     notificationService.createNotification(member, 1L, COMMENT, "알림이 생성되었습니다~");
 
     //then
-    verify(notificationRepository, times(1)).save(argThat(notification ->
+    verify(notificationDispatcher, times(1)).enqueue(argThat(notification ->
         notification.getMember().equals(member) &&
             notification.getPostId().equals(1L) &&
             notification.getType().equals(COMMENT) &&
@@ -109,47 +121,31 @@ public class NotificationServiceTest {
   }
 
   @Test
-  @DisplayName("최근 알림 조회 성공 테스트")
+  @DisplayName("최근 알림 조회 성공 테스트 - 받은 알림함 병합 결과 반환")
   void successGetRecentNotifications() {
     //given
     Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Order.desc("createdAt")));
-    List<Notification> notifications = Arrays.asList(
-        Notification.builder()
-            .id(1L)
-            .member(member)
-            .postId(1L)
-            .type(NotificationType.COMMENT)
-            .content("댓글이 달렸습니다.")
-            .readStatus(false)
-            .build(),
-        Notification.builder()
-            .id(2L)
-            .member(member)
-            .postId(2L)
-            .type(NotificationType.FOLLOW)
-            .content("새로운 게시글이 태그와 작성되었습니다.")
-            .readStatus(false)
-            .build()
+    List<NotificationResponse> notifications = List.of(
+        NotificationResponse.builder().id(1L).postId(1L).type(NotificationType.COMMENT)
+            .content("댓글이 달렸습니다.").readStatus(true).build(),
+        NotificationResponse.builder().id(2L).postId(2L).type(NotificationType.FOLLOW)
+            .content("새로운 게시글이 태그와 작성되었습니다.").tagEvent(true).build()
     );
-    Page<Notification> notificationPage = new PageImpl<>(notifications, pageable, notifications.size());
+    Page<NotificationResponse> notificationPage = new PageImpl<>(notifications, pageable,
+        notifications.size());
 
-    //Stubbing 설정
     given(memberService.getMember()).willReturn(member);
-    given(notificationRepository.findByMemberId(1L, pageable)).willReturn(notificationPage);
-
-    //특정 알림 조회하여 읽음으로 변경
-    given(notificationRepository.findById(1L)).willReturn(Optional.of(notifications.get(0)));
-    notificationService.getNotification(1L);
+    given(notificationInboxService.getRecent(member, pageable)).willReturn(notificationPage);
 
     //when
-    Page<Notification> result = notificationService.getRecentNotifications(pageable);
+    Page<NotificationResponse> result = notificationService.getRecentNotifications(pageable);
 
     //then
     assertNotNull(result);
     assertEquals(2, result.getTotalElements());
     assertTrue(result.getContent().get(0).isReadStatus());
-    assertFalse(result.getContent().get(1).isReadStatus());
-    verify(notificationRepository).findByMemberId(1L, pageable);
+    assertTrue(result.getContent().get(1).isTagEvent());
+    verify(notificationInboxService).getRecent(member, pageable);
   }
 
   @Test
@@ -178,6 +174,98 @@ public class NotificationServiceTest {
     assertTrue(notification.isReadStatus());
     assertEquals(notificationId, result.getId());
     verify(notificationRepository).save(notification);
+    verify(notificationUnreadCounter).decrement(1L, 1);
+  }
+
+  @Test
+  @DisplayName("이미 읽은 알림 조회 시 읽지 않은 알림 수 유지")
+  void getAlreadyReadNotification() {
+    //given
+    Notification notification = Notification.builder()
+        .id(1L)
+        .member(member)
+        .type(NotificationType.COMMENT)
+        .content("댓글이 달렸습니다.")
+        .readStatus(true)
+        .build();
+
+    given(memberService.getMember()).willReturn(member);
+    given(notificationRepository.findById(1L)).willReturn(Optional.of(notification));
+
+    //when
+    notificationService.getNotification(1L);
+
+    //then
+    verify(notificationRepository, never()).save(any());
+    verify(notificationUnreadCounter, never()).decrement(anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("지정한 ID 이하 알림 일괄 읽음 처리 후 카운터 감소")
+  void successMarkAllReadUpTo() {
+    //given
+    given(memberService.getMember()).willReturn(member);
+    given(notificationRepository.markReadUpTo(1L, 10L)).willReturn(3);
+
+    //when
+    int updated = notificationService.markAllReadUpTo(10L);
+
+    //then
+    assertEquals(3, updated);
+    verify(notificationUnreadCounter).decrement(1L, 3);
+    verify(notificationInboxService).markEventsRead(member);
+  }
+
+  @Test
+  @DisplayName("일괄 읽음 처리 카운터 감소는 커밋 후 반영")
+  void markAllReadUpToDecrementsAfterCommit() {
+    //given
+    given(memberService.getMember()).willReturn(member);
+    given(notificationRepository.markReadUpTo(1L, 10L)).willReturn(3);
+    TransactionSynchronizationManager.initSynchronization();
+
+    try {
+      //when
+      notificationService.markAllReadUpTo(10L);
+
+      //then
+      verify(notificationUnreadCounter, never()).decrement(anyLong(), anyLong());
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      verify(notificationUnreadCounter).decrement(1L, 3);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("실시간 알림 구독 시 Last-Event-ID 이후부터 재전송 요청")
+  void successSubscribe() {
+    //given
+    given(memberService.getMember()).willReturn(member);
+
+    //when
+    notificationService.subscribe("15");
+    notificationService.subscribe("invalid");
+
+    //then
+    verify(notificationStreamService).connect(1L, 15L);
+    verify(notificationStreamService).connect(1L, null);
+  }
+
+  @Test
+  @DisplayName("읽지 않은 알림 수 조회")
+  void successGetUnreadCount() {
+    //given
+    given(memberService.getMember()).willReturn(member);
+    given(notificationUnreadCounter.getUnreadCount(1L)).willReturn(5L);
+    given(notificationInboxService.countUnreadEvents(member)).willReturn(2L);
+
+    //when
+    long count = notificationService.getUnreadCount();
+
+    //then - 회원별 알림 5건 + 인기 태그 이벤트 2건
+    assertEquals(7L, count);
   }
 
   @Test
@@ -190,7 +278,7 @@ public class NotificationServiceTest {
     notificationService.postCommentNotification(1L, "John", false);
 
     //then
-    verify(notificationRepository, times(1)).save(argThat(notification ->
+    verify(notificationDispatcher, times(1)).enqueue(argThat(notification ->
         notification.getPostId().equals(1L) &&
             notification.getMember().equals(post.getMember()) &&
             notification.getType().equals(COMMENT) &&
@@ -213,33 +301,28 @@ public class NotificationServiceTest {
   @DisplayName("태그 팔로우 게시글 알림 생성 성공")
   void successTagFollowPostNotification() {
     //given
-    Member follower = Member.builder().id(1L).build();
-    TagFollow tagFollow = TagFollow.builder()
-        .member(follower)
-        .tag(tag)
+    Tag otherTag = Tag.builder()
+        .tagId(2L)
+        .tagName("다른 태그")
         .build();
-    List<TagFollow> tagFollows = List.of(tagFollow);
 
-    //Stubbing
+    //Stubbing - 알림 전용 스레드 작업을 즉시 실행
+    runDispatchedTasks();
     when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-    when(tagFollowRepository.findByTag(tag)).thenReturn(tagFollows);
 
     //when
-    notificationService.tagFollowPostNotification(1L, List.of(tag));
+    notificationService.tagFollowPostNotification(1L, List.of(tag, otherTag));
 
-    //then
-    verify(notificationRepository, times(1)).save(argThat(notification ->
-        notification.getMember().equals(follower) &&
-            notification.getPostId().equals(1L) &&
-            notification.getType().equals(NotificationType.FOLLOW) &&
-            notification.getContent().equals("새로운 게시글이 " + tag.getTagName() + " 태그와 작성되었습니다.")
-    ));
+    //then - 모든 태그의 팔로워를 한 번에 팬아웃 (작성자 제외)
+    verify(notificationFanOutService, times(1))
+        .fanOutTagFollowPost(1L, member.getId(), List.of(tag, otherTag));
   }
 
   @Test
   @DisplayName("태그 팔로우 게시글 알림 생성 실패 - 비동기 예외 발생")
   void failTagFollowPostNotification() {
     //given
+    runDispatchedTasks();
     when(postRepository.findById(1L)).thenThrow(new CustomException(POST_NOT_FOUND));
 
     //when
@@ -261,7 +344,7 @@ public class NotificationServiceTest {
           "예외 발생");
     }
 
-    verify(notificationRepository, never()).save(argThat(notification -> true));
+    verify(notificationFanOutService, never()).fanOutTagFollowPost(any(), any(), any());
   }
 
   @Test
@@ -283,7 +366,7 @@ public class NotificationServiceTest {
     notificationService.approveDeclarationNotification(post, declaration);
 
     //then
-    verify(notificationRepository, times(1)).save(argThat(notification ->
+    verify(notificationDispatcher, times(1)).enqueue(argThat(notification ->
         notification.getMember().equals(post.getMember()) &&
             notification.getPostId() == null &&
             notification.getType().equals(NotificationType.REMOVED) &&
@@ -291,7 +374,7 @@ public class NotificationServiceTest {
                 .equals("불법, 사기, 위법 행위 관련 사유로 인한 '불법 내용'의 문제로 신고가 접수되어 회원님의 게시글이 삭제 처리되었습니다.")
     ));
 
-    verify(notificationRepository, times(1)).save(argThat(notification ->
+    verify(notificationDispatcher, times(1)).enqueue(argThat(notification ->
         notification.getMember().equals(declaration.getMember()) &&
             notification.getPostId() == null &&
             notification.getType().equals(NotificationType.DECLARATION) &&
@@ -317,7 +400,7 @@ public class NotificationServiceTest {
     notificationService.cancelDeclarationNotification(declaration, request);
 
     //then
-    verify(notificationRepository, times(1)).save(argThat(notification ->
+    verify(notificationDispatcher, times(1)).enqueue(argThat(notification ->
         notification.getMember().equals(declaration.getMember()) &&
             notification.getPostId().equals(declaration.getId()) &&
             notification.getType().equals(NotificationType.REJECTION) &&
@@ -336,11 +419,18 @@ public class NotificationServiceTest {
     notificationService.approveRegistrationNotification(member, registration);
 
     //then
-    verify(notificationRepository, times(1)).save(argThat(notification ->
+    verify(notificationDispatcher, times(1)).enqueue(argThat(notification ->
         notification.getMember().equals(member) &&
             notification.getPostId().equals(2L) &&
             notification.getType().equals(NotificationType.REGISTRATION) &&
             notification.getContent().equals("신청된 막걸리 특산주가 승인되었습니다.")
     ));
   }
-}
\ No newline at end of file
+
+  private void runDispatchedTasks() {
+    doAnswer(invocation -> {
+      invocation.getArgument(0, Runnable.class).run();
+      return null;
+    }).when(notificationDispatcher).execute(any(Runnable.class));
+  }
+}
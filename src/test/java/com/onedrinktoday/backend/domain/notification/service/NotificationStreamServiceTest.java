@@ -0,0 +1,213 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationPushMessage;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationPushMessage.Delivery;
+import com.onedrinktoday.backend.domain.notification.dto.NotificationResponse;
+import com.onedrinktoday.backend.domain.notification.entity.Notification;
+import com.onedrinktoday.backend.domain.notification.repository.NotificationRepository;
+import com.onedrinktoday.backend.domain.tagFollow.repository.TagFollowRepository;
+import com.onedrinktoday.backend.global.type.NotificationType;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamServiceTest {
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  @Mock
+  private TagFollowRepository tagFollowRepository;
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  // 회원별로 전송된 이벤트를 기록하는 emitter
+  private final Map<Long, RecordingEmitter> connections = new ConcurrentHashMap<>();
+
+  private NotificationStreamService streamService;
+
+  @BeforeEach
+  void setUp() {
+    streamService = new NotificationStreamService(notificationRepository, tagFollowRepository,
+        redisTemplate, objectMapper, Duration.ofMinutes(30), 100) {
+      @Override
+      SseEmitter createEmitter() {
+        return new RecordingEmitter();
+      }
+    };
+  }
+
+  @Test
+  @DisplayName("재연결 시 Last-Event-ID 이후 알림을 테이블에서 다시 전송")
+  void replayAfterLastEventId() {
+    // Given
+    given(notificationRepository.findByMemberIdAndIdGreaterThanOrderByIdAsc(1L, 10L,
+        PageRequest.of(0, 100))).willReturn(List.of(notification(11L), notification(12L)));
+
+    // When
+    RecordingEmitter emitter = (RecordingEmitter) streamService.connect(1L, 10L);
+
+    // Then - 연결 확인 주석 + 재전송 2건
+    assertEquals(3, emitter.events.size());
+    assertEquals(List.of(11L, 12L), emitter.notificationIds());
+    assertTrue(emitter.events.get(1).contains("id:11"));
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 받은 메시지는 대상 회원 연결에만 전달")
+  void deliverFromOtherNode() throws Exception {
+    // Given
+    RecordingEmitter target = (RecordingEmitter) streamService.connect(1L, null);
+    RecordingEmitter other = (RecordingEmitter) streamService.connect(2L, null);
+    NotificationPushMessage message = NotificationPushMessage.of(
+        List.of(new Delivery(1L, NotificationResponse.from(notification(20L)))));
+
+    // When
+    streamService.onMessage(new DefaultMessage(NotificationStreamService.CHANNEL.getBytes(),
+        objectMapper.writeValueAsBytes(message)), null);
+
+    // Then
+    assertEquals(List.of(20L), target.notificationIds());
+    assertTrue(other.notificationIds().isEmpty());
+  }
+
+  @Test
+  @DisplayName("태그 이벤트는 접속한 팔로워에게만 전달 (작성자 제외)")
+  void deliverTagEventToConnectedFollowers() {
+    // Given
+    given(tagFollowRepository.findAlarmEnabledTagIdsByMemberId(1L)).willReturn(List.of(5L, 6L));
+    given(tagFollowRepository.findAlarmEnabledTagIdsByMemberId(3L)).willReturn(List.of(5L));
+    given(tagFollowRepository.findAlarmEnabledTagIdsByMemberId(2L)).willReturn(List.of(6L));
+    RecordingEmitter follower = (RecordingEmitter) streamService.connect(1L, null);
+    RecordingEmitter stranger = (RecordingEmitter) streamService.connect(2L, null);
+    RecordingEmitter author = (RecordingEmitter) streamService.connect(3L, null);
+
+    NotificationResponse event = NotificationResponse.builder().id(7L).postId(30L)
+        .type(NotificationType.FOLLOW).createdAt(LocalDateTime.now()).tagEvent(true).build();
+
+    // When
+    streamService.deliver(NotificationPushMessage.ofTagEvent(List.of(5L), 3L, event));
+
+    // Then
+    assertEquals(List.of(7L), follower.notificationIds());
+    assertTrue(stranger.notificationIds().isEmpty());
+    assertTrue(author.notificationIds().isEmpty());
+  }
+
+  @Test
+  @DisplayName("팔로우가 바뀐 회원은 팔로우 태그를 다시 읽어 이후 태그 이벤트 전달 대상에 반영")
+  void refreshFollowedTagsOnFollowChange() throws Exception {
+    // Given - 연결 시에는 팔로우 태그 없음
+    given(tagFollowRepository.findAlarmEnabledTagIdsByMemberId(1L))
+        .willReturn(List.of(), List.of(5L));
+    RecordingEmitter follower = (RecordingEmitter) streamService.connect(1L, null);
+    NotificationResponse event = NotificationResponse.builder().id(8L).postId(31L)
+        .type(NotificationType.FOLLOW).createdAt(LocalDateTime.now()).tagEvent(true).build();
+
+    // When - 다른 노드에서 팔로우 변경 메시지 수신 후 태그 이벤트 전달
+    streamService.onMessage(new DefaultMessage(NotificationStreamService.CHANNEL.getBytes(),
+        objectMapper.writeValueAsBytes(NotificationPushMessage.ofFollowChange(1L))), null);
+    streamService.deliver(NotificationPushMessage.ofTagEvent(List.of(5L), 3L, event));
+
+    // Then
+    assertEquals(List.of(8L), follower.notificationIds());
+  }
+
+  @Test
+  @DisplayName("Redis 전파 실패 시 이 노드의 연결에 직접 전달")
+  void fallbackToLocalDelivery() {
+    // Given
+    RecordingEmitter emitter = (RecordingEmitter) streamService.connect(1L, null);
+    doThrow(new RedisConnectionFailureException("down"))
+        .when(redisTemplate).convertAndSend(eq(NotificationStreamService.CHANNEL), anyString());
+
+    // When
+    streamService.publish(NotificationPushMessage.of(
+        List.of(new Delivery(1L, NotificationResponse.from(notification(40L))))));
+
+    // Then
+    assertEquals(List.of(40L), emitter.notificationIds());
+  }
+
+  @Test
+  @DisplayName("하트비트 전송에 실패한 연결은 정리")
+  void heartbeatRemovesClosedConnections() {
+    // Given
+    streamService.connect(1L, null);
+    RecordingEmitter closed = (RecordingEmitter) streamService.connect(2L, null);
+    closed.closed = true;
+
+    // When
+    streamService.heartbeat();
+
+    // Then
+    assertEquals(1, streamService.getConnectionCount());
+  }
+
+  private Notification notification(Long id) {
+    return Notification.builder()
+        .id(id)
+        .member(Member.builder().id(1L).build())
+        .postId(1L)
+        .type(NotificationType.COMMENT)
+        .content("댓글이 달렸습니다.")
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+  private static class RecordingEmitter extends SseEmitter {
+
+    private final List<String> events = new ArrayList<>();
+    private final List<Long> ids = new ArrayList<>();
+    private boolean closed;
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      if (closed) {
+        throw new IOException("closed");
+      }
+
+      StringBuilder raw = new StringBuilder();
+      builder.build().forEach(part -> {
+        if (part.getData() instanceof NotificationResponse response) {
+          ids.add(response.getId());
+        } else {
+          raw.append(part.getData());
+        }
+      });
+      events.add(raw.toString());
+    }
+
+    private List<Long> notificationIds() {
+      return ids;
+    }
+  }
+}
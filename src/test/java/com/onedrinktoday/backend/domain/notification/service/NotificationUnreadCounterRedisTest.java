@@ -0,0 +1,126 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+import com.onedrinktoday.backend.domain.notification.repository.NotificationRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+// 실제 Redis에서 카운터 스크립트 동작 확인 - 스크립트 캐시가 빈 상태에서도 증감이 반영되는지
+// REDIS_HOST=localhost gradle test --tests '*NotificationUnreadCounterRedisTest*' (포트: REDIS_PORT)
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class NotificationUnreadCounterRedisTest {
+
+  private static final List<Long> MEMBER_IDS = List.of(9_000_001L, 9_000_002L, 9_000_003L);
+
+  private LettuceConnectionFactory connectionFactory;
+  private RedisTemplate<String, String> redisTemplate;
+  private NotificationUnreadCounter counter;
+
+  @BeforeEach
+  void setUp() {
+    RedisStandaloneConfiguration conf = new RedisStandaloneConfiguration();
+    conf.setHostName(System.getenv("REDIS_HOST"));
+    conf.setPort(Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+    connectionFactory = new LettuceConnectionFactory(conf);
+    connectionFactory.afterPropertiesSet();
+
+    redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(connectionFactory);
+    redisTemplate.setKeySerializer(new StringRedisSerializer());
+    redisTemplate.setValueSerializer(new StringRedisSerializer());
+    redisTemplate.afterPropertiesSet();
+
+    counter = new NotificationUnreadCounter(redisTemplate, mock(NotificationRepository.class),
+        Duration.ofDays(1), Duration.ofMinutes(1));
+
+    // 재시작 직후처럼 스크립트 캐시를 비움
+    redisTemplate.execute((RedisCallback<Object>) connection -> {
+      connection.scriptingCommands().scriptFlush();
+      return null;
+    });
+    cleanUp();
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+    connectionFactory.destroy();
+  }
+
+  @Test
+  @DisplayName("스크립트 캐시가 비어 있어도 여러 회원의 증감이 파이프라인으로 반영")
+  void incrementAllWithEmptyScriptCache() {
+    // Given
+    redisTemplate.opsForValue().set(NotificationUnreadCounter.key(MEMBER_IDS.get(0)), "5");
+    redisTemplate.opsForValue().set(NotificationUnreadCounter.key(MEMBER_IDS.get(1)), "1");
+
+    // When
+    counter.incrementAll(Map.of(MEMBER_IDS.get(0), 2L, MEMBER_IDS.get(1), -3L,
+        MEMBER_IDS.get(2), 1L));
+
+    // Then - 0 미만으로 내려가지 않고, 키가 없는 회원은 다음 조회 때 DB에서 셈
+    assertEquals("7", get(MEMBER_IDS.get(0)));
+    assertEquals("0", get(MEMBER_IDS.get(1)));
+    assertFalse(Boolean.TRUE.equals(
+        redisTemplate.hasKey(NotificationUnreadCounter.key(MEMBER_IDS.get(2)))));
+  }
+
+  @Test
+  @DisplayName("스크립트 캐시가 비어 있어도 한 회원의 감소가 반영")
+  void decrementWithEmptyScriptCache() {
+    // Given
+    redisTemplate.opsForValue().set(NotificationUnreadCounter.key(MEMBER_IDS.get(0)), "5");
+
+    // When
+    counter.decrement(MEMBER_IDS.get(0), 2);
+
+    // Then
+    assertEquals("3", get(MEMBER_IDS.get(0)));
+  }
+
+  @Test
+  @DisplayName("채우는 중 들어온 증감은 pending 버전을 올려 DB 값 저장을 막음")
+  void incrementWhileFillingBumpsPending() {
+    // Given
+    Long memberId = MEMBER_IDS.get(0);
+    List<String> keys = List.of(NotificationUnreadCounter.key(memberId),
+        NotificationUnreadCounter.pendingKey(memberId));
+    Long version = redisTemplate.execute(NotificationUnreadCounter.BEGIN_FILL_SCRIPT, keys,
+        "60000");
+
+    // When
+    counter.incrementAll(Map.of(memberId, 1L, MEMBER_IDS.get(1), 1L));
+    Long filled = redisTemplate.execute(NotificationUnreadCounter.FILL_SCRIPT, keys, "3",
+        String.valueOf(version), "60000");
+
+    // Then
+    assertEquals(0L, version);
+    assertEquals(-1L, filled);
+    assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(keys.get(0))));
+  }
+
+  private String get(Long memberId) {
+    return redisTemplate.opsForValue().get(NotificationUnreadCounter.key(memberId));
+  }
+
+  private void cleanUp() {
+    for (Long memberId : MEMBER_IDS) {
+      redisTemplate.delete(List.of(NotificationUnreadCounter.key(memberId),
+          NotificationUnreadCounter.pendingKey(memberId)));
+    }
+  }
+}
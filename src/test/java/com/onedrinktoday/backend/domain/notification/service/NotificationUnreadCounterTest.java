@@ -0,0 +1,171 @@
+package com.onedrinktoday.backend.domain.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.notification.repository.NotificationRepository;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterTest {
+
+  private static final Duration TTL = Duration.ofDays(1);
+  private static final Duration FILL_WINDOW = Duration.ofMinutes(1);
+  private static final List<String> KEYS =
+      List.of("notification:unread:1", "notification:unread-pending:1");
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  private NotificationUnreadCounter counter;
+
+  @BeforeEach
+  void setUp() {
+    counter = new NotificationUnreadCounter(redisTemplate, notificationRepository, TTL,
+        FILL_WINDOW);
+    lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+  }
+
+  @Test
+  @DisplayName("카운터가 있으면 DB를 조회하지 않음")
+  void cachedCount() {
+    // Given
+    given(valueOperations.get("notification:unread:1")).willReturn("7");
+
+    // When
+    long count = counter.getUnreadCount(1L);
+
+    // Then
+    assertEquals(7L, count);
+    verify(notificationRepository, never()).countByMemberIdAndReadStatusFalse(1L);
+  }
+
+  @Test
+  @DisplayName("카운터가 없으면 DB에서 세어 채우기 시작 이후 증감이 없을 때만 저장")
+  void loadCountOnMiss() {
+    // Given
+    given(redisTemplate.execute(NotificationUnreadCounter.BEGIN_FILL_SCRIPT, KEYS, "60000"))
+        .willReturn(0L);
+    given(notificationRepository.countByMemberIdAndReadStatusFalse(1L)).willReturn(3L);
+    given(redisTemplate.execute(NotificationUnreadCounter.FILL_SCRIPT, KEYS, "3", "0",
+        String.valueOf(TTL.toMillis()))).willReturn(3L);
+
+    // When
+    long count = counter.getUnreadCount(1L);
+
+    // Then
+    assertEquals(3L, count);
+  }
+
+  @Test
+  @DisplayName("세는 동안 증감이 있었으면 저장하지 않고 DB 개수로 응답")
+  void skipFillWhenChangedWhileCounting() {
+    // Given
+    given(redisTemplate.execute(NotificationUnreadCounter.BEGIN_FILL_SCRIPT, KEYS, "60000"))
+        .willReturn(0L);
+    given(notificationRepository.countByMemberIdAndReadStatusFalse(1L)).willReturn(3L);
+    given(redisTemplate.execute(NotificationUnreadCounter.FILL_SCRIPT, KEYS, "3", "0",
+        String.valueOf(TTL.toMillis()))).willReturn(-1L);
+
+    // When
+    long count = counter.getUnreadCount(1L);
+
+    // Then
+    assertEquals(3L, count);
+  }
+
+  @Test
+  @DisplayName("여러 회원의 증감은 스크립트를 먼저 등록한 뒤 파이프라인으로 전송")
+  @SuppressWarnings("unchecked")
+  void loadScriptBeforePipeline() {
+    // When
+    counter.incrementAll(Map.of(1L, 1L, 2L, 1L));
+
+    // Then
+    InOrder inOrder = inOrder(redisTemplate);
+    inOrder.verify(redisTemplate).execute(any(RedisCallback.class));
+    inOrder.verify(redisTemplate).executePipelined(any(SessionCallback.class));
+  }
+
+  @Test
+  @DisplayName("한 회원의 증감은 파이프라인 없이 실행")
+  void singleIncrementWithoutPipeline() {
+    // When
+    counter.decrement(1L, 2);
+
+    // Then
+    verify(redisTemplate).execute(NotificationUnreadCounter.INCREMENT_SCRIPT, KEYS, "-2");
+    verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시 DB 개수로 응답")
+  void fallbackToDatabase() {
+    // Given
+    given(valueOperations.get(anyString()))
+        .willThrow(new RedisConnectionFailureException("down"));
+    given(notificationRepository.countByMemberIdAndReadStatusFalse(1L)).willReturn(2L);
+
+    // When
+    long count = counter.getUnreadCount(1L);
+
+    // Then
+    assertEquals(2L, count);
+  }
+
+  @Test
+  @DisplayName("재조정 시 DB와 다른 카운터만 교정")
+  @SuppressWarnings("unchecked")
+  void reconcileCorrectsDrift() {
+    // Given
+    Cursor<String> cursor = mock(Cursor.class);
+    given(cursor.hasNext()).willReturn(true, true, false);
+    given(cursor.next()).willReturn("notification:unread:1", "notification:unread:2");
+    given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+
+    given(notificationRepository.countUnreadByMemberIds(List.of(1L, 2L)))
+        .willReturn(List.<Object[]>of(new Object[]{1L, 4L}));
+    given(valueOperations.multiGet(List.of("notification:unread:1", "notification:unread:2")))
+        .willReturn(Arrays.asList("4", "5"));
+
+    // When
+    counter.reconcile();
+
+    // Then - 2번 회원은 읽지 않은 알림이 없으므로 읽은 값(5) 그대로일 때만 0으로 교정
+    verify(redisTemplate).execute(NotificationUnreadCounter.RECONCILE_SCRIPT,
+        List.of("notification:unread:2"), "5", "0", String.valueOf(TTL.toMillis()));
+    verify(redisTemplate, never()).execute(NotificationUnreadCounter.RECONCILE_SCRIPT,
+        List.of("notification:unread:1"), "4", "4", String.valueOf(TTL.toMillis()));
+    verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+  }
+}
@@ -0,0 +1,222 @@
+package com.onedrinktoday.backend.domain.post.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteService;
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.drink.service.DrinkRatingStatsService;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.member.service.MemberService;
+import com.onedrinktoday.backend.domain.notification.service.NotificationService;
+import com.onedrinktoday.backend.domain.post.dto.PostCursorResponse;
+import com.onedrinktoday.backend.domain.post.dto.PostResponse;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.domain.search.SearchService;
+import com.onedrinktoday.backend.domain.tag.service.TagService;
+import com.onedrinktoday.backend.global.cache.CacheService;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PostService.class, JacksonAutoConfiguration.class})
+public class PostFeedCursorTest {
+
+  private static final int POST_COUNT = 2000;
+  private static final int PAGE_SIZE = 10;
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private MemberService memberService;
+
+  @MockBean
+  private CacheManager cacheManager;
+
+  @MockBean
+  private CacheService cacheService;
+
+  @MockBean
+  private NotificationService notificationService;
+
+  @MockBean
+  private SearchService searchService;
+
+  @MockBean
+  private AutoCompleteService autoCompleteService;
+
+  @MockBean
+  private PostViewCountService postViewCountService;
+
+  @MockBean
+  private TagService tagService;
+
+  @MockBean
+  private DrinkRatingStatsService drinkRatingStatsService;
+
+  private Member viewer;
+
+  @BeforeEach
+  void setUp() {
+    Region region = Region.builder().placeName("서울특별시").build();
+    entityManager.persist(region);
+
+    viewer = Member.builder().name("회원").email("member@test.com").region(region)
+        .role(Role.USER).build();
+    entityManager.persist(viewer);
+
+    Drink drink = Drink.builder().name("막걸리").description("설명").region(region).build();
+    entityManager.persist(drink);
+    entityManager.flush();
+
+    // 작성 시각은 3건씩, 조회수는 50으로 나눈 나머지가 같은 게시글끼리 겹치도록 해 id 보조 정렬 검증
+    LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+    List<Object[]> rows = new ArrayList<>(POST_COUNT);
+    for (int i = 0; i < POST_COUNT; i++) {
+      rows.add(new Object[]{viewer.getId(), drink.getId(), "게시글" + i, i % 50, 0,
+          Timestamp.valueOf(base.plusMinutes(i / 3))});
+    }
+    jdbcTemplate.batchUpdate("INSERT INTO post "
+        + "(member_id, drink_id, content, view_count, like_count, created_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    entityManager.clear();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"createdAt", "viewCount"})
+  @DisplayName("커서로 끝까지 조회하면 모든 게시글을 정렬 순서대로 한 번씩 조회")
+  void walkAllPages(String sortBy) {
+    // Given
+    String orderBy = "viewCount".equals(sortBy) ? "view_count" : "created_at";
+    List<Long> expected = jdbcTemplate.queryForList(
+        "SELECT id FROM post ORDER BY " + orderBy + " DESC, id DESC", Long.class);
+
+    // When
+    List<Long> visited = new ArrayList<>();
+    String cursor = null;
+    do {
+      PostCursorResponse response = postService.getPostsByCursor(cursor, PAGE_SIZE, sortBy,
+          viewer.getId());
+      response.getPosts().stream().map(PostResponse::getId).forEach(visited::add);
+      cursor = response.getNextCursor();
+    } while (cursor != null);
+
+    // Then
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  @DisplayName("깊은 페이지도 첫 페이지와 같은 쿼리 수로 조회 (OFFSET, count 쿼리 없음)")
+  void deepPageQueryCountIsConstant() {
+    // Given
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    String cursor = null;
+    long firstPageStatements = 0;
+    long lastPageStatements = 0;
+    int pages = 0;
+
+    // When
+    do {
+      statistics.clear();
+      PostCursorResponse response = postService.getPostsByCursor(cursor, PAGE_SIZE, "createdAt",
+          viewer.getId());
+      if (pages++ == 0) {
+        firstPageStatements = statistics.getPrepareStatementCount();
+      }
+      lastPageStatements = statistics.getPrepareStatementCount();
+      cursor = response.getNextCursor();
+    } while (cursor != null);
+
+    // Then - 게시글(1) + 태그(1) + 좋아요(1)
+    assertEquals(POST_COUNT / PAGE_SIZE, pages);
+    assertEquals(3, firstPageStatements);
+    assertEquals(3, lastPageStatements);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"createdAt", "viewCount"})
+  @DisplayName("정렬 값이 없는 게시글도 커서로 끝까지 한 번씩 조회")
+  void walkAllPagesWithNullSortValue(String sortBy) {
+    // Given - 기존 게시글 중 일부는 조회수/작성 시각이 NULL
+    String orderBy = "viewCount".equals(sortBy) ? "view_count" : "created_at";
+    jdbcTemplate.update("UPDATE post SET " + orderBy + " = NULL WHERE MOD(id, 7) = 0");
+    List<Long> expected = jdbcTemplate.queryForList(
+        "SELECT id FROM post ORDER BY " + orderBy + " DESC, id DESC", Long.class);
+
+    // When
+    List<Long> visited = new ArrayList<>();
+    String cursor = null;
+    do {
+      PostCursorResponse response = postService.getPostsByCursor(cursor, PAGE_SIZE, sortBy,
+          viewer.getId());
+      response.getPosts().stream().map(PostResponse::getId).forEach(visited::add);
+      cursor = response.getNextCursor();
+    } while (cursor != null);
+
+    // Then
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  @DisplayName("요청 크기는 최대 페이지 크기로 제한하고 마지막 페이지는 다음 커서 없음")
+  void clampSizeAndLastPageHasNoCursor() {
+    // When
+    PostCursorResponse response = postService.getPostsByCursor(null, POST_COUNT, "createdAt",
+        viewer.getId());
+    int pages = 1;
+    while (response.isHasNext()) {
+      assertEquals(PostService.MAX_PAGE_SIZE, response.getPosts().size());
+      response = postService.getPostsByCursor(response.getNextCursor(), POST_COUNT, "createdAt",
+          viewer.getId());
+      pages++;
+    }
+
+    // Then
+    assertEquals(POST_COUNT / PostService.MAX_PAGE_SIZE, pages);
+    assertFalse(response.isHasNext());
+    assertNull(response.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("정렬 기준이 다르거나 변조된 커서는 거부")
+  void rejectInvalidCursor() {
+    String createdAtCursor = postService.getPostsByCursor(null, PAGE_SIZE, "createdAt",
+        viewer.getId()).getNextCursor();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> postService.getPostsByCursor(createdAtCursor, PAGE_SIZE, "viewCount", viewer.getId()));
+    assertThrows(IllegalArgumentException.class,
+        () -> postService.getPostsByCursor("not-a-cursor", PAGE_SIZE, "createdAt", viewer.getId()));
+  }
+}
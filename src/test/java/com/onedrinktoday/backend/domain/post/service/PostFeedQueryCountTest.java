@@ -0,0 +1,138 @@
+package com.onedrinktoday.backend.domain.post.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteService;
+import com.onedrinktoday.backend.domain.drink.service.DrinkRatingStatsService;
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.member.service.MemberService;
+import com.onedrinktoday.backend.domain.notification.service.NotificationService;
+import com.onedrinktoday.backend.domain.post.dto.PostResponse;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.postLike.entity.PostLike;
+import com.onedrinktoday.backend.domain.postTag.entity.PostTag;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.domain.search.SearchService;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.domain.tag.service.TagService;
+import com.onedrinktoday.backend.global.cache.CacheService;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PostService.class, JacksonAutoConfiguration.class})
+public class PostFeedQueryCountTest {
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @MockBean
+  private MemberService memberService;
+
+  @MockBean
+  private CacheManager cacheManager;
+
+  @MockBean
+  private CacheService cacheService;
+
+  @MockBean
+  private NotificationService notificationService;
+
+  @MockBean
+  private SearchService searchService;
+
+  @MockBean
+  private AutoCompleteService autoCompleteService;
+
+  @MockBean
+  private PostViewCountService postViewCountService;
+
+  @MockBean
+  private TagService tagService;
+
+  @MockBean
+  private DrinkRatingStatsService drinkRatingStatsService;
+
+  @ParameterizedTest
+  @ValueSource(ints = {5, 50})
+  @DisplayName("게시글 목록 조회 쿼리 수는 페이지 크기와 무관")
+  void feedQueryCountIsConstant(int pageSize) {
+    // Given
+    Member viewer = seed(pageSize);
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // When
+    Page<PostResponse> createdAtFeed =
+        postService.getAllPosts(PageRequest.of(0, pageSize), "createdAt", viewer.getId());
+    Page<PostResponse> viewCountFeed =
+        postService.getAllPosts(PageRequest.of(0, pageSize), "viewCount", viewer.getId());
+
+    // Then - 게시글(1) + count(1) + 태그(1) + 좋아요(1)
+    assertEquals(8, statistics.getPrepareStatementCount());
+    assertEquals(pageSize, createdAtFeed.getContent().size());
+    assertEquals(pageSize, viewCountFeed.getContent().size());
+    assertTrue(createdAtFeed.getContent().stream().allMatch(p -> p.getTags().size() == 2));
+    assertEquals(pageSize / 2, createdAtFeed.getContent().stream().filter(PostResponse::isLiked).count());
+  }
+
+  // 페이지 크기의 두 배만큼 게시글을 만들고, 작성자·특산주·태그를 게시글마다 다르게 둔다
+  private Member seed(int pageSize) {
+    Member viewer = null;
+
+    for (int i = 0; i < pageSize * 2; i++) {
+      Region region = Region.builder().placeName("지역" + i).build();
+      entityManager.persist(region);
+
+      Member member = Member.builder().name("회원" + i).email("member" + i + "@test.com")
+          .region(region).role(Role.USER).build();
+      entityManager.persist(member);
+      if (viewer == null) {
+        viewer = member;
+      }
+
+      Drink drink = Drink.builder().name("특산주" + i).description("설명").region(region).build();
+      entityManager.persist(drink);
+
+      Post post = Post.builder().member(member).drink(drink).content("맛있는 특산주입니다!")
+          .viewCount(i).likeCount(0).build();
+      entityManager.persist(post);
+
+      for (int t = 0; t < 2; t++) {
+        Tag tag = Tag.builder().tagName("태그" + i + "-" + t).build();
+        entityManager.persist(tag);
+        entityManager.persist(new PostTag(post, tag));
+      }
+
+      if (i % 2 == 0) {
+        entityManager.persist(new PostLike(null, post, viewer));
+      }
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+    return viewer;
+  }
+}
@@ -0,0 +1,152 @@
+package com.onedrinktoday.backend.domain.post.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteService;
+import com.onedrinktoday.backend.domain.drink.service.DrinkRatingStatsService;
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.member.service.MemberService;
+import com.onedrinktoday.backend.domain.notification.service.NotificationService;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.post.repository.PostRepository;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.domain.search.SearchService;
+import com.onedrinktoday.backend.domain.tag.service.TagService;
+import com.onedrinktoday.backend.global.cache.CacheService;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:post-like;MODE=MariaDB;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+    "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({PostService.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PostLikeConcurrencyTest {
+
+  private static final int MEMBER_COUNT = 100;
+  private static final int TOGGLE_COUNT = 3000;
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @MockBean
+  private MemberService memberService;
+
+  @MockBean
+  private CacheManager cacheManager;
+
+  @MockBean
+  private CacheService cacheService;
+
+  @MockBean
+  private NotificationService notificationService;
+
+  @MockBean
+  private SearchService searchService;
+
+  @MockBean
+  private AutoCompleteService autoCompleteService;
+
+  @MockBean
+  private PostViewCountService postViewCountService;
+
+  @MockBean
+  private TagService tagService;
+
+  @MockBean
+  private DrinkRatingStatsService drinkRatingStatsService;
+
+  private final ThreadLocal<Member> currentMember = new ThreadLocal<>();
+
+  @Test
+  @DisplayName("동시 좋아요 토글 후 좋아요 수와 post_like 행 수 일치")
+  void concurrentToggleKeepsLikeCountConsistent() throws Exception {
+    // Given
+    List<Member> members = new ArrayList<>();
+    Post post = transactionTemplate.execute(status -> seed(members));
+    given(memberService.getMember()).willAnswer(invocation -> currentMember.get());
+
+    // When - 같은 회원의 토글이 서로 겹치도록 임의 회원으로 동시에 토글
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < TOGGLE_COUNT; i++) {
+      futures.add(executor.submit(() -> {
+        currentMember.set(members.get(ThreadLocalRandom.current().nextInt(MEMBER_COUNT)));
+        postService.toggleLike(post.getId());
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    // Then
+    Integer rowCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM post_like WHERE post_id = ?", Integer.class, post.getId());
+    Integer likeCount = postRepository.findById(post.getId()).orElseThrow().getLikeCount();
+
+    assertEquals(rowCount, likeCount);
+    assertTrue(rowCount <= MEMBER_COUNT);
+  }
+
+  private Post seed(List<Member> members) {
+    Region region = Region.builder().placeName("서울특별시").build();
+    entityManager.persist(region);
+
+    Member author = Member.builder().name("작성자").email("author@test.com").role(Role.USER).build();
+    entityManager.persist(author);
+
+    for (int i = 0; i < MEMBER_COUNT; i++) {
+      Member member = Member.builder().name("회원" + i).email("member" + i + "@test.com")
+          .role(Role.USER).build();
+      entityManager.persist(member);
+      members.add(member);
+    }
+
+    Drink drink = Drink.builder().name("막걸리").description("설명").region(region).build();
+    entityManager.persist(drink);
+
+    Post post = Post.builder().member(author).drink(drink).content("맛있는 막걸리입니다!")
+        .viewCount(0).likeCount(0).build();
+    entityManager.persist(post);
+
+    return post;
+  }
+}
@@ -2,16 +2,19 @@ package com.onedrinktoday.backend.domain.post.service;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.BDDMockito.given;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteService;
+import com.onedrinktoday.backend.domain.drink.dto.DrinkRatingSummary;
 import com.onedrinktoday.backend.domain.drink.entity.Drink;
 import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
+import com.onedrinktoday.backend.domain.drink.service.DrinkRatingStatsService;
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.service.MemberService;
 import com.onedrinktoday.backend.domain.notification.service.NotificationService;
@@ -19,19 +22,18 @@ import com.onedrinktoday.backend.domain.post.dto.PostRequest;
 import com.onedrinktoday.backend.domain.post.dto.PostResponse;
 import com.onedrinktoday.backend.domain.post.entity.Post;
 import com.onedrinktoday.backend.domain.post.repository.PostRepository;
-import com.onedrinktoday.backend.domain.postLike.entity.PostLike;
 import com.onedrinktoday.backend.domain.postLike.repository.PostLikeRepository;
-import com.onedrinktoday.backend.domain.postTag.entity.PostTag;
 import com.onedrinktoday.backend.domain.postTag.repository.PostTagRepository;
 import com.onedrinktoday.backend.domain.region.entity.Region;
 import com.onedrinktoday.backend.domain.search.SearchService;
 import com.onedrinktoday.backend.domain.tag.entity.Tag;
-import com.onedrinktoday.backend.domain.tag.repository.TagRepository;
+import com.onedrinktoday.backend.domain.tag.service.TagService;
 import com.onedrinktoday.backend.global.cache.CacheService;
 import com.onedrinktoday.backend.global.exception.CustomException;
 import com.onedrinktoday.backend.global.type.Role;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,8 +43,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -63,7 +63,7 @@ public class PostServiceTest {
   private DrinkRepository drinkRepository;
 
   @Mock
-  private TagRepository tagRepository;
+  private TagService tagService;
 
   @Mock
   private PostTagRepository postTagRepository;
@@ -78,11 +78,17 @@ public class PostServiceTest {
   private CacheService cacheService;
 
   @Mock
-  private CacheManager cacheManager;
+  private DrinkRatingStatsService drinkRatingStatsService;
 
   @Mock
   private SearchService searchService;
 
+  @Mock
+  private AutoCompleteService autoCompleteService;
+
+  @Mock
+  private PostViewCountService postViewCountService;
+
   private PostRequest postRequest;
   private Post post;
   private Member member;
@@ -115,15 +121,10 @@ public class PostServiceTest {
     Tag newTag1 = Tag.builder().tagId(1L).tagName("달콤").build();
     Tag newTag2 = Tag.builder().tagId(2L).tagName("시원").build();
 
-    given(tagRepository.findByTagName("달콤")).willReturn(Optional.of(newTag1));
-    given(tagRepository.findByTagName("시원")).willReturn(Optional.of(newTag2));
+    given(tagService.resolveTags(Arrays.asList("달콤", "시원"))).willReturn(List.of(newTag1, newTag2));
 
     given(postRepository.save(any(Post.class))).willReturn(post);
 
-    PostTag postTag1 = new PostTag(post, newTag1);
-    PostTag postTag2 = new PostTag(post, newTag2);
-    given(postTagRepository.save(any(PostTag.class))).willReturn(postTag1).willReturn(postTag2);
-
     ArgumentCaptor<List<Tag>> tagListCaptor = ArgumentCaptor.forClass(List.class);
 
     // When
@@ -133,6 +134,9 @@ public class PostServiceTest {
     assertNotNull(postResponse);
     assertEquals(postResponse.getContent(), "맛있는 막걸리입니다!");
     verify(notificationService).tagFollowPostNotification(eq(post.getId()), tagListCaptor.capture());
+    verify(tagService).linkTags(post.getId(), List.of(newTag1, newTag2));
+    verify(drinkRatingStatsService).addRating(1L, post.getRating());
+    assertEquals(2, postResponse.getTags().size());
   }
 
   @Test
@@ -152,7 +156,8 @@ public class PostServiceTest {
     // Given
     given(postRepository.findById(1L)).willReturn(Optional.of(post));
     given(postTagRepository.findTagsByPostId(1L)).willReturn(tags);
-    given(cacheService.getAverageRating(1L)).willReturn(4.0);
+    given(cacheService.getRatingSummary(1L)).willReturn(new DrinkRatingSummary(4.0,
+        Map.of(1, 0L, 2, 0L, 3, 0L, 4, 1L, 5, 0L)));
 
     // 로그인된 회원 정보 설정
     given(memberService.getMember()).willReturn(member);
@@ -166,6 +171,10 @@ public class PostServiceTest {
     // Then
     assertNotNull(postResponse);
     assertEquals(postResponse.getContent(), "맛있는 막걸리입니다!");
+    assertEquals(4.0, postResponse.getDrink().getAverageRating());
+    assertEquals(1L, postResponse.getDrink().getRatingDistribution().get(4));
+    verify(postViewCountService).increment(1L);
+    verify(postRepository, never()).save(any(Post.class));
   }
 
   @Test
@@ -220,9 +229,11 @@ public class PostServiceTest {
     Tag newTag1 = Tag.builder().tagId(1L).tagName("씁쓸").build();
     Tag newTag2 = Tag.builder().tagId(2L).tagName("새콤").build();
 
-    // 태그 저장 로직 수정
-    given(tagRepository.findByTagName("씁쓸")).willReturn(Optional.of(newTag1));
-    given(tagRepository.findByTagName("새콤")).willReturn(Optional.of(newTag2));
+    // 기존 태그 중 "달콤"은 삭제, "씁쓸"은 유지, "새콤"은 추가
+    Tag oldTag = Tag.builder().tagId(3L).tagName("달콤").build();
+    given(postTagRepository.findTagsByPostId(1L)).willReturn(List.of(oldTag, newTag1));
+    given(tagService.resolveTags(Arrays.asList("씁쓸", "새콤")))
+        .willReturn(List.of(newTag1, newTag2));
     given(postRepository.save(any(Post.class))).willReturn(post);
 
     PostRequest updatedRequest = new PostRequest();
@@ -241,6 +252,57 @@ public class PostServiceTest {
     assertEquals(2, postResponse.getTags().size());
     assertEquals("씁쓸", postResponse.getTags().get(0).getTagName());
     assertEquals("새콤", postResponse.getTags().get(1).getTagName());
+    verify(postTagRepository).deleteByPostIdAndTagIdIn(1L, List.of(3L));
+    verify(tagService).linkTags(1L, List.of(newTag2));
+    verify(drinkRatingStatsService).changeRating(1L, null, 1L, 5.0F);
+  }
+
+  @Test
+  @DisplayName("게시글 수정 시 표기만 다른 태그명은 같은 태그로 보고 다시 연결하지 않음")
+  void successUpdatePostSameTagDifferentCase() {
+    // Given
+    given(postRepository.findById(1L)).willReturn(Optional.of(post));
+    given(postRepository.save(any(Post.class))).willReturn(post);
+
+    Tag existing = Tag.builder().tagId(1L).tagName("IPA").build();
+    given(postTagRepository.findTagsByPostId(1L)).willReturn(List.of(existing));
+    given(tagService.resolveTags(List.of("ipa"))).willReturn(List.of(existing));
+
+    PostRequest updatedRequest = new PostRequest();
+    updatedRequest.setContent("업데이트된 내용입니다!");
+    updatedRequest.setTag(List.of("ipa"));
+
+    // When
+    PostResponse postResponse = postService.updatePost(1L, updatedRequest);
+
+    // Then
+    assertEquals("IPA", postResponse.getTags().get(0).getTagName());
+    verify(postTagRepository, never()).deleteByPostIdAndTagIdIn(any(), any());
+    verify(tagService).linkTags(1L, List.of());
+  }
+
+  @Test
+  @DisplayName("게시글 수정 성공 테스트 - 다른 특산주로 이동 시 양쪽 평점 집계 반영")
+  void successUpdatePostMoveDrink() {
+    // Given
+    post.setRating(3.0F);
+    Drink otherDrink = Drink.builder().id(2L).name("청주").region(region).build();
+    given(postRepository.findById(1L)).willReturn(Optional.of(post));
+    given(drinkRepository.findById(2L)).willReturn(Optional.of(otherDrink));
+    given(postRepository.save(any(Post.class))).willReturn(post);
+    given(postTagRepository.findTagsByPostId(1L)).willReturn(List.of());
+    given(tagService.resolveTags(List.of())).willReturn(List.of());
+
+    PostRequest updatedRequest = new PostRequest();
+    updatedRequest.setDrinkId(2L);
+    updatedRequest.setContent("청주로 옮긴 게시글입니다!");
+    updatedRequest.setRating(4.0F);
+
+    // When
+    postService.updatePost(1L, updatedRequest);
+
+    // Then
+    verify(drinkRatingStatsService).changeRating(1L, 3.0F, 2L, 4.0F);
   }
 
   @Test
@@ -266,16 +328,12 @@ public class PostServiceTest {
     given(postRepository.findById(1L)).willReturn(Optional.of(post));
     given(memberService.getMember()).willReturn(member);
 
-    Cache cache = mock(Cache.class);
-    given(cacheManager.getCache("avg-rating")).willReturn(cache);
-    doNothing().when(cache).evict(1L);
-
     // When
     postService.deletePostById(1L);
 
     // Then
     verify(postRepository).deleteById(1L);
-    verify(cacheManager.getCache("avg-rating")).evict(1L);
+    verify(drinkRatingStatsService).removeRating(1L, post.getRating());
   }
 
   @Test
@@ -293,57 +351,61 @@ public class PostServiceTest {
   }
 
   @Test
-  @DisplayName("캐시에서 평균 평점 가져오기 테스트")
-  void getAverageRatingFromCache() {
+  @DisplayName("좋아요 토글 테스트 - 처음 좋아요 누름")
+  void successToggleLikeFirstTime() {
     // Given
-    given(cacheService.getAverageRating(1L)).willReturn(4.5);
+    given(postRepository.existsById(1L)).willReturn(true);
+    given(memberService.getMember()).willReturn(member);
+    given(postLikeRepository.deleteByPostIdAndMemberId(1L, 1L)).willReturn(0);  // 아직 좋아요 안 누른 상태
+    given(postLikeRepository.insertIgnore(1L, 1L)).willReturn(1);
 
     // When
-    Double rating = cacheService.getAverageRating(1L);
+    postService.toggleLike(1L);
 
     // Then
-    assertNotNull(rating);
-    assertEquals(4.5, rating);
+    verify(postRepository).addLikeCount(1L, 1);  // 좋아요 수가 1 증가했는지 확인
+    verify(postRepository, never()).save(any(Post.class));
+    verify(searchService).requestIndex(1L);  // 검색 문서의 좋아요 수 갱신 요청
   }
 
   @Test
-  @DisplayName("좋아요 토글 테스트 - 처음 좋아요 누름")
-  void successToggleLikeFirstTime() {
+  @DisplayName("좋아요 토글 테스트 - 좋아요 취소")
+  void successToggleUnlike() {
     // Given
-    given(postRepository.findById(1L)).willReturn(Optional.of(post));
+    given(postRepository.existsById(1L)).willReturn(true);
     given(memberService.getMember()).willReturn(member);
-    given(postLikeRepository.existsByPostAndMember(post, member)).willReturn(false);  // 아직 좋아요 안 누른 상태
+    given(postLikeRepository.deleteByPostIdAndMemberId(1L, 1L)).willReturn(1);  // 이미 좋아요 눌린 상태
 
     // When
     postService.toggleLike(1L);
 
     // Then
-    assertEquals(1, post.getLikeCount());  // 좋아요 수가 1 증가했는지 확인
-    verify(postLikeRepository).save(any(PostLike.class));  // PostLike 객체가 저장되었는지 확인
+    verify(postRepository).addLikeCount(1L, -1);  // 좋아요 수가 1 감소했는지 확인
+    verify(postLikeRepository, never()).insertIgnore(any(), any());
   }
 
   @Test
-  @DisplayName("좋아요 토글 테스트 - 좋아요 취소")
-  void successToggleUnlike() {
+  @DisplayName("좋아요 토글 테스트 - 동시 요청으로 이미 추가된 좋아요")
+  void successToggleLikeAlreadyInserted() {
     // Given
-    post.setLikeCount(1);  // 이미 좋아요가 눌린 상태
-    given(postRepository.findById(1L)).willReturn(Optional.of(post));
+    given(postRepository.existsById(1L)).willReturn(true);
     given(memberService.getMember()).willReturn(member);
-    given(postLikeRepository.existsByPostAndMember(post, member)).willReturn(true);  // 이미 좋아요 눌린 상태
+    given(postLikeRepository.deleteByPostIdAndMemberId(1L, 1L)).willReturn(0);
+    given(postLikeRepository.insertIgnore(1L, 1L)).willReturn(0);  // 유니크 제약으로 무시됨
 
     // When
     postService.toggleLike(1L);
 
     // Then
-    assertEquals(0, post.getLikeCount());  // 좋아요 수가 1 감소했는지 확인
-    verify(postLikeRepository).deleteByPostAndMember(post, member);  // PostLike가 삭제되었는지 확인
+    verify(postRepository, never()).addLikeCount(any(), anyInt());
+    verify(searchService, never()).requestIndex(any());
   }
 
   @Test
   @DisplayName("좋아요 토글 실패 테스트 - 존재하지 않는 게시글")
   void failToggleLikeNotFoundPost() {
     // Given
-    given(postRepository.findById(999L)).willReturn(Optional.empty());
+    given(postRepository.existsById(999L)).willReturn(false);
 
     // When & Then
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
@@ -0,0 +1,134 @@
+package com.onedrinktoday.backend.domain.post.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class PostViewCountServiceTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private PostViewCountService postViewCountService;
+
+  @BeforeEach
+  void setUp() {
+    postViewCountService = service(1000, 100);
+  }
+
+  @Test
+  @DisplayName("조회수 증가 시 DB 반영 전 조회수 합산")
+  void mergePendingViews() {
+    // When
+    postViewCountService.increment(1L);
+    postViewCountService.increment(1L);
+    postViewCountService.increment(2L);
+
+    // Then
+    assertEquals(12, postViewCountService.merge(1L, 10));
+    assertEquals(1, postViewCountService.merge(2L, null));
+    verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+  }
+
+  @Test
+  @DisplayName("누적 조회수를 한 번의 UPDATE로 반영")
+  void flushAggregatedDeltas() {
+    // Given
+    postViewCountService.increment(1L);
+    postViewCountService.increment(1L);
+    postViewCountService.increment(2L);
+
+    ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<Object[]> paramsCaptor = ArgumentCaptor.forClass(Object[].class);
+
+    // When
+    postViewCountService.flush();
+
+    // Then
+    verify(jdbcTemplate, times(1)).update(sqlCaptor.capture(), paramsCaptor.capture());
+    assertEquals("UPDATE post SET view_count = COALESCE(view_count, 0) + CASE id"
+        + " WHEN ? THEN ? WHEN ? THEN ? ELSE 0 END WHERE id IN (?, ?)", sqlCaptor.getValue());
+
+    // WHEN ? THEN ? 쌍: 게시글 ID -> 증가분
+    Object[] params = paramsCaptor.getValue();
+    Map<Object, Object> deltas = Map.of(params[0], params[1], params[2], params[3]);
+    assertEquals(2L, deltas.get(1L));
+    assertEquals(1L, deltas.get(2L));
+    assertEquals(0, postViewCountService.getPending(1L));
+  }
+
+  @Test
+  @DisplayName("임계치 도달 시 주기를 기다리지 않고 반영 요청")
+  void flushWhenThresholdReached() {
+    // Given
+    postViewCountService = service(3, 100);
+
+    // When
+    postViewCountService.increment(1L);
+    postViewCountService.increment(1L);
+    postViewCountService.increment(1L);
+
+    // Then
+    verify(jdbcTemplate).update(anyString(), any(Object[].class));
+    assertEquals(0, postViewCountService.getPending(1L));
+  }
+
+  @Test
+  @DisplayName("반영 실패 시 누적 조회수 보존하고 재시도 간격 동안은 다시 반영하지 않음")
+  void restorePendingViewsOnFailure() {
+    // Given
+    postViewCountService = service(2, 100);
+    postViewCountService.increment(1L);
+    given(jdbcTemplate.update(anyString(), any(Object[].class)))
+        .willThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+    // When - 임계치 도달로 한 번 실패한 뒤 조회와 주기 반영이 이어짐
+    postViewCountService.increment(1L);
+    postViewCountService.increment(1L);
+    postViewCountService.flush();
+
+    // Then
+    verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+    assertEquals(3, postViewCountService.getPending(1L));
+  }
+
+  @Test
+  @DisplayName("미반영 게시글 수가 상한에 닿으면 새 게시글 조회수는 버림")
+  void dropNewPostsWhenFull() {
+    // Given
+    postViewCountService = service(1000, 2);
+
+    // When
+    postViewCountService.increment(1L);
+    postViewCountService.increment(2L);
+    postViewCountService.increment(3L);
+    postViewCountService.increment(1L);
+
+    // Then
+    assertEquals(2, postViewCountService.getPending(1L));
+    assertEquals(0, postViewCountService.getPending(3L));
+    assertEquals(1, postViewCountService.getDropped());
+  }
+
+  private PostViewCountService service(long flushThreshold, int maxPendingPosts) {
+    return new PostViewCountService(jdbcTemplate, Runnable::run, flushThreshold,
+        maxPendingPosts, Duration.ofMinutes(1), Duration.ofMinutes(5));
+  }
+}
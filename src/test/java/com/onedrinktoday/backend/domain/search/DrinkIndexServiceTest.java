@@ -0,0 +1,152 @@
+package com.onedrinktoday.backend.domain.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.global.exception.CustomException;
+import com.onedrinktoday.backend.global.exception.ErrorCode;
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class DrinkIndexServiceTest {
+
+  @Mock
+  private DrinkRepository drinkRepository;
+
+  @Mock
+  private DrinkSearchRepository drinkSearchRepository;
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private RedisLockService redisLockService;
+
+  private DrinkIndexService drinkIndexService;
+
+  @BeforeEach
+  void setUp() {
+    drinkIndexService = new DrinkIndexService(drinkRepository, drinkSearchRepository,
+        redisTemplate, redisLockService, 2, Duration.ofMinutes(5));
+  }
+
+  @Test
+  @DisplayName("특산주를 ID 순으로 나눠 검색 문서로 색인")
+  void backfill() {
+    // Given
+    given(redisLockService.tryLock(eq(DrinkIndexService.LOCK_KEY), any(Duration.class)))
+        .willReturn("token");
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(drinkRepository.findChunkAfter(eq(0L), any(Pageable.class)))
+        .willReturn(List.of(drink(1L), drink(2L)));
+    given(drinkRepository.findChunkAfter(eq(2L), any(Pageable.class)))
+        .willReturn(List.of(drink(3L)));
+
+    // When
+    long indexed = drinkIndexService.backfill();
+
+    // Then
+    assertEquals(3, indexed);
+    verify(drinkSearchRepository, times(2)).saveAll(any());
+    verify(valueOperations).set(eq(DrinkIndexService.READY_KEY), any());
+    verify(redisLockService).unlock(DrinkIndexService.LOCK_KEY, "token");
+    assertTrue(drinkIndexService.isReady());
+  }
+
+  @Test
+  @DisplayName("다른 노드가 백필 중이면 수동 백필 요청 거부")
+  void backfillInProgress() {
+    // Given
+    given(redisLockService.tryLock(eq(DrinkIndexService.LOCK_KEY), any(Duration.class)))
+        .willReturn(null);
+
+    // When
+    CustomException exception = assertThrows(CustomException.class,
+        () -> drinkIndexService.backfill());
+
+    // Then
+    assertEquals(ErrorCode.REINDEX_IN_PROGRESS, exception.getErrorCode());
+    verify(drinkRepository, never()).findChunkAfter(any(), any());
+  }
+
+  @Test
+  @DisplayName("이미 백필을 마쳤으면 기동 시 다시 백필하지 않음")
+  void skipStartupBackfillWhenReady() {
+    // Given
+    given(redisTemplate.hasKey(DrinkIndexService.READY_KEY)).willReturn(true);
+
+    // When
+    drinkIndexService.backfillOnStartup();
+
+    // Then
+    verify(redisLockService, never()).tryLock(any(), any(Duration.class));
+    verify(drinkRepository, never()).findChunkAfter(any(), any());
+  }
+
+  @Test
+  @DisplayName("승인 트랜잭션 안에서는 커밋된 뒤 색인")
+  void indexAfterCommit() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // When
+      drinkIndexService.index(drink(1L));
+
+      // Then
+      verify(drinkSearchRepository, never()).save(any(DrinkDocument.class));
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      verify(drinkSearchRepository).save(any(DrinkDocument.class));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("검색 문서 색인 실패는 승인 처리로 전파하지 않음")
+  void indexFailureIgnored() {
+    // Given
+    given(drinkSearchRepository.save(any(DrinkDocument.class)))
+        .willThrow(new IllegalStateException("connection refused"));
+
+    // When
+    drinkIndexService.index(drink(1L));
+
+    // Then
+    verify(drinkSearchRepository).save(any(DrinkDocument.class));
+  }
+
+  private Drink drink(Long id) {
+    return Drink.builder()
+        .id(id)
+        .name("막걸리" + id)
+        .region(Region.builder().id(3L).placeName("서울특별시").build())
+        .build();
+  }
+}
@@ -0,0 +1,171 @@
+package com.onedrinktoday.backend.domain.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+@ExtendWith(MockitoExtension.class)
+class PostIndexWorkerTest {
+
+  @Mock
+  private PostIndexOutboxRepository postIndexOutboxRepository;
+
+  @Mock
+  private PostIndexer postIndexer;
+
+  @Mock
+  private PostReindexService postReindexService;
+
+  private PostIndexWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    worker = new PostIndexWorker(postIndexOutboxRepository, postIndexer, postReindexService, 3,
+        Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofSeconds(10),
+        Duration.ofMinutes(2));
+  }
+
+  @Test
+  @DisplayName("같은 게시글 요청은 한 번만 색인하고 성공한 요청 삭제")
+  void drainIndexesDistinctPosts() {
+    // Given
+    List<PostIndexOutbox> batch = List.of(outbox(1L, 10L), outbox(2L, 10L), outbox(3L, 11L));
+    claim(batch);
+    given(postIndexer.sync(anySet(), anyList())).willReturn(Set.of());
+
+    // When
+    worker.drain();
+
+    // Then
+    verify(postIndexer).sync(Set.of(10L, 11L), List.of(IndexCoordinates.of("post")));
+    verify(postIndexOutboxRepository).deleteClaimed(eq(List.of(1L, 2L, 3L)), anyString());
+    verify(postIndexOutboxRepository, never()).release(anyLong(), anyString(), anyInt(),
+        any(LocalDateTime.class));
+    assertEquals(2, worker.getTotalIndexed());
+  }
+
+  @Test
+  @DisplayName("색인 실패한 요청은 시도 횟수를 늘려 간격을 두고 다시 시도")
+  void drainReschedulesFailures() {
+    // Given
+    PostIndexOutbox failing = outbox(2L, 11L);
+    failing.setAttempts(2);
+    claim(List.of(outbox(1L, 10L), failing));
+    given(postIndexer.sync(anySet(), anyList())).willReturn(Set.of(11L));
+
+    LocalDateTime before = LocalDateTime.now();
+
+    // When
+    worker.drain();
+
+    // Then
+    verify(postIndexOutboxRepository).deleteClaimed(eq(List.of(1L)), anyString());
+    ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(postIndexOutboxRepository).release(eq(2L), anyString(), eq(3), captor.capture());
+    assertTrue(!captor.getValue().isBefore(before.plusSeconds(4)));
+    assertEquals(1, worker.getTotalFailed());
+  }
+
+  @Test
+  @DisplayName("다른 노드가 먼저 임대한 요청은 처리하지 않음")
+  void drainSkipsRowsClaimedElsewhere() {
+    // Given
+    given(postIndexOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of(1L));
+    given(postIndexOutboxRepository.claim(eq(List.of(1L)), anyString(),
+        any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(0);
+
+    // When
+    worker.drain();
+
+    // Then
+    verify(postIndexer, never()).sync(anySet(), anyList());
+    verify(postIndexOutboxRepository, never()).findByClaimTokenOrderById(anyString());
+  }
+
+  @Test
+  @DisplayName("요청은 임대 토큰과 임대 만료 시각을 기록해 가져가고 같은 토큰으로 정리")
+  void drainClaimsWithLease() {
+    // Given
+    claim(List.of(outbox(1L, 10L)));
+    given(postIndexer.sync(anySet(), anyList())).willReturn(Set.of());
+    LocalDateTime before = LocalDateTime.now();
+
+    // When
+    worker.drain();
+
+    // Then
+    ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(postIndexOutboxRepository).claim(eq(List.of(1L)), token.capture(),
+        any(LocalDateTime.class), leaseUntil.capture());
+    assertTrue(!leaseUntil.getValue().isBefore(before.plusMinutes(2)));
+    verify(postIndexOutboxRepository).findByClaimTokenOrderById(token.getValue());
+    verify(postIndexOutboxRepository).deleteClaimed(List.of(1L), token.getValue());
+  }
+
+  @Test
+  @DisplayName("재색인 중이면 새 인덱스에도 함께 색인")
+  void drainWritesToBuildingIndex() {
+    // Given
+    claim(List.of(outbox(1L, 10L)));
+    given(postReindexService.beginWrite(Set.of(10L))).willReturn("post_20241001000000");
+    given(postIndexer.sync(anySet(), anyList())).willReturn(Set.of());
+
+    // When
+    worker.drain();
+
+    // Then
+    verify(postIndexer).sync(eq(Set.of(10L)), eq(List.of(IndexCoordinates.of("post"),
+        IndexCoordinates.of("post_20241001000000"))));
+  }
+
+  @Test
+  @DisplayName("재시도 간격은 두 배씩 늘고 최대 간격을 넘지 않음")
+  void backoff() {
+    assertEquals(Duration.ofSeconds(1), worker.backoff(1));
+    assertEquals(Duration.ofSeconds(8), worker.backoff(4));
+    assertEquals(Duration.ofSeconds(10), worker.backoff(30));
+  }
+
+  // 처리 시각이 된 요청을 모두 임대에 성공한 것으로 설정
+  private void claim(List<PostIndexOutbox> batch) {
+    List<Long> ids = batch.stream().map(PostIndexOutbox::getId).toList();
+    given(postIndexOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(ids, List.of());
+    given(postIndexOutboxRepository.claim(eq(ids), anyString(), any(LocalDateTime.class),
+        any(LocalDateTime.class))).willReturn(batch.size());
+    given(postIndexOutboxRepository.findByClaimTokenOrderById(anyString())).willReturn(batch);
+  }
+
+  private PostIndexOutbox outbox(Long id, Long postId) {
+    return PostIndexOutbox.builder()
+        .id(id)
+        .postId(postId)
+        .nextAttemptAt(LocalDateTime.now())
+        .build();
+  }
+}
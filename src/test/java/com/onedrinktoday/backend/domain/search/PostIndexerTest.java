@@ -0,0 +1,103 @@
+package com.onedrinktoday.backend.domain.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.post.repository.PostRepository;
+import com.onedrinktoday.backend.domain.postTag.repository.PostTagRepository;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.BulkFailureException.FailureDetails;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+
+@ExtendWith(MockitoExtension.class)
+class PostIndexerTest {
+
+  private static final IndexCoordinates TARGET = IndexCoordinates.of("post");
+
+  @Mock
+  private ElasticsearchOperations elasticsearchOperations;
+
+  @Mock
+  private ElasticsearchClient elasticsearchClient;
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private PostTagRepository postTagRepository;
+
+  @InjectMocks
+  private PostIndexer postIndexer;
+
+  @Test
+  @DisplayName("게시글 수정 시각을 문서 버전으로 색인")
+  @SuppressWarnings("unchecked")
+  void indexWithUpdatedAtVersion() {
+    // Given
+    LocalDateTime updatedAt = LocalDateTime.of(2024, 10, 1, 12, 0, 0);
+    Post post = post(1L, updatedAt);
+    given(postTagRepository.findPostIdAndTagsByPostIdIn(anyCollection())).willReturn(List.of());
+
+    // When
+    Set<Long> failed = postIndexer.index(List.of(post), TARGET);
+
+    // Then
+    ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+    verify(elasticsearchOperations).bulkIndex(captor.capture(), eq(TARGET));
+    assertEquals(Timestamp.valueOf(updatedAt).getTime(), captor.getValue().get(0).getVersion());
+    assertEquals(Set.of(), failed);
+  }
+
+  @Test
+  @DisplayName("더 새 버전 문서가 있어 거절된 게시글(409)은 다시 시도하지 않음")
+  void versionConflictIsNotRetried() {
+    // Given
+    List<Post> posts = List.of(post(1L, LocalDateTime.now()), post(2L, LocalDateTime.now()));
+    given(postTagRepository.findPostIdAndTagsByPostIdIn(anyCollection())).willReturn(List.of());
+    given(elasticsearchOperations.bulkIndex(anyList(), eq(TARGET))).willThrow(
+        new BulkFailureException("bulk failed", Map.of(
+            "1", new FailureDetails(409, "version_conflict_engine_exception"),
+            "2", new FailureDetails(429, "es_rejected_execution_exception"))));
+
+    // When
+    Set<Long> failed = postIndexer.index(posts, TARGET);
+
+    // Then
+    assertEquals(Set.of(2L), failed);
+  }
+
+  private Post post(Long id, LocalDateTime updatedAt) {
+    Region region = Region.builder().placeName("서울특별시").build();
+    return Post.builder()
+        .id(id)
+        .member(Member.builder().id(1L).name("작성자").build())
+        .drink(Drink.builder().id(5L).name("막걸리").region(region).build())
+        .content("내용")
+        .createdAt(updatedAt.minusDays(1))
+        .updatedAt(updatedAt)
+        .build();
+  }
+}
@@ -0,0 +1,180 @@
+package com.onedrinktoday.backend.domain.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.post.repository.PostRepository;
+import com.onedrinktoday.backend.global.exception.CustomException;
+import com.onedrinktoday.backend.global.exception.ErrorCode;
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class PostReindexServiceTest {
+
+  @Mock
+  private ElasticsearchOperations elasticsearchOperations;
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private PostIndexer postIndexer;
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private RedisLockService redisLockService;
+
+  @Mock
+  private SetOperations<String, String> setOperations;
+
+  private PostReindexService postReindexService;
+
+  @BeforeEach
+  void setUp() {
+    // 재색인 작업을 호출 스레드에서 바로 실행
+    postReindexService = new PostReindexService(elasticsearchOperations, postRepository,
+        postIndexer, redisTemplate, redisLockService, Runnable::run, 2, Duration.ofMinutes(5),
+        Duration.ofDays(7), true);
+  }
+
+  @Test
+  @DisplayName("게시글을 ID 순으로 새 인덱스에 복사하고 복사 중 바뀐 게시글을 다시 반영한 뒤 별칭 전환")
+  void reindexSwapsAlias() {
+    // Given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(redisLockService.tryLock(eq(PostReindexService.TARGET_KEY), anyString(),
+        any(Duration.class))).willReturn(true);
+    given(redisLockService.renew(eq(PostReindexService.TARGET_KEY), anyString(),
+        any(Duration.class))).willReturn(true);
+    given(redisTemplate.opsForSet()).willReturn(setOperations);
+    given(setOperations.members(anyString())).willReturn(Set.of("3"));
+
+    IndexOperations newOps = mock(IndexOperations.class);
+    IndexOperations aliasOps = mock(IndexOperations.class);
+    IndexOperations oldOps = mock(IndexOperations.class);
+    given(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).willAnswer(invocation -> {
+      String name = invocation.<IndexCoordinates>getArgument(0).getIndexName();
+      return switch (name) {
+        case "post" -> aliasOps;
+        case "post_20240101000000" -> oldOps;
+        default -> newOps;
+      };
+    });
+    given(elasticsearchOperations.indexOps(PostDocument.class))
+        .willReturn(mock(IndexOperations.class));
+    given(aliasOps.exists()).willReturn(true);
+    given(aliasOps.getAliasesForIndex("post"))
+        .willReturn(Map.of("post_20240101000000", Set.of()));
+
+    List<Post> first = List.of(Post.builder().id(1L).build(), Post.builder().id(2L).build());
+    List<Post> second = List.of(Post.builder().id(3L).build());
+    given(postRepository.findChunkAfter(anyLong(), any(Pageable.class)))
+        .willReturn(first, second);
+    given(postIndexer.index(anyList(), any(IndexCoordinates.class))).willReturn(Set.of());
+    given(postIndexer.sync(any(), anyList())).willReturn(Set.of());
+
+    // When
+    String index = postReindexService.startReindex();
+
+    // Then
+    assertTrue(index.startsWith("post_"));
+    verify(setOperations).members(PostReindexService.TOUCHED_KEY_PREFIX + index);
+    verify(postRepository).findChunkAfter(eq(2L), any(Pageable.class));
+    verify(postIndexer).sync(Set.of(3L), List.of(IndexCoordinates.of(index)));
+
+    ArgumentCaptor<AliasActions> captor = ArgumentCaptor.forClass(AliasActions.class);
+    verify(aliasOps).alias(captor.capture());
+    List<AliasAction> actions = captor.getValue().getActions();
+    assertInstanceOf(AliasAction.Remove.class, actions.get(0));
+    assertInstanceOf(AliasAction.Add.class, actions.get(1));
+    assertEquals(index, actions.get(1).getParameters().getIndices()[0]);
+
+    verify(oldOps).delete();
+    verify(newOps, never()).delete();
+    verify(redisLockService).unlock(PostReindexService.TARGET_KEY, index);
+    verify(valueOperations).set(PostReindexService.JOB_KEY_PREFIX + index,
+        PostReindexService.JobStatus.COMPLETED.name(), Duration.ofDays(7));
+  }
+
+  @Test
+  @DisplayName("복사 중 잠금 연장에 실패하면 별칭을 옮기지 않고 새 인덱스를 지운 뒤 실패로 기록")
+  void reindexAbortsWhenLockLost() {
+    // Given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(redisLockService.tryLock(eq(PostReindexService.TARGET_KEY), anyString(),
+        any(Duration.class))).willReturn(true);
+    given(redisLockService.renew(eq(PostReindexService.TARGET_KEY), anyString(),
+        any(Duration.class))).willReturn(false);
+
+    IndexOperations newOps = mock(IndexOperations.class);
+    given(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).willReturn(newOps);
+    given(elasticsearchOperations.indexOps(PostDocument.class))
+        .willReturn(mock(IndexOperations.class));
+    given(postRepository.findChunkAfter(anyLong(), any(Pageable.class)))
+        .willReturn(List.of(Post.builder().id(1L).build(), Post.builder().id(2L).build()));
+    given(postIndexer.index(anyList(), any(IndexCoordinates.class))).willReturn(Set.of());
+
+    // When
+    String index = postReindexService.startReindex();
+
+    // Then
+    verify(newOps, never()).alias(any(AliasActions.class));
+    verify(newOps).delete();
+    verify(redisLockService).unlock(PostReindexService.TARGET_KEY, index);
+    verify(valueOperations).set(PostReindexService.JOB_KEY_PREFIX + index,
+        PostReindexService.JobStatus.FAILED.name(), Duration.ofDays(7));
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 재색인 중이면 예외")
+  void reindexInProgress() {
+    // Given
+    given(redisLockService.tryLock(eq(PostReindexService.TARGET_KEY), anyString(),
+        any(Duration.class))).willReturn(false);
+
+    // When
+    CustomException exception = assertThrows(CustomException.class,
+        () -> postReindexService.startReindex());
+
+    // Then
+    assertEquals(ErrorCode.REINDEX_IN_PROGRESS, exception.getErrorCode());
+    verify(elasticsearchOperations, never()).indexOps(any(IndexCoordinates.class));
+  }
+}
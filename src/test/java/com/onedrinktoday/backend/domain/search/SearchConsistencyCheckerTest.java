@@ -0,0 +1,111 @@
+package com.onedrinktoday.backend.domain.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.post.repository.PostRepository;
+import com.onedrinktoday.backend.domain.postTag.repository.PostTagRepository;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.global.type.PostType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class SearchConsistencyCheckerTest {
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private PostTagRepository postTagRepository;
+
+  @Mock
+  private ElasticSearchRepository elasticSearchRepository;
+
+  @Mock
+  private PostIndexOutboxRepository postIndexOutboxRepository;
+
+  private SearchConsistencyChecker checker;
+
+  @BeforeEach
+  void setUp() {
+    checker = new SearchConsistencyChecker(postRepository, postTagRepository,
+        elasticSearchRepository, postIndexOutboxRepository, 10, true);
+  }
+
+  @Test
+  @DisplayName("좋아요 수가 다르거나 누락된 문서만 불일치로 세고 조회수만 다른 문서는 맞추기만 함")
+  @SuppressWarnings("unchecked")
+  void checkRepairsStaleDocuments() {
+    // Given
+    Tag tag = Tag.builder().tagId(1L).tagName("달콤").build();
+    Post upToDate = post(1L, 3);
+    Post liked = post(2L, 5);
+    Post missing = post(3L, 0);
+    Post viewed = post(4L, 0);
+
+    PostDocument outdated = PostDocument.from(liked, List.of(tag));
+    outdated.setLikeCount(4);
+    PostDocument oldViews = PostDocument.from(viewed, List.of(tag));
+    oldViews.setViewCount(-1);
+
+    given(postRepository.findChunkAfter(eq(0L), any(Pageable.class)))
+        .willReturn(List.of(upToDate, liked, missing, viewed));
+    given(elasticSearchRepository.findAllById(anyList()))
+        .willReturn(List.of(PostDocument.from(upToDate, List.of(tag)), outdated, oldViews));
+    given(postTagRepository.findPostIdAndTagsByPostIdIn(anyList())).willReturn(List.of(
+        new Object[]{1L, tag}, new Object[]{2L, tag}, new Object[]{3L, tag},
+        new Object[]{4L, tag}));
+
+    // When
+    List<Long> staleIds = checker.check();
+
+    // Then
+    assertEquals(List.of(2L, 3L), staleIds);
+    assertEquals(2, checker.getLastStale());
+    assertEquals(1, checker.getLastViewCountSynced());
+
+    // 검색 엔진에 직접 쓰지 않고 색인 요청으로 저장 (문서 버전은 색인 작업이 지정)
+    ArgumentCaptor<Iterable<PostIndexOutbox>> captor = ArgumentCaptor.forClass(Iterable.class);
+    verify(postIndexOutboxRepository).saveAll(captor.capture());
+    List<Long> requested = new ArrayList<>();
+    captor.getValue().forEach(outbox -> requested.add(outbox.getPostId()));
+    assertEquals(List.of(2L, 3L, 4L), requested);
+    verify(elasticSearchRepository, never()).saveAll(any());
+  }
+
+  private Post post(Long id, int likeCount) {
+    Region region = Region.builder().placeName("서울특별시").build();
+    Drink drink = Drink.builder().id(5L).name("막걸리").region(region).build();
+    Member member = Member.builder().id(1L).name("작성자").build();
+
+    return Post.builder()
+        .id(id)
+        .member(member)
+        .drink(drink)
+        .type(PostType.REVIEW)
+        .content("맛있는 막걸리입니다!")
+        .viewCount(0)
+        .likeCount(likeCount)
+        .createdAt(LocalDateTime.of(2024, 9, 1, 12, 0, 0, 123456789))
+        .build();
+  }
+}
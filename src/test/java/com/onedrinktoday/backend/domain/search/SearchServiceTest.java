@@ -0,0 +1,234 @@
+package com.onedrinktoday.backend.domain.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.drink.dto.DrinkResponse;
+import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.post.dto.PostResponse;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.global.exception.CustomException;
+import com.onedrinktoday.backend.global.exception.ErrorCode;
+import com.onedrinktoday.backend.global.type.PostType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+  @Mock
+  private ElasticsearchOperations elasticsearchOperations;
+
+  @Mock
+  private PostIndexOutboxRepository postIndexOutboxRepository;
+
+  @Mock
+  private DrinkIndexService drinkIndexService;
+
+  @Mock
+  private DrinkRepository drinkRepository;
+
+  @InjectMocks
+  private SearchService searchService;
+
+  @Test
+  @DisplayName("검색 결과는 문서의 투영 필드로만 응답 (DB 조회 없음)")
+  @SuppressWarnings("unchecked")
+  void renderFromSearchHits() {
+    // Given
+    PostDocument document = PostDocument.from(post(), List.of(tag(2L, "시원"), tag(1L, "달콤")));
+
+    SearchHit<PostDocument> hit = mock(SearchHit.class);
+    given(hit.getContent()).willReturn(document);
+    SearchHits<PostDocument> hits = mock(SearchHits.class);
+    given(hits.get()).willReturn(Stream.of(hit));
+    given(hits.getTotalHits()).willReturn(1L);
+    given(elasticsearchOperations.search(any(Query.class), eq(PostDocument.class)))
+        .willReturn(hits);
+
+    // When
+    Page<PostResponse> result = searchService.searchPostByTag(PageRequest.of(0, 20),
+        List.of("달콤"));
+
+    // Then
+    PostResponse response = result.getContent().get(0);
+    assertEquals(1, result.getTotalElements());
+    assertEquals(10L, response.getId());
+    assertEquals("작성자", response.getMemberName());
+    assertEquals("막걸리", response.getDrink().getName());
+    assertEquals("서울특별시", response.getDrink().getPlaceName());
+    assertEquals(List.of("달콤", "시원"),
+        response.getTags().stream().map(tag -> tag.getTagName()).toList());
+    assertEquals(3, response.getLikeCount());
+  }
+
+  @Test
+  @DisplayName("태그 검색은 태그마다 정확/형태소/접두어 필드에 가중치를 둔 multi_match를 모두 만족해야 함")
+  @SuppressWarnings("unchecked")
+  void searchPostByTagQuery() {
+    // Given
+    SearchHits<PostDocument> hits = mock(SearchHits.class);
+    given(hits.get()).willReturn(Stream.empty());
+    given(elasticsearchOperations.search(any(Query.class), eq(PostDocument.class)))
+        .willReturn(hits);
+
+    // When
+    searchService.searchPostByTag(PageRequest.of(0, 20), List.of("달콤", " 시 원 "));
+
+    // Then
+    ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+    verify(elasticsearchOperations).search(captor.capture(), eq(PostDocument.class));
+
+    List<co.elastic.clients.elasticsearch._types.query_dsl.Query> must =
+        captor.getValue().getQuery().bool().must();
+    assertEquals(2, must.size());
+    assertEquals("시원", must.get(1).multiMatch().query());
+    assertEquals(List.of("tags.exact^3", "tags^2", "tags.prefix"),
+        must.get(0).multiMatch().fields());
+    assertEquals(Operator.And, must.get(0).multiMatch().operator());
+  }
+
+  @Test
+  @DisplayName("특산주 검색은 검색 문서로 응답하고 지역은 filter 절로 거름")
+  @SuppressWarnings("unchecked")
+  void searchDrinkWithRegionFilter() {
+    // Given
+    DrinkDocument document = DrinkDocument.from(post().getDrink());
+
+    SearchHit<DrinkDocument> hit = mock(SearchHit.class);
+    given(hit.getContent()).willReturn(document);
+    SearchHits<DrinkDocument> hits = mock(SearchHits.class);
+    given(hits.get()).willReturn(Stream.of(hit));
+    given(hits.getTotalHits()).willReturn(1L);
+    given(drinkIndexService.isReady()).willReturn(true);
+    given(elasticsearchOperations.search(any(Query.class), eq(DrinkDocument.class)))
+        .willReturn(hits);
+
+    // When
+    Page<DrinkResponse> result = searchService.searchDrink(PageRequest.of(0, 20), 3L, "막걸");
+
+    // Then
+    assertEquals("막걸리", result.getContent().get(0).getName());
+    assertEquals("서울특별시", result.getContent().get(0).getPlaceName());
+
+    ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+    verify(elasticsearchOperations).search(captor.capture(), eq(DrinkDocument.class));
+    BoolQuery bool = captor.getValue().getQuery().bool();
+    assertEquals("막걸", bool.must().get(0).match().query().stringValue());
+    assertEquals("3", bool.filter().get(0).term().value().stringValue());
+  }
+
+  @Test
+  @DisplayName("특산주 이름 정렬은 keyword 하위 필드로 정렬")
+  @SuppressWarnings("unchecked")
+  void searchDrinkSortByName() {
+    // Given
+    SearchHits<DrinkDocument> hits = mock(SearchHits.class);
+    given(hits.get()).willReturn(Stream.empty());
+    given(drinkIndexService.isReady()).willReturn(true);
+    given(elasticsearchOperations.search(any(Query.class), eq(DrinkDocument.class)))
+        .willReturn(hits);
+
+    // When
+    searchService.searchDrink(PageRequest.of(0, 20, Sort.by("name")), 0L, "막걸");
+
+    // Then
+    ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+    verify(elasticsearchOperations).search(captor.capture(), eq(DrinkDocument.class));
+    assertEquals(Sort.by("name.keyword"), captor.getValue().getPageable().getSort());
+  }
+
+  @Test
+  @DisplayName("지원하지 않는 특산주 정렬 기준은 거부")
+  void searchDrinkRejectsUnknownSort() {
+    // When
+    CustomException exception = assertThrows(CustomException.class,
+        () -> searchService.searchDrink(PageRequest.of(0, 20, Sort.by("description")), 0L,
+            "막걸"));
+
+    // Then
+    assertEquals(ErrorCode.INVALID_SORT, exception.getErrorCode());
+    verify(elasticsearchOperations, never()).search(any(Query.class), eq(DrinkDocument.class));
+  }
+
+  @Test
+  @DisplayName("검색 문서 백필을 마치기 전에는 특산주를 DB에서 검색")
+  void searchDrinkFromDatabaseBeforeBackfill() {
+    // Given
+    Drink drink = post().getDrink();
+    given(drinkIndexService.isReady()).willReturn(false);
+    given(drinkRepository.findAllByRegion_IdAndNameContaining(any(Pageable.class), eq(3L),
+        eq("막걸"))).willReturn(new PageImpl<>(List.of(drink)));
+
+    // When
+    Page<DrinkResponse> result = searchService.searchDrink(PageRequest.of(0, 20), 3L, "막걸");
+
+    // Then
+    assertEquals("막걸리", result.getContent().get(0).getName());
+    verify(elasticsearchOperations, never()).search(any(Query.class), eq(DrinkDocument.class));
+  }
+
+  @Test
+  @DisplayName("회원 정보 변경/탈퇴는 검색 엔진을 직접 갱신하지 않고 작성 게시글 색인 요청으로 저장")
+  void requestIndexByMember() {
+    // When
+    searchService.requestIndexByMember(1L);
+
+    // Then
+    verify(postIndexOutboxRepository).enqueueByMemberId(eq(1L), any(LocalDateTime.class));
+    verifyNoInteractions(elasticsearchOperations);
+  }
+
+  private Post post() {
+    Region region = Region.builder().placeName("서울특별시").build();
+    Drink drink = Drink.builder().id(5L).name("막걸리").region(region).build();
+    Member member = Member.builder().id(1L).name("작성자").build();
+
+    return Post.builder()
+        .id(10L)
+        .member(member)
+        .drink(drink)
+        .type(PostType.REVIEW)
+        .content("맛있는 막걸리입니다!")
+        .rating(4.5f)
+        .viewCount(7)
+        .likeCount(3)
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+  private Tag tag(Long id, String name) {
+    return Tag.builder().tagId(id).tagName(name).build();
+  }
+}
@@ -0,0 +1,100 @@
+package com.onedrinktoday.backend.domain.suggest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.domain.suggest.service.DrinkSampler;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DrinkSamplerTest {
+
+  @Mock
+  private DrinkRepository drinkRepository;
+
+  @InjectMocks
+  private DrinkSampler drinkSampler;
+
+  @Test
+  @DisplayName("지역 특산주 중 서로 다른 ID를 골라 한 번에 조회하고 ID 목록은 지역마다 한 번만 읽음")
+  void sampleDistinctDrinks() {
+    // Given
+    given(drinkRepository.findIdsByRegionId(1L)).willReturn(List.of(1L, 2L, 3L, 4L, 5L));
+    ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
+    given(drinkRepository.findAllById(captor.capture())).willReturn(List.of());
+
+    // When
+    for (int i = 0; i < 20; i++) {
+      drinkSampler.sample(1L, 3);
+    }
+
+    // Then
+    verify(drinkRepository, times(1)).findIdsByRegionId(1L);
+    for (List<Long> ids : captor.getAllValues()) {
+      assertEquals(3, ids.size());
+      assertEquals(3, new HashSet<>(ids).size());
+      assertTrue(List.of(1L, 2L, 3L, 4L, 5L).containsAll(ids));
+    }
+  }
+
+  @Test
+  @DisplayName("요청 개수가 지역 특산주 수보다 많으면 모두 반환, 없으면 조회하지 않음")
+  void sampleSmallRegion() {
+    // Given
+    given(drinkRepository.findIdsByRegionId(1L)).willReturn(List.of(7L, 8L));
+    given(drinkRepository.findIdsByRegionId(2L)).willReturn(List.of());
+    // 추출 순서는 임의이므로 ID 집합으로 비교
+    given(drinkRepository.findAllById(argThat(
+        ids -> new HashSet<>((List<Long>) ids).equals(Set.of(7L, 8L)))))
+        .willReturn(List.of(Drink.builder().id(7L).build(), Drink.builder().id(8L).build()));
+
+    // When
+    List<Drink> drinks = drinkSampler.sample(1L, 3);
+    List<Drink> empty = drinkSampler.sample(2L, 3);
+
+    // Then
+    assertEquals(2, drinks.size());
+    assertTrue(empty.isEmpty());
+    verify(drinkRepository, never()).findAllById(List.of());
+  }
+
+  @Test
+  @DisplayName("승인된 특산주와 전체 갱신 결과가 추출 대상에 반영")
+  void addAndRefresh() {
+    // Given
+    Region region = Region.builder().id(1L).build();
+    given(drinkRepository.findIdsByRegionId(1L)).willReturn(List.of());
+    given(drinkRepository.findAllById(List.of(9L))).willReturn(List.of());
+    given(drinkRepository.findAllById(List.of(10L))).willReturn(List.of());
+    given(drinkRepository.findRegionIdAndIds()).willReturn(
+        List.<Object[]>of(new Object[]{1L, 10L}));
+
+    // When
+    drinkSampler.sample(1L, 1);
+    drinkSampler.add(Drink.builder().id(9L).region(region).build());
+    drinkSampler.sample(1L, 1);
+    drinkSampler.refresh();
+    drinkSampler.sample(1L, 1);
+
+    // Then
+    verify(drinkRepository).findAllById(List.of(9L));
+    verify(drinkRepository).findAllById(List.of(10L));
+  }
+}
@@ -0,0 +1,223 @@
+package com.onedrinktoday.backend.domain.suggest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.domain.suggest.dto.SuggestRecipient;
+import com.onedrinktoday.backend.domain.suggest.entity.MailJobCheckpoint;
+import com.onedrinktoday.backend.domain.suggest.repository.MailJobCheckpointRepository;
+import com.onedrinktoday.backend.domain.suggest.repository.SuggestRepository;
+import com.onedrinktoday.backend.domain.suggest.service.BirthMonthDayBackfill;
+import com.onedrinktoday.backend.domain.suggest.service.DrinkSampler;
+import com.onedrinktoday.backend.domain.suggest.service.SendBirthDateEmailService;
+import com.onedrinktoday.backend.domain.suggest.service.SuggestBirthDateService;
+import com.onedrinktoday.backend.domain.suggest.service.SuggestMailRenderer;
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:birthday;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+    "suggest.birthday.chunk-size=2",
+    "suggest.birth-month-day.backfill-chunk-size=1"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({SuggestBirthDateService.class, BirthMonthDayBackfill.class,
+    JacksonAutoConfiguration.class})
+public class SuggestBirthDateServiceTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2024, 10, 17);
+
+  @Autowired
+  private SuggestBirthDateService suggestBirthDateService;
+
+  @Autowired
+  private BirthMonthDayBackfill birthMonthDayBackfill;
+
+  @Autowired
+  private SuggestRepository suggestRepository;
+
+  @Autowired
+  private MailJobCheckpointRepository checkpointRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private SendBirthDateEmailService emailService;
+
+  @MockBean
+  private DrinkSampler drinkSampler;
+
+  @MockBean
+  private SuggestMailRenderer renderer;
+
+  @MockBean
+  private RedisLockService redisLockService;
+
+  private Region region;
+
+  @BeforeEach
+  void setUp() {
+    region = Region.builder().placeName("서울특별시").build();
+    entityManager.persist(region);
+    given(drinkSampler.sample(anyLong(), anyInt())).willReturn(List.of());
+    given(renderer.renderDrinks(anyList())).willReturn("<table></table>");
+    given(redisLockService.tryLock(anyString(), any(Duration.class))).willReturn("token");
+    given(redisLockService.renew(anyString(), anyString(), any(Duration.class))).willReturn(true);
+  }
+
+  @Test
+  @DisplayName("저장 시 생일 월일을 함께 저장하고 비어 있는 기존 회원은 청크로 나눠 채움")
+  void birthMonthDay() {
+    // Given - 채우기 청크 크기 1
+    Member member = member("회원1", LocalDate.of(1990, 10, 17));
+    Member legacy = member("회원2", LocalDate.of(1985, 1, 5));
+    Member otherLegacy = member("회원3", LocalDate.of(1999, 12, 31));
+    entityManager.flush();
+    jdbcTemplate.update("UPDATE member SET birth_month_day = NULL WHERE id IN (?, ?)",
+        legacy.getId(), otherLegacy.getId());
+
+    // When - 기동 시 채우기 (fillOnStartup은 비동기라 직접 호출)
+    long filled = birthMonthDayBackfill.fill();
+
+    // Then
+    assertEquals(2, filled);
+    assertEquals(1017, member.getBirthMonthDay());
+    assertEquals(105, jdbcTemplate.queryForObject(
+        "SELECT birth_month_day FROM member WHERE id = ?", Integer.class, legacy.getId()));
+    assertEquals(1231, jdbcTemplate.queryForObject(
+        "SELECT birth_month_day FROM member WHERE id = ?", Integer.class, otherLegacy.getId()));
+  }
+
+  @Test
+  @DisplayName("생일 월일이 비어 있는 기존 회원도 발송 전에 채워 생일 메일 대상에 포함")
+  void fillBeforeSend() {
+    // Given
+    Member legacy = member("회원1", LocalDate.of(1990, 10, 17));
+    entityManager.flush();
+    jdbcTemplate.update("UPDATE member SET birth_month_day = NULL WHERE id = ?", legacy.getId());
+
+    // When
+    long sent = suggestBirthDateService.sendBirthDateDrinkSuggestionForDate(TODAY);
+
+    // Then
+    assertEquals(1, sent);
+    verify(emailService).sendBirthDateEmail(
+        eq(new SuggestRecipient(legacy.getId(), "회원1", "회원1@test.com", region.getId())),
+        anyString());
+  }
+
+  @Test
+  @DisplayName("다른 노드가 같은 날짜 발송 잠금을 잡고 있으면 발송하지 않음")
+  void skipWhenLockedByOtherNode() {
+    // Given
+    member("회원1", LocalDate.of(1990, 10, 17));
+    entityManager.flush();
+    given(redisLockService.tryLock(anyString(), any(Duration.class))).willReturn(null);
+
+    // When
+    long sent = suggestBirthDateService.sendBirthDateDrinkSuggestionForDate(TODAY);
+
+    // Then
+    assertEquals(0, sent);
+    verify(emailService, never()).sendBirthDateEmail(any(), any());
+    assertTrue(checkpointRepository.findById("birthday-2024-10-17").isEmpty());
+  }
+
+  @Test
+  @DisplayName("오늘 생일인 회원만 청크로 나눠 발송 요청하고 발송을 마친 날짜는 다시 보내지 않음")
+  void sendBirthDateDrinkSuggestion() {
+    // Given - 청크 크기 2, 생일자 3명
+    Member first = member("회원1", LocalDate.of(1990, 10, 17));
+    member("회원2", LocalDate.of(1991, 10, 18));
+    Member second = member("회원3", LocalDate.of(1992, 10, 17));
+    Member third = member("회원4", LocalDate.of(2000, 10, 17));
+    entityManager.flush();
+
+    // When
+    long sent = suggestBirthDateService.sendBirthDateDrinkSuggestionForDate(TODAY);
+    long again = suggestBirthDateService.sendBirthDateDrinkSuggestionForDate(TODAY);
+
+    // Then
+    assertEquals(3, sent);
+    assertEquals(0, again);
+    ArgumentCaptor<SuggestRecipient> captor = ArgumentCaptor.forClass(SuggestRecipient.class);
+    verify(emailService, times(3))
+        .sendBirthDateEmail(captor.capture(), anyString());
+    assertEquals(List.of(first.getId(), second.getId(), third.getId()),
+        captor.getAllValues().stream().map(SuggestRecipient::id).toList());
+
+    // 같은 지역 생일자에게는 특산주를 한 번만 골라 렌더링
+    verify(drinkSampler, times(1)).sample(region.getId(), 3);
+
+    MailJobCheckpoint checkpoint = checkpointRepository.findById("birthday-2024-10-17")
+        .orElseThrow();
+    assertTrue(checkpoint.isCompleted());
+    assertEquals(3, checkpoint.getSentCount());
+    assertEquals(third.getId(), checkpoint.getLastMemberId());
+  }
+
+  @Test
+  @DisplayName("월간 추천 수신자 조회에서 1일 생일자 제외")
+  void excludeDayOneBirthdays() {
+    // Given
+    Member regular = member("회원1", LocalDate.of(1990, 10, 17));
+    member("회원2", LocalDate.of(1990, 10, 1));
+    Member noBirthDate = member("회원3", null);
+    entityManager.flush();
+
+    // When
+    List<SuggestRecipient> recipients = suggestRepository.findRecipientsAfter(0L, 1001,
+        PageRequest.of(0, 10));
+
+    // Then
+    assertEquals(List.of(regular.getId(), noBirthDate.getId()),
+        recipients.stream().map(SuggestRecipient::id).toList());
+    verify(emailService, never()).sendBirthDateEmail(any(), any());
+  }
+
+  private Member member(String name, LocalDate birthDate) {
+    Member member = Member.builder()
+        .name(name)
+        .email(name + "@test.com")
+        .role(Role.USER)
+        .region(region)
+        .birthDate(birthDate != null ? Date.valueOf(birthDate) : null)
+        .build();
+    entityManager.persist(member);
+    return member;
+  }
+}
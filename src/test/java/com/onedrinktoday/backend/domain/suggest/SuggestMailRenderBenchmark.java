@@ -0,0 +1,102 @@
+package com.onedrinktoday.backend.domain.suggest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.suggest.service.SuggestMailRenderer;
+import com.onedrinktoday.backend.domain.suggest.service.SuggestMailRenderer.SuggestMail;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+// 추천 메일 렌더링 벤치마크 - 회원 수만큼 본문을 만들 때 회원당 소요 시간과 할당 바이트 측정
+// MAIL_BENCHMARK=true gradle test --tests '*SuggestMailRenderBenchmark*' (회원 수: MAIL_BENCHMARK_RECIPIENTS)
+@EnabledIfEnvironmentVariable(named = "MAIL_BENCHMARK", matches = "true")
+class SuggestMailRenderBenchmark {
+
+  private static final SuggestMail MAIL = new SuggestMail("이 달의 특산주 추천 서비스 메일 발송",
+      "이번 달 추천드리는 특산주 3종입니다:", "즐거운 한 달 되시길 바랍니다. 오늘 한 잔이 함께합니다!");
+  private static final int REGION_COUNT = 17;
+  private static final int WARMUP = 10_000;
+
+  private final SuggestMailRenderer renderer = new SuggestMailRenderer(
+      SuggestMailRendererTest.templateEngine());
+
+  @Test
+  @DisplayName("특산주 목록을 지역마다 한 번 렌더링해 재사용할 때와 회원마다 렌더링할 때 비교")
+  void renderPerRecipient() {
+    int recipients = Integer.parseInt(
+        System.getenv().getOrDefault("MAIL_BENCHMARK_RECIPIENTS", "100000"));
+    List<List<Drink>> drinksByRegion = new ArrayList<>();
+    for (int region = 0; region < REGION_COUNT; region++) {
+      drinksByRegion.add(drinks(region));
+    }
+
+    // 회원마다 특산주 목록까지 렌더링
+    Result perRecipient = measure(recipients, i -> renderer.render(MAIL, heading(i),
+        renderer.renderDrinks(drinksByRegion.get(i % REGION_COUNT))).length());
+
+    // 지역마다 한 번 렌더링한 목록 재사용
+    Map<Integer, String> rendered = new HashMap<>();
+    Result shared = measure(recipients, i -> renderer.render(MAIL, heading(i),
+        rendered.computeIfAbsent(i % REGION_COUNT,
+            region -> renderer.renderDrinks(drinksByRegion.get(region)))).length());
+
+    System.out.printf("recipients=%d%n", recipients);
+    System.out.printf("per-recipient drinks: %,d ns/recipient, %,d bytes/recipient, total %,d ms%n",
+        perRecipient.nanosPerRecipient(), perRecipient.bytesPerRecipient(),
+        perRecipient.totalMillis());
+    System.out.printf("shared region drinks: %,d ns/recipient, %,d bytes/recipient, total %,d ms%n",
+        shared.nanosPerRecipient(), shared.bytesPerRecipient(), shared.totalMillis());
+
+    assertTrue(shared.nanosPerRecipient() < perRecipient.nanosPerRecipient());
+  }
+
+  private Result measure(int recipients, IntToLongFunction render) {
+    long sink = 0;
+    for (int i = 0; i < WARMUP; i++) {
+      sink += render.applyAsLong(i);
+    }
+
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < recipients; i++) {
+      sink += render.applyAsLong(i);
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+    assertTrue(sink > 0);
+    return new Result(elapsed / recipients, allocated / recipients, elapsed / 1_000_000);
+  }
+
+  private String heading(int i) {
+    return "회원" + i + "님을 위한 이 달의 특산주 3종 추천!";
+  }
+
+  private List<Drink> drinks(int region) {
+    List<Drink> drinks = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      drinks.add(Drink.builder()
+          .name("지역" + region + " 특산주" + i)
+          .description("쌀과 누룩으로 빚어 부드럽고 은은한 단맛이 나는 지역 대표 특산주입니다.")
+          .degree(6.5f + i)
+          .sweetness(3)
+          .cost(12000)
+          .build());
+    }
+    return drinks;
+  }
+
+  private record Result(long nanosPerRecipient, long bytesPerRecipient, long totalMillis) {
+
+  }
+}
@@ -0,0 +1,82 @@
+package com.onedrinktoday.backend.domain.suggest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.suggest.service.SuggestMailRenderer;
+import com.onedrinktoday.backend.domain.suggest.service.SuggestMailRenderer.SuggestMail;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+class SuggestMailRendererTest {
+
+  private static final SuggestMail MAIL = new SuggestMail("제목", "소개 문구", "맺음말");
+
+  private SuggestMailRenderer renderer;
+
+  @BeforeEach
+  void setUp() {
+    renderer = new SuggestMailRenderer(templateEngine());
+  }
+
+  @Test
+  @DisplayName("특산주 목록을 렌더링하고 이름과 설명은 이스케이프")
+  void renderDrinks() {
+    // Given
+    List<Drink> drinks = List.of(
+        Drink.builder().name("막걸리").description("<b>달콤</b>").degree(6.0f).sweetness(3)
+            .cost(5000).build(),
+        Drink.builder().name("소주").description("깔끔").degree(16.5f).sweetness(1).cost(2000)
+            .build());
+
+    // When
+    String html = renderer.renderDrinks(drinks);
+
+    // Then
+    assertEquals(2, html.split("<table", -1).length - 1);
+    assertTrue(html.contains("<th>🍶 막걸리</th>"));
+    assertTrue(html.contains("&lt;b&gt;달콤&lt;/b&gt;"));
+    assertTrue(html.contains(">6.0%</td>"));
+    assertTrue(html.contains(">5000원</td>"));
+  }
+
+  @Test
+  @DisplayName("미리 렌더링한 특산주 목록을 본문에 그대로 넣고 회원 문구만 채움")
+  void render() {
+    // Given
+    String drinks = "<table>막걸리</table>";
+
+    // When
+    String html = renderer.render(MAIL, "<홍길동>님!", drinks);
+
+    // Then
+    assertTrue(html.contains("<title>제목</title>"));
+    assertTrue(html.contains("&lt;홍길동&gt;님!</h2>"));
+    assertTrue(html.contains(">소개 문구</p>"));
+    assertTrue(html.contains(drinks));
+    assertTrue(html.contains("맺음말 <br /> 감사합니다."));
+    assertFalse(html.contains("th:text"));
+  }
+
+  // 애플리케이션의 Thymeleaf 기본 설정(classpath:/templates/*.html, 캐시 사용)과 같게 구성
+  static TemplateEngine templateEngine() {
+    ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+    resolver.setPrefix("templates/");
+    resolver.setSuffix(".html");
+    resolver.setTemplateMode(TemplateMode.HTML);
+    resolver.setCharacterEncoding("UTF-8");
+    resolver.setCacheable(true);
+
+    SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+    templateEngine.setTemplateResolver(resolver);
+    return templateEngine;
+  }
+}
@@ -0,0 +1,212 @@
+package com.onedrinktoday.backend.domain.suggest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.suggest.dto.SuggestRecipient;
+import com.onedrinktoday.backend.domain.suggest.entity.MailJobCheckpoint;
+import com.onedrinktoday.backend.domain.suggest.repository.MailJobCheckpointRepository;
+import com.onedrinktoday.backend.domain.suggest.repository.SuggestRepository;
+import com.onedrinktoday.backend.domain.suggest.service.BirthMonthDayBackfill;
+import com.onedrinktoday.backend.domain.suggest.service.DrinkSampler;
+import com.onedrinktoday.backend.domain.suggest.service.SendMonthlyEmailService;
+import com.onedrinktoday.backend.domain.suggest.service.SuggestMailRenderer;
+import com.onedrinktoday.backend.domain.suggest.service.SuggestMonthlyService;
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestMonthlyServiceTest {
+
+  private static final YearMonth MONTH = YearMonth.of(2024, 10);
+  private static final String LOCK_KEY = "mail:job:lock:monthly-2024-10";
+
+  @Mock
+  private SuggestRepository suggestRepository;
+
+  @Mock
+  private SendMonthlyEmailService emailService;
+
+  @Mock
+  private MailJobCheckpointRepository checkpointRepository;
+
+  @Mock
+  private DrinkSampler drinkSampler;
+
+  @Mock
+  private SuggestMailRenderer renderer;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private RedisLockService redisLockService;
+
+  @Mock
+  private BirthMonthDayBackfill birthMonthDayBackfill;
+
+  private SuggestMonthlyService suggestMonthlyService;
+
+  @BeforeEach
+  void setUp() {
+    suggestMonthlyService = new SuggestMonthlyService(suggestRepository, emailService,
+        checkpointRepository, drinkSampler, renderer, new TransactionTemplate(transactionManager),
+        redisLockService, birthMonthDayBackfill, 2, Duration.ofMinutes(5));
+  }
+
+  @Test
+  @DisplayName("추천 특산주는 지역마다 한 번만 골라 렌더링하고 1일 생일자는 조회에서 제외")
+  void sendMonthlyDrinkSuggestion() {
+    // Given
+    SuggestRecipient first = new SuggestRecipient(1L, "회원1", "a@test.com", 10L);
+    SuggestRecipient second = new SuggestRecipient(2L, "회원2", "b@test.com", 10L);
+    SuggestRecipient third = new SuggestRecipient(3L, "회원3", "c@test.com", 20L);
+    List<Drink> drinks = List.of(Drink.builder().id(100L).name("막걸리").build());
+    List<Drink> otherDrinks = List.of(Drink.builder().id(200L).name("소주").build());
+
+    given(redisLockService.tryLock(eq(LOCK_KEY), any(Duration.class))).willReturn("token");
+    given(redisLockService.renew(eq(LOCK_KEY), eq("token"), any(Duration.class))).willReturn(true);
+    given(checkpointRepository.findById("monthly-2024-10")).willReturn(Optional.empty());
+    given(checkpointRepository.save(any(MailJobCheckpoint.class)))
+        .willAnswer(invocation -> invocation.getArgument(0));
+    given(suggestRepository.findRecipientsAfter(eq(0L), eq(1001), any(Pageable.class)))
+        .willReturn(List.of(first, second));
+    given(suggestRepository.findRecipientsAfter(eq(2L), eq(1001), any(Pageable.class)))
+        .willReturn(List.of(third));
+    given(drinkSampler.sample(10L, 3)).willReturn(drinks);
+    given(drinkSampler.sample(20L, 3)).willReturn(otherDrinks);
+    given(renderer.renderDrinks(drinks)).willReturn("<table>막걸리</table>");
+    given(renderer.renderDrinks(otherDrinks)).willReturn("<table>소주</table>");
+
+    // When
+    long sent = suggestMonthlyService.sendMonthlyDrinkSuggestion(MONTH);
+
+    // Then
+    assertEquals(3, sent);
+    verify(birthMonthDayBackfill).fill();
+    verify(drinkSampler, times(1)).sample(10L, 3);
+    verify(renderer, times(1)).renderDrinks(drinks);
+    verify(emailService).sendMonthlyDrinkEmail(first, "<table>막걸리</table>");
+    verify(emailService).sendMonthlyDrinkEmail(second, "<table>막걸리</table>");
+    verify(emailService).sendMonthlyDrinkEmail(third, "<table>소주</table>");
+    verify(transactionManager, times(2)).commit(any());
+
+    ArgumentCaptor<MailJobCheckpoint> captor = ArgumentCaptor.forClass(MailJobCheckpoint.class);
+    verify(checkpointRepository, times(3)).save(captor.capture());
+    MailJobCheckpoint checkpoint = captor.getValue();
+    assertEquals(3L, checkpoint.getLastMemberId());
+    assertEquals(3L, checkpoint.getSentCount());
+    assertTrue(checkpoint.isCompleted());
+  }
+
+  @Test
+  @DisplayName("중단된 작업은 저장된 회원 ID 이후부터 이어서 발송")
+  void resumeFromCheckpoint() {
+    // Given
+    MailJobCheckpoint checkpoint = MailJobCheckpoint.builder()
+        .jobKey("monthly-2024-10").lastMemberId(5L).sentCount(5L).build();
+    SuggestRecipient recipient = new SuggestRecipient(6L, "회원6", "f@test.com", 10L);
+
+    given(redisLockService.tryLock(eq(LOCK_KEY), any(Duration.class))).willReturn("token");
+    given(redisLockService.renew(eq(LOCK_KEY), eq("token"), any(Duration.class))).willReturn(true);
+    given(checkpointRepository.findById("monthly-2024-10")).willReturn(Optional.of(checkpoint));
+    given(checkpointRepository.save(any(MailJobCheckpoint.class)))
+        .willAnswer(invocation -> invocation.getArgument(0));
+    given(suggestRepository.findRecipientsAfter(eq(5L), eq(1001), any(Pageable.class)))
+        .willReturn(List.of(recipient));
+    given(drinkSampler.sample(10L, 3)).willReturn(List.of());
+    given(renderer.renderDrinks(List.of())).willReturn("");
+
+    // When
+    suggestMonthlyService.sendMonthlyDrinkSuggestion(MONTH);
+
+    // Then
+    verify(suggestRepository, never()).findRecipientsAfter(eq(0L), anyInt(),
+        any(Pageable.class));
+    verify(emailService).sendMonthlyDrinkEmail(recipient, "");
+    assertEquals(6L, checkpoint.getSentCount());
+    assertTrue(checkpoint.isCompleted());
+  }
+
+  @Test
+  @DisplayName("이미 발송을 마친 달은 다시 보내지 않음")
+  void skipCompletedMonth() {
+    // Given
+    given(redisLockService.tryLock(eq(LOCK_KEY), any(Duration.class))).willReturn("token");
+    given(checkpointRepository.findById("monthly-2024-10")).willReturn(Optional.of(
+        MailJobCheckpoint.builder().jobKey("monthly-2024-10").completed(true).build()));
+
+    // When
+    long sent = suggestMonthlyService.sendMonthlyDrinkSuggestion(MONTH);
+
+    // Then
+    assertEquals(0, sent);
+    verify(suggestRepository, never()).findRecipientsAfter(anyLong(), anyInt(),
+        any(Pageable.class));
+    verify(emailService, never()).sendMonthlyDrinkEmail(any(), any());
+  }
+
+  @Test
+  @DisplayName("다른 노드가 같은 달 발송 잠금을 잡고 있으면 발송하지 않음")
+  void skipWhenLockedByOtherNode() {
+    // Given
+    given(redisLockService.tryLock(eq(LOCK_KEY), any(Duration.class))).willReturn(null);
+
+    // When
+    long sent = suggestMonthlyService.sendMonthlyDrinkSuggestion(MONTH);
+
+    // Then
+    assertEquals(0, sent);
+    verify(checkpointRepository, never()).findById(anyString());
+    verify(emailService, never()).sendMonthlyDrinkEmail(any(), any());
+    verify(redisLockService, never()).unlock(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("발송 중 잠금을 잃으면 청크를 저장하지 않고 중단하며 완료로 표시하지 않음")
+  void stopWhenLockLost() {
+    // Given
+    SuggestRecipient recipient = new SuggestRecipient(1L, "회원1", "a@test.com", 10L);
+
+    given(redisLockService.tryLock(eq(LOCK_KEY), any(Duration.class))).willReturn("token");
+    given(redisLockService.renew(eq(LOCK_KEY), eq("token"), any(Duration.class)))
+        .willReturn(false);
+    given(checkpointRepository.findById("monthly-2024-10")).willReturn(Optional.empty());
+    given(suggestRepository.findRecipientsAfter(eq(0L), eq(1001), any(Pageable.class)))
+        .willReturn(List.of(recipient));
+    given(drinkSampler.sample(10L, 3)).willReturn(List.of());
+    given(renderer.renderDrinks(List.of())).willReturn("");
+
+    // When
+    long sent = suggestMonthlyService.sendMonthlyDrinkSuggestion(MONTH);
+
+    // Then
+    assertEquals(0, sent);
+    verify(emailService, never()).sendMonthlyDrinkEmail(any(), any());
+    verify(checkpointRepository, never()).save(any(MailJobCheckpoint.class));
+    verify(redisLockService).unlock(LOCK_KEY, "token");
+  }
+}
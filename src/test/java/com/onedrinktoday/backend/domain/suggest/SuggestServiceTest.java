@@ -2,17 +2,16 @@ package com.onedrinktoday.backend.domain.suggest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 
 import com.onedrinktoday.backend.domain.drink.dto.DrinkResponse;
 import com.onedrinktoday.backend.domain.drink.entity.Drink;
-import com.onedrinktoday.backend.domain.drink.repository.DrinkRepository;
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.repository.MemberRepository;
 import com.onedrinktoday.backend.domain.region.entity.Region;
 import com.onedrinktoday.backend.domain.region.repository.RegionRepository;
+import com.onedrinktoday.backend.domain.suggest.service.DrinkSampler;
 import com.onedrinktoday.backend.domain.suggest.service.SuggestService;
 import java.util.List;
 import java.util.Optional;
@@ -29,7 +28,7 @@ class SuggestServiceTest {
   private RegionRepository regionRepository;
 
   @Mock
-  private DrinkRepository drinkRepository;
+  private DrinkSampler drinkSampler;
 
   @Mock
   private MemberRepository memberRepository;
@@ -56,7 +55,7 @@ class SuggestServiceTest {
     // Mock 리턴값 설정
     given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
     given(regionRepository.findAll()).willReturn(regions);
-    given(drinkRepository.findByRegion(any(Region.class))).willReturn(drinks);
+    given(drinkSampler.sample(1L, 1)).willReturn(drinks);
 
     // when
     DrinkResponse result = suggestService.suggestDrinkByLocation(memberId, latitude, longitude);
@@ -80,7 +79,7 @@ class SuggestServiceTest {
 
     // Mock 리턴값 설정
     given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
-    given(drinkRepository.findByRegion(any(Region.class))).willReturn(drinks);
+    given(drinkSampler.sample(1L, 1)).willReturn(drinks);
 
     // when
     DrinkResponse result = suggestService.suggestDrinkByCurrentRegion(memberId);
@@ -0,0 +1,84 @@
+package com.onedrinktoday.backend.domain.tag.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:tagdedup;MODE=MariaDB;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({TagNameDeduplicator.class, JacksonAutoConfiguration.class})
+public class TagNameDeduplicatorTest {
+
+  @Autowired
+  private TagNameDeduplicator tagNameDeduplicator;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("중복 태그는 가장 먼저 만든 태그로 게시글/팔로우 연결을 옮긴 뒤 삭제")
+  void deduplicate() {
+    // Given - 유니크 제약이 생기기 전에 쌓인 중복 태그 (이 테스트 전용 DB에서 제약 제거)
+    String constraint = jdbcTemplate.queryForObject("SELECT CONSTRAINT_NAME "
+        + "FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+        + "WHERE TABLE_NAME = 'TAG' AND CONSTRAINT_TYPE = 'UNIQUE'", String.class);
+    jdbcTemplate.execute("ALTER TABLE tag DROP CONSTRAINT " + constraint);
+
+    Region region = Region.builder().placeName("서울특별시").build();
+    entityManager.persist(region);
+    Member member = Member.builder().name("회원").email("member@test.com").role(Role.USER).build();
+    entityManager.persist(member);
+    Drink drink = Drink.builder().name("막걸리").description("설명").region(region).build();
+    entityManager.persist(drink);
+    Post post = Post.builder().member(member).drink(drink).content("맛있는 막걸리입니다!").build();
+    Post other = Post.builder().member(member).drink(drink).content("다른 막걸리입니다!").build();
+    entityManager.persist(post);
+    entityManager.persist(other);
+    entityManager.flush();
+
+    jdbcTemplate.update("INSERT INTO tag (tag_id, name) VALUES (101, '달콤'), (102, '달콤'), "
+        + "(103, '시원')");
+    // 같은 게시글이 두 태그에 모두 연결 + 다른 게시글은 중복 태그에만 연결
+    jdbcTemplate.update("INSERT INTO post_tag (post_id, tag_id) VALUES (?, 101), (?, 102), "
+        + "(?, 102)", post.getId(), post.getId(), other.getId());
+    jdbcTemplate.update("INSERT INTO tag_follow (member_id, tag_id) VALUES (?, 102)",
+        member.getId());
+
+    // When
+    long removed = tagNameDeduplicator.deduplicate();
+
+    // Then
+    assertEquals(1, removed);
+    assertEquals(List.of(101L, 103L),
+        jdbcTemplate.queryForList("SELECT tag_id FROM tag ORDER BY tag_id", Long.class));
+    assertEquals(List.of(101L), jdbcTemplate.queryForList(
+        "SELECT tag_id FROM post_tag WHERE post_id = ?", Long.class, post.getId()));
+    assertEquals(List.of(101L), jdbcTemplate.queryForList(
+        "SELECT tag_id FROM post_tag WHERE post_id = ?", Long.class, other.getId()));
+    assertEquals(List.of(101L), jdbcTemplate.queryForList(
+        "SELECT tag_id FROM tag_follow WHERE member_id = ?", Long.class, member.getId()));
+
+    // 다시 실행해도 정리할 태그 없음
+    assertEquals(0, tagNameDeduplicator.deduplicate());
+  }
+}
@@ -0,0 +1,153 @@
+package com.onedrinktoday.backend.domain.tag.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.autoComplete.AutoCompleteService;
+import com.onedrinktoday.backend.domain.drink.entity.Drink;
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.post.entity.Post;
+import com.onedrinktoday.backend.domain.postTag.repository.PostTagRepository;
+import com.onedrinktoday.backend.domain.region.entity.Region;
+import com.onedrinktoday.backend.domain.tag.entity.Tag;
+import com.onedrinktoday.backend.domain.tag.repository.TagRepository;
+import com.onedrinktoday.backend.global.type.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:tag;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({TagService.class, JacksonAutoConfiguration.class})
+public class TagServiceTest {
+
+  @Autowired
+  private TagService tagService;
+
+  @Autowired
+  private PostTagRepository postTagRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @MockBean
+  private AutoCompleteService autoCompleteService;
+
+  // DB collation에 따른 조회 결과를 흉내 낼 때만 일부 메서드를 대체
+  @SpyBean
+  private TagRepository tagRepository;
+
+  @Test
+  @DisplayName("기존 태그와 신규 태그를 요청 순서대로 일괄 변환")
+  void resolveTagsInBulk() {
+    // Given
+    Tag existing = Tag.builder().tagName("달콤").build();
+    entityManager.persist(existing);
+    entityManager.flush();
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // When
+    List<Tag> tags = tagService.resolveTags(List.of("시원", "달콤", "씁쓸", "시원"));
+
+    // Then - 조회(1) + 신규 추가는 JdbcTemplate(통계 제외) + 재조회(1)
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(List.of("시원", "달콤", "씁쓸"), tags.stream().map(Tag::getTagName).toList());
+    assertEquals(existing.getTagId(), tags.get(1).getTagId());
+    verify(autoCompleteService).saveAutoCompleteTags(List.of("시원", "씁쓸"));
+  }
+
+  @Test
+  @DisplayName("이미 존재하는 태그명은 중복 추가되지 않음")
+  void resolveTagsIgnoresDuplicates() {
+    // When
+    List<Tag> first = tagService.resolveTags(List.of("달콤", "시원"));
+    List<Tag> second = tagService.resolveTags(List.of("시원", "달콤"));
+
+    // Then
+    assertEquals(first.get(0).getTagId(), second.get(1).getTagId());
+    assertEquals(first.get(1).getTagId(), second.get(0).getTagId());
+  }
+
+  @Test
+  @DisplayName("DB가 대소문자/악센트 구분 없이 찾은 태그도 요청한 태그명에 연결")
+  void resolveTagsMatchesCollation() {
+    // Given - DB에는 "Café"만 있고 요청은 "cafe", "CAFE"
+    Tag existing = Tag.builder().tagName("Café").build();
+    entityManager.persist(existing);
+    entityManager.flush();
+    willReturn(List.of(existing)).given(tagRepository).findAllByTagNameIn(anyCollection());
+
+    // When
+    List<Tag> tags = tagService.resolveTags(List.of(" cafe", "CAFE"));
+
+    // Then - 같은 키의 태그명은 하나로 합치고 기존 태그를 그대로 사용 (새로 추가하지 않음)
+    assertEquals(List.of(existing.getTagId()), tags.stream().map(Tag::getTagId).toList());
+    verify(autoCompleteService, never()).saveAutoCompleteTags(any());
+  }
+
+  @Test
+  @DisplayName("키로 맞추지 못한 태그명은 DB 비교로 다시 조회해 빠뜨리지 않음")
+  void resolveTagsFallsBackToLookup() {
+    // Given - 추가는 유니크 제약으로 무시되고 재조회 결과도 키가 다른 경우
+    Tag existing = Tag.builder().tagName("Straße").build();
+    entityManager.persist(existing);
+    entityManager.flush();
+    willReturn(List.of()).given(tagRepository).findAllByTagNameIn(anyCollection());
+    willReturn(Optional.of(existing)).given(tagRepository).findByTagName("Strasse");
+
+    // When
+    List<Tag> tags = tagService.resolveTags(List.of("Strasse"));
+
+    // Then
+    assertEquals(List.of(existing.getTagId()), tags.stream().map(Tag::getTagId).toList());
+  }
+
+  @Test
+  @DisplayName("게시글에 태그 일괄 연결")
+  void linkTagsInBulk() {
+    // Given
+    Region region = Region.builder().placeName("서울특별시").build();
+    entityManager.persist(region);
+    Member member = Member.builder().name("회원").email("member@test.com").role(Role.USER).build();
+    entityManager.persist(member);
+    Drink drink = Drink.builder().name("막걸리").description("설명").region(region).build();
+    entityManager.persist(drink);
+    Post post = Post.builder().member(member).drink(drink).content("맛있는 막걸리입니다!").build();
+    entityManager.persist(post);
+    entityManager.flush();
+
+    List<Tag> tags = tagService.resolveTags(List.of("달콤", "시원", "씁쓸"));
+
+    // When
+    tagService.linkTags(post.getId(), tags);
+
+    // Then
+    assertEquals(List.of("달콤", "시원", "씁쓸"), postTagRepository.findTagsByPostId(post.getId())
+        .stream().map(Tag::getTagName).sorted().toList());
+  }
+}
@@ -7,10 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.onedrinktoday.backend.domain.member.entity.Member;
 import com.onedrinktoday.backend.domain.member.service.MemberService;
+import com.onedrinktoday.backend.domain.notification.service.NotificationStreamService;
 import com.onedrinktoday.backend.domain.tag.entity.Tag;
 import com.onedrinktoday.backend.domain.tag.repository.TagRepository;
 import com.onedrinktoday.backend.domain.tagFollow.dto.TagFollowRequest;
@@ -43,6 +45,9 @@ public class TagFollowServiceTest {
   @Mock
   private TagFollowRepository tagFollowRepository;
 
+  @Mock
+  private NotificationStreamService notificationStreamService;
+
   private TagFollow tagFollow;
   private Member member;
   private Tag tag;
@@ -85,6 +90,7 @@ public class TagFollowServiceTest {
     assertEquals(tagFollow.getMember().getName(), response.getMemberName());
     assertEquals(tagFollow.getTag().getTagId(), response.getTagId());
     assertEquals(tagFollow.getTag().getTagName(), response.getTagName());
+    verify(notificationStreamService).refreshFollowedTags(member.getId());
   }
 
   @Test
@@ -0,0 +1,118 @@
+package com.onedrinktoday.backend.global.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class TwoLevelCacheManagerTest {
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  // Redis 캐시 대용
+  private ConcurrentMapCacheManager remoteCacheManager;
+  private TwoLevelCacheManager cacheManager;
+
+  @BeforeEach
+  void setUp() {
+    remoteCacheManager = new ConcurrentMapCacheManager();
+    cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, 100,
+        Duration.ofMinutes(1));
+  }
+
+  @Test
+  @DisplayName("원격 캐시 조회 후 로컬 캐시에서 응답")
+  void localTierServesAfterRemoteHit() {
+    // Given
+    remoteCacheManager.getCache("avg-rating").put(1L, 4.5);
+    TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("avg-rating");
+
+    // When
+    Double first = cache.get(1L, Double.class);
+    remoteCacheManager.getCache("avg-rating").put(1L, 1.0);  // 원격만 바뀌어도 로컬 값 사용
+    Double second = cache.get(1L, Double.class);
+
+    // Then
+    assertEquals(4.5, first);
+    assertEquals(4.5, second);
+    assertEquals(1, cache.getLocalStats().hitCount());
+    assertEquals(1, cache.getLocalStats().missCount());
+  }
+
+  @Test
+  @DisplayName("삭제 시 로컬/원격 모두 삭제하고 다른 노드에 전파")
+  void evictClearsBothTiersAndBroadcasts() {
+    // Given
+    Cache cache = cacheManager.getCache("avg-rating");
+    cache.put(1L, 4.5);
+
+    // When
+    cache.evict(1L);
+
+    // Then
+    assertNull(cache.get(1L));
+    assertNull(remoteCacheManager.getCache("avg-rating").get(1L));
+
+    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+    verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.EVICTION_CHANNEL),
+        messageCaptor.capture());
+    assertEquals("avg-rating|1", messageCaptor.getValue().split("\\|", 2)[1]);
+  }
+
+  @Test
+  @DisplayName("다른 노드의 삭제 메시지 수신 시 로컬 캐시만 삭제")
+  void evictionMessageInvalidatesLocalTier() {
+    // Given
+    TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("avg-rating");
+    cache.put(1L, 4.5);
+    remoteCacheManager.getCache("avg-rating").put(1L, 3.0);  // 다른 노드가 갱신한 값
+
+    // When
+    cacheManager.onMessage(message("other-node|avg-rating|1"), null);
+
+    // Then
+    assertEquals(3.0, cache.get(1L, Double.class));
+    verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("자신이 보낸 삭제 메시지는 무시")
+  void ignoresOwnEvictionMessage() {
+    // Given
+    TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("avg-rating");
+    cache.evict(1L);
+    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+    verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.EVICTION_CHANNEL),
+        messageCaptor.capture());
+    cache.put(1L, 4.5);
+
+    // When
+    cacheManager.onMessage(message(messageCaptor.getValue()), null);
+
+    // Then
+    assertEquals(1, cache.getLocalSize());
+  }
+
+  private DefaultMessage message(String body) {
+    return new DefaultMessage(TwoLevelCacheManager.EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8));
+  }
+}
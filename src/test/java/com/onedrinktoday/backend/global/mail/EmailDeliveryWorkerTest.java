@@ -0,0 +1,197 @@
+package com.onedrinktoday.backend.global.mail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.global.lock.RedisLockService;
+import jakarta.mail.Message.RecipientType;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDeliveryWorkerTest {
+
+  @Mock
+  private EmailOutboxRepository emailOutboxRepository;
+
+  @Mock
+  private RedisLockService redisLockService;
+
+  private LocalMailServer mailServer;
+  private EmailDeliveryWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    mailServer = new LocalMailServer();
+    worker = new EmailDeliveryWorker(emailOutboxRepository, mailServer, redisLockService,
+        Runnable::run, Runnable::run, 2, 2, 0, 3, Duration.ofSeconds(5), Duration.ofSeconds(30),
+        Duration.ofHours(6), Duration.ofDays(7));
+  }
+
+  @Test
+  @DisplayName("발송 대기 메일을 batch-size개씩 한 연결로 보내고 보낸 메일 삭제")
+  void drainSendsBatchesPerConnection() {
+    // Given
+    lock(true);
+    List<EmailOutbox> due = List.of(outbox(1L, "a@test.com"), outbox(2L, "b@test.com"),
+        outbox(3L, "c@test.com"));
+    given(emailOutboxRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(due);
+
+    // When
+    worker.drain();
+
+    // Then
+    assertEquals(List.of(List.of("a@test.com", "b@test.com"), List.of("c@test.com")),
+        mailServer.connections);
+    verify(emailOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    verify(emailOutboxRepository).deleteAllByIdInBatch(List.of(3L));
+    verify(emailOutboxRepository, never()).saveAll(anyList());
+    verify(redisLockService).unlock(EmailDeliveryWorker.LOCK_KEY, "token");
+    assertEquals(3, worker.getTotalSent());
+    assertEquals(2, worker.getTotalBatches());
+    assertEquals(3, worker.getLastRunSent());
+  }
+
+  @Test
+  @DisplayName("실패한 메일만 간격을 늘려 다시 시도하고 최대 시도 횟수를 넘기면 본문을 지우고 포기")
+  void retryFailedMessages() {
+    // Given
+    lock(true);
+    mailServer.rejected = Set.of("bad@test.com", "dead@test.com");
+    EmailOutbox ok = outbox(1L, "ok@test.com");
+    EmailOutbox bad = outbox(2L, "bad@test.com");
+    EmailOutbox dead = outbox(3L, "dead@test.com");
+    dead.setAttempts(2);
+    given(emailOutboxRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of(ok, bad, dead));
+    LocalDateTime before = LocalDateTime.now();
+
+    // When
+    worker.drain();
+
+    // Then
+    verify(emailOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+    ArgumentCaptor<List<EmailOutbox>> captor = ArgumentCaptor.forClass(List.class);
+    verify(emailOutboxRepository, times(2)).saveAll(captor.capture());
+
+    assertEquals(1, bad.getAttempts());
+    assertFalse(bad.isFailed());
+    assertTrue(bad.getNextAttemptAt().isAfter(before.plusSeconds(29)));
+    assertEquals("550 rejected", bad.getLastError());
+
+    assertEquals(3, dead.getAttempts());
+    assertTrue(dead.isFailed());
+    assertEquals(EmailDeliveryWorker.REDACTED_BODY, dead.getBody());
+    assertEquals("<p>본문</p>", bad.getBody());
+
+    assertEquals(1, worker.getTotalSent());
+    assertEquals(2, worker.getTotalFailed());
+    assertEquals(1, worker.getTotalAbandoned());
+  }
+
+  @Test
+  @DisplayName("다른 노드가 발송 중이면 건너뜀")
+  void skipWhenLocked() {
+    // Given
+    lock(false);
+
+    // When
+    worker.drain();
+
+    // Then
+    verify(emailOutboxRepository, never()).findDue(any(), any());
+    assertTrue(mailServer.connections.isEmpty());
+  }
+
+  @Test
+  @DisplayName("보관 기간이 지난 포기 메일을 나눠 삭제")
+  void purgeFailed() {
+    // Given
+    LocalDateTime now = LocalDateTime.of(2024, 10, 17, 4, 40);
+    given(emailOutboxRepository.findFailedIdsBefore(eq(now.minusDays(7)), any(Pageable.class)))
+        .willReturn(List.of(1L, 2L));
+
+    // When
+    long purged = worker.purgeFailed(now);
+
+    // Then
+    assertEquals(2, purged);
+    verify(emailOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("재시도 간격은 배로 늘어나되 최대 간격을 넘지 않음")
+  void backoff() {
+    assertEquals(Duration.ofSeconds(30), worker.backoff(1));
+    assertEquals(Duration.ofSeconds(120), worker.backoff(3));
+    assertEquals(Duration.ofHours(6), worker.backoff(20));
+  }
+
+  private void lock(boolean acquired) {
+    given(redisLockService.tryLock(eq(EmailDeliveryWorker.LOCK_KEY), any(Duration.class)))
+        .willReturn(acquired ? "token" : null);
+  }
+
+  private EmailOutbox outbox(Long id, String recipient) {
+    EmailOutbox outbox = EmailOutbox.of(recipient, "제목", "<p>본문</p>", true);
+    outbox.setId(id);
+    return outbox;
+  }
+
+  // SMTP 서버 대역 - 연결(doSend 호출)마다 받은 수신자를 기록하고, rejected 수신자는 거부
+  private static class LocalMailServer extends JavaMailSenderImpl {
+
+    private final List<List<String>> connections = new ArrayList<>();
+    private Set<String> rejected = Set.of();
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+      List<String> recipients = new ArrayList<>();
+      Map<Object, Exception> failed = new LinkedHashMap<>();
+      for (int i = 0; i < mimeMessages.length; i++) {
+        Object original = originalMessages != null ? originalMessages[i] : mimeMessages[i];
+        try {
+          String recipient = mimeMessages[i].getRecipients(RecipientType.TO)[0].toString();
+          if (rejected.contains(recipient)) {
+            failed.put(original, new MessagingException("550 rejected"));
+          } else {
+            recipients.add(recipient);
+          }
+        } catch (MessagingException e) {
+          failed.put(original, e);
+        }
+      }
+
+      connections.add(recipients);
+      if (!failed.isEmpty()) {
+        throw new MailSendException(failed);
+      }
+    }
+  }
+}
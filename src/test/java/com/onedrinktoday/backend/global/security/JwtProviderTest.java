@@ -0,0 +1,85 @@
+package com.onedrinktoday.backend.global.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.onedrinktoday.backend.global.type.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtProviderTest {
+
+  private static final String SECRET = "test-secret-key-for-jwt-provider-0123456789";
+
+  private JwtProvider jwtProvider;
+
+  @BeforeEach
+  void setUp() {
+    jwtProvider = new JwtProvider(SECRET, 100, Duration.ofMinutes(10));
+  }
+
+  @Test
+  @DisplayName("토큰 클레임 파싱 후 같은 토큰은 캐시된 클레임 재사용")
+  void parseAndReuseVerifiedClaims() {
+    // Given
+    String token = jwtProvider.createAccessToken(1L, "john@google.com", Role.USER);
+
+    // When
+    TokenClaims first = jwtProvider.parse(token);
+    TokenClaims second = jwtProvider.parse(token);
+
+    // Then
+    assertEquals("john@google.com", first.getEmail());
+    assertEquals(1L, first.getMemberId());
+    assertEquals(Role.USER, first.getRole());
+    assertSame(first, second);
+    assertEquals("john@google.com", jwtProvider.getEmail(token));
+    assertEquals(1L, jwtProvider.getMemberId(token));
+  }
+
+  @Test
+  @DisplayName("서명이 같아도 내용이 변조된 토큰은 거부")
+  void rejectTamperedPayload() {
+    // Given
+    String token = jwtProvider.createAccessToken(1L, "john@google.com", Role.USER);
+    jwtProvider.parse(token);
+
+    String[] parts = token.split("\\.");
+    String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+        .replace("john@google.com", "jane@google.com");
+    String tampered = parts[0] + "."
+        + Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+        + "." + parts[2];
+
+    // When & Then
+    assertThrows(SignatureException.class, () -> jwtProvider.parse(tampered));
+  }
+
+  @Test
+  @DisplayName("만료된 토큰은 거부")
+  void rejectExpiredToken() {
+    // Given
+    String token = Jwts.builder()
+        .subject("john@google.com")
+        .claim("member_id", 1L)
+        .claim("role", Role.USER)
+        .expiration(new Date(System.currentTimeMillis() - 1000))
+        .signWith(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+            Jwts.SIG.HS256.key().build().getAlgorithm()))
+        .compact();
+
+    // When & Then
+    assertThrows(ExpiredJwtException.class, () -> jwtProvider.parse(token));
+  }
+}
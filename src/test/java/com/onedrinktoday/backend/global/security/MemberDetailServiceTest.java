@@ -0,0 +1,133 @@
+package com.onedrinktoday.backend.global.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onedrinktoday.backend.domain.member.entity.Member;
+import com.onedrinktoday.backend.domain.member.repository.MemberRepository;
+import com.onedrinktoday.backend.global.cache.TwoLevelCacheManager;
+import com.onedrinktoday.backend.global.type.Role;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class MemberDetailServiceTest {
+
+  @Mock
+  private MemberRepository memberRepository;
+
+  @Mock
+  private RedisTemplate<String, String> redisTemplate;
+
+  private MemberDetailService memberDetailService;
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    memberDetailService = new MemberDetailService(memberRepository, redisTemplate, Duration.ofMinutes(1), 100);
+    member = Member.builder().id(1L).name("John").email("john@google.com").role(Role.USER).build();
+  }
+
+  @Test
+  @DisplayName("같은 회원은 캐시에서 조회")
+  void loadFromCache() {
+    // Given
+    given(memberRepository.findByEmail("john@google.com")).willReturn(Optional.of(member));
+
+    // When
+    MemberDetail first = memberDetailService.loadUserByUsername("john@google.com");
+    MemberDetail second = memberDetailService.loadUserByUsername("john@google.com");
+
+    // Then
+    assertEquals(first, second);
+    verify(memberRepository, times(1)).findByEmail("john@google.com");
+  }
+
+  @Test
+  @DisplayName("캐시 제거 후에는 변경된 회원 정보로 다시 조회")
+  void reloadAfterEvict() {
+    // Given
+    given(memberRepository.findByEmail("john@google.com")).willReturn(Optional.of(member));
+    memberDetailService.loadUserByUsername("john@google.com");
+    member.setRole(Role.MANAGER);
+
+    // When
+    memberDetailService.evict("john@google.com");
+    MemberDetail memberDetail = memberDetailService.loadUserByUsername("john@google.com");
+
+    // Then
+    assertEquals(Role.MANAGER, memberDetail.getMember().getRole());
+    verify(memberRepository, times(2)).findByEmail("john@google.com");
+  }
+
+  @Test
+  @DisplayName("트랜잭션 중에는 캐시를 유지하고 커밋 후 제거 및 다른 노드로 전파")
+  void evictAfterCommit() {
+    // Given
+    given(memberRepository.findByEmail("john@google.com")).willReturn(Optional.of(member));
+    memberDetailService.loadUserByUsername("john@google.com");
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // When
+      memberDetailService.evict("john@google.com");
+      memberDetailService.loadUserByUsername("john@google.com");
+
+      // Then - 커밋 전에는 제거/전파되지 않음
+      verify(memberRepository, times(1)).findByEmail("john@google.com");
+      verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    memberDetailService.loadUserByUsername("john@google.com");
+    verify(memberRepository, times(2)).findByEmail("john@google.com");
+    verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.EVICTION_CHANNEL),
+        endsWith("|principal|john@google.com"));
+  }
+
+  @Test
+  @DisplayName("다른 노드의 삭제 메시지를 받으면 캐시 제거, 다른 캐시의 메시지는 무시")
+  void evictOnMessageFromOtherNode() {
+    // Given
+    given(memberRepository.findByEmail("john@google.com")).willReturn(Optional.of(member));
+    memberDetailService.loadUserByUsername("john@google.com");
+
+    // When
+    memberDetailService.onMessage(message("other-node|drinkRating|john@google.com"), null);
+    memberDetailService.loadUserByUsername("john@google.com");
+    memberDetailService.onMessage(message("other-node|principal|john@google.com"), null);
+    memberDetailService.loadUserByUsername("john@google.com");
+
+    // Then
+    verify(memberRepository, times(2)).findByEmail("john@google.com");
+  }
+
+  private DefaultMessage message(String body) {
+    return new DefaultMessage(
+        TwoLevelCacheManager.EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8));
+  }
+}